@@ -0,0 +1,130 @@
+package benchmarks;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.navigation.NavigateMaze;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationEnvironment;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.ThreePuzzle;
+
+import java.util.Random;
+
+/**
+ * The problem instances shared by the benchmarks. Every instance is built from a fixed seed, so each run of the
+ * benchmarks searches exactly the same problems.
+ */
+final class BenchmarkProblems {
+
+    private static final long SEED = 42L;
+
+    private BenchmarkProblems() {
+    }
+
+    /**
+     * Creates an n-puzzle instance.
+     *
+     * @param name one of THREE_7, EIGHT_7, EIGHT_22, or EIGHT_31, the number is the length of the optimal path
+     * @return the instance
+     */
+    static Instance nPuzzle(String name) {
+        switch (name) {
+            case "THREE_7":
+                return nPuzzle(new ThreePuzzle(new int[]{3, 2, 1, 0}), new ThreePuzzle(new int[]{0, 1, 2, 3}));
+            case "EIGHT_7":
+                return nPuzzle(new EightPuzzle(new int[]{2, 8, 3, 1, 6, 4, 7, 0, 5}),
+                        new EightPuzzle(new int[]{1, 2, 3, 8, 6, 4, 7, 5, 0}));
+            case "EIGHT_22":
+                return nPuzzle(new EightPuzzle(new int[]{5, 4, 0, 6, 1, 8, 7, 3, 2}),
+                        new EightPuzzle(new int[]{1, 2, 3, 4, 0, 5, 6, 7, 8}));
+            case "EIGHT_31":
+                return nPuzzle(new EightPuzzle(new int[]{8, 6, 7, 2, 5, 4, 3, 0, 1}),
+                        new EightPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0}));
+            default:
+                throw new IllegalArgumentException("Unknown N-Puzzle Instance " + name);
+        }
+    }
+
+    /**
+     * Creates a navigation instance that crosses a square grid from the top left corner to the bottom right corner.
+     *
+     * @param kind MAZE for a maze with about a quarter of the cells walled off, TERRAIN for terrain costing 1 to 9
+     * @param size the number of rows and columns
+     * @return the instance
+     */
+    static Instance navigation(String kind, int size) {
+        switch (kind) {
+            case "MAZE":
+                NavigationEnvironment maze = new NavigationEnvironment(maze(size));
+                NavigateMaze mazeGoal = new NavigateMaze(maze, size - 1, size - 1, null);
+                return new Instance(new NavigateMaze(maze, 0, 0, null), mazeGoal,
+                        new NavigationManhattanDist(mazeGoal));
+            case "TERRAIN":
+                NavigationEnvironment terrain = new NavigationEnvironment(terrain(size));
+                NavigateTerrain terrainGoal = new NavigateTerrain(terrain, size - 1, size - 1, null);
+                return new Instance(new NavigateTerrain(terrain, 0, 0, null), terrainGoal,
+                        new NavigationManhattanDist(terrainGoal));
+            default:
+                throw new IllegalArgumentException("Unknown Navigation Kind " + kind);
+        }
+    }
+
+    /**
+     * Creates a maze with about a quarter of its cells walled off. The top row and the right column are always open,
+     * so a path from the top left to the bottom right corner always exists.
+     *
+     * @param size the number of rows and columns
+     * @return the maze
+     */
+    static int[][] maze(int size) {
+        Random random = new Random(SEED);
+        int[][] maze = new int[size][size];
+
+        for (int row = 0; row < size; row++)
+            for (int col = 0; col < size; col++)
+                maze[row][col] = row == 0 || col == size - 1 || random.nextInt(4) != 0 ? 1 : 0;
+
+        return maze;
+    }
+
+    /**
+     * Creates terrain where every cell costs between 1 and 9 to enter.
+     *
+     * @param size the number of rows and columns
+     * @return the terrain
+     */
+    static int[][] terrain(int size) {
+        Random random = new Random(SEED);
+        int[][] terrain = new int[size][size];
+
+        for (int row = 0; row < size; row++)
+            for (int col = 0; col < size; col++)
+                terrain[row][col] = 1 + random.nextInt(9);
+
+        return terrain;
+    }
+
+    private static Instance nPuzzle(AbstractAStarNode initial, AbstractAStarNode goal) {
+        return new Instance(initial, goal, new NPuzzleManhattanDist(goal));
+    }
+
+    /**
+     * An initial state, a goal state, and the heuristic used to search between them.
+     */
+    static final class Instance {
+
+        final AbstractAStarNode initial;
+        final AbstractAStarNode goal;
+        final IHeuristicFunction heuristic;
+
+        private Instance(AbstractAStarNode initial, AbstractAStarNode goal, IHeuristicFunction heuristic) {
+            this.initial = initial;
+            this.goal = goal;
+            this.heuristic = heuristic;
+        }
+
+    }
+
+}
@@ -0,0 +1,58 @@
+package benchmarks;
+
+import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.navigation.GridStorage;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationEnvironment;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times AStarSearch across the same terrain held in each GridStorage layout that can hold it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GridStorageBenchmarks {
+
+    @Param({"BYTE", "SHORT", "INT"})
+    public String storage;
+
+    @Param({"128", "512"})
+    public int size;
+
+    private NavigateTerrain initial;
+    private NavigateTerrain goal;
+    private NavigationManhattanDist heuristic;
+
+    @Setup
+    public void setup() {
+        NavigationEnvironment terrain = new NavigationEnvironment(BenchmarkProblems.terrain(this.size),
+                GridStorage.valueOf(this.storage));
+        this.initial = new NavigateTerrain(terrain, 0, 0, null);
+        this.goal = new NavigateTerrain(terrain, this.size - 1, this.size - 1, null);
+        this.heuristic = new NavigationManhattanDist(this.goal);
+    }
+
+    @Benchmark
+    public AbstractAStarNode aStar() {
+        return new AStarSearch(this.initial, this.goal, this.heuristic).search();
+    }
+
+}
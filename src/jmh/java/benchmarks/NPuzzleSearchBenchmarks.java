@@ -0,0 +1,51 @@
+package benchmarks;
+
+import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IDAStarSearch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times a full AStarSearch and IDAStarSearch on the three puzzle and on eight puzzles of increasing difficulty.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NPuzzleSearchBenchmarks {
+
+    @Param({"THREE_7", "EIGHT_7", "EIGHT_22", "EIGHT_31"})
+    public String instance;
+
+    private BenchmarkProblems.Instance problem;
+
+    @Setup
+    public void setup() {
+        this.problem = BenchmarkProblems.nPuzzle(this.instance);
+    }
+
+    @Benchmark
+    public AbstractAStarNode aStar() {
+        return new AStarSearch(this.problem.initial, this.problem.goal, this.problem.heuristic).search();
+    }
+
+    @Benchmark
+    public AbstractAStarNode idaStar() {
+        return new IDAStarSearch(this.problem.initial, this.problem.goal, this.problem.heuristic).search();
+    }
+
+}
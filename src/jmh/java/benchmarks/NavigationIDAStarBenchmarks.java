@@ -0,0 +1,49 @@
+package benchmarks;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IDAStarSearch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times a full IDAStarSearch across small mazes and terrain. IDA* only removes cycles on the current path, so the work
+ * on a grid grows exponentially with its size and only small grids finish in reasonable time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NavigationIDAStarBenchmarks {
+
+    @Param({"MAZE", "TERRAIN"})
+    public String kind;
+
+    @Param({"4", "8"})
+    public int size;
+
+    private BenchmarkProblems.Instance problem;
+
+    @Setup
+    public void setup() {
+        this.problem = BenchmarkProblems.navigation(this.kind, this.size);
+    }
+
+    @Benchmark
+    public AbstractAStarNode idaStar() {
+        return new IDAStarSearch(this.problem.initial, this.problem.goal, this.problem.heuristic).search();
+    }
+
+}
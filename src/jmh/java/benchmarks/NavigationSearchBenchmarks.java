@@ -0,0 +1,48 @@
+package benchmarks;
+
+import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times a full AStarSearch across mazes and terrain of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NavigationSearchBenchmarks {
+
+    @Param({"MAZE", "TERRAIN"})
+    public String kind;
+
+    @Param({"16", "64", "128"})
+    public int size;
+
+    private BenchmarkProblems.Instance problem;
+
+    @Setup
+    public void setup() {
+        this.problem = BenchmarkProblems.navigation(this.kind, this.size);
+    }
+
+    @Benchmark
+    public AbstractAStarNode aStar() {
+        return new AStarSearch(this.problem.initial, this.problem.goal, this.problem.heuristic).search();
+    }
+
+}
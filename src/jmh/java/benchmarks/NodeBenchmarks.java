@@ -0,0 +1,181 @@
+package benchmarks;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.navigation.NavigateMaze;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.FifteenPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleAdditivePDB;
+import com.knighten.ai.search.npuzzle.NPuzzleLinearConflict;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.NPuzzleWalkingDistance;
+import com.knighten.ai.search.npuzzle.ThreePuzzle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the node operations every search performs the most: generating successors(including the packed NPuzzle
+ * against the int[] FifteenPuzzle), computing the Manhattan distance heuristic from scratch and from a parent's score,
+ * the stronger N-puzzle heuristics, and the hashCode() and equals() used by the open and closed lists. The nodes
+ * compared by equals() are equal but distinct objects, which is the case the closed list hits when it finds a
+ * duplicate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeBenchmarks {
+
+    private static final int GRID_SIZE = 64;
+
+    private EightPuzzle eightPuzzle;
+    private EightPuzzle eightPuzzleCopy;
+    private EightPuzzle eightPuzzleChild;
+    private double eightPuzzleH;
+    private ThreePuzzle threePuzzle;
+    private FifteenPuzzle fifteenPuzzle;
+    private NPuzzle packedFifteenPuzzle;
+    private NPuzzle packedFifteenPuzzleCopy;
+    private NPuzzle packedTwentyFourPuzzle;
+    private NPuzzleManhattanDist eightPuzzleHeuristic;
+    private NPuzzleAdditivePDB eightPuzzlePatternDatabase;
+    private NPuzzleLinearConflict eightPuzzleLinearConflict;
+    private NPuzzleWalkingDistance eightPuzzleWalkingDistance;
+    private NavigateMaze maze;
+    private NavigateTerrain terrain;
+    private NavigateTerrain terrainCopy;
+
+    @Setup
+    public void setup() {
+        int[] board = {8, 6, 7, 2, 5, 4, 3, 0, 1};
+        this.eightPuzzle = new EightPuzzle(board.clone());
+        this.eightPuzzleCopy = new EightPuzzle(board.clone());
+        this.threePuzzle = new ThreePuzzle(new int[]{3, 2, 1, 0});
+        int[] fifteenBoard = {5, 1, 8, 3, 2, 10, 4, 0, 9, 6, 7, 14, 13, 12, 11, 15};
+        this.fifteenPuzzle = new FifteenPuzzle(fifteenBoard.clone());
+        this.packedFifteenPuzzle = new NPuzzle(fifteenBoard);
+        this.packedFifteenPuzzleCopy = new NPuzzle(fifteenBoard);
+        this.packedTwentyFourPuzzle = new NPuzzle(new int[]{11, 1, 3, 14, 4, 2, 0, 6, 12, 8, 21, 7, 23, 9, 5, 17, 13,
+                18, 10, 15, 16, 22, 20, 24, 19});
+        EightPuzzle eightPuzzleGoal = new EightPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0});
+        this.eightPuzzleHeuristic = new NPuzzleManhattanDist(eightPuzzleGoal);
+        this.eightPuzzlePatternDatabase = new NPuzzleAdditivePDB(eightPuzzleGoal,
+                new int[][]{{1, 2, 3, 4}, {5, 6, 7, 8}});
+        this.eightPuzzleLinearConflict = new NPuzzleLinearConflict(eightPuzzleGoal);
+        this.eightPuzzleWalkingDistance = new NPuzzleWalkingDistance(eightPuzzleGoal);
+        this.eightPuzzleChild = (EightPuzzle) this.eightPuzzle.getSuccessors().get(0);
+        this.eightPuzzleH = this.eightPuzzleHeuristic.calculateHeuristic(this.eightPuzzle);
+
+        int center = GRID_SIZE / 2;
+        this.maze = new NavigateMaze(BenchmarkProblems.maze(GRID_SIZE), 0, center);
+        int[][] terrainGrid = BenchmarkProblems.terrain(GRID_SIZE);
+        this.terrain = new NavigateTerrain(terrainGrid, center, center);
+        this.terrainCopy = new NavigateTerrain(terrainGrid, center, center);
+    }
+
+    @Benchmark
+    public List<AbstractAStarNode> eightPuzzleSuccessors() {
+        return this.eightPuzzle.getSuccessors();
+    }
+
+    @Benchmark
+    public List<AbstractAStarNode> threePuzzleSuccessors() {
+        return this.threePuzzle.getSuccessors();
+    }
+
+    @Benchmark
+    public List<AbstractAStarNode> fifteenPuzzleSuccessors() {
+        return this.fifteenPuzzle.getSuccessors();
+    }
+
+    @Benchmark
+    public List<AbstractAStarNode> packedFifteenPuzzleSuccessors() {
+        return this.packedFifteenPuzzle.getSuccessors();
+    }
+
+    @Benchmark
+    public List<AbstractAStarNode> packedTwentyFourPuzzleSuccessors() {
+        return this.packedTwentyFourPuzzle.getSuccessors();
+    }
+
+    @Benchmark
+    public List<AbstractAStarNode> mazeSuccessors() {
+        return this.maze.getSuccessors();
+    }
+
+    @Benchmark
+    public List<AbstractAStarNode> terrainSuccessors() {
+        return this.terrain.getSuccessors();
+    }
+
+    @Benchmark
+    public double eightPuzzleManhattanDist() {
+        return this.eightPuzzleHeuristic.calculateHeuristic(this.eightPuzzle);
+    }
+
+    @Benchmark
+    public double eightPuzzleIncrementalManhattanDist() {
+        return this.eightPuzzleHeuristic.calculateIncrementalHeuristic(this.eightPuzzleChild, this.eightPuzzle,
+                this.eightPuzzleH);
+    }
+
+    @Benchmark
+    public int eightPuzzleLinearConflict() {
+        return this.eightPuzzleLinearConflict.calculateIntHeuristic(this.eightPuzzle);
+    }
+
+    @Benchmark
+    public int eightPuzzleWalkingDistance() {
+        return this.eightPuzzleWalkingDistance.calculateIntHeuristic(this.eightPuzzle);
+    }
+
+    @Benchmark
+    public int eightPuzzleAdditivePDB() {
+        return this.eightPuzzlePatternDatabase.calculateIntHeuristic(this.eightPuzzle);
+    }
+
+    @Benchmark
+    public int nPuzzleHashCode() {
+        return this.eightPuzzle.hashCode();
+    }
+
+    @Benchmark
+    public boolean nPuzzleEquals() {
+        return this.eightPuzzle.equals(this.eightPuzzleCopy);
+    }
+
+    @Benchmark
+    public int packedNPuzzleHashCode() {
+        return this.packedFifteenPuzzle.hashCode();
+    }
+
+    @Benchmark
+    public boolean packedNPuzzleEquals() {
+        return this.packedFifteenPuzzle.equals(this.packedFifteenPuzzleCopy);
+    }
+
+    @Benchmark
+    public int navigateHashCode() {
+        return this.terrain.hashCode();
+    }
+
+    @Benchmark
+    public boolean navigateEquals() {
+        return this.terrain.equals(this.terrainCopy);
+    }
+
+}
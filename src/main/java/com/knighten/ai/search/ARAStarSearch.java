@@ -0,0 +1,392 @@
+package com.knighten.ai.search;
+
+import com.knighten.ai.search.collections.HashClosedSet;
+import com.knighten.ai.search.collections.NodeStateMap;
+import com.knighten.ai.search.collections.PackedClosedSet;
+import com.knighten.ai.search.interfaces.IClosedSet;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.IOpenList;
+import com.knighten.ai.search.interfaces.IPackedState;
+import com.knighten.ai.search.interfaces.ISolutionListener;
+import com.knighten.ai.search.openlist.IndexedDaryHeap;
+import com.knighten.ai.search.openlist.PackedIndexedDaryHeap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of Anytime Repairing A*(ARA*). A first path is found quickly by a weighted search with a large
+ * heuristic weight. The weight is then lowered step by step down to 1, and each step repairs the previous search
+ * instead of restarting it: states whose g() improved after they were expanded are kept on an inconsistent states list
+ * and are put back on the open list when the next step begins. Every cheaper path, along with the suboptimality bound
+ * proven for it, is published to an ISolutionListener.
+ *
+ * The search stops once the path is proven optimal or the time limit is reached, whichever comes first. search()
+ * returns the best path found. The bounds assume a consistent heuristic.
+ */
+public class ARAStarSearch {
+
+    private AbstractAStarNode initialState;
+    private AbstractAStarNode goalState;
+    private IHeuristicFunction heuristicFunction;
+    private double initialWeight = 3.0;
+    private double weightDecrement = 0.5;
+    private long timeLimitMillis = Long.MAX_VALUE;
+    private ISolutionListener solutionListener;
+
+    private double suboptimalityBound = Double.NaN;
+    private int nodesExpanded;
+
+    /**
+     * Creates an ARAStarSearch object with initial state, goal state, and a heuristic function.
+     *
+     * @param initialState      the state where the search begins
+     * @param goalState         the state where the search ends
+     * @param heuristicFunction the heuristic function used to score nodes
+     */
+    public ARAStarSearch(AbstractAStarNode initialState, AbstractAStarNode goalState,
+                         IHeuristicFunction heuristicFunction) {
+        this.initialState = initialState;
+        this.goalState = goalState;
+        this.heuristicFunction = heuristicFunction;
+    }
+
+    /**
+     * Gets the heuristic weight used to find the first path.
+     *
+     * @return the initial heuristic weight
+     */
+    public double getInitialWeight() {
+        return this.initialWeight;
+    }
+
+    /**
+     * Sets the heuristic weight used to find the first path. Larger weights find the first path sooner, but it is
+     * likely to be more expensive. Defaults to 3.
+     *
+     * @param initialWeight the initial heuristic weight, must be 1 or greater
+     */
+    public void setInitialWeight(double initialWeight) {
+
+        if (!(initialWeight >= 1.0) || Double.isInfinite(initialWeight))
+            throw new IllegalArgumentException("The Initial Weight Must Be A Finite Value Of 1 Or Greater");
+
+        this.initialWeight = initialWeight;
+    }
+
+    /**
+     * Gets the amount the heuristic weight is lowered by after each path is found.
+     *
+     * @return the weight decrement
+     */
+    public double getWeightDecrement() {
+        return this.weightDecrement;
+    }
+
+    /**
+     * Sets the amount the heuristic weight is lowered by after each path is found. The weight never drops below 1.
+     * Defaults to 0.5.
+     *
+     * @param weightDecrement the weight decrement, must be greater than 0
+     */
+    public void setWeightDecrement(double weightDecrement) {
+
+        if (!(weightDecrement > 0.0) || Double.isInfinite(weightDecrement))
+            throw new IllegalArgumentException("The Weight Decrement Must Be A Finite Value Greater Than 0");
+
+        this.weightDecrement = weightDecrement;
+    }
+
+    /**
+     * Gets the time search() may run for.
+     *
+     * @return the time limit in milliseconds
+     */
+    public long getTimeLimitMillis() {
+        return this.timeLimitMillis;
+    }
+
+    /**
+     * Sets the time search() may run for. Once it is reached, search() returns the best path found so far. By default
+     * there is no time limit and the search runs until the path is proven optimal.
+     *
+     * @param timeLimitMillis the time limit in milliseconds, must be greater than 0
+     */
+    public void setTimeLimitMillis(long timeLimitMillis) {
+
+        if (timeLimitMillis <= 0)
+            throw new IllegalArgumentException("The Time Limit Must Be Greater Than 0");
+
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    /**
+     * Sets the listener that every improved path is published to. The nodes of a published path keep their parents and
+     * g(), but their f() is rescored when the weight is lowered.
+     *
+     * @param solutionListener receives each improved path and its bound
+     */
+    public void setSolutionListener(ISolutionListener solutionListener) {
+
+        if (solutionListener == null)
+            throw new IllegalArgumentException("The Solution Listener Cannot Be Null");
+
+        this.solutionListener = solutionListener;
+    }
+
+    /**
+     * Gets the suboptimality bound proven for the path returned by the last call to search().
+     *
+     * @return the proven bound, 1 if the path is optimal, or NaN if no path was found
+     */
+    public double getSuboptimalityBound() {
+        return this.suboptimalityBound;
+    }
+
+    /**
+     * Gets the number of nodes whose successors were generated during the last call to search(), over every weight.
+     *
+     * @return the number of nodes expanded by the last search
+     */
+    public int getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Begins the ARA* search. Will return null if no path was found before the time limit, or if the goal node cannot
+     * be found. Returns the AbstractAStarNode that is the last node on the best path found. You can traverse the path
+     * by following each nodes parent until you arrive back to the initial node(parent is null).
+     *
+     * @return null if no path was found, otherwise the last node on the best path found
+     */
+    public AbstractAStarNode search() {
+        long deadline = this.timeLimitMillis >= Long.MAX_VALUE / 1_000_000L
+                ? Long.MAX_VALUE
+                : System.nanoTime() + this.timeLimitMillis * 1_000_000L;
+
+        Iteration iteration = new Iteration(this.usePackedStates());
+        this.suboptimalityBound = Double.NaN;
+        this.nodesExpanded = 0;
+
+        double weight = this.initialWeight;
+        this.initialState.setG(0);
+        this.initialState.setH(this.heuristicFunction.calculateHeuristic(this.initialState));
+        this.initialState.setF(weight * this.initialState.getH());
+        iteration.bestNodes.put(this.initialState, this.initialState);
+        iteration.openSet.offer(this.initialState);
+
+        AbstractAStarNode bestGoal = null;
+
+        while (true) {
+            boolean completed = this.improvePath(iteration, weight, deadline);
+            AbstractAStarNode goal = iteration.bestNodes.get(this.goalState);
+
+            // Goal Was Not Reached - Either No Path Exists Or The Deadline Came First
+            if (goal == null)
+                return null;
+
+            // Deadline Came Before The Path Was Proven, A Cheaper Path Keeps The Last Proven Bound
+            if (!completed) {
+                if (bestGoal == null || goal.getG() < bestGoal.getG())
+                    this.publish(goal, bestGoal == null ? Double.POSITIVE_INFINITY : this.suboptimalityBound);
+                return goal;
+            }
+
+            // Open And Inconsistent States Are Collected To Compute The Bound And To Seed The Next Weight
+            List<AbstractAStarNode> pending = iteration.drainPending();
+            double bound = this.provenBound(goal.getG(), weight, pending);
+
+            if (bestGoal == null || goal.getG() < bestGoal.getG() || bound < this.suboptimalityBound)
+                this.publish(goal, bound);
+            bestGoal = goal;
+
+            if (bound <= 1.0 || weight == 1.0 || System.nanoTime() - deadline >= 0)
+                return bestGoal;
+
+            // Lower The Weight And Repair The Search With Every Open And Inconsistent State
+            weight = Math.max(1.0, weight - this.weightDecrement);
+            iteration.reset(pending, weight);
+        }
+    }
+
+    /**
+     * Records a path as the best found and passes it to the solution listener.
+     *
+     * @param goal  the last node on the path
+     * @param bound the suboptimality bound of the path
+     */
+    private void publish(AbstractAStarNode goal, double bound) {
+        this.suboptimalityBound = bound;
+
+        if (this.solutionListener != null)
+            this.solutionListener.onSolution(goal, bound);
+    }
+
+    /**
+     * Expands nodes in order of g() + w * h() until the goal's f() is no larger than the smallest f() on the open list,
+     * the open list is empty, or the deadline is reached. Improved states that were already expanded at this weight are
+     * added to the inconsistent states list instead of the open list.
+     *
+     * @param iteration the search state being repaired
+     * @param weight    the current heuristic weight
+     * @param deadline  the System.nanoTime() value at which the search must stop
+     * @return false if the deadline was reached, otherwise true
+     */
+    private boolean improvePath(Iteration iteration, double weight, long deadline) {
+
+        while (!iteration.openSet.isEmpty()) {
+            AbstractAStarNode goal = iteration.bestNodes.get(this.goalState);
+            if (goal != null && goal.getG() + weight * goal.getH() <= iteration.openSet.peek().getF())
+                return true;
+
+            if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0)
+                return false;
+
+            AbstractAStarNode currentState = iteration.openSet.poll();
+            iteration.closedSet.add(currentState);
+            List<AbstractAStarNode> childrenStates = currentState.getSuccessors();
+            this.nodesExpanded++;
+
+            for (AbstractAStarNode childState : childrenStates) {
+                double childG = currentState.getG() + childState.distFromParent();
+
+                // Only Keep The Child If It Is The Cheapest Path Found To Its State
+                AbstractAStarNode best = iteration.bestNodes.get(childState);
+                if (best != null && best.getG() <= childG)
+                    continue;
+
+                childState.setG(childG);
+                childState.setH(best != null ? best.getH() : this.heuristicFunction.calculateHeuristic(childState));
+                childState.setF(childState.getG() + weight * childState.getH());
+                iteration.bestNodes.put(childState, childState);
+
+                if (iteration.closedSet.contains(childState))
+                    iteration.inconsistentStates.add(childState);
+                else
+                    iteration.openSet.offer(childState);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the suboptimality bound proven for the current goal. The optimal cost is at least the smallest g() + h()
+     * of every open and inconsistent state.
+     *
+     * @param solutionCost the cost of the current path to the goal
+     * @param weight       the current heuristic weight
+     * @param pending      the open and inconsistent states
+     * @return the proven bound, between 1 and the weight
+     */
+    private double provenBound(double solutionCost, double weight, List<AbstractAStarNode> pending) {
+        double lowerBound = Double.POSITIVE_INFINITY;
+        for (AbstractAStarNode node : pending)
+            lowerBound = Math.min(lowerBound, node.getG() + node.getH());
+
+        if (lowerBound == Double.POSITIVE_INFINITY || solutionCost <= lowerBound)
+            return 1.0;
+
+        return Math.min(weight, solutionCost / lowerBound);
+    }
+
+    /**
+     * Determines if states can be keyed by packed states. This is the case when the initial state implements
+     * IPackedState and its state fits into a long.
+     *
+     * @return true if packed states can be used, otherwise false
+     */
+    private boolean usePackedStates() {
+        return this.initialState instanceof IPackedState && ((IPackedState) this.initialState).isPackable();
+    }
+
+    /**
+     * Takes the output from search() and makes it into a list of states that represent the path from the initial state
+     * to the goal state.
+     *
+     * @param endPathNode the output node from search()
+     * @return an list of nodes ordered to represent the path
+     */
+    public List<AbstractAStarNode> getPath(AbstractAStarNode endPathNode) {
+        ArrayList<AbstractAStarNode> path = new ArrayList<>();
+        path.add(endPathNode);
+
+        while (endPathNode.getParent() != null) {
+            path.add(0, endPathNode.getParent());
+            endPathNode = endPathNode.getParent();
+        }
+
+        return path;
+    }
+
+    /**
+     * The search state that is carried from one weight to the next.
+     */
+    private static final class Iteration {
+
+        private final boolean usePackedStates;
+
+        /**
+         * The node with the lowest g() for every state generated so far, kept across every weight.
+         */
+        private final NodeStateMap<AbstractAStarNode> bestNodes;
+
+        private IOpenList openSet;
+        private IClosedSet closedSet;
+
+        /**
+         * States whose g() improved after they were expanded at the current weight.
+         */
+        private List<AbstractAStarNode> inconsistentStates;
+
+        private Iteration(boolean usePackedStates) {
+            this.usePackedStates = usePackedStates;
+            this.bestNodes = new NodeStateMap<>(usePackedStates);
+            this.openSet = this.createOpenList();
+            this.closedSet = usePackedStates ? new PackedClosedSet() : new HashClosedSet();
+            this.inconsistentStates = new ArrayList<>();
+        }
+
+        private IOpenList createOpenList() {
+            return this.usePackedStates ? new PackedIndexedDaryHeap() : new IndexedDaryHeap();
+        }
+
+        /**
+         * Removes every open and inconsistent state. States on the inconsistent list more than once are only returned
+         * with their best node.
+         *
+         * @return the best node of every open and inconsistent state
+         */
+        private List<AbstractAStarNode> drainPending() {
+            List<AbstractAStarNode> pending = new ArrayList<>();
+            while (!this.openSet.isEmpty())
+                pending.add(this.openSet.poll());
+
+            for (AbstractAStarNode node : this.inconsistentStates)
+                if (this.bestNodes.get(node) == node)
+                    pending.add(node);
+
+            this.inconsistentStates = new ArrayList<>();
+            return pending;
+        }
+
+        /**
+         * Starts the search at a new weight. The pending states are rescored with the new weight and become the open
+         * list, and no state counts as expanded at the new weight yet.
+         *
+         * @param pending the open and inconsistent states from the previous weight
+         * @param weight  the new heuristic weight
+         */
+        private void reset(List<AbstractAStarNode> pending, double weight) {
+            this.openSet = this.createOpenList();
+            this.closedSet.clear();
+
+            for (AbstractAStarNode node : pending) {
+                node.setF(node.getG() + weight * node.getH());
+                this.openSet.offer(node);
+            }
+        }
+
+    }
+
+}
@@ -1,22 +1,44 @@
 package com.knighten.ai.search;
 
+import com.knighten.ai.search.collections.HashClosedSet;
+import com.knighten.ai.search.collections.PackedClosedSet;
+import com.knighten.ai.search.interfaces.IClosedSet;
 import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.IIncrementalHeuristicFunction;
+import com.knighten.ai.search.interfaces.IOpenList;
+import com.knighten.ai.search.interfaces.IPackedState;
+import com.knighten.ai.search.openlist.IndexedDaryHeap;
+import com.knighten.ai.search.openlist.IntOpenListAdapter;
+import com.knighten.ai.search.openlist.OpenListType;
+import com.knighten.ai.search.openlist.PackedIndexedDaryHeap;
+import com.knighten.ai.search.openlist.TieBreakingPolicy;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
 
 
 /**
- * An implementation of A* search to find an optimal path in a state space.
+ * An implementation of A* search to find an optimal path in a state space. The search can also be weighted, trading
+ * optimality for speed with a guaranteed bound on the path cost, or run as greedy best-first search.
  */
 public class AStarSearch {
 
     private AbstractAStarNode initialState;
     private AbstractAStarNode goalState;
     private IHeuristicFunction heuristicFunction;
+    private OpenListType openListType = OpenListType.HEAP;
+    private TieBreakingPolicy tieBreakingPolicy = TieBreakingPolicy.NONE;
+    private Comparator<AbstractAStarNode> tieBreakingComparator;
+    private int nodesExpanded;
+    private double heuristicWeight = 1.0;
+    private boolean greedy = false;
+    private double suboptimalityBound = Double.NaN;
+    private double inconsistentLowerBound;
+    private SearchLimits searchLimits = new SearchLimits();
+    private CancellationToken cancellationToken = new CancellationToken();
+    private SearchResult searchResult;
+    private boolean statisticsEnabled = false;
 
     /**
      * Creates an AStarSearch object with initial state, goal state, and a heuristic function.
@@ -32,61 +54,420 @@ public class AStarSearch {
         this.heuristicFunction = heuristicFunction;
     }
 
+    /**
+     * Gets the type of open list used by search().
+     *
+     * @return the type of open list used by search()
+     */
+    public OpenListType getOpenListType() {
+        return this.openListType;
+    }
+
+    /**
+     * Sets the type of open list used by search(). The bucket based open lists require every f() and g() to be an
+     * integer, which is the case for all of the implemented search problems. OpenListType.BUCKET can only be used with
+     * integer heuristic weights and OpenListType.RADIX_HEAP only with a heuristic weight of 1, neither can be used for
+     * greedy search. search() throws an IllegalStateException for any other combination.
+     *
+     * @param openListType the type of open list used by search()
+     */
+    public void setOpenListType(OpenListType openListType) {
+
+        if (openListType == null)
+            throw new IllegalArgumentException("The Open List Type Cannot Be Null");
+
+        this.openListType = openListType;
+    }
+
+    /**
+     * Gets the policy that orders nodes with equal f() in the open list.
+     *
+     * @return the tie breaking policy used by search()
+     */
+    public TieBreakingPolicy getTieBreakingPolicy() {
+        return this.tieBreakingPolicy;
+    }
+
+    /**
+     * Sets the policy that orders nodes with equal f() in the open list. Policies other than NONE can only be used with
+     * OpenListType.HEAP, the bucket based open lists always poll the largest g() first. The CUSTOM policy requires a
+     * comparator to be set with setTieBreakingComparator().
+     *
+     * @param tieBreakingPolicy the tie breaking policy used by search()
+     */
+    public void setTieBreakingPolicy(TieBreakingPolicy tieBreakingPolicy) {
+
+        if (tieBreakingPolicy == null)
+            throw new IllegalArgumentException("The Tie Breaking Policy Cannot Be Null");
+
+        this.tieBreakingPolicy = tieBreakingPolicy;
+    }
+
+    /**
+     * Sets a user supplied secondary key that orders nodes with equal f(), the node that compares as smallest is
+     * expanded first. Also sets the tie breaking policy to CUSTOM.
+     *
+     * @param tieBreakingComparator orders nodes with equal f()
+     */
+    public void setTieBreakingComparator(Comparator<AbstractAStarNode> tieBreakingComparator) {
+
+        if (tieBreakingComparator == null)
+            throw new IllegalArgumentException("The Tie Breaking Comparator Cannot Be Null");
+
+        this.tieBreakingComparator = tieBreakingComparator;
+        this.tieBreakingPolicy = TieBreakingPolicy.CUSTOM;
+    }
+
+    /**
+     * Gets the weight w applied to the heuristic, f() = g() + w * h().
+     *
+     * @return the heuristic weight
+     */
+    public double getHeuristicWeight() {
+        return this.heuristicWeight;
+    }
+
+    /**
+     * Sets the weight w applied to the heuristic, f() = g() + w * h(). With a weight of 1, the default, the path found
+     * is optimal. With larger weights the search expands far fewer nodes and, for consistent heuristics, the path found
+     * costs at most w times the optimal cost. getSuboptimalityBound() reports the bound actually achieved, which is
+     * often much smaller than w. Weights that are not integers cannot be used with OpenListType.BUCKET and weights
+     * other than 1 cannot be used with OpenListType.RADIX_HEAP.
+     *
+     * @param heuristicWeight the heuristic weight, must be 1 or greater
+     */
+    public void setHeuristicWeight(double heuristicWeight) {
+
+        if (!(heuristicWeight >= 1.0) || Double.isInfinite(heuristicWeight))
+            throw new IllegalArgumentException("The Heuristic Weight Must Be A Finite Value Of 1 Or Greater");
+
+        this.heuristicWeight = heuristicWeight;
+    }
+
+    /**
+     * Determines if search() runs as greedy best-first search.
+     *
+     * @return true if nodes are ordered by h() alone, otherwise false
+     */
+    public boolean isGreedy() {
+        return this.greedy;
+    }
+
+    /**
+     * Sets if search() runs as greedy best-first search, which orders nodes by h() alone and ignores the heuristic
+     * weight. Greedy search usually finds a path fastest but gives no bound on its cost, so it suits queries that only
+     * need to know a path exists. Greedy search can only be used with OpenListType.HEAP, since f() = h() can be
+     * smaller than g() and does not grow along a path.
+     *
+     * @param greedy true to order nodes by h() alone, false to order nodes by g() + w * h()
+     */
+    public void setGreedy(boolean greedy) {
+        this.greedy = greedy;
+    }
+
+    /**
+     * Gets the suboptimality bound achieved by the last call to search(). The cost of the path found is at most the
+     * bound times the optimal cost. The bound is 1 for unweighted searches, at most the heuristic weight for weighted
+     * searches, and positive infinity for greedy searches. Assumes a consistent heuristic.
+     *
+     * @return the achieved suboptimality bound, or NaN if the last search found no path
+     */
+    public double getSuboptimalityBound() {
+        return this.suboptimalityBound;
+    }
+
+    /**
+     * Gets the number of nodes whose successors were generated during the last call to search().
+     *
+     * @return the number of nodes expanded by the last search
+     */
+    public int getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Gets the limits search() must stay within.
+     *
+     * @return the search limits
+     */
+    public SearchLimits getSearchLimits() {
+        return this.searchLimits;
+    }
+
+    /**
+     * Sets the limits search() must stay within. When a limit is reached search() returns null and getSearchResult()
+     * reports which limit was reached. Defaults to no limits.
+     *
+     * @param searchLimits the search limits
+     */
+    public void setSearchLimits(SearchLimits searchLimits) {
+
+        if (searchLimits == null)
+            throw new IllegalArgumentException("The Search Limits Cannot Be Null");
+
+        this.searchLimits = searchLimits;
+    }
+
+    /**
+     * Gets the token that stops search() when it is cancelled. Another thread can cancel a running search with
+     * getCancellationToken().cancel().
+     *
+     * @return the cancellation token
+     */
+    public CancellationToken getCancellationToken() {
+        return this.cancellationToken;
+    }
+
+    /**
+     * Sets the token that stops search() when it is cancelled. One token can be shared by several searches to stop
+     * them all at once.
+     *
+     * @param cancellationToken the cancellation token
+     */
+    public void setCancellationToken(CancellationToken cancellationToken) {
+
+        if (cancellationToken == null)
+            throw new IllegalArgumentException("The Cancellation Token Cannot Be Null");
+
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * Determines if search() collects detailed statistics.
+     *
+     * @return true if statistics are collected, otherwise false
+     */
+    public boolean isStatisticsEnabled() {
+        return this.statisticsEnabled;
+    }
+
+    /**
+     * Sets if search() collects detailed statistics, such as duplicates pruned and peak open list and closed set sizes.
+     * They are reported by getSearchResult().getStatistics(). When disabled, the default, the only cost is a null check
+     * per generated node.
+     *
+     * @param statisticsEnabled true to collect statistics, otherwise false
+     */
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    /**
+     * Gets the result of the last call to search(). When the search was stopped by a limit or by cancellation the
+     * result names the cause, and its best node is the generated node with the lowest h().
+     *
+     * @return the result of the last search, or null if search() has not been called
+     */
+    public SearchResult getSearchResult() {
+        return this.searchResult;
+    }
+
     /**
      * Begins the A* search. Will return null if the goal node cannot be found. Returns a AbstractAStarNode that
      * is the last node on the optimal path. You can traverse the optimal path by following each nodes parent
-     * until you arrive back to the initial node(parent is null).
+     * until you arrive back to the initial node(parent is null). Also returns null when a search limit is reached or
+     * the cancellation token is cancelled, see getSearchResult().
      *
      * @return null if path does not exist, otherwise the last node on the optimal path
      */
     public AbstractAStarNode search() {
 
-        PriorityQueue<AbstractAStarNode> openSet = new PriorityQueue<AbstractAStarNode>(1, goalState);
-        // Used to quickly determine if node with same state is in the open set and to retrieve that states best f
-        HashMap<AbstractAStarNode, Double> openSetHash = new HashMap<>();
-        HashSet<AbstractAStarNode> closedSet = new HashSet<>();
+        // Holds At Most One Node Per State, Finding A Better Path Updates The Queued Node In Place
+        IOpenList openSet = this.createOpenList();
+        IClosedSet closedSet = this.createClosedSet();
+        this.nodesExpanded = 0;
+        this.suboptimalityBound = Double.NaN;
+        this.inconsistentLowerBound = Double.POSITIVE_INFINITY;
+        double weight = this.greedy ? 1.0 : this.heuristicWeight;
+        SearchBudget budget = new SearchBudget(this.searchLimits, this.cancellationToken);
+        SearchBudget.Counter counter = budget.newCounter();
+        SearchStatistics statistics = this.statisticsEnabled ? new SearchStatistics() : null;
 
         // Set Initial Nodes F To Heuristic Score
-        this.initialState.setF(this.heuristicFunction.calculateHeuristic(this.initialState));
+        double initialH = this.heuristicFunction.calculateHeuristic(this.initialState);
+        this.initialState.setH(initialH);
+        this.initialState.setF(weight * initialH);
+        counter.reached(this.initialState, initialH);
 
-        // Add Initial Node Into Queue/HashMap
-        openSet.add(this.initialState);
-        openSetHash.put(this.initialState, this.initialState.getF());
+        // Add Initial Node Into Queue
+        openSet.offer(this.initialState);
+        if (statistics != null)
+            statistics.updatePeakSizes(openSet.size(), closedSet.size());
 
         while (!openSet.isEmpty()) {
             AbstractAStarNode currentState = openSet.poll();
 
             // Check If Goal Is Found
-            if (currentState.equals(this.goalState))
+            if (currentState.equals(this.goalState)) {
+                this.suboptimalityBound = this.achievedBound(currentState.getG(), openSet);
+                this.finishSearch(budget, counter, statistics, currentState);
                 return currentState;
+            }
+
+            // Stop If A Limit Was Reached Or The Search Was Cancelled
+            if (!counter.canExpand((long) openSet.size() + closedSet.size()))
+                break;
 
             // Add To Closed Set Since We Have Generated The Nodes Successors
             closedSet.add(currentState);
             List<AbstractAStarNode> childrenStates = currentState.getSuccessors();
+            this.nodesExpanded++;
+            counter.expanded(childrenStates.size());
 
             for (AbstractAStarNode childState : childrenStates) {
 
                 // If Child Node's Children Has Already Been Generated Then Skip Child
-                if (closedSet.contains(childState))
+                if (closedSet.contains(childState)) {
+                    if (weight != 1.0)
+                        this.recordClosedChild(childState);
+                    if (statistics != null)
+                        statistics.addDuplicatesPruned(1);
                     continue;
+                }
 
                 childState.setG(childState.getParent().getG() + childState.distFromParent());
-                childState.setH(this.heuristicFunction.calculateHeuristic(childState));
-                childState.setF(childState.getG() + childState.getH());
-
-                // If Child Node Is In Queue And The Version In Queue Has A Smaller F() Then Do Not Add The Child To Queue
-                // Note the short circuit logic
-                if (openSetHash.containsKey(childState) && openSetHash.get(childState) < childState.getF())
-                    continue;
+                double childH = this.calculateChildHeuristic(childState, currentState);
+                childState.setH(childH);
+                childState.setF(this.greedy ? childState.getH() : childState.getG() + weight * childState.getH());
+                counter.reached(childState, childH);
 
-                openSet.add(childState);
-                openSetHash.put(childState, childState.getF());
+                // Add Child To Queue, If Its State Is Already Queued Only Keep The Version With The Smaller F()
+                if (!openSet.offer(childState) && statistics != null)
+                    statistics.addDuplicatesPruned(1);
             }
+
+            if (statistics != null)
+                statistics.updatePeakSizes(openSet.size(), closedSet.size());
         }
 
+        this.finishSearch(budget, counter, statistics, null);
         return null;
     }
 
+    /**
+     * Creates the result of the search once it has ended.
+     *
+     * @param budget     tracks the search against its limits
+     * @param counter    the counter of the search
+     * @param statistics the detailed statistics, or null if they are not collected
+     * @param goalNode   the goal node, or null if the goal was not found
+     */
+    private void finishSearch(SearchBudget budget, SearchBudget.Counter counter, SearchStatistics statistics,
+                              AbstractAStarNode goalNode) {
+        counter.flush();
+        if (statistics != null)
+            statistics.endIteration(this.nodesExpanded);
+
+        this.searchResult = budget.toResult(goalNode, statistics);
+    }
+
+    /**
+     * Calculates h() of a child. An IIncrementalHeuristicFunction derives it from the parent's h(), every other
+     * heuristic function scores the child from scratch.
+     *
+     * @param childState  the child being scored
+     * @param parentState the expanded node the child was generated from
+     * @return the heuristic score of the child
+     */
+    private double calculateChildHeuristic(AbstractAStarNode childState, AbstractAStarNode parentState) {
+        if (this.heuristicFunction instanceof IIncrementalHeuristicFunction)
+            return ((IIncrementalHeuristicFunction) this.heuristicFunction)
+                    .calculateIncrementalHeuristic(childState, parentState, parentState.getH());
+
+        return this.heuristicFunction.calculateHeuristic(childState);
+    }
+
+    /**
+     * A weighted search never reopens closed states, so a closed state may have been reached again by a cheaper path.
+     * Such states are not on the open list, so g() + h() of every closed child is kept as part of the lower bound on
+     * the optimal cost.
+     *
+     * @param childState a child whose state is already closed
+     */
+    private void recordClosedChild(AbstractAStarNode childState) {
+        double g = childState.getParent().getG() + childState.distFromParent();
+        double h = this.heuristicFunction.calculateHeuristic(childState);
+
+        if (g + h < this.inconsistentLowerBound)
+            this.inconsistentLowerBound = g + h;
+    }
+
+    /**
+     * Computes the suboptimality bound achieved by a search that just polled the goal. The optimal cost is at least the
+     * smallest g() + h() of the open and inconsistent states. Every open node has g() + h() of at least f() / w, so the
+     * smallest f() on the open list divided by w is used for the open states.
+     *
+     * @param solutionCost the cost of the path found
+     * @param openSet      the open list after polling the goal
+     * @return the achieved suboptimality bound
+     */
+    private double achievedBound(double solutionCost, IOpenList openSet) {
+
+        if (this.greedy)
+            return Double.POSITIVE_INFINITY;
+
+        if (this.heuristicWeight == 1.0)
+            return 1.0;
+
+        double lowerBound = this.inconsistentLowerBound;
+        if (!openSet.isEmpty())
+            lowerBound = Math.min(lowerBound, openSet.peek().getF() / this.heuristicWeight);
+
+        if (lowerBound == Double.POSITIVE_INFINITY || solutionCost == 0.0)
+            return 1.0;
+
+        return Math.max(1.0, Math.min(this.heuristicWeight, solutionCost / lowerBound));
+    }
+
+    /**
+     * Determines if the open and closed sets can be keyed by packed states. This is the case when the initial state
+     * implements IPackedState and its state fits into a long.
+     *
+     * @return true if packed states can be used, otherwise false
+     */
+    private boolean usePackedStates() {
+        return this.initialState instanceof IPackedState && ((IPackedState) this.initialState).isPackable();
+    }
+
+    /**
+     * Creates the open list used by search() based on the open list type and tie breaking policy. Packed states are
+     * used to key the open list when possible.
+     *
+     * @return an empty open list
+     */
+    private IOpenList createOpenList() {
+        if (this.openListType != OpenListType.HEAP) {
+            if (this.tieBreakingPolicy != TieBreakingPolicy.NONE)
+                throw new IllegalStateException("Tie Breaking Policies Can Only Be Used With OpenListType.HEAP");
+
+            // Greedy f() = h() Can Be Smaller Than g() And Weighted f() Is Not An Integer Or Not Monotone
+            if (this.openListType == OpenListType.BUCKET
+                    && (this.greedy || this.heuristicWeight != Math.rint(this.heuristicWeight)))
+                throw new IllegalStateException(
+                        "OpenListType.BUCKET Requires An Integer Heuristic Weight And Non Greedy Search");
+
+            if (this.openListType == OpenListType.RADIX_HEAP && (this.greedy || this.heuristicWeight != 1.0))
+                throw new IllegalStateException(
+                        "OpenListType.RADIX_HEAP Requires A Heuristic Weight Of 1 And Non Greedy Search");
+
+            return new IntOpenListAdapter(this.openListType.createIntOpenList(this.usePackedStates()));
+        }
+
+        int arity = IndexedDaryHeap.DEFAULT_ARITY;
+        return this.usePackedStates()
+                ? new PackedIndexedDaryHeap(arity, this.tieBreakingPolicy, this.tieBreakingComparator)
+                : new IndexedDaryHeap(arity, this.tieBreakingPolicy, this.tieBreakingComparator);
+    }
+
+    /**
+     * Creates the closed set used by search(). Only packed states are stored when possible.
+     *
+     * @return an empty closed set
+     */
+    private IClosedSet createClosedSet() {
+        return this.usePackedStates() ? new PackedClosedSet() : new HashClosedSet();
+    }
+
     /**
      * Takes the output from search() and makes it into a list of states that represent the optimal path from the
      * initial state to the goal state.
@@ -129,7 +129,7 @@ public abstract class AbstractAStarNode<T> implements Comparator<AbstractAStarNo
     }
 
     /**
-     * Compares two AStarNodes' f() values. Used in priority queue.
+     * Compares two AStarNodes' f() values exactly. Used in priority queue.
      *
      * @param node1 a AbstractAStarNode - treated as primary
      * @param node2 another AbstractAStarNode - treated as secondary
@@ -137,7 +137,28 @@ public abstract class AbstractAStarNode<T> implements Comparator<AbstractAStarNo
      */
     @Override
     public int compare(AbstractAStarNode<T> node1, AbstractAStarNode<T> node2) {
-        return (int) (node1.getF() - node2.getF());
+        return Double.compare(node1.getF(), node2.getF());
+    }
+
+    /**
+     * Generates a list of predecessor nodes, the nodes that have this node as a successor. Each predecessor's parent is
+     * set to this node. Used by searches that work backwards from the goal. The default returns getSuccessors(), which
+     * is correct for problems whose moves are all reversible, such as the N-puzzles and the navigation problems.
+     *
+     * @return list of predecessor nodes
+     */
+    public List<AbstractAStarNode> getPredecessors() {
+        return this.getSuccessors();
+    }
+
+    /**
+     * Returns the cost of moving from the node to its parent, for nodes generated by getPredecessors(). The default
+     * returns distFromParent(), which is correct for problems whose moves cost the same in both directions.
+     *
+     * @return returns distance from the node to its parent
+     */
+    public double distToParent() {
+        return this.distFromParent();
     }
 
     //////////////////////
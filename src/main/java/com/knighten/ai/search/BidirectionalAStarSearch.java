@@ -0,0 +1,241 @@
+package com.knighten.ai.search;
+
+import com.knighten.ai.search.collections.NodeStateMap;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.IOpenList;
+import com.knighten.ai.search.interfaces.IPackedState;
+import com.knighten.ai.search.openlist.IndexedDaryHeap;
+import com.knighten.ai.search.openlist.PackedIndexedDaryHeap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of bidirectional heuristic search that meets in the middle(MM). A forward search from the initial
+ * state and a backward search from the goal state run side by side, the backward search uses getPredecessors() and
+ * distToParent(). Every node n is prioritised by max(f(n), 2g(n)), which guarantees neither search expands a node past
+ * the midpoint of an optimal path.
+ *
+ * Whenever a search generates a state the other search has already reached, the cost of the path through that state
+ * becomes a candidate solution cost U. The search stops once U is not larger than the smallest priority in either
+ * open list, at which point U is optimal as long as both heuristics are admissible.
+ *
+ * While running, each node's f() holds its priority max(g() + h(), 2g()).
+ */
+public class BidirectionalAStarSearch {
+
+    private AbstractAStarNode initialState;
+    private AbstractAStarNode goalState;
+    private IHeuristicFunction forwardHeuristic;
+    private IHeuristicFunction backwardHeuristic;
+    private int nodesExpanded;
+
+    /**
+     * Creates a BidirectionalAStarSearch object with initial state, goal state, and a heuristic function for each
+     * direction.
+     *
+     * @param initialState      the state where the search begins
+     * @param goalState         the state where the search ends
+     * @param forwardHeuristic  estimates the distance from a node to the goal state
+     * @param backwardHeuristic estimates the distance from a node to the initial state
+     */
+    public BidirectionalAStarSearch(AbstractAStarNode initialState, AbstractAStarNode goalState,
+                                    IHeuristicFunction forwardHeuristic, IHeuristicFunction backwardHeuristic) {
+
+        if (initialState == null || goalState == null)
+            throw new IllegalArgumentException("The Initial State And Goal State Cannot Be Null");
+
+        if (forwardHeuristic == null || backwardHeuristic == null)
+            throw new IllegalArgumentException("The Forward And Backward Heuristic Functions Cannot Be Null");
+
+        this.initialState = initialState;
+        this.goalState = goalState;
+        this.forwardHeuristic = forwardHeuristic;
+        this.backwardHeuristic = backwardHeuristic;
+    }
+
+    /**
+     * Gets the number of nodes whose successors or predecessors were generated during the last call to search().
+     *
+     * @return the number of nodes expanded in both directions by the last search
+     */
+    public int getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Begins the bidirectional search. Will return null if the goal node cannot be found. Returns a AbstractAStarNode
+     * that is the last node on the optimal path. You can traverse the optimal path by following each nodes parent
+     * until you arrive back to the initial node(parent is null). The nodes between the meeting point and the goal are
+     * generated again in the forward direction, so the nodes of the backward search are never relinked and search()
+     * can be called again on the same instance.
+     *
+     * @return null if path does not exist, otherwise the last node on the optimal path
+     */
+    public AbstractAStarNode search() {
+        this.nodesExpanded = 0;
+
+        if (this.initialState.equals(this.goalState))
+            return this.initialState;
+
+        boolean usePackedStates = this.initialState instanceof IPackedState
+                && ((IPackedState) this.initialState).isPackable();
+        Direction forward = new Direction(this.initialState, this.forwardHeuristic, false, usePackedStates);
+        Direction backward = new Direction(this.goalState, this.backwardHeuristic, true, usePackedStates);
+        Meeting best = new Meeting();
+
+        while (!forward.openSet.isEmpty() && !backward.openSet.isEmpty()) {
+            double forwardMin = forward.openSet.peek().getF();
+            double backwardMin = backward.openSet.peek().getF();
+
+            // Stopping Rule - No Unexpanded Path Can Cost Less Than min(prminF, prminB)
+            if (best.cost <= Math.min(forwardMin, backwardMin))
+                break;
+
+            // Expand In The Direction With The Smaller Priority, Forward On Ties
+            if (forwardMin <= backwardMin)
+                this.expand(forward, backward, best);
+            else
+                this.expand(backward, forward, best);
+        }
+
+        return best.forwardNode == null ? null : this.joinPaths(best.forwardNode, best.backwardNode);
+    }
+
+    /**
+     * Expands the best node of one direction and checks each generated node against the other direction for a cheaper
+     * meeting point.
+     *
+     * @param direction the direction being expanded
+     * @param other     the opposite direction
+     * @param best      the cheapest meeting point found so far
+     */
+    private void expand(Direction direction, Direction other, Meeting best) {
+        AbstractAStarNode currentState = direction.openSet.poll();
+        List<AbstractAStarNode> childrenStates = direction.isBackward
+                ? currentState.getPredecessors()
+                : currentState.getSuccessors();
+        this.nodesExpanded++;
+
+        for (AbstractAStarNode childState : childrenStates) {
+            double childG = currentState.getG()
+                    + (direction.isBackward ? childState.distToParent() : childState.distFromParent());
+
+            // Skip Child If Its State Was Already Reached At An Equal Or Lower Cost
+            AbstractAStarNode reached = direction.reachedStates.get(childState);
+            if (reached != null && reached.getG() <= childG)
+                continue;
+
+            childState.setG(childG);
+            childState.setH(direction.heuristicFunction.calculateHeuristic(childState));
+            childState.setF(Math.max(childState.getG() + childState.getH(), 2 * childState.getG()));
+            direction.reachedStates.put(childState, childState);
+
+            // Other Direction Has Reached This State - Record The Path Through It If It Is Cheaper
+            AbstractAStarNode otherReached = other.reachedStates.get(childState);
+            if (otherReached != null && childG + otherReached.getG() < best.cost) {
+                best.cost = childG + otherReached.getG();
+                best.forwardNode = direction.isBackward ? otherReached : childState;
+                best.backwardNode = direction.isBackward ? childState : otherReached;
+            }
+
+            // Child Can Never Be Part Of A Cheaper Path, Reopens Expanded States Otherwise
+            if (childState.getG() + childState.getH() < best.cost)
+                direction.openSet.offer(childState);
+        }
+    }
+
+    /**
+     * Joins the forward path ending in forwardNode and the backward path starting at backwardNode, which share the same
+     * state. The backward nodes are left untouched, the states after the meeting point are walked forward again from
+     * forwardNode with getSuccessors() so every node on the joined path is a forward node whose parent points towards
+     * the initial state.
+     *
+     * @param forwardNode  the meeting state reached by the forward search
+     * @param backwardNode the meeting state reached by the backward search
+     * @return the goal node at the end of the joined path
+     */
+    private AbstractAStarNode joinPaths(AbstractAStarNode forwardNode, AbstractAStarNode backwardNode) {
+        AbstractAStarNode previous = forwardNode;
+
+        for (AbstractAStarNode node = backwardNode.getParent(); node != null; node = node.getParent()) {
+            List<AbstractAStarNode> successors = previous.getSuccessors();
+            AbstractAStarNode next = null;
+            for (AbstractAStarNode successor : successors)
+                if (successor.equals(node) && (next == null || successor.distFromParent() < next.distFromParent()))
+                    next = successor;
+
+            if (next == null)
+                throw new IllegalStateException("A Backward Edge Has No Matching Forward Successor");
+
+            next.setG(previous.getG() + next.distFromParent());
+            previous = next;
+        }
+
+        return previous;
+    }
+
+    /**
+     * Takes the output from search() and makes it into a list of states that represent the optimal path from the
+     * initial state to the goal state.
+     *
+     * @param endPathNode the output node from search()
+     * @return an list of nodes ordered to represent the optimal path
+     */
+    public List<AbstractAStarNode> getPath(AbstractAStarNode endPathNode) {
+        ArrayList<AbstractAStarNode> path = new ArrayList<>();
+        path.add(endPathNode);
+
+        while (endPathNode.getParent() != null) {
+            path.add(0, endPathNode.getParent());
+            endPathNode = endPathNode.getParent();
+        }
+
+        return path;
+    }
+
+    /**
+     * The open list, reached states, and heuristic of one search direction.
+     */
+    private static final class Direction {
+
+        private final IOpenList openSet;
+
+        /**
+         * The node with the lowest g() for every state this direction has generated, expanded or not.
+         */
+        private final NodeStateMap<AbstractAStarNode> reachedStates;
+
+        private final IHeuristicFunction heuristicFunction;
+        private final boolean isBackward;
+
+        private Direction(AbstractAStarNode root, IHeuristicFunction heuristicFunction, boolean isBackward,
+                          boolean usePackedStates) {
+            this.openSet = usePackedStates ? new PackedIndexedDaryHeap() : new IndexedDaryHeap();
+            this.reachedStates = new NodeStateMap<>(usePackedStates);
+            this.heuristicFunction = heuristicFunction;
+            this.isBackward = isBackward;
+
+            // Roots May Be Reused By Another Search, Drop Any Parent A Previous Search Left Behind
+            root.setParent(null);
+            root.setG(0);
+            root.setH(heuristicFunction.calculateHeuristic(root));
+            root.setF(root.getH());
+            this.reachedStates.put(root, root);
+            this.openSet.offer(root);
+        }
+
+    }
+
+    /**
+     * The cheapest meeting point found so far.
+     */
+    private static final class Meeting {
+
+        private double cost = Double.POSITIVE_INFINITY;
+        private AbstractAStarNode forwardNode;
+        private AbstractAStarNode backwardNode;
+
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.knighten.ai.search;
+
+/**
+ * Lets one thread ask a search running on another thread to stop. The search checks the token once per expanded node,
+ * which costs a single volatile read. Once cancelled a token stays cancelled, so every later search using it stops
+ * right away.
+ */
+public class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    /**
+     * Asks every search using this token to stop. Safe to call from any thread.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Determines if the token has been cancelled.
+     *
+     * @return true if cancel() has been called, otherwise false
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+}
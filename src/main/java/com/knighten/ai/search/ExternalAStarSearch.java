@@ -0,0 +1,403 @@
+package com.knighten.ai.search;
+
+import com.knighten.ai.search.external.MergedRuns;
+import com.knighten.ai.search.external.RecordBuffer;
+import com.knighten.ai.search.external.RecordRun;
+import com.knighten.ai.search.external.RunWriter;
+import com.knighten.ai.search.external.StateRecord;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.IPackedState;
+import com.knighten.ai.search.interfaces.IUnpackableState;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An implementation of external memory A* search. Instead of hash tables on the heap, the open list is split into
+ * buckets of states with the same f() and g(), and each bucket and the closed set are kept as sorted runs of records in
+ * memory mapped files. Only a buffer of newly generated states is held on the heap, once it fills every bucket writes
+ * its share out as a new run.
+ *
+ * Duplicates are not detected when a state is generated. They are removed when a bucket is expanded, by merging the
+ * runs of the bucket and subtracting the runs of the closed set, all of which are read sequentially. Buckets are
+ * expanded in order of f() and then g(), so the first time a state is expanded it has its lowest g().
+ *
+ * Requires nodes that implement IUnpackableState, a consistent heuristic, and positive edge costs. The path is rebuilt
+ * from the parent stored in each closed record, so getPath() works as it does for AStarSearch.
+ */
+public class ExternalAStarSearch {
+
+    /**
+     * The number of records mapped into memory at once while reading or writing a run.
+     */
+    private static final int WINDOW_RECORDS = 1 << 16;
+
+    /**
+     * The closed runs are merged into one once there are more of them than this.
+     */
+    private static final int MAX_CLOSED_RUNS = 8;
+
+    private AbstractAStarNode initialState;
+    private AbstractAStarNode goalState;
+    private IHeuristicFunction heuristicFunction;
+    private File workingDirectory = new File(System.getProperty("java.io.tmpdir"));
+    private int bufferSize = 1 << 20;
+    private long nodesExpanded;
+
+    private Path runDirectory;
+    private int runCount;
+
+    /**
+     * Creates an ExternalAStarSearch object with initial state, goal state, and a heuristic function.
+     *
+     * @param initialState      the state where the search begins, must implement IUnpackableState and be packable
+     * @param goalState         the state where the search ends
+     * @param heuristicFunction the consistent heuristic function used to score nodes
+     */
+    public ExternalAStarSearch(AbstractAStarNode initialState, AbstractAStarNode goalState,
+                               IHeuristicFunction heuristicFunction) {
+
+        if (initialState == null || goalState == null)
+            throw new IllegalArgumentException("The Initial State And Goal State Cannot Be Null");
+
+        if (heuristicFunction == null)
+            throw new IllegalArgumentException("The Heuristic Function Cannot Be Null");
+
+        if (!(initialState instanceof IUnpackableState) || !((IUnpackableState) initialState).isPackable()
+                || !(goalState instanceof IPackedState))
+            throw new IllegalArgumentException("The Initial State And Goal State Must Have Unpackable Packed States");
+
+        this.initialState = initialState;
+        this.goalState = goalState;
+        this.heuristicFunction = heuristicFunction;
+    }
+
+    /**
+     * Gets the directory the run files are created in.
+     *
+     * @return the working directory
+     */
+    public File getWorkingDirectory() {
+        return this.workingDirectory;
+    }
+
+    /**
+     * Sets the directory the run files are created in. Each search creates its own directory inside it and deletes it
+     * when the search ends. Defaults to the system temporary directory.
+     *
+     * @param workingDirectory an existing directory
+     */
+    public void setWorkingDirectory(File workingDirectory) {
+
+        if (workingDirectory == null || !workingDirectory.isDirectory())
+            throw new IllegalArgumentException("The Working Directory Must Be An Existing Directory");
+
+        this.workingDirectory = workingDirectory;
+    }
+
+    /**
+     * Gets the number of generated states held on the heap before they are written out.
+     *
+     * @return the buffer size in records
+     */
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * Sets the number of generated states held on the heap before they are written out. Each record takes 24 bytes.
+     * Smaller buffers write more, smaller runs. Defaults to 2^20 records.
+     *
+     * @param bufferSize the buffer size in records, must be 1 or greater
+     */
+    public void setBufferSize(int bufferSize) {
+
+        if (bufferSize < 1)
+            throw new IllegalArgumentException("The Buffer Size Must Be 1 Or Greater");
+
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Gets the number of nodes whose successors were generated during the last call to search().
+     *
+     * @return the number of nodes expanded by the last search
+     */
+    public long getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Begins the external memory search. Will return null if the goal node cannot be found. Returns a AbstractAStarNode
+     * that is the last node on the optimal path. You can traverse the optimal path by following each nodes parent
+     * until you arrive back to the initial node(parent is null). Every file written by the search is deleted before
+     * this returns.
+     *
+     * @return null if path does not exist, otherwise the last node on the optimal path
+     */
+    public AbstractAStarNode search() {
+        this.nodesExpanded = 0;
+        this.runCount = 0;
+
+        TreeMap<BucketKey, Bucket> openBuckets = new TreeMap<>();
+        List<RecordRun> closedRuns = new ArrayList<>();
+        long goalPackedState = ((IPackedState) this.goalState).packState();
+        long initialPackedState = ((IPackedState) this.initialState).packState();
+
+        try {
+            this.runDirectory = Files.createTempDirectory(this.workingDirectory.toPath(), "external-astar");
+
+            // The Root Is Stored As Its Own Parent
+            double initialH = this.heuristicFunction.calculateHeuristic(this.initialState);
+            Bucket rootBucket = new Bucket();
+            rootBucket.buffer.add(initialPackedState, 0.0, initialPackedState);
+            openBuckets.put(new BucketKey(initialH, 0.0), rootBucket);
+            int bufferedRecords = 1;
+
+            while (!openBuckets.isEmpty()) {
+                Map.Entry<BucketKey, Bucket> next = openBuckets.pollFirstEntry();
+                BucketKey key = next.getKey();
+                Bucket bucket = next.getValue();
+
+                bufferedRecords -= bucket.buffer.size();
+                if (!bucket.buffer.isEmpty())
+                    bucket.runs.add(bucket.buffer.spill(this.nextRunFile(), WINDOW_RECORDS));
+
+                // Delayed Duplicate Detection - Merge The Bucket's Runs And Subtract The Closed Runs
+                long capacity = 0;
+                for (RecordRun run : bucket.runs)
+                    capacity += run.size();
+
+                RunWriter closedWriter = new RunWriter(this.nextRunFile(), capacity, WINDOW_RECORDS);
+                MergedRuns candidates = new MergedRuns(bucket.runs);
+                MergedRuns closed = new MergedRuns(closedRuns);
+                boolean closedRemaining = closed.advance();
+
+                while (candidates.advance()) {
+                    StateRecord record = candidates.current();
+
+                    while (closedRemaining && closed.current().getState() < record.getState())
+                        closedRemaining = closed.advance();
+
+                    if (closedRemaining && closed.current().getState() == record.getState())
+                        continue;
+
+                    if (record.getState() == goalPackedState) {
+                        closedRuns.add(closedWriter.finish());
+                        return this.rebuildPath(record, closedRuns);
+                    }
+
+                    closedWriter.write(record);
+                    bufferedRecords += this.expand(record, key, openBuckets);
+
+                    // Buffer Is Full - Every Bucket Writes Its Buffered Records To A New Run
+                    if (bufferedRecords >= this.bufferSize) {
+                        for (Bucket openBucket : openBuckets.values())
+                            if (!openBucket.buffer.isEmpty())
+                                openBucket.runs.add(openBucket.buffer.spill(this.nextRunFile(), WINDOW_RECORDS));
+                        bufferedRecords = 0;
+                    }
+                }
+
+                for (RecordRun run : bucket.runs)
+                    run.delete();
+
+                closedRuns.add(closedWriter.finish());
+                if (closedRuns.size() > MAX_CLOSED_RUNS)
+                    this.compact(closedRuns);
+            }
+
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.deleteRunDirectory();
+        }
+    }
+
+    /**
+     * Generates the successors of a record and adds each one to the buffer of the bucket matching its f() and g().
+     *
+     * @param record      the record being expanded
+     * @param key         the bucket the record was taken from
+     * @param openBuckets the buckets not yet expanded
+     * @return the number of records added to the buffers
+     */
+    private int expand(StateRecord record, BucketKey key, TreeMap<BucketKey, Bucket> openBuckets) {
+        AbstractAStarNode currentState = ((IUnpackableState) this.initialState).unpackState(record.getState());
+        currentState.setG(record.getG());
+        List<AbstractAStarNode> childrenStates = currentState.getSuccessors();
+        this.nodesExpanded++;
+
+        int added = 0;
+        for (AbstractAStarNode childState : childrenStates) {
+            long childPackedState = ((IPackedState) childState).packState();
+
+            // Skip The Move Straight Back To The Parent, Which Is Already Closed
+            if (childPackedState == record.getParent())
+                continue;
+
+            double childG = record.getG() + childState.distFromParent();
+            BucketKey childKey = new BucketKey(childG + this.heuristicFunction.calculateHeuristic(childState), childG);
+
+            if (childKey.compareTo(key) <= 0)
+                throw new IllegalStateException(
+                        "External Memory Search Requires A Consistent Heuristic And Positive Edge Costs");
+
+            Bucket childBucket = openBuckets.get(childKey);
+            if (childBucket == null) {
+                childBucket = new Bucket();
+                openBuckets.put(childKey, childBucket);
+            }
+
+            childBucket.buffer.add(childPackedState, childG, record.getState());
+            added++;
+        }
+
+        return added;
+    }
+
+    /**
+     * Rebuilds the optimal path by looking up the parent of each record in the closed runs, until the root is reached.
+     *
+     * @param goalRecord the record of the goal state
+     * @param closedRuns the runs of every expanded state
+     * @return the goal node at the end of the path
+     */
+    private AbstractAStarNode rebuildPath(StateRecord goalRecord, List<RecordRun> closedRuns) {
+        List<StateRecord> records = new ArrayList<>();
+        StateRecord record = new StateRecord(goalRecord.getState(), goalRecord.getG(), goalRecord.getParent());
+        records.add(record);
+
+        while (!record.isRoot()) {
+            long parentState = record.getParent();
+            record = new StateRecord();
+
+            boolean found = false;
+            for (int i = closedRuns.size() - 1; i >= 0 && !found; i--)
+                found = closedRuns.get(i).find(parentState, record);
+
+            if (!found)
+                throw new IllegalStateException("The Parent Of A Closed State Is Missing From The Closed Set");
+
+            records.add(record);
+        }
+
+        Collections.reverse(records);
+        AbstractAStarNode previous = this.initialState;
+        previous.setParent(null);
+        previous.setG(0);
+        previous.setH(this.heuristicFunction.calculateHeuristic(previous));
+        previous.setF(previous.getH());
+
+        for (StateRecord pathRecord : records.subList(1, records.size())) {
+            AbstractAStarNode node = ((IUnpackableState) this.initialState).unpackState(pathRecord.getState());
+            node.setParent(previous);
+            node.setG(pathRecord.getG());
+            node.setH(this.heuristicFunction.calculateHeuristic(node));
+            node.setF(node.getG() + node.getH());
+            previous = node;
+        }
+
+        return previous;
+    }
+
+    /**
+     * Merges every closed run into a single run. The closed runs never share a state.
+     *
+     * @param closedRuns the closed runs, replaced by the merged run
+     */
+    private void compact(List<RecordRun> closedRuns) {
+        long capacity = 0;
+        for (RecordRun run : closedRuns)
+            capacity += run.size();
+
+        RunWriter writer = new RunWriter(this.nextRunFile(), capacity, WINDOW_RECORDS);
+        MergedRuns merged = new MergedRuns(closedRuns);
+        while (merged.advance())
+            writer.write(merged.current());
+
+        for (RecordRun run : closedRuns)
+            run.delete();
+
+        closedRuns.clear();
+        closedRuns.add(writer.finish());
+    }
+
+    private Path nextRunFile() {
+        return this.runDirectory.resolve("run-" + this.runCount++ + ".bin");
+    }
+
+    private void deleteRunDirectory() {
+
+        if (this.runDirectory == null)
+            return;
+
+        File[] files = this.runDirectory.toFile().listFiles();
+        if (files != null)
+            for (File file : files)
+                file.delete();
+
+        this.runDirectory.toFile().delete();
+        this.runDirectory = null;
+    }
+
+    /**
+     * Takes the output from search() and makes it into a list of states that represent the optimal path from the
+     * initial state to the goal state.
+     *
+     * @param endPathNode the output node from search()
+     * @return an list of nodes ordered to represent the optimal path
+     */
+    public List<AbstractAStarNode> getPath(AbstractAStarNode endPathNode) {
+        ArrayList<AbstractAStarNode> path = new ArrayList<>();
+        path.add(endPathNode);
+
+        while (endPathNode.getParent() != null) {
+            path.add(0, endPathNode.getParent());
+            endPathNode = endPathNode.getParent();
+        }
+
+        return path;
+    }
+
+    /**
+     * Identifies an open bucket, buckets are expanded by lowest f() and then lowest g().
+     */
+    private static final class BucketKey implements Comparable<BucketKey> {
+
+        private final double f;
+        private final double g;
+
+        private BucketKey(double f, double g) {
+            this.f = f;
+            this.g = g;
+        }
+
+        @Override
+        public int compareTo(BucketKey other) {
+            int byF = Double.compare(this.f, other.f);
+            return byF != 0 ? byF : Double.compare(this.g, other.g);
+        }
+
+    }
+
+    /**
+     * The states of one open bucket, those still in the buffer and those already written out as runs.
+     */
+    private static final class Bucket {
+
+        private final RecordBuffer buffer = new RecordBuffer();
+        private final List<RecordRun> runs = new ArrayList<>();
+
+    }
+
+}
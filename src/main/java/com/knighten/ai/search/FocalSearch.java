@@ -0,0 +1,228 @@
+package com.knighten.ai.search;
+
+import com.knighten.ai.search.collections.HashClosedSet;
+import com.knighten.ai.search.collections.NodeStateMap;
+import com.knighten.ai.search.collections.PackedClosedSet;
+import com.knighten.ai.search.interfaces.IClosedSet;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.IOpenList;
+import com.knighten.ai.search.interfaces.IPackedState;
+import com.knighten.ai.search.openlist.FocalOpenList;
+import com.knighten.ai.search.openlist.IndexedDaryHeap;
+import com.knighten.ai.search.openlist.PackedIndexedDaryHeap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of focal search(A*epsilon). Open nodes are ordered by f() = g() + h(), and the open nodes with an
+ * f() of at most epsilon times the smallest f() form the FOCAL list. The next node expanded is the one in FOCAL that
+ * the focal heuristic, usually an estimate of the number of steps left to the goal, considers closest to the goal.
+ *
+ * As long as the heuristic function is admissible the path found costs at most epsilon times the optimal cost. The
+ * focal heuristic only decides the order of expansion, it does not need to be admissible.
+ *
+ * Expanded states that are reached again by a cheaper path are not reopened right away, reopening every such state
+ * makes focal search expand the same states many times. They are kept on an inconsistent states list instead, and the
+ * smallest g() + h() on that list caps the focal bound, which keeps the bound valid. A state is only reopened when
+ * FOCAL runs empty because of that cap.
+ */
+public class FocalSearch {
+
+    private AbstractAStarNode initialState;
+    private AbstractAStarNode goalState;
+    private IHeuristicFunction heuristicFunction;
+    private IHeuristicFunction focalHeuristic;
+    private double epsilon = 1.5;
+    private int nodesExpanded;
+    private int nodesReopened;
+    private double suboptimalityBound = Double.NaN;
+
+    /**
+     * Creates a FocalSearch object with initial state, goal state, a heuristic function, and a focal heuristic.
+     *
+     * @param initialState      the state where the search begins
+     * @param goalState         the state where the search ends
+     * @param heuristicFunction the admissible heuristic function used to score nodes
+     * @param focalHeuristic    orders the nodes of FOCAL, smaller values are expanded first
+     */
+    public FocalSearch(AbstractAStarNode initialState, AbstractAStarNode goalState,
+                       IHeuristicFunction heuristicFunction, IHeuristicFunction focalHeuristic) {
+
+        if (initialState == null || goalState == null)
+            throw new IllegalArgumentException("The Initial State And Goal State Cannot Be Null");
+
+        if (heuristicFunction == null || focalHeuristic == null)
+            throw new IllegalArgumentException("The Heuristic Function And Focal Heuristic Cannot Be Null");
+
+        this.initialState = initialState;
+        this.goalState = goalState;
+        this.heuristicFunction = heuristicFunction;
+        this.focalHeuristic = focalHeuristic;
+    }
+
+    /**
+     * Gets the largest allowed ratio of the cost of the path found to the optimal cost.
+     *
+     * @return epsilon
+     */
+    public double getEpsilon() {
+        return this.epsilon;
+    }
+
+    /**
+     * Sets the largest allowed ratio of the cost of the path found to the optimal cost. Larger values let the focal
+     * heuristic pick from more nodes. An epsilon of 1 finds optimal paths. Defaults to 1.5.
+     *
+     * @param epsilon the suboptimality bound, must be 1 or greater
+     */
+    public void setEpsilon(double epsilon) {
+
+        if (!(epsilon >= 1.0) || Double.isInfinite(epsilon))
+            throw new IllegalArgumentException("Epsilon Must Be A Finite Value Of 1 Or Greater");
+
+        this.epsilon = epsilon;
+    }
+
+    /**
+     * Gets the suboptimality bound achieved by the last call to search(). It is never larger than epsilon and is often
+     * much closer to 1.
+     *
+     * @return the achieved bound, or NaN if no path was found
+     */
+    public double getSuboptimalityBound() {
+        return this.suboptimalityBound;
+    }
+
+    /**
+     * Gets the number of nodes whose successors were generated during the last call to search().
+     *
+     * @return the number of nodes expanded by the last search
+     */
+    public int getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Gets the number of expanded states that were put back on the open list during the last call to search(). A state
+     * is only reopened when FOCAL runs empty, so this is usually much smaller than the number of cheaper paths found.
+     *
+     * @return the number of nodes reopened by the last search
+     */
+    public int getNodesReopened() {
+        return this.nodesReopened;
+    }
+
+    /**
+     * Begins the focal search. Will return null if the goal node cannot be found. Returns a AbstractAStarNode that is
+     * the last node on a path costing at most epsilon times the optimal cost. You can traverse the path by following
+     * each nodes parent until you arrive back to the initial node(parent is null).
+     *
+     * @return null if path does not exist, otherwise the last node on the path found
+     */
+    public AbstractAStarNode search() {
+        boolean usePackedStates = this.initialState instanceof IPackedState
+                && ((IPackedState) this.initialState).isPackable();
+
+        FocalOpenList openSet = new FocalOpenList(this.epsilon, this.focalHeuristic, usePackedStates);
+        IClosedSet closedSet = usePackedStates ? new PackedClosedSet() : new HashClosedSet();
+        NodeStateMap<AbstractAStarNode> bestNodes = new NodeStateMap<>(usePackedStates);
+
+        // Expanded States Reached Again By A Cheaper Path, Ordered By g() + h()
+        IOpenList inconsistentStates = usePackedStates ? new PackedIndexedDaryHeap() : new IndexedDaryHeap();
+
+        this.nodesExpanded = 0;
+        this.nodesReopened = 0;
+        this.suboptimalityBound = Double.NaN;
+
+        this.initialState.setG(0);
+        this.initialState.setH(this.heuristicFunction.calculateHeuristic(this.initialState));
+        this.initialState.setF(this.initialState.getH());
+        bestNodes.put(this.initialState, this.initialState);
+        openSet.offer(this.initialState);
+
+        while (true) {
+
+            // FOCAL Is Empty When The Inconsistent States Cap The Focal Bound - Reopen The Most Promising One
+            while (openSet.peekFocal() == null && !inconsistentStates.isEmpty()) {
+                AbstractAStarNode reopened = inconsistentStates.poll();
+                closedSet.remove(reopened);
+                openSet.offer(reopened);
+                this.nodesReopened++;
+                this.updateExternalLowerBound(openSet, inconsistentStates);
+            }
+
+            if (openSet.peekFocal() == null)
+                return null;
+
+            // The Smallest f() Of The Open And Inconsistent States Is A Lower Bound On The Optimal Cost
+            double lowerBound = Math.min(openSet.getMinF(), openSet.getExternalLowerBound());
+            AbstractAStarNode currentState = openSet.pollFocal();
+
+            // Check If Goal Is Found
+            if (currentState.equals(this.goalState)) {
+                this.suboptimalityBound = lowerBound > 0.0
+                        ? Math.max(1.0, Math.min(this.epsilon, currentState.getG() / lowerBound))
+                        : 1.0;
+                return currentState;
+            }
+
+            closedSet.add(currentState);
+            List<AbstractAStarNode> childrenStates = currentState.getSuccessors();
+            this.nodesExpanded++;
+
+            for (AbstractAStarNode childState : childrenStates) {
+                double childG = currentState.getG() + childState.distFromParent();
+
+                // Only Keep The Child If It Is The Cheapest Path Found To Its State
+                AbstractAStarNode best = bestNodes.get(childState);
+                if (best != null && best.getG() <= childG)
+                    continue;
+
+                childState.setG(childG);
+                childState.setH(best != null ? best.getH() : this.heuristicFunction.calculateHeuristic(childState));
+                childState.setF(childState.getG() + childState.getH());
+                bestNodes.put(childState, childState);
+
+                if (closedSet.contains(childState)) {
+                    inconsistentStates.offer(childState);
+                    this.updateExternalLowerBound(openSet, inconsistentStates);
+                } else {
+                    openSet.offer(childState);
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes the smallest g() + h() of the inconsistent states to the open list as a lower bound on the optimal cost.
+     *
+     * @param openSet            the focal open list
+     * @param inconsistentStates the expanded states that were reached again by a cheaper path
+     */
+    private void updateExternalLowerBound(FocalOpenList openSet, IOpenList inconsistentStates) {
+        openSet.setExternalLowerBound(inconsistentStates.isEmpty()
+                ? Double.POSITIVE_INFINITY
+                : inconsistentStates.peek().getF());
+    }
+
+    /**
+     * Takes the output from search() and makes it into a list of states that represent the path from the initial state
+     * to the goal state.
+     *
+     * @param endPathNode the output node from search()
+     * @return an list of nodes ordered to represent the path
+     */
+    public List<AbstractAStarNode> getPath(AbstractAStarNode endPathNode) {
+        ArrayList<AbstractAStarNode> path = new ArrayList<>();
+        path.add(endPathNode);
+
+        while (endPathNode.getParent() != null) {
+            path.add(0, endPathNode.getParent());
+            endPathNode = endPathNode.getParent();
+        }
+
+        return path;
+    }
+
+}
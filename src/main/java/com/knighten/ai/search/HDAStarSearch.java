@@ -0,0 +1,461 @@
+package com.knighten.ai.search;
+
+import com.knighten.ai.search.collections.NodeStateMap;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.IOpenList;
+import com.knighten.ai.search.interfaces.IPackedState;
+import com.knighten.ai.search.openlist.IndexedDaryHeap;
+import com.knighten.ai.search.openlist.PackedIndexedDaryHeap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A parallel implementation of A* search(Hash Distributed A*). Every state is owned by one worker thread, chosen by
+ * hashing the state. Each worker keeps its own open list and its own record of the best g() found for the states it
+ * owns. Generated successors are sent to their owner in batches through lock-free mailboxes, so workers never share an
+ * open or closed set.
+ *
+ * Workers expand nodes out of global f() order, so a state may be reached again with a smaller g() after it has been
+ * expanded. Such states are reopened. Goal nodes update a shared incumbent solution, and nodes whose f() is not smaller
+ * than the incumbent's cost are pruned. The search stops when no worker has a node that could improve the incumbent
+ * and no batch is waiting in a mailbox, so the returned path is optimal for admissible heuristics. The heuristic
+ * function is called from every worker thread and must be thread safe.
+ */
+public class HDAStarSearch {
+
+    private AbstractAStarNode initialState;
+    private AbstractAStarNode goalState;
+    private IHeuristicFunction heuristicFunction;
+    private int numberOfThreads = Runtime.getRuntime().availableProcessors();
+    private int batchSize = 64;
+    private long nodesExpanded;
+    private long nodesReopened;
+
+    /**
+     * Creates an HDAStarSearch object with initial state, goal state, and a heuristic function.
+     *
+     * @param initialState      the state where the search begins
+     * @param goalState         the state where the search ends
+     * @param heuristicFunction the heuristic function used to score nodes, must be thread safe
+     */
+    public HDAStarSearch(AbstractAStarNode initialState, AbstractAStarNode goalState,
+                         IHeuristicFunction heuristicFunction) {
+        this.initialState = initialState;
+        this.goalState = goalState;
+        this.heuristicFunction = heuristicFunction;
+    }
+
+    /**
+     * Gets the number of worker threads used by search().
+     *
+     * @return the number of worker threads
+     */
+    public int getNumberOfThreads() {
+        return this.numberOfThreads;
+    }
+
+    /**
+     * Sets the number of worker threads used by search(). Defaults to the number of available processors.
+     *
+     * @param numberOfThreads the number of worker threads
+     */
+    public void setNumberOfThreads(int numberOfThreads) {
+
+        if (numberOfThreads < 1)
+            throw new IllegalArgumentException("The Number Of Threads Must Be 1 Or Greater");
+
+        this.numberOfThreads = numberOfThreads;
+    }
+
+    /**
+     * Gets the number of successors a worker collects for another worker before sending them.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Sets the number of successors a worker collects for another worker before sending them. Larger batches mean less
+     * contention on the mailboxes, smaller batches mean other workers receive work sooner.
+     *
+     * @param batchSize the batch size
+     */
+    public void setBatchSize(int batchSize) {
+
+        if (batchSize < 1)
+            throw new IllegalArgumentException("The Batch Size Must Be 1 Or Greater");
+
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the number of nodes whose successors were generated by all workers during the last call to search(). This
+     * includes reopened states, so it can be larger than the count of a single threaded search.
+     *
+     * @return the number of nodes expanded by the last search
+     */
+    public long getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Gets the number of expanded states that workers put back on their open lists during the last call to search()
+     * because a cheaper path to them arrived later.
+     *
+     * @return the number of nodes reopened by the last search
+     */
+    public long getNodesReopened() {
+        return this.nodesReopened;
+    }
+
+    /**
+     * Begins the parallel A* search. Will return null if the goal node cannot be found. Returns a AbstractAStarNode
+     * that is the last node on the optimal path. You can traverse the optimal path by following each nodes parent
+     * until you arrive back to the initial node(parent is null).
+     *
+     * @return null if path does not exist, otherwise the last node on the optimal path
+     */
+    public AbstractAStarNode search() {
+        SharedState shared = new SharedState(this.numberOfThreads,
+                this.initialState instanceof IPackedState && ((IPackedState) this.initialState).isPackable());
+
+        // Set Initial Nodes F To Heuristic Score And Send It To Its Owner
+        this.initialState.setF(this.heuristicFunction.calculateHeuristic(this.initialState));
+        List<AbstractAStarNode> initialBatch = new ArrayList<>();
+        initialBatch.add(this.initialState);
+        shared.activeWork.incrementAndGet();
+        shared.mailboxes[shared.ownerOf(this.initialState)].offer(initialBatch);
+
+        List<Worker> workers = new ArrayList<>();
+        for (int id = 0; id < this.numberOfThreads; id++)
+            workers.add(new Worker(id, shared));
+
+        ExecutorService executor = Executors.newFixedThreadPool(this.numberOfThreads);
+        try {
+            for (Future<Void> future : executor.invokeAll(workers))
+                future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The Search Was Interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException("A Search Worker Failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        this.nodesExpanded = 0;
+        this.nodesReopened = 0;
+        for (Worker worker : workers) {
+            this.nodesExpanded += worker.nodesExpanded;
+            this.nodesReopened += worker.nodesReopened;
+        }
+
+        return shared.incumbent.get();
+    }
+
+    /**
+     * Takes the output from search() and makes it into a list of states that represent the optimal path from the
+     * initial state to the goal state.
+     *
+     * @param endPathNode the output node from search()
+     * @return an list of nodes ordered to represent the optimal path
+     */
+    public List<AbstractAStarNode> getPath(AbstractAStarNode endPathNode) {
+        ArrayList<AbstractAStarNode> path = new ArrayList<>();
+        path.add(endPathNode);
+
+        while (endPathNode.getParent() != null) {
+            path.add(0, endPathNode.getParent());
+            endPathNode = endPathNode.getParent();
+        }
+
+        return path;
+    }
+
+    /**
+     * The state shared by every worker during a single search.
+     */
+    private static final class SharedState {
+
+        /**
+         * One mailbox per worker. Other workers add batches of successors owned by the mailbox's worker.
+         */
+        private final ConcurrentLinkedQueue<List<AbstractAStarNode>>[] mailboxes;
+
+        /**
+         * Number of workers that are busy plus the number of nodes sent to a mailbox that have not been received yet.
+         * Once this reaches 0 it can never rise again, which is how termination is detected.
+         */
+        private final AtomicLong activeWork;
+
+        /**
+         * The best goal node found so far, or null if no goal node has been found.
+         */
+        private final AtomicReference<AbstractAStarNode> incumbent;
+
+        /**
+         * True when states are keyed and hashed by their packed state.
+         */
+        private final boolean usePackedStates;
+
+        /**
+         * Set when the search is over, either because termination was detected or because a worker failed.
+         */
+        private volatile boolean finished;
+
+        @SuppressWarnings("unchecked")
+        private SharedState(int numberOfWorkers, boolean usePackedStates) {
+            this.mailboxes = new ConcurrentLinkedQueue[numberOfWorkers];
+            for (int id = 0; id < numberOfWorkers; id++)
+                this.mailboxes[id] = new ConcurrentLinkedQueue<>();
+
+            // Every Worker Starts Out Busy
+            this.activeWork = new AtomicLong(numberOfWorkers);
+            this.incumbent = new AtomicReference<>();
+            this.usePackedStates = usePackedStates;
+            this.finished = false;
+        }
+
+        /**
+         * Finds the worker that owns the state of a node.
+         *
+         * @param node a node with the state being looked up
+         * @return the id of the owning worker
+         */
+        private int ownerOf(AbstractAStarNode node) {
+            long key = this.usePackedStates ? ((IPackedState) node).packState() : node.hashCode();
+            long hash = key * 0x9E3779B97F4A7C15L;
+            hash ^= (hash >>> 32);
+            return (int) ((hash & 0x7FFFFFFFL) % this.mailboxes.length);
+        }
+
+        /**
+         * Gets the cost of the incumbent solution.
+         *
+         * @return the g() of the best goal node found so far, or positive infinity if none has been found
+         */
+        private double incumbentCost() {
+            AbstractAStarNode best = this.incumbent.get();
+            return best == null ? Double.POSITIVE_INFINITY : best.getG();
+        }
+
+        /**
+         * Replaces the incumbent solution if the goal node is cheaper.
+         *
+         * @param goalNode a goal node that was just polled
+         */
+        private void offerSolution(AbstractAStarNode goalNode) {
+            AbstractAStarNode best;
+            do {
+                best = this.incumbent.get();
+                if (best != null && best.getG() <= goalNode.getG())
+                    return;
+            } while (!this.incumbent.compareAndSet(best, goalNode));
+        }
+
+    }
+
+    /**
+     * A single worker of the search. It expands the states it owns and forwards every successor it does not own.
+     */
+    private final class Worker implements Callable<Void> {
+
+        private final int id;
+        private final SharedState shared;
+        private final IOpenList openSet;
+
+        /**
+         * The queued or expanded node with the smallest g() for each state owned by this worker.
+         */
+        private final NodeStateMap<AbstractAStarNode> bestNodes;
+
+        /**
+         * Successors waiting to be sent, one batch per destination worker.
+         */
+        private final List<AbstractAStarNode>[] outboxes;
+
+        private long nodesExpanded;
+        private long nodesReopened;
+
+        @SuppressWarnings("unchecked")
+        private Worker(int id, SharedState shared) {
+            this.id = id;
+            this.shared = shared;
+            this.openSet = shared.usePackedStates ? new PackedIndexedDaryHeap() : new IndexedDaryHeap();
+            this.bestNodes = new NodeStateMap<>(shared.usePackedStates);
+            this.outboxes = new List[shared.mailboxes.length];
+            for (int worker = 0; worker < this.outboxes.length; worker++)
+                this.outboxes[worker] = new ArrayList<>();
+            this.nodesExpanded = 0;
+            this.nodesReopened = 0;
+        }
+
+        @Override
+        public Void call() {
+            try {
+                while (!this.shared.finished) {
+                    this.receiveBatches();
+
+                    // Expand The Best Local Node If It Could Still Improve The Incumbent
+                    if (this.hasUsefulNode()) {
+                        this.expand(this.openSet.poll());
+
+                        if (this.nodesExpanded % HDAStarSearch.this.batchSize == 0)
+                            this.sendAllBatches();
+                    } else {
+                        this.sendAllBatches();
+                        this.waitForWork();
+                    }
+                }
+            } catch (RuntimeException | Error e) {
+                this.shared.finished = true;
+                throw e;
+            }
+
+            return null;
+        }
+
+        /**
+         * Determines if the open list holds a node whose f() is smaller than the incumbent's cost.
+         *
+         * @return true if the worker has a node worth expanding, otherwise false
+         */
+        private boolean hasUsefulNode() {
+            return !this.openSet.isEmpty() && this.openSet.peek().getF() < this.shared.incumbentCost();
+        }
+
+        /**
+         * Generates the successors of a node and sends each one to its owner. Goal nodes are offered as solutions
+         * instead of being expanded.
+         *
+         * @param currentState the node being expanded
+         */
+        private void expand(AbstractAStarNode currentState) {
+
+            // Check If Goal Is Found
+            if (currentState.equals(HDAStarSearch.this.goalState)) {
+                this.shared.offerSolution(currentState);
+                return;
+            }
+
+            this.nodesExpanded++;
+            double incumbentCost = this.shared.incumbentCost();
+
+            List<AbstractAStarNode> childrenStates = currentState.getSuccessors();
+
+            for (AbstractAStarNode childState : childrenStates) {
+                childState.setG(childState.getParent().getG() + childState.distFromParent());
+                childState.setH(HDAStarSearch.this.heuristicFunction.calculateHeuristic(childState));
+                childState.setF(childState.getG() + childState.getH());
+
+                // Child Can Never Lead To A Cheaper Solution
+                if (childState.getF() >= incumbentCost)
+                    continue;
+
+                int owner = this.shared.ownerOf(childState);
+                if (owner == this.id) {
+                    this.receive(childState);
+                } else {
+                    this.outboxes[owner].add(childState);
+                    if (this.outboxes[owner].size() >= HDAStarSearch.this.batchSize)
+                        this.sendBatch(owner);
+                }
+            }
+        }
+
+        /**
+         * Queues a node owned by this worker if it is the cheapest path found to its state. States that were already
+         * expanded are reopened.
+         *
+         * @param node a node owned by this worker
+         */
+        private void receive(AbstractAStarNode node) {
+            AbstractAStarNode best = this.bestNodes.get(node);
+            if (best != null && best.getG() <= node.getG())
+                return;
+
+            // A Known State That Left The Open List Was Already Expanded
+            if (best != null && !this.openSet.contains(best))
+                this.nodesReopened++;
+
+            this.bestNodes.put(node, node);
+            this.openSet.offer(node);
+        }
+
+        /**
+         * Queues every node in this worker's mailbox.
+         */
+        private void receiveBatches() {
+            List<AbstractAStarNode> batch;
+            while ((batch = this.shared.mailboxes[this.id].poll()) != null) {
+                for (AbstractAStarNode node : batch)
+                    this.receive(node);
+
+                // Only Uncount The Nodes Once They Are In The Open List
+                this.shared.activeWork.addAndGet(-batch.size());
+            }
+        }
+
+        /**
+         * Sends the batch of successors collected for a worker to its mailbox.
+         *
+         * @param owner the id of the receiving worker
+         */
+        private void sendBatch(int owner) {
+            List<AbstractAStarNode> batch = this.outboxes[owner];
+            if (batch.isEmpty())
+                return;
+
+            // Count The Nodes Before They Become Visible So activeWork Never Reaches 0 Early
+            this.shared.activeWork.addAndGet(batch.size());
+            this.shared.mailboxes[owner].offer(batch);
+            this.outboxes[owner] = new ArrayList<>();
+        }
+
+        /**
+         * Sends every non empty batch of successors.
+         */
+        private void sendAllBatches() {
+            for (int owner = 0; owner < this.outboxes.length; owner++)
+                this.sendBatch(owner);
+        }
+
+        /**
+         * Marks this worker as idle and waits until either a batch arrives or every worker is idle with no batch in
+         * flight, which ends the search.
+         */
+        private void waitForWork() {
+            this.shared.activeWork.decrementAndGet();
+
+            while (true) {
+                if (this.shared.activeWork.get() == 0 || this.shared.finished) {
+                    this.shared.finished = true;
+                    return;
+                }
+
+                // The Batch Is Still Counted In activeWork, So It Is Safe To Become Busy Again
+                if (!this.shared.mailboxes[this.id].isEmpty()) {
+                    this.shared.activeWork.incrementAndGet();
+                    return;
+                }
+
+                Thread.yield();
+            }
+        }
+
+    }
+
+}
@@ -1,18 +1,34 @@
 package com.knighten.ai.search;
 
 import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.IIncrementalHeuristicFunction;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * An implementation of IDA* search to find an optimal path in a state space.
+ * An implementation of IDA* search to find an optimal path in a state space. Each iteration can optionally be searched
+ * in parallel, see setParallelism().
  */
 public class IDAStarSearch {
 
     private AbstractAStarNode initialState;
     private AbstractAStarNode goalState;
     private IHeuristicFunction heuristicFunction;
+    private int parallelism = 1;
+    private int splitDepth = 6;
+    private SearchLimits searchLimits = new SearchLimits();
+    private CancellationToken cancellationToken = new CancellationToken();
+    private SearchResult searchResult;
+    private boolean statisticsEnabled = false;
+
+    /**
+     * Returned by recur_search() when a limit was reached or the search was cancelled. Never a valid f value.
+     */
+    private static final double STOPPED = Double.NaN;
 
     /**
      * Creates an IDAStarSearch object with initial state, goal state, and a heuristic function.
@@ -28,14 +44,165 @@ public class IDAStarSearch {
         this.heuristicFunction = heuristicFunction;
     }
 
+    /**
+     * Gets the number of threads used to search each iteration.
+     *
+     * @return the number of threads used by search()
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Sets the number of threads used to search each iteration. With 1, the default, the search runs on the calling
+     * thread. With more than 1, the tree above the split depth is divided into ForkJoinPool tasks that idle threads
+     * steal, and every task stops as soon as one of them finds the goal. The path found is still optimal. The heuristic
+     * function is then called from several threads and must be thread safe.
+     *
+     * @param parallelism the number of threads used by search()
+     */
+    public void setParallelism(int parallelism) {
+
+        if (parallelism < 1)
+            throw new IllegalArgumentException("The Parallelism Must Be 1 Or Greater");
+
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the depth above which the tree is divided into parallel tasks.
+     *
+     * @return the split depth
+     */
+    public int getSplitDepth() {
+        return this.splitDepth;
+    }
+
+    /**
+     * Sets the depth above which the tree is divided into parallel tasks. Every node shallower than the split depth
+     * becomes its own task, while the subtree below a node at the split depth is searched by a single thread. Deeper
+     * splits give better load balancing at the cost of more tasks. Only used when the parallelism is greater than 1.
+     *
+     * @param splitDepth the split depth, 0 searches each iteration on a single task
+     */
+    public void setSplitDepth(int splitDepth) {
+
+        if (splitDepth < 0)
+            throw new IllegalArgumentException("The Split Depth Cannot Be Negative");
+
+        this.splitDepth = splitDepth;
+    }
+
+    /**
+     * Gets the limits search() must stay within.
+     *
+     * @return the search limits
+     */
+    public SearchLimits getSearchLimits() {
+        return this.searchLimits;
+    }
+
+    /**
+     * Sets the limits search() must stay within. When a limit is reached search() returns null and getSearchResult()
+     * reports which limit was reached. The memory limit counts the nodes on the current path, since that is all IDA*
+     * holds. In a parallel search each thread adds its counts to the totals every few hundred expansions, so the
+     * expansion and generation limits may be overshot by that much per thread. Defaults to no limits.
+     *
+     * @param searchLimits the search limits
+     */
+    public void setSearchLimits(SearchLimits searchLimits) {
+
+        if (searchLimits == null)
+            throw new IllegalArgumentException("The Search Limits Cannot Be Null");
+
+        this.searchLimits = searchLimits;
+    }
+
+    /**
+     * Gets the token that stops search() when it is cancelled. Another thread can cancel a running search with
+     * getCancellationToken().cancel().
+     *
+     * @return the cancellation token
+     */
+    public CancellationToken getCancellationToken() {
+        return this.cancellationToken;
+    }
+
+    /**
+     * Sets the token that stops search() when it is cancelled. The token is checked before every expansion, including
+     * deep in the recursion of each iteration.
+     *
+     * @param cancellationToken the cancellation token
+     */
+    public void setCancellationToken(CancellationToken cancellationToken) {
+
+        if (cancellationToken == null)
+            throw new IllegalArgumentException("The Cancellation Token Cannot Be Null");
+
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * Determines if search() collects detailed statistics.
+     *
+     * @return true if statistics are collected, otherwise false
+     */
+    public boolean isStatisticsEnabled() {
+        return this.statisticsEnabled;
+    }
+
+    /**
+     * Sets if search() collects detailed statistics, such as the number of iterations and the nodes expanded during
+     * each of them. They are reported by getSearchResult().getStatistics(). When disabled, the default, no statistics
+     * are gathered beyond the counts SearchResult always holds.
+     *
+     * @param statisticsEnabled true to collect statistics, otherwise false
+     */
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    /**
+     * Gets the result of the last call to search(). When the search was stopped by a limit or by cancellation the
+     * result names the cause, and its best node is the node with the lowest h() reached in any iteration.
+     *
+     * @return the result of the last search, or null if search() has not been called
+     */
+    public SearchResult getSearchResult() {
+        return this.searchResult;
+    }
+
     /**
      * Begins the IDA* search. Will return null if the goal node cannot be found. Returns a AbstractAStarNode that
      * is the last node on the optimal path. You can traverse the optimal path by following each nodes parent
-     * until you arrive back to the initial node(parent is null).
+     * until you arrive back to the initial node(parent is null). Also returns null when a search limit is reached or
+     * the cancellation token is cancelled, see getSearchResult().
      *
      * @return null if path does not exist, otherwise the last node on the optimal path
      */
     public AbstractAStarNode search() {
+        SearchBudget budget = new SearchBudget(this.searchLimits, this.cancellationToken);
+        SearchStatistics statistics = this.statisticsEnabled ? new SearchStatistics() : null;
+        AbstractAStarNode goal = this.parallelism > 1
+                ? this.parallelSearch(budget, statistics)
+                : this.sequentialSearch(budget, statistics);
+
+        if (statistics != null)
+            statistics.addDuplicatesPruned(budget.getDuplicatesPruned());
+
+        this.searchResult = budget.toResult(goal, statistics);
+        return goal;
+    }
+
+    /**
+     * Runs the IDA* iterations on the calling thread.
+     *
+     * @param budget     tracks the search against its limits
+     * @param statistics the detailed statistics, or null if they are not collected
+     * @return null if path does not exist or the search was stopped, otherwise the last node on the optimal path
+     */
+    private AbstractAStarNode sequentialSearch(SearchBudget budget, SearchStatistics statistics) {
+        SearchBudget.Counter counter = budget.newCounter();
 
         // Find Initial F Bound
         double currentFBound = this.heuristicFunction.calculateHeuristic(this.initialState);
@@ -50,12 +217,22 @@ public class IDAStarSearch {
         double smallestNewFBound;
         do {
             // Start Search
-            smallestNewFBound = recur_search(path, 0, currentFBound);
+            long expandedBefore = budget.getNodesExpanded();
+            smallestNewFBound = recur_search(path, 0, currentFBound, null, counter);
+
+            // Add The Iteration's Counts To The Totals
+            counter.flush();
+            if (statistics != null)
+                statistics.endIteration(budget.getNodesExpanded() - expandedBefore);
 
             // Check If Goal Node Was Found
             if (smallestNewFBound == 0.0)
                 return path.get(path.size() - 1);
 
+            // Check If A Limit Was Reached Or The Search Was Cancelled
+            if (Double.isNaN(smallestNewFBound))
+                break;
+
             // Set New F Boundary
             currentFBound = smallestNewFBound;
         } while (currentFBound != Double.MAX_VALUE);
@@ -63,51 +240,117 @@ public class IDAStarSearch {
         return null;
     }
 
+    /**
+     * Runs the IDA* iterations on a ForkJoinPool. Each iteration is started as a single SubtreeSearch task that divides
+     * itself down to the split depth. The smallest f over the bound is the minimum over every task, so the sequence of
+     * bounds is the same as in the single threaded search.
+     *
+     * @param budget     tracks the search against its limits
+     * @param statistics the detailed statistics, or null if they are not collected
+     * @return null if path does not exist or the search was stopped, otherwise the last node on the optimal path
+     */
+    private AbstractAStarNode parallelSearch(SearchBudget budget, SearchStatistics statistics) {
+
+        // Find Initial F Bound
+        double currentFBound = this.heuristicFunction.calculateHeuristic(this.initialState);
+
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            double smallestNewFBound;
+            do {
+                // Any Goal Found Within The Bound Is Optimal, So The First One Found Ends The Iteration
+                AtomicReference<AbstractAStarNode> goalFound = new AtomicReference<>();
+                ArrayList<AbstractAStarNode> path = new ArrayList<>();
+                path.add(this.initialState);
+
+                // Every Task Flushes Its Counter Before It Completes
+                long expandedBefore = budget.getNodesExpanded();
+                smallestNewFBound = pool.invoke(new SubtreeSearch(path, 0, currentFBound, goalFound, budget));
+                if (statistics != null)
+                    statistics.endIteration(budget.getNodesExpanded() - expandedBefore);
+
+                if (goalFound.get() != null)
+                    return goalFound.get();
+
+                // Check If A Limit Was Reached Or The Search Was Cancelled
+                if (Double.isNaN(smallestNewFBound))
+                    return null;
+
+                // Set New F Boundary
+                currentFBound = smallestNewFBound;
+            } while (currentFBound != Double.MAX_VALUE);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return null;
+    }
+
     /**
      * Recursively searches down the children of nodes. Will prevent itself from search down path with higher f than
      * current f boundary. If paths with higher f boundary are found then it will return the smallest f over the
      * boundary found. This smallest f over f boundary is a potential new f boundary during the next iteration. Will
      * return 0 if goal node is found and Integer.MAX_VALUE if there is not a single path with a f greater than the
-     * f boundary, meaning the goal node cannot be found.
+     * f boundary, meaning the goal node cannot be found. In a parallel search the goal is also stored in goalFound,
+     * and 0 is returned as soon as another task has found the goal. Returns NaN once a limit is reached or the search
+     * is cancelled.
      *
      * @param path          list of nodes ordered by the order they were visited
      * @param graphCost     current graph cost to get to the current node
      * @param currentFBound the max f boundary for current iteration
+     * @param goalFound     holds the goal node once any task finds it, null when searching on a single thread
+     * @param counter       counts the expansions of the current thread against the search limits
      * @return the smallest f value in the iteration that was greater than the fBoundary for the iteration
      */
-    private double recur_search(ArrayList<AbstractAStarNode> path, double graphCost, double currentFBound) {
+    private double recur_search(ArrayList<AbstractAStarNode> path, double graphCost, double currentFBound,
+                                AtomicReference<AbstractAStarNode> goalFound, SearchBudget.Counter counter) {
 
         // Set G, H, and F of Current Node
         AbstractAStarNode currentNode = path.get(path.size() - 1);
-        currentNode.setH(this.heuristicFunction.calculateHeuristic(currentNode));
+        double currentH = this.calculatePathHeuristic(path);
+        currentNode.setH(currentH);
         currentNode.setG(graphCost);
         currentNode.setF(graphCost + currentNode.getH());
+        counter.reached(currentNode, currentH);
 
         // Current Node Has F Larger Than Current Bound
         if (currentNode.getF() > currentFBound)
             return currentNode.getF();
 
         // Found The Goal Node -> Send Signal To End Recursion
-        if (currentNode.equals(this.goalState))
+        if (currentNode.equals(this.goalState)) {
+            if (goalFound != null)
+                goalFound.compareAndSet(null, currentNode);
             return 0;
+        }
+
+        // Limit Reached Or Search Cancelled -> Send Signal To End Recursion
+        if (!counter.canExpand(path.size()))
+            return STOPPED;
 
         // If This Stays Integer.MAX_VALUE Then All Paths Explored Were Smaller Than F Bound
         double minFFound = Double.MAX_VALUE;
 
         List<AbstractAStarNode> children = currentNode.getSuccessors();
+        counter.expanded(children.size());
         // Expand Search To Each Child Node
         for (AbstractAStarNode child : children) {
 
+            // Another Task Found The Goal -> End Recursion
+            if (goalFound != null && goalFound.get() != null)
+                return 0.0;
+
             // Verify Child Node Is Not Already On The Current Search Path
             if (!path.contains(child)) {
 
                 // Add Child Tp Path And Then Continue Search Down The Path
                 path.add(child);
-                double minFOverBound = recur_search(path, currentNode.getG() + child.distFromParent(), currentFBound);
+                double minFOverBound = recur_search(path, currentNode.getG() + child.distFromParent(), currentFBound,
+                        goalFound, counter);
 
-                // Signals To End Recursion When Goal Is Found
-                if (minFOverBound == 0.0)
-                    return 0.0;
+                // Signals To End Recursion When Goal Is Found Or The Search Is Stopped
+                if (minFOverBound == 0.0 || Double.isNaN(minFOverBound))
+                    return minFOverBound;
 
                 // Keep Track Of The Smallest F Found Over Bound Generated By Each Child's Search Path
                 if (minFOverBound < minFFound)
@@ -115,12 +358,34 @@ public class IDAStarSearch {
 
                 // Remove Child From Search Path Before Exploring Next Child
                 path.remove(path.size() - 1);
+            } else {
+                counter.pruned();
             }
         }
 
         return minFFound;
     }
 
+    /**
+     * Calculates h() of the last node on the path. An IIncrementalHeuristicFunction derives it from the h() of the node
+     * before it, which was set when that node was searched. The initial node and every other heuristic function are
+     * scored from scratch.
+     *
+     * @param path list of nodes ordered by the order they were visited
+     * @return the heuristic score of the last node on the path
+     */
+    private double calculatePathHeuristic(List<AbstractAStarNode> path) {
+        AbstractAStarNode currentNode = path.get(path.size() - 1);
+
+        if (path.size() > 1 && this.heuristicFunction instanceof IIncrementalHeuristicFunction) {
+            AbstractAStarNode parentNode = path.get(path.size() - 2);
+            return ((IIncrementalHeuristicFunction) this.heuristicFunction)
+                    .calculateIncrementalHeuristic(currentNode, parentNode, parentNode.getH());
+        }
+
+        return this.heuristicFunction.calculateHeuristic(currentNode);
+    }
+
     /**
      * Takes the output from search() and makes it into a list of states that represent the optimal path from the
      * initial state to the goal state.
@@ -140,4 +405,92 @@ public class IDAStarSearch {
         return path;
     }
 
+    /**
+     * A task that searches the subtree below the last node of its path for a single iteration. Above the split depth
+     * it creates one task per child and lets the pool run them, at the split depth it searches its subtree with
+     * recur_search(). Each task owns a copy of its path, so tasks never share a path list.
+     */
+    @SuppressWarnings("serial")
+    private final class SubtreeSearch extends RecursiveTask<Double> {
+
+        private final ArrayList<AbstractAStarNode> path;
+        private final double graphCost;
+        private final double currentFBound;
+        private final AtomicReference<AbstractAStarNode> goalFound;
+        private final SearchBudget budget;
+
+        private SubtreeSearch(ArrayList<AbstractAStarNode> path, double graphCost, double currentFBound,
+                              AtomicReference<AbstractAStarNode> goalFound, SearchBudget budget) {
+            this.path = path;
+            this.graphCost = graphCost;
+            this.currentFBound = currentFBound;
+            this.goalFound = goalFound;
+            this.budget = budget;
+        }
+
+        @Override
+        protected Double compute() {
+            SearchBudget.Counter counter = this.budget.newCounter();
+            try {
+                return this.search(counter);
+            } finally {
+                counter.flush();
+            }
+        }
+
+        private double search(SearchBudget.Counter counter) {
+
+            // Deep Enough - Search The Rest Of The Subtree On This Thread
+            if (this.path.size() - 1 >= IDAStarSearch.this.splitDepth)
+                return recur_search(this.path, this.graphCost, this.currentFBound, this.goalFound, counter);
+
+            // Set G, H, and F of Current Node
+            AbstractAStarNode currentNode = this.path.get(this.path.size() - 1);
+            double currentH = calculatePathHeuristic(this.path);
+            currentNode.setH(currentH);
+            currentNode.setG(this.graphCost);
+            currentNode.setF(this.graphCost + currentNode.getH());
+            counter.reached(currentNode, currentH);
+
+            // Current Node Has F Larger Than Current Bound
+            if (currentNode.getF() > this.currentFBound)
+                return currentNode.getF();
+
+            // Found The Goal Node -> Stop Every Other Task
+            if (currentNode.equals(IDAStarSearch.this.goalState)) {
+                this.goalFound.compareAndSet(null, currentNode);
+                return 0.0;
+            }
+
+            // Limit Reached Or Search Cancelled -> Stop Every Other Task
+            if (!counter.canExpand(this.path.size()))
+                return STOPPED;
+
+            // Create One Task Per Child Not Already On The Current Search Path
+            List<SubtreeSearch> childSearches = new ArrayList<>();
+            List<AbstractAStarNode> children = currentNode.getSuccessors();
+            counter.expanded(children.size());
+            for (AbstractAStarNode child : children) {
+                if (!this.path.contains(child)) {
+                    ArrayList<AbstractAStarNode> childPath = new ArrayList<>(this.path);
+                    childPath.add(child);
+                    childSearches.add(new SubtreeSearch(childPath, currentNode.getG() + child.distFromParent(),
+                            this.currentFBound, this.goalFound, this.budget));
+                } else {
+                    counter.pruned();
+                }
+            }
+
+            invokeAll(childSearches);
+
+            // If This Stays Double.MAX_VALUE Then All Paths Explored Were Smaller Than F Bound, Math.min Keeps STOPPED
+            double minFFound = Double.MAX_VALUE;
+            for (SubtreeSearch childSearch : childSearches)
+                minFFound = Math.min(minFFound, childSearch.join());
+
+            return this.goalFound.get() != null ? 0.0 : minFFound;
+        }
+
+    }
+
 }
@@ -0,0 +1,178 @@
+package com.knighten.ai.search;
+
+import com.knighten.ai.search.collections.HashClosedSet;
+import com.knighten.ai.search.collections.PackedClosedSet;
+import com.knighten.ai.search.interfaces.IClosedSet;
+import com.knighten.ai.search.interfaces.IIncrementalHeuristicFunction;
+import com.knighten.ai.search.interfaces.IIntOpenList;
+import com.knighten.ai.search.interfaces.IIntegerCostNode;
+import com.knighten.ai.search.interfaces.IIntegerHeuristicFunction;
+import com.knighten.ai.search.interfaces.IPackedState;
+import com.knighten.ai.search.openlist.IntOpenEntry;
+import com.knighten.ai.search.openlist.OpenListType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of A* search for problems whose edge costs and heuristic scores are always integers. Works like
+ * AStarSearch, but g(), h(), and f() are kept as ints inside the open list, so the search loop never does double
+ * arithmetic or double comparisons. Nodes must implement IIntegerCostNode.
+ */
+public class IntAStarSearch {
+
+    private AbstractAStarNode initialState;
+    private AbstractAStarNode goalState;
+    private IIntegerHeuristicFunction heuristicFunction;
+    private OpenListType openListType = OpenListType.HEAP;
+
+    /**
+     * Creates an IntAStarSearch object with initial state, goal state, and an integer heuristic function.
+     *
+     * @param initialState      the state where the search begins
+     * @param goalState         the state where the search ends
+     * @param heuristicFunction the integer heuristic function used to score nodes
+     */
+    public IntAStarSearch(AbstractAStarNode initialState, AbstractAStarNode goalState,
+                          IIntegerHeuristicFunction heuristicFunction) {
+
+        if (!(initialState instanceof IIntegerCostNode))
+            throw new IllegalArgumentException("The Initial State Must Implement IIntegerCostNode");
+
+        this.initialState = initialState;
+        this.goalState = goalState;
+        this.heuristicFunction = heuristicFunction;
+    }
+
+    /**
+     * Gets the type of open list used by search().
+     *
+     * @return the type of open list used by search()
+     */
+    public OpenListType getOpenListType() {
+        return this.openListType;
+    }
+
+    /**
+     * Sets the type of open list used by search(). The bucket based open lists give constant time offers and polls
+     * when f() values are non-decreasing, which is the case for consistent heuristics.
+     *
+     * @param openListType the type of open list used by search()
+     */
+    public void setOpenListType(OpenListType openListType) {
+
+        if (openListType == null)
+            throw new IllegalArgumentException("The Open List Type Cannot Be Null");
+
+        this.openListType = openListType;
+    }
+
+    /**
+     * Begins the A* search. Will return null if the goal node cannot be found. Returns a AbstractAStarNode that
+     * is the last node on the optimal path. You can traverse the optimal path by following each nodes parent
+     * until you arrive back to the initial node(parent is null). The g(), h(), and f() of the nodes on the optimal path
+     * are stored in the nodes before they are returned.
+     *
+     * @return null if path does not exist, otherwise the last node on the optimal path
+     */
+    public AbstractAStarNode search() {
+
+        boolean usePackedStates = this.initialState instanceof IPackedState
+                && ((IPackedState) this.initialState).isPackable();
+
+        IIntOpenList openSet = this.openListType.createIntOpenList(usePackedStates);
+        IClosedSet closedSet = usePackedStates ? new PackedClosedSet() : new HashClosedSet();
+
+        // Add Initial Node Into Queue With g() Of 0
+        openSet.offer(this.initialState, 0, this.heuristicFunction.calculateIntHeuristic(this.initialState));
+
+        while (!openSet.isEmpty()) {
+            IntOpenEntry currentEntry = openSet.poll();
+            AbstractAStarNode currentState = currentEntry.getNode();
+
+            // Check If Goal Is Found
+            if (currentState.equals(this.goalState)) {
+                this.storePathScores(currentState, currentEntry.getG());
+                return currentState;
+            }
+
+            // Add To Closed Set Since We Have Generated The Nodes Successors
+            closedSet.add(currentState);
+            List<AbstractAStarNode> childrenStates = currentState.getSuccessors();
+
+            for (AbstractAStarNode childState : childrenStates) {
+
+                // If Child Node's Children Has Already Been Generated Then Skip Child
+                if (closedSet.contains(childState))
+                    continue;
+
+                int childG = currentEntry.getG() + ((IIntegerCostNode) childState).intDistFromParent();
+                int childH = this.calculateChildHeuristic(childState, currentEntry);
+
+                // Add Child To Queue, If Its State Is Already Queued Only Keep The Version With The Smaller f()
+                openSet.offer(childState, childG, childH);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Calculates h() of a child. An IIncrementalHeuristicFunction derives it from the h() kept in the parent's open
+     * list entry, every other heuristic function scores the child from scratch.
+     *
+     * @param childState  the child being scored
+     * @param parentEntry the open list entry of the expanded node the child was generated from
+     * @return the heuristic score of the child
+     */
+    private int calculateChildHeuristic(AbstractAStarNode childState, IntOpenEntry parentEntry) {
+        if (this.heuristicFunction instanceof IIncrementalHeuristicFunction)
+            return (int) ((IIncrementalHeuristicFunction) this.heuristicFunction)
+                    .calculateIncrementalHeuristic(childState, parentEntry.getNode(), parentEntry.getH());
+
+        return this.heuristicFunction.calculateIntHeuristic(childState);
+    }
+
+    /**
+     * Stores g(), h(), and f() in every node on the path that ends with the supplied node. The scores are only kept in
+     * the open list during the search, so they are written back once for the nodes that are returned.
+     *
+     * @param endPathNode the last node on the path
+     * @param endPathG    the path cost g() of the last node
+     */
+    private void storePathScores(AbstractAStarNode endPathNode, int endPathG) {
+        int g = endPathG;
+        AbstractAStarNode node = endPathNode;
+
+        while (node != null) {
+            int h = this.heuristicFunction.calculateIntHeuristic(node);
+            node.setG(g);
+            node.setH(h);
+            node.setF(g + h);
+
+            if (node.getParent() != null)
+                g -= ((IIntegerCostNode) node).intDistFromParent();
+            node = node.getParent();
+        }
+    }
+
+    /**
+     * Takes the output from search() and makes it into a list of states that represent the optimal path from the
+     * initial state to the goal state.
+     *
+     * @param endPathNode the output node from search()
+     * @return an list of nodes ordered to represent the optimal path
+     */
+    public List<AbstractAStarNode> getPath(AbstractAStarNode endPathNode) {
+        ArrayList<AbstractAStarNode> path = new ArrayList<>();
+        path.add(endPathNode);
+
+        while (endPathNode.getParent() != null) {
+            path.add(0, endPathNode.getParent());
+            endPathNode = endPathNode.getParent();
+        }
+
+        return path;
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.knighten.ai.search;
+
+import com.knighten.ai.search.interfaces.IIncrementalHeuristicFunction;
+import com.knighten.ai.search.interfaces.IIntegerCostNode;
+import com.knighten.ai.search.interfaces.IIntegerHeuristicFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of IDA* search for problems whose edge costs and heuristic scores are always integers. Works like
+ * IDAStarSearch, but the recursion passes g(), f(), and the f boundary as ints, so no double arithmetic is done while
+ * searching. Nodes must implement IIntegerCostNode.
+ */
+public class IntIDAStarSearch {
+
+    /**
+     * Returned by recur_search() when the goal node is found.
+     */
+    private static final int FOUND = -1;
+
+    /**
+     * Returned by recur_search() when no node with a f over the f boundary was found.
+     */
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private AbstractAStarNode initialState;
+    private AbstractAStarNode goalState;
+    private IIntegerHeuristicFunction heuristicFunction;
+
+    /**
+     * Creates an IntIDAStarSearch object with initial state, goal state, and an integer heuristic function.
+     *
+     * @param initialState      the state where the search begins
+     * @param goalState         the state where the search ends
+     * @param heuristicFunction the integer heuristic function used to score nodes
+     */
+    public IntIDAStarSearch(AbstractAStarNode initialState, AbstractAStarNode goalState,
+                            IIntegerHeuristicFunction heuristicFunction) {
+
+        if (!(initialState instanceof IIntegerCostNode))
+            throw new IllegalArgumentException("The Initial State Must Implement IIntegerCostNode");
+
+        this.initialState = initialState;
+        this.goalState = goalState;
+        this.heuristicFunction = heuristicFunction;
+    }
+
+    /**
+     * Begins the IDA* search. Will return null if the goal node cannot be found. Returns a AbstractAStarNode that
+     * is the last node on the optimal path. You can traverse the optimal path by following each nodes parent
+     * until you arrive back to the initial node(parent is null). The g(), h(), and f() of the nodes on the optimal path
+     * are stored in the nodes before they are returned.
+     *
+     * @return null if path does not exist, otherwise the last node on the optimal path
+     */
+    public AbstractAStarNode search() {
+
+        // Find Initial F Bound
+        int currentFBound = this.heuristicFunction.calculateIntHeuristic(this.initialState);
+
+        // Set Root of Path To Initial Node
+        ArrayList<AbstractAStarNode> path = new ArrayList<>();
+        path.add(0, this.initialState);
+
+        // Keep Retrying With Larger F Bound Until One Of The Follow:
+        // FOUND     - The Goal Node Is Found So Path Contains Optimal Path
+        // NOT_FOUND - No Node Was Found With A F Higher Than F Boundary So Goal Node Does Not Exist
+        int smallestNewFBound;
+        do {
+            // Start Search
+            smallestNewFBound = recur_search(path, 0, currentFBound, 0);
+
+            // Check If Goal Node Was Found
+            if (smallestNewFBound == FOUND) {
+                this.storePathScores(path);
+                return path.get(path.size() - 1);
+            }
+
+            // Set New F Boundary
+            currentFBound = smallestNewFBound;
+        } while (currentFBound != NOT_FOUND);
+
+        return null;
+    }
+
+    /**
+     * Recursively searches down the children of nodes. Will prevent itself from search down path with higher f than
+     * current f boundary. If paths with higher f boundary are found then it will return the smallest f over the
+     * boundary found. Will return FOUND if goal node is found and NOT_FOUND if there is not a single path with a f
+     * greater than the f boundary, meaning the goal node cannot be found.
+     *
+     * @param path          list of nodes ordered by the order they were visited
+     * @param graphCost     current graph cost to get to the current node
+     * @param currentFBound the max f boundary for current iteration
+     * @param parentH       the h() of the node before the current node, unused for the initial node
+     * @return the smallest f value in the iteration that was greater than the fBoundary for the iteration
+     */
+    private int recur_search(ArrayList<AbstractAStarNode> path, int graphCost, int currentFBound, int parentH) {
+
+        AbstractAStarNode currentNode = path.get(path.size() - 1);
+        int currentH = this.calculatePathHeuristic(path, parentH);
+        int currentF = graphCost + currentH;
+
+        // Current Node Has F Larger Than Current Bound
+        if (currentF > currentFBound)
+            return currentF;
+
+        // Found The Goal Node -> Send Signal To End Recursion
+        if (currentNode.equals(this.goalState))
+            return FOUND;
+
+        // If This Stays NOT_FOUND Then All Paths Explored Were Smaller Than F Bound
+        int minFFound = NOT_FOUND;
+
+        List<AbstractAStarNode> children = currentNode.getSuccessors();
+        // Expand Search To Each Child Node
+        for (AbstractAStarNode child : children) {
+
+            // Verify Child Node Is Not Already On The Current Search Path
+            if (!path.contains(child)) {
+
+                // Add Child Tp Path And Then Continue Search Down The Path
+                path.add(child);
+                int minFOverBound = recur_search(path, graphCost + ((IIntegerCostNode) child).intDistFromParent(),
+                        currentFBound, currentH);
+
+                // Signals To End Recursion When Goal Is Found
+                if (minFOverBound == FOUND)
+                    return FOUND;
+
+                // Keep Track Of The Smallest F Found Over Bound Generated By Each Child's Search Path
+                if (minFOverBound < minFFound)
+                    minFFound = minFOverBound;
+
+                // Remove Child From Search Path Before Exploring Next Child
+                path.remove(path.size() - 1);
+            }
+        }
+
+        return minFFound;
+    }
+
+    /**
+     * Calculates h() of the last node on the path. An IIncrementalHeuristicFunction derives it from the h() of the node
+     * before it. The initial node and every other heuristic function are scored from scratch.
+     *
+     * @param path    list of nodes ordered by the order they were visited
+     * @param parentH the h() of the node before the last node
+     * @return the heuristic score of the last node on the path
+     */
+    private int calculatePathHeuristic(ArrayList<AbstractAStarNode> path, int parentH) {
+        AbstractAStarNode currentNode = path.get(path.size() - 1);
+
+        if (path.size() > 1 && this.heuristicFunction instanceof IIncrementalHeuristicFunction)
+            return (int) ((IIncrementalHeuristicFunction) this.heuristicFunction)
+                    .calculateIncrementalHeuristic(currentNode, path.get(path.size() - 2), parentH);
+
+        return this.heuristicFunction.calculateIntHeuristic(currentNode);
+    }
+
+    /**
+     * Stores g(), h(), and f() in every node on the solution path. The scores are only kept on the call stack during the
+     * search, so they are written back once for the nodes that are returned.
+     *
+     * @param path the solution path ordered from the initial node to the goal node
+     */
+    private void storePathScores(List<AbstractAStarNode> path) {
+        int g = 0;
+
+        for (int i = 0; i < path.size(); i++) {
+            AbstractAStarNode node = path.get(i);
+
+            if (i > 0)
+                g += ((IIntegerCostNode) node).intDistFromParent();
+
+            int h = this.heuristicFunction.calculateIntHeuristic(node);
+            node.setG(g);
+            node.setH(h);
+            node.setF(g + h);
+        }
+    }
+
+    /**
+     * Takes the output from search() and makes it into a list of states that represent the optimal path from the
+     * initial state to the goal state.
+     *
+     * @param endPathNode the output node from search()
+     * @return an list of nodes ordered to represent the optimal path
+     */
+    public List<AbstractAStarNode> getPath(AbstractAStarNode endPathNode) {
+        ArrayList<AbstractAStarNode> path = new ArrayList<>();
+        path.add(endPathNode);
+
+        while (endPathNode.getParent() != null) {
+            path.add(0, endPathNode.getParent());
+            endPathNode = endPathNode.getParent();
+        }
+
+        return path;
+    }
+
+}
@@ -0,0 +1,405 @@
+package com.knighten.ai.search;
+
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * An implementation of Simplified Memory-Bounded A*(SMA*). The search tree is kept in memory like in A*, but never holds
+ * more than a fixed number of nodes. When the budget is reached the worst leaf, the one with the highest f() and the
+ * shallowest among those, is dropped from memory. Its f() is backed up into its parent, which remembers the f() of each
+ * forgotten child by its position in getSuccessors() and regenerates them once the best of those values becomes the
+ * best on the open list. getSuccessors() must therefore list the successors of a state in the same order every time.
+ *
+ * States are not deduplicated across branches, only a state already on the path to a node is skipped, which is the
+ * same check IDAStarSearch uses. The path returned is optimal whenever the optimal path fits into the budget and the
+ * heuristic is admissible. Paths that cannot fit into the budget are given an f() of infinity, and search() returns
+ * null when every remaining path is of that kind.
+ */
+public class SMAStarSearch {
+
+    /**
+     * The number of nodes kept in memory when no budget is supplied.
+     */
+    public static final int DEFAULT_MAX_NODES = 1_000_000;
+
+    /**
+     * Marks a successor whose child is currently in memory.
+     */
+    private static final double IN_MEMORY = Double.NaN;
+
+    private AbstractAStarNode initialState;
+    private AbstractAStarNode goalState;
+    private IHeuristicFunction heuristicFunction;
+    private int maxNodes = DEFAULT_MAX_NODES;
+    private int nodesExpanded;
+    private int peakNodesInMemory;
+
+    /**
+     * Creates a SMAStarSearch object with initial state, goal state, and a heuristic function.
+     *
+     * @param initialState      the state where the search begins
+     * @param goalState         the state where the search ends
+     * @param heuristicFunction the heuristic function used to score nodes
+     */
+    public SMAStarSearch(AbstractAStarNode initialState, AbstractAStarNode goalState,
+                         IHeuristicFunction heuristicFunction) {
+        this.initialState = initialState;
+        this.goalState = goalState;
+        this.heuristicFunction = heuristicFunction;
+    }
+
+    /**
+     * Gets the largest number of nodes kept in memory at once.
+     *
+     * @return the node budget
+     */
+    public int getMaxNodes() {
+        return this.maxNodes;
+    }
+
+    /**
+     * Sets the largest number of nodes kept in memory at once. A path with n nodes can only be found if the budget is
+     * at least n. Defaults to DEFAULT_MAX_NODES.
+     *
+     * @param maxNodes the node budget, must be 1 or greater
+     */
+    public void setMaxNodes(int maxNodes) {
+
+        if (maxNodes < 1)
+            throw new IllegalArgumentException("The Maximum Number Of Nodes Must Be 1 Or Greater");
+
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Gets the number of nodes whose successors were generated during the last call to search(). A node regenerating
+     * forgotten children counts as another expansion.
+     *
+     * @return the number of nodes expanded by the last search
+     */
+    public int getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Gets the largest number of nodes that were in memory at once during the last call to search(). It is never
+     * larger than the node budget.
+     *
+     * @return the peak number of nodes in memory
+     */
+    public int getPeakNodesInMemory() {
+        return this.peakNodesInMemory;
+    }
+
+    /**
+     * Begins the SMA* search. Will return null if the goal node cannot be found, or if no path to it fits into the node
+     * budget. Returns a AbstractAStarNode that is the last node on the optimal path. You can traverse the optimal path
+     * by following each nodes parent until you arrive back to the initial node(parent is null).
+     *
+     * @return null if no path was found, otherwise the last node on the optimal path
+     */
+    public AbstractAStarNode search() {
+        Tree tree = new Tree();
+        this.nodesExpanded = 0;
+
+        this.initialState.setG(0);
+        this.initialState.setH(this.heuristicFunction.calculateHeuristic(this.initialState));
+        this.initialState.setF(this.initialState.getH());
+        tree.add(new MemoryNode(this.initialState, null, -1, this.initialState.getF()));
+
+        while (!tree.open.isEmpty()) {
+            MemoryNode current = tree.open.first();
+
+            // Every Remaining Path Is Either A Dead End Or Too Long To Fit Into The Budget
+            if (current.openKey() == Double.POSITIVE_INFINITY)
+                break;
+
+            // Check If Goal Is Found
+            if (!current.isExpanded() && current.node.equals(this.goalState)) {
+                this.peakNodesInMemory = tree.peakSize;
+                return current.node;
+            }
+
+            this.expand(tree, current);
+        }
+
+        this.peakNodesInMemory = tree.peakSize;
+        return null;
+    }
+
+    /**
+     * Generates the children of a node that are not in memory. Children are added best first, when the budget is
+     * reached the worst leaf is dropped to make room, unless the child itself would be the worst leaf, in which case
+     * the child is forgotten straight away.
+     *
+     * @param tree    the nodes in memory
+     * @param current the node being expanded, the best node on the open list
+     */
+    private void expand(Tree tree, MemoryNode current) {
+        tree.open.remove(current);
+        tree.leaves.remove(current);
+        tree.expanding = current;
+
+        List<AbstractAStarNode> childrenStates = current.node.getSuccessors();
+        this.nodesExpanded++;
+
+        boolean firstExpansion = !current.isExpanded();
+        if (firstExpansion)
+            current.successorF = new double[childrenStates.size()];
+
+        List<MemoryNode> children = new ArrayList<>();
+        for (int index = 0; index < childrenStates.size(); index++) {
+            AbstractAStarNode childState = childrenStates.get(index);
+
+            // States On The Path To The Node Are Never Generated, Regenerate Only Forgotten Children That Can Still
+            // Reach The Goal
+            if (firstExpansion && current.isOnPath(childState)) {
+                current.successorF[index] = Double.POSITIVE_INFINITY;
+                continue;
+            }
+            if (!firstExpansion && !(current.successorF[index] < Double.POSITIVE_INFINITY))
+                continue;
+
+            childState.setG(current.node.getG() + childState.distFromParent());
+            childState.setH(this.heuristicFunction.calculateHeuristic(childState));
+            childState.setF(childState.getG() + childState.getH());
+
+            double childF = firstExpansion ? this.childF(current, childState) : current.successorF[index];
+            children.add(new MemoryNode(childState, current, index, childF));
+        }
+        children.sort(Comparator.comparingDouble(child -> child.f));
+
+        for (MemoryNode child : children) {
+            if (tree.size >= this.maxNodes) {
+                MemoryNode worstLeaf = tree.leaves.isEmpty() ? null : tree.leaves.first();
+
+                if (worstLeaf == null || Tree.EVICTION_ORDER.compare(child, worstLeaf) < 0) {
+                    current.successorF[child.index] = child.f;
+                    continue;
+                }
+
+                tree.evict(worstLeaf);
+            }
+
+            current.successorF[child.index] = IN_MEMORY;
+            current.children.add(child);
+            tree.add(child);
+        }
+
+        // Evicting Its Own Children May Have Put The Node Back On The Open List, Its Keys Are Final Now
+        tree.open.remove(current);
+        tree.expanding = null;
+        current.forgottenF = current.smallestForgottenF();
+
+        if (current.forgottenF != Double.POSITIVE_INFINITY)
+            tree.open.add(current);
+
+        // A Node Without Children In Memory Is A Leaf, With No Children At All It Is A Dead End(f() Of Infinity)
+        if (current.children.isEmpty()) {
+            current.f = current.forgottenF;
+            if (current.parent != null)
+                tree.leaves.add(current);
+        }
+    }
+
+    /**
+     * Computes the f() a child is stored with the first time it is generated. It is never smaller than the f() of its
+     * parent(pathmax). A child that is not the goal and sits at the deepest level that fits into the budget can never
+     * lead to the goal, so it is given an f() of infinity.
+     *
+     * @param parent     the node being expanded
+     * @param childState the child
+     * @return the f() of the child
+     */
+    private double childF(MemoryNode parent, AbstractAStarNode childState) {
+        int depth = parent.depth + 1;
+        boolean isGoal = childState.equals(this.goalState);
+
+        if (depth >= this.maxNodes || (depth == this.maxNodes - 1 && !isGoal))
+            return Double.POSITIVE_INFINITY;
+
+        return Math.max(parent.f, childState.getF());
+    }
+
+    /**
+     * Takes the output from search() and makes it into a list of states that represent the optimal path from the
+     * initial state to the goal state.
+     *
+     * @param endPathNode the output node from search()
+     * @return an list of nodes ordered to represent the optimal path
+     */
+    public List<AbstractAStarNode> getPath(AbstractAStarNode endPathNode) {
+        ArrayList<AbstractAStarNode> path = new ArrayList<>();
+        path.add(endPathNode);
+
+        while (endPathNode.getParent() != null) {
+            path.add(0, endPathNode.getParent());
+            endPathNode = endPathNode.getParent();
+        }
+
+        return path;
+    }
+
+    /**
+     * The nodes held in memory. Nodes are kept on two ordered sets: the open list of nodes that still have children
+     * to generate, and the leaves that may be dropped from memory. A node's key in either set must not change while it
+     * is in the set.
+     */
+    private static final class Tree {
+
+        /**
+         * Best node first - lowest f(), then deepest.
+         */
+        private static final Comparator<MemoryNode> OPEN_ORDER = (node1, node2) -> {
+            int byKey = Double.compare(node1.openKey(), node2.openKey());
+            if (byKey != 0)
+                return byKey;
+            if (node1.depth != node2.depth)
+                return Integer.compare(node2.depth, node1.depth);
+            return Long.compare(node1.id, node2.id);
+        };
+
+        /**
+         * Worst leaf first - highest f(), then shallowest.
+         */
+        private static final Comparator<MemoryNode> EVICTION_ORDER = (node1, node2) -> {
+            int byF = Double.compare(node2.f, node1.f);
+            if (byF != 0)
+                return byF;
+            if (node1.depth != node2.depth)
+                return Integer.compare(node1.depth, node2.depth);
+            return Long.compare(node1.id, node2.id);
+        };
+
+        private final TreeSet<MemoryNode> open = new TreeSet<>(OPEN_ORDER);
+        private final TreeSet<MemoryNode> leaves = new TreeSet<>(EVICTION_ORDER);
+        private int size;
+        private int peakSize;
+        private long nextId;
+
+        /**
+         * The node whose children are being added, it never counts as a leaf until its expansion is finished.
+         */
+        private MemoryNode expanding;
+
+        /**
+         * Adds a newly generated node to memory as an unexpanded leaf.
+         *
+         * @param node the new node
+         */
+        private void add(MemoryNode node) {
+            node.id = this.nextId++;
+            this.open.add(node);
+            if (node.parent != null)
+                this.leaves.add(node);
+
+            this.size++;
+            this.peakSize = Math.max(this.peakSize, this.size);
+        }
+
+        /**
+         * Drops a leaf from memory and backs its f() up into its parent. The parent goes back on the open list so the
+         * leaf can be regenerated, and becomes a leaf itself once it has no children left in memory.
+         *
+         * @param leaf the leaf being dropped
+         */
+        private void evict(MemoryNode leaf) {
+            this.leaves.remove(leaf);
+            this.open.remove(leaf);
+            this.size--;
+
+            MemoryNode parent = leaf.parent;
+            parent.children.remove(leaf);
+            parent.successorF[leaf.index] = leaf.f;
+
+            this.open.remove(parent);
+            parent.forgottenF = Math.min(parent.forgottenF, leaf.f);
+            this.open.add(parent);
+
+            if (parent.children.isEmpty() && parent.parent != null && parent != this.expanding) {
+                parent.f = parent.forgottenF;
+                this.leaves.add(parent);
+            }
+        }
+
+    }
+
+    /**
+     * A node held in memory.
+     */
+    private static final class MemoryNode {
+
+        private final AbstractAStarNode node;
+        private final MemoryNode parent;
+        private final int depth;
+
+        /**
+         * The position of the node in its parent's getSuccessors().
+         */
+        private final int index;
+
+        private final List<MemoryNode> children = new ArrayList<>();
+        private long id;
+
+        /**
+         * A lower bound on the cost of any path to the goal through this node.
+         */
+        private double f;
+
+        /**
+         * The f() of each successor that is not in memory, IN_MEMORY for those that are, and infinity for successors
+         * that cannot lead to the goal. Null until the node is expanded.
+         */
+        private double[] successorF;
+
+        /**
+         * The smallest f() of the successors that are not in memory.
+         */
+        private double forgottenF = Double.POSITIVE_INFINITY;
+
+        private MemoryNode(AbstractAStarNode node, MemoryNode parent, int index, double f) {
+            this.node = node;
+            this.parent = parent;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+            this.index = index;
+            this.f = f;
+        }
+
+        private boolean isExpanded() {
+            return this.successorF != null;
+        }
+
+        /**
+         * The key the node is ordered by on the open list. An unexpanded node is ordered by its own f(), an expanded
+         * node by the best of its forgotten children.
+         *
+         * @return the open list key
+         */
+        private double openKey() {
+            return this.isExpanded() ? this.forgottenF : this.f;
+        }
+
+        private double smallestForgottenF() {
+            double smallest = Double.POSITIVE_INFINITY;
+            for (double successorF : this.successorF)
+                if (successorF < smallest)
+                    smallest = successorF;
+
+            return smallest;
+        }
+
+        private boolean isOnPath(AbstractAStarNode state) {
+            for (MemoryNode ancestor = this; ancestor != null; ancestor = ancestor.parent)
+                if (ancestor.node.equals(state))
+                    return true;
+
+            return false;
+        }
+
+    }
+
+}
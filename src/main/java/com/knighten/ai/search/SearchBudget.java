@@ -0,0 +1,198 @@
+package com.knighten.ai.search;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks one run of a search against its SearchLimits and CancellationToken. Each thread of the search counts its
+ * expansions in its own Counter. Cancellation, memory, expansion, and generation limits are checked before every
+ * expansion, while the clock is only read once every CHECK_INTERVAL expansions.
+ *
+ * Counters add their counts into the shared totals every CHECK_INTERVAL expansions. With a single Counter the limits
+ * are exact, with several they can be overshot by the counts not yet added by the other Counters.
+ */
+final class SearchBudget {
+
+    /**
+     * The number of expansions between reads of the clock and updates of the shared totals.
+     */
+    static final int CHECK_INTERVAL = 256;
+
+    private final SearchLimits limits;
+    private final CancellationToken cancellationToken;
+    private final long startTime;
+    private final long deadline;
+    private final AtomicLong nodesExpanded = new AtomicLong();
+    private final AtomicLong nodesGenerated = new AtomicLong();
+    private final AtomicLong duplicatesPruned = new AtomicLong();
+    private final AtomicReference<SearchStatus> stopStatus = new AtomicReference<>();
+    private AbstractAStarNode bestNode;
+    private double bestH = Double.POSITIVE_INFINITY;
+
+    /**
+     * Creates a SearchBudget and starts its clock.
+     *
+     * @param limits            the limits the search must stay within
+     * @param cancellationToken the token that can stop the search
+     */
+    SearchBudget(SearchLimits limits, CancellationToken cancellationToken) {
+        this.limits = limits;
+        this.cancellationToken = cancellationToken;
+        this.startTime = System.nanoTime();
+        this.deadline = limits.getTimeLimitMillis() >= Long.MAX_VALUE / 1_000_000L
+                ? Long.MAX_VALUE
+                : this.startTime + limits.getTimeLimitMillis() * 1_000_000L;
+    }
+
+    /**
+     * Creates a Counter for a single thread of the search.
+     *
+     * @return a new Counter
+     */
+    Counter newCounter() {
+        return new Counter();
+    }
+
+    /**
+     * Determines if any Counter has hit a limit or seen the token cancelled.
+     *
+     * @return true if the search must stop, otherwise false
+     */
+    boolean isStopped() {
+        return this.stopStatus.get() != null;
+    }
+
+    /**
+     * Gets the number of nodes expanded so far. Only counts flushed Counters.
+     *
+     * @return the number of nodes expanded
+     */
+    long getNodesExpanded() {
+        return this.nodesExpanded.get();
+    }
+
+    /**
+     * Gets the number of duplicates pruned so far. Only counts flushed Counters.
+     *
+     * @return the number of duplicates pruned
+     */
+    long getDuplicatesPruned() {
+        return this.duplicatesPruned.get();
+    }
+
+    /**
+     * Creates the result of the search. Every Counter must have been flushed.
+     *
+     * @param goalNode   the goal node, or null if the goal was not found
+     * @param statistics the detailed statistics, or null if they were not collected
+     * @return the result of the search
+     */
+    synchronized SearchResult toResult(AbstractAStarNode goalNode, SearchStatistics statistics) {
+        SearchStatus status = goalNode != null
+                ? SearchStatus.SOLVED
+                : this.stopStatus.get() != null ? this.stopStatus.get() : SearchStatus.NO_PATH;
+
+        return new SearchResult(status, goalNode, goalNode != null ? goalNode : this.bestNode,
+                this.nodesExpanded.get(), this.nodesGenerated.get(), System.nanoTime() - this.startTime, statistics);
+    }
+
+    private void stop(SearchStatus status) {
+        this.stopStatus.compareAndSet(null, status);
+    }
+
+    private synchronized void offerBestNode(AbstractAStarNode node, double h) {
+        if (node != null && (this.bestNode == null || h < this.bestH)) {
+            this.bestNode = node;
+            this.bestH = h;
+        }
+    }
+
+    /**
+     * Counts the expansions of one thread of the search.
+     */
+    final class Counter {
+
+        private long unflushedExpanded;
+        private long unflushedGenerated;
+        private long unflushedPruned;
+        private AbstractAStarNode bestNode;
+        private double bestH = Double.POSITIVE_INFINITY;
+
+        private Counter() {
+        }
+
+        /**
+         * Checks every limit before a node is expanded.
+         *
+         * @param nodesInMemory the number of nodes the search currently holds
+         * @return true if the node may be expanded, false if the search must stop
+         */
+        boolean canExpand(long nodesInMemory) {
+            SearchBudget budget = SearchBudget.this;
+
+            if (budget.cancellationToken.isCancelled())
+                budget.stop(SearchStatus.CANCELLED);
+            else if (nodesInMemory > budget.limits.getMaxNodesInMemory())
+                budget.stop(SearchStatus.MEMORY_LIMIT);
+            else if (budget.nodesExpanded.get() + this.unflushedExpanded >= budget.limits.getMaxNodesExpanded())
+                budget.stop(SearchStatus.EXPANSION_LIMIT);
+            else if (budget.nodesGenerated.get() + this.unflushedGenerated >= budget.limits.getMaxNodesGenerated())
+                budget.stop(SearchStatus.GENERATION_LIMIT);
+
+            return budget.stopStatus.get() == null;
+        }
+
+        /**
+         * Counts an expansion. Every CHECK_INTERVAL expansions the counts are added to the shared totals and the clock
+         * is read.
+         *
+         * @param successorsGenerated the number of successors the expansion generated
+         */
+        void expanded(int successorsGenerated) {
+            this.unflushedExpanded++;
+            this.unflushedGenerated += successorsGenerated;
+
+            if (this.unflushedExpanded >= CHECK_INTERVAL) {
+                this.flush();
+                if (SearchBudget.this.deadline != Long.MAX_VALUE && System.nanoTime() - SearchBudget.this.deadline >= 0)
+                    SearchBudget.this.stop(SearchStatus.TIME_LIMIT);
+            }
+        }
+
+        /**
+         * Counts a generated node that was thrown away as a duplicate.
+         */
+        void pruned() {
+            this.unflushedPruned++;
+        }
+
+        /**
+         * Keeps the node if it has the lowest h() this Counter has seen. The h() is passed in so the node is not asked
+         * for it again.
+         *
+         * @param node a node reached by the search
+         * @param h    the node's h()
+         */
+        void reached(AbstractAStarNode node, double h) {
+            if (this.bestNode == null || h < this.bestH) {
+                this.bestNode = node;
+                this.bestH = h;
+            }
+        }
+
+        /**
+         * Adds the counts and best node of this Counter to the shared totals.
+         */
+        void flush() {
+            SearchBudget.this.nodesExpanded.addAndGet(this.unflushedExpanded);
+            SearchBudget.this.nodesGenerated.addAndGet(this.unflushedGenerated);
+            SearchBudget.this.duplicatesPruned.addAndGet(this.unflushedPruned);
+            SearchBudget.this.offerBestNode(this.bestNode, this.bestH);
+            this.unflushedExpanded = 0;
+            this.unflushedGenerated = 0;
+            this.unflushedPruned = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.knighten.ai.search;
+
+/**
+ * The limits a search must stay within. Each limit is checked before a node is expanded, and once one is reached the
+ * search stops and reports the limit in its SearchResult. Every limit defaults to none.
+ */
+public class SearchLimits {
+
+    private long maxNodesExpanded = Long.MAX_VALUE;
+    private long maxNodesGenerated = Long.MAX_VALUE;
+    private long timeLimitMillis = Long.MAX_VALUE;
+    private long maxNodesInMemory = Long.MAX_VALUE;
+
+    /**
+     * Gets the largest number of nodes the search may expand.
+     *
+     * @return the expansion limit, Long.MAX_VALUE for none
+     */
+    public long getMaxNodesExpanded() {
+        return this.maxNodesExpanded;
+    }
+
+    /**
+     * Sets the largest number of nodes the search may expand.
+     *
+     * @param maxNodesExpanded the expansion limit, must be 0 or greater
+     */
+    public void setMaxNodesExpanded(long maxNodesExpanded) {
+
+        if (maxNodesExpanded < 0)
+            throw new IllegalArgumentException("The Maximum Number Of Expanded Nodes Cannot Be Negative");
+
+        this.maxNodesExpanded = maxNodesExpanded;
+    }
+
+    /**
+     * Gets the number of generated nodes after which the search stops.
+     *
+     * @return the generation limit, Long.MAX_VALUE for none
+     */
+    public long getMaxNodesGenerated() {
+        return this.maxNodesGenerated;
+    }
+
+    /**
+     * Sets the number of generated nodes after which the search stops. The search may go over the limit by the
+     * successors of the last node it expanded.
+     *
+     * @param maxNodesGenerated the generation limit, must be 0 or greater
+     */
+    public void setMaxNodesGenerated(long maxNodesGenerated) {
+
+        if (maxNodesGenerated < 0)
+            throw new IllegalArgumentException("The Maximum Number Of Generated Nodes Cannot Be Negative");
+
+        this.maxNodesGenerated = maxNodesGenerated;
+    }
+
+    /**
+     * Gets the wall clock time the search may run for.
+     *
+     * @return the time limit in milliseconds, Long.MAX_VALUE for none
+     */
+    public long getTimeLimitMillis() {
+        return this.timeLimitMillis;
+    }
+
+    /**
+     * Sets the wall clock time the search may run for. The clock is only read every few hundred expansions, so the
+     * search can run slightly past the limit.
+     *
+     * @param timeLimitMillis the time limit in milliseconds, must be greater than 0
+     */
+    public void setTimeLimitMillis(long timeLimitMillis) {
+
+        if (timeLimitMillis <= 0)
+            throw new IllegalArgumentException("The Time Limit Must Be Greater Than 0");
+
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    /**
+     * Gets the largest number of nodes the search may hold in memory.
+     *
+     * @return the memory limit in nodes, Long.MAX_VALUE for none
+     */
+    public long getMaxNodesInMemory() {
+        return this.maxNodesInMemory;
+    }
+
+    /**
+     * Sets the largest number of nodes the search may hold in memory. For AStarSearch these are the nodes on the open
+     * and closed lists, for IDAStarSearch the nodes on the current path. Counting nodes rather than bytes keeps the
+     * check cheap and the result repeatable.
+     *
+     * @param maxNodesInMemory the memory limit in nodes, must be 1 or greater
+     */
+    public void setMaxNodesInMemory(long maxNodesInMemory) {
+
+        if (maxNodesInMemory < 1)
+            throw new IllegalArgumentException("The Maximum Number Of Nodes In Memory Must Be 1 Or Greater");
+
+        this.maxNodesInMemory = maxNodesInMemory;
+    }
+
+}
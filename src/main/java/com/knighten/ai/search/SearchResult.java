@@ -0,0 +1,152 @@
+package com.knighten.ai.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes how a search ended. Besides the goal, it holds the best node reached when the search was stopped early,
+ * which is the node with the lowest h() and so the closest the search got to the goal.
+ */
+public class SearchResult {
+
+    private final SearchStatus status;
+    private final AbstractAStarNode goalNode;
+    private final AbstractAStarNode bestNode;
+    private final long nodesExpanded;
+    private final long nodesGenerated;
+    private final long elapsedNanos;
+    private final SearchStatistics statistics;
+
+    /**
+     * Creates a SearchResult.
+     *
+     * @param status         how the search ended
+     * @param goalNode       the goal node if the search was solved, otherwise null
+     * @param bestNode       the goal node if the search was solved, otherwise the reached node with the lowest h()
+     * @param nodesExpanded  the number of nodes expanded
+     * @param nodesGenerated the number of nodes generated
+     * @param elapsedNanos   the time the search ran for in nanoseconds
+     * @param statistics     the detailed statistics of the search, or null if they were not collected
+     */
+    public SearchResult(SearchStatus status, AbstractAStarNode goalNode, AbstractAStarNode bestNode,
+                        long nodesExpanded, long nodesGenerated, long elapsedNanos, SearchStatistics statistics) {
+
+        if (status == null)
+            throw new IllegalArgumentException("The Search Status Cannot Be Null");
+
+        this.status = status;
+        this.goalNode = goalNode;
+        this.bestNode = bestNode;
+        this.nodesExpanded = nodesExpanded;
+        this.nodesGenerated = nodesGenerated;
+        this.elapsedNanos = elapsedNanos;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Gets how the search ended.
+     *
+     * @return the status of the search
+     */
+    public SearchStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Determines if the goal was found.
+     *
+     * @return true if the status is SOLVED, otherwise false
+     */
+    public boolean isSolved() {
+        return this.status == SearchStatus.SOLVED;
+    }
+
+    /**
+     * Gets the goal node found by the search.
+     *
+     * @return the last node on the path found, or null if the search was not solved
+     */
+    public AbstractAStarNode getGoalNode() {
+        return this.goalNode;
+    }
+
+    /**
+     * Gets the path from the initial state to the goal.
+     *
+     * @return the nodes on the path to the goal, empty if the search was not solved
+     */
+    public List<AbstractAStarNode> getPath() {
+        return this.goalNode == null ? new ArrayList<>() : this.getBestPath();
+    }
+
+    /**
+     * Gets the cost of the path to the goal, the goal's g().
+     *
+     * @return the cost of the path found, or NaN if the search was not solved
+     */
+    public double getPathCost() {
+        return this.goalNode == null ? Double.NaN : this.goalNode.getG();
+    }
+
+    /**
+     * Gets the best node the search reached. This is the goal node when the search was solved, otherwise the reached
+     * node with the lowest h().
+     *
+     * @return the best node reached, or null if no node was reached
+     */
+    public AbstractAStarNode getBestNode() {
+        return this.bestNode;
+    }
+
+    /**
+     * Gets the path from the initial state to the best node reached. When the search was solved this is the path to
+     * the goal.
+     *
+     * @return the nodes on the path to the best node, empty if no node was reached
+     */
+    public List<AbstractAStarNode> getBestPath() {
+        ArrayList<AbstractAStarNode> path = new ArrayList<>();
+
+        for (AbstractAStarNode node = this.bestNode; node != null; node = node.getParent())
+            path.add(0, node);
+
+        return path;
+    }
+
+    /**
+     * Gets the number of nodes whose successors were generated.
+     *
+     * @return the number of nodes expanded
+     */
+    public long getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Gets the number of successors generated.
+     *
+     * @return the number of nodes generated
+     */
+    public long getNodesGenerated() {
+        return this.nodesGenerated;
+    }
+
+    /**
+     * Gets the time the search ran for.
+     *
+     * @return the running time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Gets the detailed statistics of the search, such as duplicates pruned and peak open list size.
+     *
+     * @return the statistics, or null if the searcher did not have statistics enabled
+     */
+    public SearchStatistics getStatistics() {
+        return this.statistics;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.knighten.ai.search;
+
+import java.util.Arrays;
+
+/**
+ * Detailed counts gathered during a single search. Only collected when statistics are enabled on the searcher, so a
+ * search that does not need them does no extra work. The counts in SearchResult are always collected.
+ *
+ * AStarSearch and IDAStarSearch never reopen states, so there is no reopened count here. FocalSearch and HDAStarSearch,
+ * which do reopen states, report it through their own getNodesReopened().
+ */
+public class SearchStatistics {
+
+    private long duplicatesPruned;
+    private int peakOpenListSize;
+    private int peakClosedSetSize;
+    private long[] nodesExpandedPerIteration = new long[0];
+
+    /**
+     * Gets the number of generated nodes that were thrown away because their state had already been reached at an
+     * equal or lower cost. For IDAStarSearch these are the successors already on the current path.
+     *
+     * @return the number of duplicate nodes pruned
+     */
+    public long getDuplicatesPruned() {
+        return this.duplicatesPruned;
+    }
+
+    /**
+     * Gets the largest number of nodes the open list held at once. Always 0 for IDAStarSearch, which has no open list.
+     *
+     * @return the peak open list size
+     */
+    public int getPeakOpenListSize() {
+        return this.peakOpenListSize;
+    }
+
+    /**
+     * Gets the largest number of states the closed set held at once. Always 0 for IDAStarSearch, which has no closed
+     * set.
+     *
+     * @return the peak closed set size
+     */
+    public int getPeakClosedSetSize() {
+        return this.peakClosedSetSize;
+    }
+
+    /**
+     * Gets the number of iterations the search ran. Always 1 for AStarSearch, while IDAStarSearch runs one iteration
+     * per f bound.
+     *
+     * @return the number of iterations
+     */
+    public int getIterations() {
+        return this.nodesExpandedPerIteration.length;
+    }
+
+    /**
+     * Gets the number of nodes expanded during each iteration, in the order the iterations ran.
+     *
+     * @return a copy of the nodes expanded per iteration
+     */
+    public long[] getNodesExpandedPerIteration() {
+        return Arrays.copyOf(this.nodesExpandedPerIteration, this.nodesExpandedPerIteration.length);
+    }
+
+    void addDuplicatesPruned(long duplicatesPruned) {
+        this.duplicatesPruned += duplicatesPruned;
+    }
+
+    void updatePeakSizes(int openListSize, int closedSetSize) {
+        this.peakOpenListSize = Math.max(this.peakOpenListSize, openListSize);
+        this.peakClosedSetSize = Math.max(this.peakClosedSetSize, closedSetSize);
+    }
+
+    void endIteration(long nodesExpanded) {
+        this.nodesExpandedPerIteration = Arrays.copyOf(this.nodesExpandedPerIteration,
+                this.nodesExpandedPerIteration.length + 1);
+        this.nodesExpandedPerIteration[this.nodesExpandedPerIteration.length - 1] = nodesExpanded;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.knighten.ai.search;
+
+/**
+ * Describes how a search ended.
+ */
+public enum SearchStatus {
+
+    /**
+     * The goal was found.
+     */
+    SOLVED,
+
+    /**
+     * Every reachable state was searched and the goal was not found, so no path exists.
+     */
+    NO_PATH,
+
+    /**
+     * The search reached the maximum number of expanded nodes.
+     */
+    EXPANSION_LIMIT,
+
+    /**
+     * The search reached the maximum number of generated nodes.
+     */
+    GENERATION_LIMIT,
+
+    /**
+     * The search reached its time limit.
+     */
+    TIME_LIMIT,
+
+    /**
+     * The search reached the maximum number of nodes held in memory.
+     */
+    MEMORY_LIMIT,
+
+    /**
+     * The search's cancellation token was cancelled.
+     */
+    CANCELLED;
+
+    /**
+     * Determines if the search was stopped early, by a limit or by cancellation.
+     *
+     * @return true if the search was stopped before it could finish, otherwise false
+     */
+    public boolean isStoppedEarly() {
+        return this != SOLVED && this != NO_PATH;
+    }
+
+}
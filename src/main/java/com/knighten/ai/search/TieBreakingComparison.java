@@ -0,0 +1,86 @@
+package com.knighten.ai.search;
+
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import com.knighten.ai.search.openlist.TieBreakingPolicy;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Runs A* on the same problem once for each tie breaking policy and reports how many nodes each run expanded. The
+ * policy that works best depends on the problem, so this is used to pick a policy before running many searches.
+ */
+public class TieBreakingComparison {
+
+    private TieBreakingComparison() {
+    }
+
+    /**
+     * Searches from the initial state to the goal state once for every built in tie breaking policy. The CUSTOM policy
+     * is skipped since it needs a user supplied comparator.
+     *
+     * @param initialState      the state where the search begins
+     * @param goalState         the state where the search ends
+     * @param heuristicFunction the heuristic function used to score nodes
+     * @return the number of nodes expanded by each policy, in declaration order of the policies
+     */
+    public static Map<TieBreakingPolicy, Integer> countExpansions(AbstractAStarNode initialState,
+                                                                  AbstractAStarNode goalState,
+                                                                  IHeuristicFunction heuristicFunction) {
+
+        if (initialState == null || goalState == null || heuristicFunction == null)
+            throw new IllegalArgumentException("The Initial State, Goal State, And Heuristic Function Cannot Be Null");
+
+        Map<TieBreakingPolicy, Integer> expansions = new EnumMap<>(TieBreakingPolicy.class);
+
+        for (TieBreakingPolicy policy : TieBreakingPolicy.values()) {
+            if (policy == TieBreakingPolicy.CUSTOM)
+                continue;
+
+            AStarSearch searcher = new AStarSearch(initialState, goalState, heuristicFunction);
+            searcher.setTieBreakingPolicy(policy);
+            searcher.search();
+            expansions.put(policy, searcher.getNodesExpanded());
+        }
+
+        return expansions;
+    }
+
+    /**
+     * Formats the output of countExpansions() as a table. Each line holds a policy, its number of expanded nodes, and
+     * its number of expanded nodes relative to the NONE policy.
+     *
+     * @param expansions the number of nodes expanded by each policy
+     * @return the formatted report
+     */
+    public static String formatReport(Map<TieBreakingPolicy, Integer> expansions) {
+        StringBuilder builder = new StringBuilder(String.format("%-8s %10s %8s%n", "Policy", "Expanded", "Ratio"));
+        Integer baseline = expansions.get(TieBreakingPolicy.NONE);
+
+        for (Map.Entry<TieBreakingPolicy, Integer> entry : expansions.entrySet()) {
+            String ratio = baseline == null || baseline == 0 ? "-"
+                    : String.format("%.3f", (double) entry.getValue() / baseline);
+            builder.append(String.format("%-8s %10d %8s%n", entry.getKey(), entry.getValue(), ratio));
+        }
+
+        return builder.toString();
+    }
+
+    public static void main(String[] args) {
+
+        // An Open Terrain Region Where Almost Every Node Between Start And Goal Has The Same f()
+        int[][] terrain = new int[64][64];
+        for (int[] row : terrain)
+            Arrays.fill(row, 1);
+
+        NavigateTerrain initial = new NavigateTerrain(terrain, 0, 0);
+        NavigateTerrain goal = new NavigateTerrain(terrain, 63, 63);
+
+        Map<TieBreakingPolicy, Integer> expansions = countExpansions(initial, goal, new NavigationManhattanDist(goal));
+        System.out.print(formatReport(expansions));
+    }
+
+}
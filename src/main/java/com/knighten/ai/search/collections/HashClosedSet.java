@@ -0,0 +1,51 @@
+package com.knighten.ai.search.collections;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IClosedSet;
+
+import java.util.HashSet;
+
+/**
+ * A closed set that stores full node objects in a HashSet. Works with any AbstractAStarNode, duplicate detection relies
+ * on the node's hashCode() and equals().
+ */
+public class HashClosedSet implements IClosedSet {
+
+    /**
+     * The closed nodes.
+     */
+    private HashSet<AbstractAStarNode> closedNodes;
+
+    /**
+     * Creates an empty HashClosedSet.
+     */
+    public HashClosedSet() {
+        this.closedNodes = new HashSet<>();
+    }
+
+    @Override
+    public boolean add(AbstractAStarNode node) {
+        return this.closedNodes.add(node);
+    }
+
+    @Override
+    public boolean contains(AbstractAStarNode node) {
+        return this.closedNodes.contains(node);
+    }
+
+    @Override
+    public boolean remove(AbstractAStarNode node) {
+        return this.closedNodes.remove(node);
+    }
+
+    @Override
+    public int size() {
+        return this.closedNodes.size();
+    }
+
+    @Override
+    public void clear() {
+        this.closedNodes.clear();
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.knighten.ai.search.collections;
+
+/**
+ * Helper methods shared by the open addressing hash tables.
+ */
+final class HashUtils {
+
+    /**
+     * Largest power of two table size that can be allocated.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private HashUtils() {
+    }
+
+    /**
+     * Spreads the bits of a long key over an int. Packed states often only differ in a few low or high bits, so the
+     * key is multiplied by a large odd constant and the high half is folded into the low half before masking.
+     *
+     * @param key the key being hashed
+     * @return the mixed hash of the key
+     */
+    static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        hash ^= (hash >>> 32);
+        return (int) (hash ^ (hash >>> 16));
+    }
+
+    /**
+     * Finds the smallest power of two table size that holds the expected number of keys under the load factor.
+     *
+     * @param expectedSize number of keys expected to be stored
+     * @param loadFactor   maximum fraction of the table that may be filled
+     * @return a power of two table size
+     */
+    static int tableSizeFor(int expectedSize, double loadFactor) {
+        long required = (long) Math.ceil(Math.max(expectedSize, 2) / loadFactor) + 1;
+
+        if (required >= MAX_CAPACITY)
+            return MAX_CAPACITY;
+
+        int capacity = 2;
+        while (capacity < required)
+            capacity <<= 1;
+
+        return capacity;
+    }
+
+}
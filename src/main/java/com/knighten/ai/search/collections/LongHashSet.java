@@ -0,0 +1,227 @@
+package com.knighten.ai.search.collections;
+
+import java.util.Arrays;
+
+/**
+ * A set of primitive longs backed by an open addressing hash table with linear probing. Keys are stored directly in a
+ * long array, so each member costs about 16 bytes at the default load factor and no objects are allocated per member.
+ */
+public class LongHashSet {
+
+    /**
+     * Value used to mark empty slots in the table. The key 0 itself is tracked separately by containsZeroKey.
+     */
+    private static final long EMPTY = 0L;
+
+    /**
+     * Maximum fraction of the table that may be filled before it grows.
+     */
+    private static final double LOAD_FACTOR = 0.5;
+
+    /**
+     * The hash table slots.
+     */
+    private long[] keys;
+
+    /**
+     * Used to turn a hash into a slot index. Always table length - 1.
+     */
+    private int mask;
+
+    /**
+     * Number of slots that may be filled before the table grows.
+     */
+    private int resizeThreshold;
+
+    /**
+     * Number of members stored in the table slots.
+     */
+    private int size;
+
+    /**
+     * True when the key 0 is a member of the set.
+     */
+    private boolean containsZeroKey;
+
+    /**
+     * Creates an empty LongHashSet.
+     */
+    public LongHashSet() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty LongHashSet that can hold the expected number of members without growing.
+     *
+     * @param expectedSize the number of members expected to be stored
+     */
+    public LongHashSet(int expectedSize) {
+
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("The Expected Size Cannot Be Negative");
+
+        this.allocate(HashUtils.tableSizeFor(expectedSize, LOAD_FACTOR));
+    }
+
+    /**
+     * Adds a key to the set.
+     *
+     * @param key the key being added
+     * @return true if the key was not already in the set, otherwise false
+     */
+    public boolean add(long key) {
+
+        if (key == EMPTY) {
+            boolean added = !this.containsZeroKey;
+            this.containsZeroKey = true;
+            return added;
+        }
+
+        int slot = HashUtils.mix(key) & this.mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key)
+                return false;
+            slot = (slot + 1) & this.mask;
+        }
+
+        this.keys[slot] = key;
+        if (++this.size > this.resizeThreshold)
+            this.rehash(this.keys.length * 2);
+
+        return true;
+    }
+
+    /**
+     * Determines if a key is in the set.
+     *
+     * @param key the key being looked up
+     * @return true if the key is in the set, otherwise false
+     */
+    public boolean contains(long key) {
+
+        if (key == EMPTY)
+            return this.containsZeroKey;
+
+        int slot = HashUtils.mix(key) & this.mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key)
+                return true;
+            slot = (slot + 1) & this.mask;
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes a key from the set.
+     *
+     * @param key the key being removed
+     * @return true if the key was in the set, otherwise false
+     */
+    public boolean remove(long key) {
+
+        if (key == EMPTY) {
+            boolean removed = this.containsZeroKey;
+            this.containsZeroKey = false;
+            return removed;
+        }
+
+        int slot = HashUtils.mix(key) & this.mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key) {
+                this.shiftKeysBack(slot);
+                this.size--;
+                return true;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the number of keys in the set.
+     *
+     * @return the number of keys in the set
+     */
+    public int size() {
+        return this.containsZeroKey ? this.size + 1 : this.size;
+    }
+
+    /**
+     * Determines if the set is empty.
+     *
+     * @return true if the set is empty, otherwise false
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Removes every key from the set.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, EMPTY);
+        this.size = 0;
+        this.containsZeroKey = false;
+    }
+
+    /**
+     * Fills the gap left by a removed key by moving later keys of the same probe sequence back(backward shift
+     * deletion). This keeps lookups correct without tombstones.
+     *
+     * @param gap the slot that was just emptied
+     */
+    private void shiftKeysBack(int gap) {
+        int slot = gap;
+
+        while (true) {
+            slot = (slot + 1) & this.mask;
+            long key = this.keys[slot];
+
+            if (key == EMPTY)
+                break;
+
+            // Only Move The Key If Its Home Slot Is Not Between The Gap And Its Current Slot
+            int home = HashUtils.mix(key) & this.mask;
+            if (((slot - home) & this.mask) >= ((slot - gap) & this.mask)) {
+                this.keys[gap] = key;
+                gap = slot;
+            }
+        }
+
+        this.keys[gap] = EMPTY;
+    }
+
+    /**
+     * Creates an empty table with the supplied number of slots.
+     *
+     * @param capacity number of slots, must be a power of two
+     */
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Moves every key into a new table with the supplied number of slots.
+     *
+     * @param newCapacity number of slots in the new table, must be a power of two
+     */
+    private void rehash(int newCapacity) {
+        long[] oldKeys = this.keys;
+        this.allocate(newCapacity);
+
+        for (long key : oldKeys) {
+            if (key == EMPTY)
+                continue;
+
+            int slot = HashUtils.mix(key) & this.mask;
+            while (this.keys[slot] != EMPTY)
+                slot = (slot + 1) & this.mask;
+            this.keys[slot] = key;
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+package com.knighten.ai.search.collections;
+
+import java.util.Arrays;
+
+/**
+ * A map from primitive long keys to objects backed by an open addressing hash table with linear probing. Keys and
+ * values are stored in parallel arrays, so no entry objects are allocated and keys are never boxed.
+ *
+ * @param <V> the type of the mapped values
+ */
+public class LongObjectHashMap<V> {
+
+    /**
+     * Value used to mark empty slots in the table. The key 0 itself is stored separately in zeroKeyValue.
+     */
+    private static final long EMPTY = 0L;
+
+    /**
+     * Maximum fraction of the table that may be filled before it grows.
+     */
+    private static final double LOAD_FACTOR = 0.5;
+
+    /**
+     * The hash table key slots.
+     */
+    private long[] keys;
+
+    /**
+     * The hash table value slots. values[i] is mapped to keys[i].
+     */
+    private Object[] values;
+
+    /**
+     * Used to turn a hash into a slot index. Always table length - 1.
+     */
+    private int mask;
+
+    /**
+     * Number of slots that may be filled before the table grows.
+     */
+    private int resizeThreshold;
+
+    /**
+     * Number of mappings stored in the table slots.
+     */
+    private int size;
+
+    /**
+     * The value mapped to the key 0, or null if the key 0 is not mapped.
+     */
+    private Object zeroKeyValue;
+
+    /**
+     * Creates an empty LongObjectHashMap.
+     */
+    public LongObjectHashMap() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty LongObjectHashMap that can hold the expected number of mappings without growing.
+     *
+     * @param expectedSize the number of mappings expected to be stored
+     */
+    public LongObjectHashMap(int expectedSize) {
+
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("The Expected Size Cannot Be Negative");
+
+        this.allocate(HashUtils.tableSizeFor(expectedSize, LOAD_FACTOR));
+    }
+
+    /**
+     * Returns the value mapped to a key.
+     *
+     * @param key the key being looked up
+     * @return the mapped value, or null if the key is not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+
+        if (key == EMPTY)
+            return (V) this.zeroKeyValue;
+
+        int slot = HashUtils.mix(key) & this.mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key)
+                return (V) this.values[slot];
+            slot = (slot + 1) & this.mask;
+        }
+
+        return null;
+    }
+
+    /**
+     * Determines if a key is mapped.
+     *
+     * @param key the key being looked up
+     * @return true if the key is mapped, otherwise false
+     */
+    public boolean containsKey(long key) {
+        return this.get(key) != null;
+    }
+
+    /**
+     * Maps a key to a value, replacing any value previously mapped to the key.
+     *
+     * @param key   the key being mapped
+     * @param value the value being mapped, cannot be null
+     * @return the value previously mapped to the key, or null if the key was not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+
+        if (value == null)
+            throw new IllegalArgumentException("Mapped Values Cannot Be Null");
+
+        if (key == EMPTY) {
+            V previous = (V) this.zeroKeyValue;
+            this.zeroKeyValue = value;
+            return previous;
+        }
+
+        int slot = HashUtils.mix(key) & this.mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key) {
+                V previous = (V) this.values[slot];
+                this.values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        if (++this.size > this.resizeThreshold)
+            this.rehash(this.keys.length * 2);
+
+        return null;
+    }
+
+    /**
+     * Removes the mapping for a key.
+     *
+     * @param key the key being removed
+     * @return the value that was mapped to the key, or null if the key was not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+
+        if (key == EMPTY) {
+            V previous = (V) this.zeroKeyValue;
+            this.zeroKeyValue = null;
+            return previous;
+        }
+
+        int slot = HashUtils.mix(key) & this.mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key) {
+                V previous = (V) this.values[slot];
+                this.shiftEntriesBack(slot);
+                this.size--;
+                return previous;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the number of mappings.
+     *
+     * @return the number of mappings
+     */
+    public int size() {
+        return this.zeroKeyValue != null ? this.size + 1 : this.size;
+    }
+
+    /**
+     * Determines if the map is empty.
+     *
+     * @return true if the map is empty, otherwise false
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Removes every mapping.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, EMPTY);
+        Arrays.fill(this.values, null);
+        this.size = 0;
+        this.zeroKeyValue = null;
+    }
+
+    /**
+     * Fills the gap left by a removed mapping by moving later mappings of the same probe sequence back(backward shift
+     * deletion). This keeps lookups correct without tombstones.
+     *
+     * @param gap the slot that was just emptied
+     */
+    private void shiftEntriesBack(int gap) {
+        int slot = gap;
+
+        while (true) {
+            slot = (slot + 1) & this.mask;
+            long key = this.keys[slot];
+
+            if (key == EMPTY)
+                break;
+
+            // Only Move The Mapping If Its Home Slot Is Not Between The Gap And Its Current Slot
+            int home = HashUtils.mix(key) & this.mask;
+            if (((slot - home) & this.mask) >= ((slot - gap) & this.mask)) {
+                this.keys[gap] = key;
+                this.values[gap] = this.values[slot];
+                gap = slot;
+            }
+        }
+
+        this.keys[gap] = EMPTY;
+        this.values[gap] = null;
+    }
+
+    /**
+     * Creates an empty table with the supplied number of slots.
+     *
+     * @param capacity number of slots, must be a power of two
+     */
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Moves every mapping into a new table with the supplied number of slots.
+     *
+     * @param newCapacity number of slots in the new table, must be a power of two
+     */
+    private void rehash(int newCapacity) {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.allocate(newCapacity);
+
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            long key = oldKeys[oldSlot];
+            if (key == EMPTY)
+                continue;
+
+            int slot = HashUtils.mix(key) & this.mask;
+            while (this.keys[slot] != EMPTY)
+                slot = (slot + 1) & this.mask;
+            this.keys[slot] = key;
+            this.values[slot] = oldValues[oldSlot];
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.knighten.ai.search.collections;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IPackedState;
+
+import java.util.HashMap;
+
+/**
+ * Maps the states of nodes to values. Nodes are either used directly as HashMap keys, or, when packed states are
+ * requested, their packed state is used as the key of a LongObjectHashMap. In packed mode every node must implement
+ * IPackedState and be packable.
+ *
+ * @param <V> the type of the mapped values
+ */
+public class NodeStateMap<V> {
+
+    /**
+     * Used when nodes are keys. Null in packed mode.
+     */
+    private HashMap<AbstractAStarNode, V> nodeKeyedMap;
+
+    /**
+     * Used when packed states are keys. Null when nodes are keys.
+     */
+    private LongObjectHashMap<V> packedKeyedMap;
+
+    /**
+     * Creates an empty NodeStateMap.
+     *
+     * @param usePackedStates true to key the map by packed states, false to key the map by nodes
+     */
+    public NodeStateMap(boolean usePackedStates) {
+        if (usePackedStates)
+            this.packedKeyedMap = new LongObjectHashMap<>();
+        else
+            this.nodeKeyedMap = new HashMap<>();
+    }
+
+    /**
+     * Determines if the map is keyed by packed states.
+     *
+     * @return true if the map is keyed by packed states, otherwise false
+     */
+    public boolean usesPackedStates() {
+        return this.packedKeyedMap != null;
+    }
+
+    /**
+     * Returns the value mapped to the state of a node.
+     *
+     * @param node a node with the state being looked up
+     * @return the mapped value, or null if the state is not mapped
+     */
+    public V get(AbstractAStarNode node) {
+        if (this.packedKeyedMap != null)
+            return this.packedKeyedMap.get(((IPackedState) node).packState());
+
+        return this.nodeKeyedMap.get(node);
+    }
+
+    /**
+     * Maps the state of a node to a value.
+     *
+     * @param node  the node whose state is being mapped
+     * @param value the value being mapped, cannot be null
+     * @return the value previously mapped to the state, or null if the state was not mapped
+     */
+    public V put(AbstractAStarNode node, V value) {
+        if (this.packedKeyedMap != null)
+            return this.packedKeyedMap.put(((IPackedState) node).packState(), value);
+
+        return this.nodeKeyedMap.put(node, value);
+    }
+
+    /**
+     * Removes the mapping for the state of a node.
+     *
+     * @param node the node whose state is being removed
+     * @return the value that was mapped to the state, or null if the state was not mapped
+     */
+    public V remove(AbstractAStarNode node) {
+        if (this.packedKeyedMap != null)
+            return this.packedKeyedMap.remove(((IPackedState) node).packState());
+
+        return this.nodeKeyedMap.remove(node);
+    }
+
+    /**
+     * Returns the number of mapped states.
+     *
+     * @return the number of mapped states
+     */
+    public int size() {
+        return this.packedKeyedMap != null ? this.packedKeyedMap.size() : this.nodeKeyedMap.size();
+    }
+
+    /**
+     * Removes every mapping.
+     */
+    public void clear() {
+        if (this.packedKeyedMap != null)
+            this.packedKeyedMap.clear();
+        else
+            this.nodeKeyedMap.clear();
+    }
+
+}
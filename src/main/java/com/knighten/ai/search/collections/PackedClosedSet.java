@@ -0,0 +1,50 @@
+package com.knighten.ai.search.collections;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IClosedSet;
+import com.knighten.ai.search.interfaces.IPackedState;
+
+/**
+ * A closed set that only stores the packed state of each node in a LongHashSet. Every node added or looked up must
+ * implement IPackedState and be packable.
+ */
+public class PackedClosedSet implements IClosedSet {
+
+    /**
+     * The packed states of the closed nodes.
+     */
+    private LongHashSet closedStates;
+
+    /**
+     * Creates an empty PackedClosedSet.
+     */
+    public PackedClosedSet() {
+        this.closedStates = new LongHashSet();
+    }
+
+    @Override
+    public boolean add(AbstractAStarNode node) {
+        return this.closedStates.add(((IPackedState) node).packState());
+    }
+
+    @Override
+    public boolean contains(AbstractAStarNode node) {
+        return this.closedStates.contains(((IPackedState) node).packState());
+    }
+
+    @Override
+    public boolean remove(AbstractAStarNode node) {
+        return this.closedStates.remove(((IPackedState) node).packState());
+    }
+
+    @Override
+    public int size() {
+        return this.closedStates.size();
+    }
+
+    @Override
+    public void clear() {
+        this.closedStates.clear();
+    }
+
+}
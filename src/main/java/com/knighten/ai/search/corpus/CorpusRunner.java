@@ -0,0 +1,85 @@
+package com.knighten.ai.search.corpus;
+
+import com.knighten.ai.search.SearchResult;
+import com.knighten.ai.search.SearchStatistics;
+import com.knighten.ai.search.interfaces.ISearchEngine;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs search engines over a corpus of puzzle instances and writes one CSV row per instance and engine. Each row holds
+ * how the search ended, the solution cost, the nodes expanded and generated, the time taken, and the peak open list
+ * and closed set sizes, which stand in for the memory the search used.
+ */
+public class CorpusRunner {
+
+    /**
+     * The first line of the CSV output.
+     */
+    public static final String HEADER = "instance,engine,status,cost,optimalCost,expanded,generated,millis,"
+            + "peakOpen,peakClosed";
+
+    private final List<ISearchEngine> engines;
+
+    /**
+     * Creates a CorpusRunner.
+     *
+     * @param engines the engines run on every instance, in order
+     */
+    public CorpusRunner(List<ISearchEngine> engines) {
+
+        if (engines == null || engines.isEmpty())
+            throw new IllegalArgumentException("At Least One Search Engine Is Required");
+
+        this.engines = engines;
+    }
+
+    /**
+     * Runs every engine on every instance, writing the header followed by a row as each search finishes. The output is
+     * not closed.
+     *
+     * @param instances the instances to solve
+     * @param output    receives the CSV rows
+     * @throws IOException if the output cannot be written
+     */
+    public void run(List<PuzzleInstance> instances, Appendable output) throws IOException {
+        output.append(HEADER).append('\n');
+
+        for (PuzzleInstance instance : instances) {
+            for (ISearchEngine engine : this.engines) {
+                SearchResult result = engine.search(instance.createInitialState(), instance.createGoalState());
+                output.append(formatRow(instance, engine, result)).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Formats the CSV row for a single search.
+     *
+     * @param instance the instance that was searched
+     * @param engine   the engine that searched it
+     * @param result   the result of the search
+     * @return the row, without a line terminator
+     */
+    public static String formatRow(PuzzleInstance instance, ISearchEngine engine, SearchResult result) {
+        SearchStatistics statistics = result.getStatistics();
+
+        return instance.getName()
+                + ',' + engine.getName()
+                + ',' + result.getStatus()
+                + ',' + (result.isSolved() ? formatCost(result.getPathCost()) : "")
+                + ',' + (instance.getOptimalCost() >= 0 ? Integer.toString(instance.getOptimalCost()) : "")
+                + ',' + result.getNodesExpanded()
+                + ',' + result.getNodesGenerated()
+                + ',' + String.format(Locale.ROOT, "%.3f", result.getElapsedNanos() / 1e6)
+                + ',' + (statistics == null ? "" : Integer.toString(statistics.getPeakOpenListSize()))
+                + ',' + (statistics == null ? "" : Integer.toString(statistics.getPeakClosedSetSize()));
+    }
+
+    private static String formatCost(double cost) {
+        return cost == Math.rint(cost) ? Long.toString((long) cost) : Double.toString(cost);
+    }
+
+}
@@ -0,0 +1,350 @@
+package com.knighten.ai.search.corpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates grid maps for the navigation problems from a seed, so the same seed always produces the same maps. Every
+ * map uses the AbstractNavigate encoding: 0 is an obstacle and a positive value is the cost of moving into that space.
+ * Maps other than weighted terrain only hold 0 and 1, so they suit both NavigateMaze and NavigateTerrain.
+ */
+public class GridMapGenerator {
+
+    private final Random random;
+
+    /**
+     * Creates a GridMapGenerator.
+     *
+     * @param seed the seed of the random number generator
+     */
+    public GridMapGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates an open map where each space is independently an obstacle with the given probability.
+     *
+     * @param rows            the number of rows
+     * @param cols            the number of columns
+     * @param obstacleDensity the chance of each space being an obstacle, between 0 and 1
+     * @return the generated map
+     */
+    public int[][] randomObstacles(int rows, int cols, double obstacleDensity) {
+        checkSize(rows, cols);
+        checkDensity(obstacleDensity);
+
+        int[][] map = new int[rows][cols];
+        for (int row = 0; row < rows; row++)
+            for (int col = 0; col < cols; col++)
+                map[row][col] = this.random.nextDouble() < obstacleDensity ? 0 : 1;
+
+        return map;
+    }
+
+    /**
+     * Generates a map of square rooms separated by one space thick walls. Every room can be reached from every other, a
+     * random spanning tree of doors joins the rooms and each remaining wall between neighbouring rooms also gets a door
+     * with the given probability.
+     *
+     * @param rows        the number of rows
+     * @param cols        the number of columns
+     * @param roomSize    the width of a room's interior, must be 1 or greater
+     * @param extraDoors  the chance of a door in a wall that the spanning tree did not use, between 0 and 1
+     * @return the generated map
+     */
+    public int[][] roomsAndCorridors(int rows, int cols, int roomSize, double extraDoors) {
+        checkSize(rows, cols);
+        checkDensity(extraDoors);
+
+        if (roomSize < 1)
+            throw new IllegalArgumentException("The Room Size Must Be 1 Or Greater");
+
+        // Room r, c Covers Rows r * step + 1 To r * step + roomSize, Walls Lie On Multiples Of step
+        int step = roomSize + 1;
+        int roomRows = Math.max(1, (rows - 1) / step);
+        int roomCols = Math.max(1, (cols - 1) / step);
+
+        // Spaces Past The Last Whole Room Are Left As Walls
+        int[][] map = new int[rows][cols];
+        for (int row = 0; row < Math.min(rows, roomRows * step); row++)
+            for (int col = 0; col < Math.min(cols, roomCols * step); col++)
+                if (row % step != 0 && col % step != 0)
+                    map[row][col] = 1;
+
+        // Random Depth First Spanning Tree Over The Rooms
+        boolean[] visited = new boolean[roomRows * roomCols];
+        int[] stack = new int[roomRows * roomCols];
+        int stackSize = 0;
+        stack[stackSize++] = 0;
+        visited[0] = true;
+
+        while (stackSize > 0) {
+            int room = stack[stackSize - 1];
+            int next = this.randomUnvisitedNeighbour(room, roomRows, roomCols, visited);
+
+            if (next == -1) {
+                stackSize--;
+                continue;
+            }
+
+            this.openDoor(map, room, next, roomCols, step, roomSize);
+            visited[next] = true;
+            stack[stackSize++] = next;
+        }
+
+        // Extra Doors Create Loops
+        for (int room = 0; room < roomRows * roomCols; room++) {
+            if (room % roomCols < roomCols - 1 && this.random.nextDouble() < extraDoors)
+                this.openDoor(map, room, room + 1, roomCols, step, roomSize);
+            if (room / roomCols < roomRows - 1 && this.random.nextDouble() < extraDoors)
+                this.openDoor(map, room, room + roomCols, roomCols, step, roomSize);
+        }
+
+        return map;
+    }
+
+    /**
+     * Generates a perfect maze, a maze with exactly one path between any two open spaces. Open spaces lie on odd rows
+     * and columns, joined by the spaces between them. With an even number of rows or columns the last row or column is
+     * left as a wall.
+     *
+     * @param rows the number of rows, must be 3 or greater
+     * @param cols the number of columns, must be 3 or greater
+     * @return the generated maze
+     */
+    public int[][] perfectMaze(int rows, int cols) {
+
+        if (rows < 3 || cols < 3)
+            throw new IllegalArgumentException("A Perfect Maze Must Have At Least 3 Rows And 3 Columns");
+
+        int cellRows = (rows - 1) / 2;
+        int cellCols = (cols - 1) / 2;
+        int[][] maze = new int[rows][cols];
+
+        // Recursive Backtracker Over The Cells, With An Explicit Stack So Large Mazes Do Not Overflow
+        boolean[] visited = new boolean[cellRows * cellCols];
+        int[] stack = new int[cellRows * cellCols];
+        int stackSize = 0;
+        stack[stackSize++] = 0;
+        visited[0] = true;
+        maze[1][1] = 1;
+
+        while (stackSize > 0) {
+            int cell = stack[stackSize - 1];
+            int next = this.randomUnvisitedNeighbour(cell, cellRows, cellCols, visited);
+
+            if (next == -1) {
+                stackSize--;
+                continue;
+            }
+
+            int row = 2 * (cell / cellCols) + 1;
+            int col = 2 * (cell % cellCols) + 1;
+            int nextRow = 2 * (next / cellCols) + 1;
+            int nextCol = 2 * (next % cellCols) + 1;
+            maze[(row + nextRow) / 2][(col + nextCol) / 2] = 1;
+            maze[nextRow][nextCol] = 1;
+
+            visited[next] = true;
+            stack[stackSize++] = next;
+        }
+
+        return maze;
+    }
+
+    /**
+     * Generates terrain with smoothly varying movement costs, so there are cheap valleys and expensive ridges to route
+     * around, along with scattered obstacles. Costs come from random noise averaged over a square window.
+     *
+     * @param rows            the number of rows
+     * @param cols            the number of columns
+     * @param maxCost         the largest movement cost, must be 1 or greater
+     * @param obstacleDensity the chance of each space being an obstacle, between 0 and 1
+     * @return the generated terrain
+     */
+    public int[][] weightedTerrain(int rows, int cols, int maxCost, double obstacleDensity) {
+        checkSize(rows, cols);
+        checkDensity(obstacleDensity);
+
+        if (maxCost < 1)
+            throw new IllegalArgumentException("The Max Cost Must Be 1 Or Greater");
+
+        double[][] noise = new double[rows][cols];
+        for (int row = 0; row < rows; row++)
+            for (int col = 0; col < cols; col++)
+                noise[row][col] = this.random.nextDouble();
+
+        // Box Blur Using A Summed Area Table
+        int radius = Math.max(1, Math.min(rows, cols) / 16);
+        double[][] sums = new double[rows + 1][cols + 1];
+        for (int row = 0; row < rows; row++)
+            for (int col = 0; col < cols; col++)
+                sums[row + 1][col + 1] = noise[row][col] + sums[row][col + 1] + sums[row + 1][col] - sums[row][col];
+
+        double[][] smooth = new double[rows][cols];
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int top = Math.max(0, row - radius);
+                int bottom = Math.min(rows, row + radius + 1);
+                int left = Math.max(0, col - radius);
+                int right = Math.min(cols, col + radius + 1);
+                double sum = sums[bottom][right] - sums[top][right] - sums[bottom][left] + sums[top][left];
+                smooth[row][col] = sum / ((bottom - top) * (right - left));
+                min = Math.min(min, smooth[row][col]);
+                max = Math.max(max, smooth[row][col]);
+            }
+        }
+
+        // Stretch The Smoothed Noise Over 1 To maxCost
+        double range = max > min ? max - min : 1.0;
+        int[][] terrain = new int[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int cost = 1 + (int) ((smooth[row][col] - min) / range * maxCost);
+                terrain[row][col] = this.random.nextDouble() < obstacleDensity ? 0 : Math.min(maxCost, cost);
+            }
+        }
+
+        return terrain;
+    }
+
+    /**
+     * Picks random start and goal queries on a map. Both positions of a query are open and connected, so every query has
+     * a path.
+     *
+     * @param map   the map the queries are on
+     * @param count the number of queries
+     * @return the generated queries, their optimal lengths are unknown
+     */
+    public List<GridScenario> randomScenarios(int[][] map, int count) {
+        int rows = map.length;
+        int cols = map[0].length;
+        int[] components = labelComponents(map);
+
+        // Only Start In Components With At Least Two Spaces
+        int[] componentSizes = new int[rows * cols + 1];
+        List<Integer> starts = new ArrayList<>();
+        for (int component : components)
+            if (component > 0)
+                componentSizes[component]++;
+        for (int space = 0; space < components.length; space++)
+            if (components[space] > 0 && componentSizes[components[space]] > 1)
+                starts.add(space);
+
+        if (starts.isEmpty())
+            throw new IllegalArgumentException("The Map Has No Two Connected Open Spaces");
+
+        List<GridScenario> scenarios = new ArrayList<>();
+        while (scenarios.size() < count) {
+            int start = starts.get(this.random.nextInt(starts.size()));
+            int goal = starts.get(this.random.nextInt(starts.size()));
+
+            if (goal == start || components[goal] != components[start])
+                continue;
+
+            scenarios.add(new GridScenario(start / cols, start % cols, goal / cols, goal % cols, -1));
+        }
+
+        return scenarios;
+    }
+
+    /**
+     * Labels each open space with the number of its connected component, starting at 1. Obstacles are labelled 0.
+     *
+     * @param map the map to label
+     * @return the labels in row major order
+     */
+    static int[] labelComponents(int[][] map) {
+        int rows = map.length;
+        int cols = map[0].length;
+        int[] labels = new int[rows * cols];
+        int[] queue = new int[rows * cols];
+        int nextLabel = 1;
+
+        for (int space = 0; space < labels.length; space++) {
+            if (labels[space] != 0 || map[space / cols][space % cols] == 0)
+                continue;
+
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = space;
+            labels[space] = nextLabel;
+
+            while (head < tail) {
+                int current = queue[head++];
+                int row = current / cols;
+                int col = current % cols;
+
+                if (row > 0 && labels[current - cols] == 0 && map[row - 1][col] != 0) {
+                    labels[current - cols] = nextLabel;
+                    queue[tail++] = current - cols;
+                }
+                if (row < rows - 1 && labels[current + cols] == 0 && map[row + 1][col] != 0) {
+                    labels[current + cols] = nextLabel;
+                    queue[tail++] = current + cols;
+                }
+                if (col > 0 && labels[current - 1] == 0 && map[row][col - 1] != 0) {
+                    labels[current - 1] = nextLabel;
+                    queue[tail++] = current - 1;
+                }
+                if (col < cols - 1 && labels[current + 1] == 0 && map[row][col + 1] != 0) {
+                    labels[current + 1] = nextLabel;
+                    queue[tail++] = current + 1;
+                }
+            }
+
+            nextLabel++;
+        }
+
+        return labels;
+    }
+
+    private int randomUnvisitedNeighbour(int cell, int cellRows, int cellCols, boolean[] visited) {
+        int[] neighbours = new int[4];
+        int count = 0;
+        int row = cell / cellCols;
+        int col = cell % cellCols;
+
+        if (row > 0 && !visited[cell - cellCols])
+            neighbours[count++] = cell - cellCols;
+        if (row < cellRows - 1 && !visited[cell + cellCols])
+            neighbours[count++] = cell + cellCols;
+        if (col > 0 && !visited[cell - 1])
+            neighbours[count++] = cell - 1;
+        if (col < cellCols - 1 && !visited[cell + 1])
+            neighbours[count++] = cell + 1;
+
+        return count == 0 ? -1 : neighbours[this.random.nextInt(count)];
+    }
+
+    private void openDoor(int[][] map, int room, int other, int roomCols, int step, int roomSize) {
+        int first = Math.min(room, other);
+        boolean horizontal = room / roomCols == other / roomCols;
+        int row = (first / roomCols) * step;
+        int col = (first % roomCols) * step;
+        int offset = 1 + this.random.nextInt(roomSize);
+
+        // Horizontal Neighbours Share The Wall Column To The Right, Vertical Neighbours The Wall Row Below
+        int doorRow = horizontal ? row + offset : row + step;
+        int doorCol = horizontal ? col + step : col + offset;
+
+        if (doorRow < map.length && doorCol < map[0].length)
+            map[doorRow][doorCol] = 1;
+    }
+
+    private static void checkSize(int rows, int cols) {
+
+        if (rows < 1 || cols < 1)
+            throw new IllegalArgumentException("A Map Must Have At Least 1 Row And 1 Column");
+    }
+
+    private static void checkDensity(double probability) {
+
+        if (!(probability >= 0.0 && probability <= 1.0))
+            throw new IllegalArgumentException("A Probability Must Be Between 0 And 1");
+    }
+
+}
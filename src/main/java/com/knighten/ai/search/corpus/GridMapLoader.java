@@ -0,0 +1,152 @@
+package com.knighten.ai.search.corpus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads grid maps and scenarios in the text .map and .scen formats used by the common grid pathfinding benchmarks.
+ *
+ * A .map file starts with a type line, a height line, a width line, and a line holding "map", followed by one line of
+ * characters per row. The passable characters '.', 'G', and 'S' become 1 and every other character, such as '@', 'O',
+ * 'T', and 'W', becomes 0.
+ *
+ * A .scen file starts with a version line, followed by one query per line: bucket, map name, map width, map height,
+ * start x, start y, goal x, goal y, and optimal length, separated by whitespace.
+ */
+public final class GridMapLoader {
+
+    private GridMapLoader() {
+    }
+
+    /**
+     * Reads a UTF-8 .map file.
+     *
+     * @param file the file to read
+     * @return the map, 1 for passable spaces and 0 for obstacles
+     * @throws IOException if the file cannot be read
+     */
+    public static int[][] loadMap(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return loadMap(reader);
+        }
+    }
+
+    /**
+     * Reads a map in the .map format. The reader is not closed.
+     *
+     * @param reader the source of the map text
+     * @return the map, 1 for passable spaces and 0 for obstacles
+     * @throws IOException if the reader fails
+     */
+    public static int[][] loadMap(Reader reader) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        int height = -1;
+        int width = -1;
+
+        // Header Lines Come In Any Order Before "map"
+        String line;
+        while ((line = lines.readLine()) != null) {
+            String[] tokens = line.trim().split("\\s+");
+
+            if (tokens[0].equals("map"))
+                break;
+            else if (tokens[0].equals("height") && tokens.length == 2)
+                height = parseInt(tokens[1], "Height");
+            else if (tokens[0].equals("width") && tokens.length == 2)
+                width = parseInt(tokens[1], "Width");
+        }
+
+        if (line == null)
+            throw new IllegalArgumentException("The Map Is Missing Its \"map\" Line");
+
+        if (height < 1 || width < 1)
+            throw new IllegalArgumentException("The Map Must Declare A Height And Width Of 1 Or Greater");
+
+        int[][] map = new int[height][width];
+        for (int row = 0; row < height; row++) {
+            line = lines.readLine();
+
+            if (line == null || line.length() < width)
+                throw new IllegalArgumentException("Map Row " + row + " Is Missing Or Shorter Than The Width");
+
+            for (int col = 0; col < width; col++) {
+                char space = line.charAt(col);
+                map[row][col] = space == '.' || space == 'G' || space == 'S' ? 1 : 0;
+            }
+        }
+
+        return map;
+    }
+
+    /**
+     * Reads a UTF-8 .scen file.
+     *
+     * @param file the file to read
+     * @return the scenarios in file order
+     * @throws IOException if the file cannot be read
+     */
+    public static List<GridScenario> loadScenarios(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return loadScenarios(reader);
+        }
+    }
+
+    /**
+     * Reads scenarios in the .scen format. The reader is not closed.
+     *
+     * @param reader the source of the scenario text
+     * @return the scenarios in the order they were read
+     * @throws IOException if the reader fails
+     */
+    public static List<GridScenario> loadScenarios(Reader reader) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        List<GridScenario> scenarios = new ArrayList<>();
+        int lineNumber = 0;
+
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+
+            if (line.isEmpty() || line.startsWith("version"))
+                continue;
+
+            // Map Names May Hold Spaces, So Read The Numeric Fields From The End Of The Line
+            String[] tokens = line.split("\\s+");
+            if (tokens.length < 9)
+                throw new IllegalArgumentException("Scenario Line " + lineNumber + " Must Hold 9 Fields");
+
+            int last = tokens.length - 1;
+            int startCol = parseInt(tokens[last - 4], "Start X");
+            int startRow = parseInt(tokens[last - 3], "Start Y");
+            int goalCol = parseInt(tokens[last - 2], "Goal X");
+            int goalRow = parseInt(tokens[last - 1], "Goal Y");
+
+            double optimalLength;
+            try {
+                optimalLength = Double.parseDouble(tokens[last]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Scenario Line " + lineNumber + " Has An Invalid Optimal Length", e);
+            }
+
+            scenarios.add(new GridScenario(startRow, startCol, goalRow, goalCol, optimalLength));
+        }
+
+        return scenarios;
+    }
+
+    private static int parseInt(String token, String field) {
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The " + field + " Must Be An Integer", e);
+        }
+    }
+
+}
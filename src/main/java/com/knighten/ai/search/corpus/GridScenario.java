@@ -0,0 +1,112 @@
+package com.knighten.ai.search.corpus;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationEnvironment;
+
+/**
+ * A single start and goal query on a grid map. Scenario files store positions as x(column) and y(row), scenarios keep
+ * them as rows and columns to match AbstractNavigate.
+ */
+public class GridScenario {
+
+    private final int startRow;
+    private final int startCol;
+    private final int goalRow;
+    private final int goalCol;
+    private final double optimalLength;
+
+    /**
+     * Creates a GridScenario.
+     *
+     * @param startRow      the row of the start position
+     * @param startCol      the column of the start position
+     * @param goalRow       the row of the goal position
+     * @param goalCol       the column of the goal position
+     * @param optimalLength the length of an optimal path as recorded by the source of the scenario, -1 if unknown
+     */
+    public GridScenario(int startRow, int startCol, int goalRow, int goalCol, double optimalLength) {
+
+        if (startRow < 0 || startCol < 0 || goalRow < 0 || goalCol < 0)
+            throw new IllegalArgumentException("Scenario Positions Cannot Be Negative");
+
+        this.startRow = startRow;
+        this.startCol = startCol;
+        this.goalRow = goalRow;
+        this.goalCol = goalCol;
+        this.optimalLength = optimalLength;
+    }
+
+    /**
+     * Gets the row of the start position.
+     *
+     * @return the start row
+     */
+    public int getStartRow() {
+        return this.startRow;
+    }
+
+    /**
+     * Gets the column of the start position.
+     *
+     * @return the start column
+     */
+    public int getStartCol() {
+        return this.startCol;
+    }
+
+    /**
+     * Gets the row of the goal position.
+     *
+     * @return the goal row
+     */
+    public int getGoalRow() {
+        return this.goalRow;
+    }
+
+    /**
+     * Gets the column of the goal position.
+     *
+     * @return the goal column
+     */
+    public int getGoalCol() {
+        return this.goalCol;
+    }
+
+    /**
+     * Gets the length of an optimal path as recorded by the source of the scenario. Scenario files for 8-connected
+     * maps record octile lengths, which are shorter than the 4-connected paths AbstractNavigate finds.
+     *
+     * @return the recorded optimal length, -1 if unknown
+     */
+    public double getOptimalLength() {
+        return this.optimalLength;
+    }
+
+    /**
+     * Creates the search node of the start position. NavigateTerrain is used for every map since a terrain whose open
+     * spaces all cost 1 is the same search as a maze.
+     *
+     * @param environment the map being navigated
+     * @return a NavigateTerrain at the start position
+     */
+    public AbstractAStarNode createInitialState(NavigationEnvironment environment) {
+        return new NavigateTerrain(environment, this.startRow, this.startCol, null);
+    }
+
+    /**
+     * Creates the search node of the goal position.
+     *
+     * @param environment the map being navigated
+     * @return a NavigateTerrain at the goal position
+     */
+    public AbstractAStarNode createGoalState(NavigationEnvironment environment) {
+        return new NavigateTerrain(environment, this.goalRow, this.goalCol, null);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.startRow + ", " + this.startCol + ") -> (" + this.goalRow + ", " + this.goalCol + ")";
+    }
+
+}
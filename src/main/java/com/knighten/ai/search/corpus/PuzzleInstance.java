@@ -0,0 +1,171 @@
+package com.knighten.ai.search.corpus;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.FifteenPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzle;
+import com.knighten.ai.search.npuzzle.ThreePuzzle;
+
+import java.util.Arrays;
+
+/**
+ * A single n-puzzle problem of a benchmark corpus: a named initial board, the goal board, and the optimal solution
+ * length when it is known.
+ */
+public class PuzzleInstance {
+
+    private final String name;
+    private final int[] initialBoard;
+    private final int[] goalBoard;
+    private final int optimalCost;
+
+    /**
+     * Creates a PuzzleInstance.
+     *
+     * @param name         identifies the instance in reports
+     * @param initialBoard the board the search starts from
+     * @param goalBoard    the board the search must reach, the same size as the initial board
+     * @param optimalCost  the length of an optimal solution, -1 if unknown
+     */
+    public PuzzleInstance(String name, int[] initialBoard, int[] goalBoard, int optimalCost) {
+
+        if (name == null)
+            throw new IllegalArgumentException("The Instance Name Cannot Be Null");
+
+        if (initialBoard == null || goalBoard == null)
+            throw new IllegalArgumentException("The Initial Board And Goal Board Cannot Be Null");
+
+        if (initialBoard.length != goalBoard.length)
+            throw new IllegalArgumentException("The Initial Board And Goal Board Must Be The Same Size");
+
+        if (!isPermutation(initialBoard) || !isPermutation(goalBoard))
+            throw new IllegalArgumentException("A Board Must Hold Each Tile From 0 To N Exactly Once");
+
+        if (optimalCost < -1)
+            throw new IllegalArgumentException("The Optimal Cost Must Be -1(Unknown) Or Greater");
+
+        this.name = name;
+        this.initialBoard = initialBoard.clone();
+        this.goalBoard = goalBoard.clone();
+        this.optimalCost = optimalCost;
+    }
+
+    /**
+     * Creates a PuzzleInstance whose optimal solution length is unknown.
+     *
+     * @param name         identifies the instance in reports
+     * @param initialBoard the board the search starts from
+     * @param goalBoard    the board the search must reach
+     */
+    public PuzzleInstance(String name, int[] initialBoard, int[] goalBoard) {
+        this(name, initialBoard, goalBoard, -1);
+    }
+
+    /**
+     * Gets the name of the instance.
+     *
+     * @return the instance name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the board the search starts from.
+     *
+     * @return a copy of the initial board
+     */
+    public int[] getInitialBoard() {
+        return this.initialBoard.clone();
+    }
+
+    /**
+     * Gets the board the search must reach.
+     *
+     * @return a copy of the goal board
+     */
+    public int[] getGoalBoard() {
+        return this.goalBoard.clone();
+    }
+
+    /**
+     * Gets the length of an optimal solution.
+     *
+     * @return the optimal cost, -1 if unknown
+     */
+    public int getOptimalCost() {
+        return this.optimalCost;
+    }
+
+    /**
+     * Gets the number of rows and columns of the boards.
+     *
+     * @return the board width
+     */
+    public int getWidth() {
+        return (int) Math.round(Math.sqrt(this.initialBoard.length));
+    }
+
+    /**
+     * Determines if the goal board can be reached from the initial board. Half of all boards cannot.
+     *
+     * @return true if the instance has a solution, otherwise false
+     */
+    public boolean isSolvable() {
+        return PuzzleInstanceGenerator.isSolvable(this.initialBoard, this.goalBoard);
+    }
+
+    /**
+     * Creates the search node of the initial board.
+     *
+     * @return a ThreePuzzle, EightPuzzle, FifteenPuzzle, or NPuzzle holding the initial board
+     */
+    public AbstractAStarNode createInitialState() {
+        return createNode(this.initialBoard.clone());
+    }
+
+    /**
+     * Creates the search node of the goal board.
+     *
+     * @return a ThreePuzzle, EightPuzzle, FifteenPuzzle, or NPuzzle holding the goal board
+     */
+    public AbstractAStarNode createGoalState() {
+        return createNode(this.goalBoard.clone());
+    }
+
+    @Override
+    public String toString() {
+        return this.name + " " + Arrays.toString(this.initialBoard);
+    }
+
+    private static AbstractAStarNode createNode(int[] board) {
+        switch (board.length) {
+            case 4:
+                return new ThreePuzzle(board);
+            case 9:
+                return new EightPuzzle(board);
+            case 16:
+                return new FifteenPuzzle(board);
+            case 25:
+                return new NPuzzle(board);
+            default:
+                throw new IllegalStateException("No Search Node Exists For Boards With " + board.length + " Spaces");
+        }
+    }
+
+    private static boolean isPermutation(int[] board) {
+        int width = (int) Math.round(Math.sqrt(board.length));
+        if (width < 2 || width * width != board.length)
+            return false;
+
+        boolean[] seen = new boolean[board.length];
+        for (int tile : board) {
+            if (tile < 0 || tile >= board.length || seen[tile])
+                return false;
+            seen[tile] = true;
+        }
+
+        return true;
+    }
+
+}
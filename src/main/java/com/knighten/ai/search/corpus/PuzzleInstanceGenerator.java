@@ -0,0 +1,177 @@
+package com.knighten.ai.search.corpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates solvable n-puzzle instances from a seed, so the same seed always produces the same corpus. Instances are
+ * either uniformly random solvable boards, or boards reached by a random walk from the goal, which keeps the optimal
+ * solution length at or below the walk length.
+ */
+public class PuzzleInstanceGenerator {
+
+    private final Random random;
+
+    /**
+     * Creates a PuzzleInstanceGenerator.
+     *
+     * @param seed the seed of the random number generator
+     */
+    public PuzzleInstanceGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Creates the usual goal board of the given width, the tiles in order with the empty space in the last position.
+     *
+     * @param width the number of rows and columns, must be 2 or greater
+     * @return the goal board
+     */
+    public static int[] standardGoal(int width) {
+
+        if (width < 2)
+            throw new IllegalArgumentException("The Board Width Must Be 2 Or Greater");
+
+        int[] goal = new int[width * width];
+        for (int space = 0; space < goal.length - 1; space++)
+            goal[space] = space + 1;
+
+        return goal;
+    }
+
+    /**
+     * Generates instances by shuffling the goal board uniformly at random. A shuffle that cannot reach the goal has two
+     * of its tiles swapped, which makes it solvable, so every solvable board is equally likely.
+     *
+     * @param count the number of instances
+     * @param goal  the goal board of every instance
+     * @return the generated instances, named random-0, random-1, and so on
+     */
+    public List<PuzzleInstance> randomPermutations(int count, int[] goal) {
+        List<PuzzleInstance> instances = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            int[] board = goal.clone();
+
+            // Fisher-Yates Shuffle
+            for (int space = board.length - 1; space > 0; space--)
+                swap(board, space, this.random.nextInt(space + 1));
+
+            // Swapping Two Tiles Flips The Parity - Swap The First Two Tiles That Are Not The Empty Space
+            if (!isSolvable(board, goal)) {
+                int first = board[0] == 0 ? 1 : 0;
+                int second = board[first + 1] == 0 ? first + 2 : first + 1;
+                swap(board, first, second);
+            }
+
+            instances.add(new PuzzleInstance("random-" + i, board, goal));
+        }
+
+        return instances;
+    }
+
+    /**
+     * Generates instances by making random moves away from the goal board. A move never undoes the move before it.
+     *
+     * @param count the number of instances
+     * @param goal  the goal board of every instance
+     * @param depth the number of moves made, an upper bound on each instance's optimal cost
+     * @return the generated instances, named walk-depth-0, walk-depth-1, and so on
+     */
+    public List<PuzzleInstance> randomWalks(int count, int[] goal, int depth) {
+
+        if (depth < 0)
+            throw new IllegalArgumentException("The Walk Depth Cannot Be Negative");
+
+        int width = (int) Math.round(Math.sqrt(goal.length));
+        List<PuzzleInstance> instances = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            int[] board = goal.clone();
+            int empty = indexOf(board, 0);
+            int previous = -1;
+
+            for (int move = 0; move < depth; move++) {
+                int[] neighbours = new int[4];
+                int neighbourCount = 0;
+
+                if (empty % width != 0)
+                    neighbours[neighbourCount++] = empty - 1;
+                if (empty % width != width - 1)
+                    neighbours[neighbourCount++] = empty + 1;
+                if (empty >= width)
+                    neighbours[neighbourCount++] = empty - width;
+                if (empty < board.length - width)
+                    neighbours[neighbourCount++] = empty + width;
+
+                int next;
+                do {
+                    next = neighbours[this.random.nextInt(neighbourCount)];
+                } while (next == previous);
+
+                swap(board, empty, next);
+                previous = empty;
+                empty = next;
+            }
+
+            instances.add(new PuzzleInstance("walk-" + depth + "-" + i, board, goal));
+        }
+
+        return instances;
+    }
+
+    /**
+     * Determines if one board can be turned into another by sliding tiles. This is the case when the parity of the
+     * permutation between the boards, counting the empty space as a tile, matches the parity of the Manhattan distance
+     * between the empty spaces.
+     *
+     * @param board the starting board
+     * @param goal  the board to reach, holding the same tiles
+     * @return true if the goal can be reached, otherwise false
+     */
+    public static boolean isSolvable(int[] board, int[] goal) {
+
+        if (board.length != goal.length)
+            throw new IllegalArgumentException("The Boards Must Be The Same Size");
+
+        int width = (int) Math.round(Math.sqrt(board.length));
+        int[] goalPosition = new int[goal.length];
+        for (int space = 0; space < goal.length; space++)
+            goalPosition[goal[space]] = space;
+
+        // Permutation Parity Is The Parity Of Its Length Minus Its Number Of Cycles
+        boolean[] visited = new boolean[board.length];
+        int cycles = 0;
+        for (int space = 0; space < board.length; space++) {
+            if (visited[space])
+                continue;
+
+            cycles++;
+            for (int current = space; !visited[current]; current = goalPosition[board[current]])
+                visited[current] = true;
+        }
+
+        int boardEmpty = indexOf(board, 0);
+        int goalEmpty = goalPosition[0];
+        int emptyDistance = Math.abs(boardEmpty / width - goalEmpty / width)
+                + Math.abs(boardEmpty % width - goalEmpty % width);
+
+        return (board.length - cycles) % 2 == emptyDistance % 2;
+    }
+
+    private static int indexOf(int[] board, int tile) {
+        for (int space = 0; space < board.length; space++)
+            if (board[space] == tile)
+                return space;
+
+        throw new IllegalArgumentException("The Board Does Not Hold Tile " + tile);
+    }
+
+    private static void swap(int[] board, int first, int second) {
+        int tile = board[first];
+        board[first] = board[second];
+        board[second] = tile;
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.knighten.ai.search.corpus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads n-puzzle instances from text. Each non-blank line holds one initial board as whitespace separated tiles, with
+ * 0 for the empty space. A line may end with one extra number, the optimal solution length. Everything after a # is a
+ * comment. This is the layout Korf's 100 fifteen-puzzle instances are usually distributed in, once the leading
+ * instance numbers are removed.
+ *
+ * Every instance shares the goal board given to the loader, and instances are named after the file and their number.
+ * A line whose comment is a single positive integer takes that integer as its number, so a file holding part of a
+ * published list keeps the list's numbering. Any other line is numbered by its position in the file.
+ */
+public class PuzzleInstanceLoader {
+
+    /**
+     * The resource holding Korf's fifteen-puzzle instances, next to this class.
+     */
+    private static final String KORF_RESOURCE = "korf-fifteen-puzzle.txt";
+
+    private final int[] goalBoard;
+
+    /**
+     * Creates a PuzzleInstanceLoader.
+     *
+     * @param goalBoard the goal board of every loaded instance
+     */
+    public PuzzleInstanceLoader(int[] goalBoard) {
+
+        if (goalBoard == null)
+            throw new IllegalArgumentException("The Goal Board Cannot Be Null");
+
+        this.goalBoard = goalBoard.clone();
+    }
+
+    /**
+     * Reads the bundled copy of Korf's fifteen-puzzle instances, whose goal board has the empty space first. Every
+     * instance carries its optimal solution length and is named after its number in Korf's list, korf-1 to korf-100.
+     *
+     * @return the bundled instances in list order
+     * @throws IOException if the resource cannot be read
+     */
+    public static List<PuzzleInstance> loadKorfFifteenPuzzles() throws IOException {
+        int[] goalBoard = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15};
+
+        InputStream resource = PuzzleInstanceLoader.class.getResourceAsStream(KORF_RESOURCE);
+        if (resource == null)
+            throw new IOException("The Resource " + KORF_RESOURCE + " Is Missing");
+
+        try (Reader reader = new InputStreamReader(resource, StandardCharsets.UTF_8)) {
+            return new PuzzleInstanceLoader(goalBoard).load(reader, "korf");
+        }
+    }
+
+    /**
+     * Reads every instance in a UTF-8 text file.
+     *
+     * @param file the file to read
+     * @return the instances in file order
+     * @throws IOException if the file cannot be read
+     */
+    public List<PuzzleInstance> load(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        if (extension > 0)
+            name = name.substring(0, extension);
+
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return this.load(reader, name);
+        }
+    }
+
+    /**
+     * Reads every instance from a reader. The reader is not closed.
+     *
+     * @param reader     the source of the instance text
+     * @param namePrefix the instances are named namePrefix-1, namePrefix-2, and so on, or after the number in their
+     *                   line's comment
+     * @return the instances in the order they were read
+     * @throws IOException if the reader fails
+     */
+    public List<PuzzleInstance> load(Reader reader, String namePrefix) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        List<PuzzleInstance> instances = new ArrayList<>();
+        int lineNumber = 0;
+
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+
+            int comment = line.indexOf('#');
+            int number = instances.size() + 1;
+            if (comment >= 0) {
+                number = parseNumber(line.substring(comment + 1).trim(), number);
+                line = line.substring(0, comment);
+            }
+
+            line = line.trim();
+            if (line.isEmpty())
+                continue;
+
+            String[] tokens = line.split("\\s+");
+            if (tokens.length != this.goalBoard.length && tokens.length != this.goalBoard.length + 1)
+                throw new IllegalArgumentException("Line " + lineNumber + " Must Hold " + this.goalBoard.length
+                        + " Tiles And An Optional Optimal Cost");
+
+            int[] board = new int[this.goalBoard.length];
+            int optimalCost = -1;
+            try {
+                for (int space = 0; space < board.length; space++)
+                    board[space] = Integer.parseInt(tokens[space]);
+
+                if (tokens.length > board.length)
+                    optimalCost = Integer.parseInt(tokens[board.length]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + " Holds A Value That Is Not An Integer", e);
+            }
+
+            instances.add(new PuzzleInstance(namePrefix + "-" + number, board, this.goalBoard, optimalCost));
+        }
+
+        return instances;
+    }
+
+    /**
+     * Reads an instance number from a line's comment.
+     *
+     * @param comment       the comment text, without the #
+     * @param defaultNumber the number used when the comment is not a single positive integer
+     * @return the instance number
+     */
+    private static int parseNumber(String comment, int defaultNumber) {
+
+        try {
+            int number = Integer.parseInt(comment);
+            return number > 0 ? number : defaultNumber;
+        } catch (NumberFormatException e) {
+            return defaultNumber;
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.knighten.ai.search.corpus;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The latencies and node counts of the queries answered by a ScenarioRunner.
+ */
+public class ScenarioReport {
+
+    private final String engineName;
+    private final long[] sortedLatencies;
+    private final int solved;
+    private final long nodesExpanded;
+
+    /**
+     * Creates a ScenarioReport.
+     *
+     * @param engineName    the name of the engine that answered the queries
+     * @param latencies     the time each query took in nanoseconds
+     * @param solved        the number of queries that found a path
+     * @param nodesExpanded the nodes expanded over every query
+     */
+    public ScenarioReport(String engineName, long[] latencies, int solved, long nodesExpanded) {
+
+        if (engineName == null || latencies == null)
+            throw new IllegalArgumentException("The Engine Name And Latencies Cannot Be Null");
+
+        this.engineName = engineName;
+        this.sortedLatencies = latencies.clone();
+        Arrays.sort(this.sortedLatencies);
+        this.solved = solved;
+        this.nodesExpanded = nodesExpanded;
+    }
+
+    /**
+     * Gets the name of the engine that answered the queries.
+     *
+     * @return the engine name
+     */
+    public String getEngineName() {
+        return this.engineName;
+    }
+
+    /**
+     * Gets the number of queries that were timed.
+     *
+     * @return the number of queries
+     */
+    public int getQueries() {
+        return this.sortedLatencies.length;
+    }
+
+    /**
+     * Gets the number of queries that found a path.
+     *
+     * @return the number of solved queries
+     */
+    public int getSolved() {
+        return this.solved;
+    }
+
+    /**
+     * Gets the nodes expanded over every query.
+     *
+     * @return the total nodes expanded
+     */
+    public long getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Gets a latency percentile using the nearest rank method, so the result is always one of the measured latencies.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in milliseconds, or NaN if there were no queries
+     */
+    public double getPercentileMillis(double percentile) {
+
+        if (!(percentile >= 0.0 && percentile <= 100.0))
+            throw new IllegalArgumentException("The Percentile Must Be Between 0 And 100");
+
+        if (this.sortedLatencies.length == 0)
+            return Double.NaN;
+
+        int rank = (int) Math.ceil(percentile / 100.0 * this.sortedLatencies.length);
+        return this.sortedLatencies[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    /**
+     * Gets the mean latency.
+     *
+     * @return the mean latency in milliseconds, or NaN if there were no queries
+     */
+    public double getMeanMillis() {
+
+        if (this.sortedLatencies.length == 0)
+            return Double.NaN;
+
+        double total = 0.0;
+        for (long latency : this.sortedLatencies)
+            total += latency;
+
+        return total / this.sortedLatencies.length / 1e6;
+    }
+
+    /**
+     * Gets the largest latency.
+     *
+     * @return the largest latency in milliseconds, or NaN if there were no queries
+     */
+    public double getMaxMillis() {
+        return this.sortedLatencies.length == 0
+                ? Double.NaN
+                : this.sortedLatencies[this.sortedLatencies.length - 1] / 1e6;
+    }
+
+    /**
+     * Summarises the report on a single line: the query counts followed by the mean, p50, p90, p99, and max latencies.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%s: %d/%d solved, %d expanded, mean %.3f ms, p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f ms",
+                this.engineName, this.solved, this.getQueries(), this.nodesExpanded, this.getMeanMillis(),
+                this.getPercentileMillis(50), this.getPercentileMillis(90), this.getPercentileMillis(99),
+                this.getMaxMillis());
+    }
+
+}
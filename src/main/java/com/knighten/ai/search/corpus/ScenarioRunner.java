@@ -0,0 +1,99 @@
+package com.knighten.ai.search.corpus;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.SearchResult;
+import com.knighten.ai.search.interfaces.ISearchEngine;
+import com.knighten.ai.search.navigation.NavigationEnvironment;
+
+import java.util.List;
+
+/**
+ * Runs a search engine over many start and goal queries on one grid map and reports the latency distribution. Only
+ * the search itself is timed, building the start and goal nodes is not. The map is validated once and shared by every
+ * query.
+ */
+public class ScenarioRunner {
+
+    private final ISearchEngine engine;
+    private int warmupQueries = 0;
+
+    /**
+     * Creates a ScenarioRunner.
+     *
+     * @param engine the engine that answers every query
+     */
+    public ScenarioRunner(ISearchEngine engine) {
+
+        if (engine == null)
+            throw new IllegalArgumentException("The Search Engine Cannot Be Null");
+
+        this.engine = engine;
+    }
+
+    /**
+     * Gets the number of queries run before timing starts.
+     *
+     * @return the number of warm up queries
+     */
+    public int getWarmupQueries() {
+        return this.warmupQueries;
+    }
+
+    /**
+     * Sets the number of queries run before timing starts, so the JIT compiler has compiled the search before it is
+     * measured. Warm up queries are taken from the start of the scenario list and are also run again when timed.
+     * Defaults to 0.
+     *
+     * @param warmupQueries the number of warm up queries
+     */
+    public void setWarmupQueries(int warmupQueries) {
+
+        if (warmupQueries < 0)
+            throw new IllegalArgumentException("The Number Of Warm Up Queries Cannot Be Negative");
+
+        this.warmupQueries = warmupQueries;
+    }
+
+    /**
+     * Runs every scenario on the map.
+     *
+     * @param map       the map being navigated, 0 for obstacles and positive values for movement costs
+     * @param scenarios the queries to answer
+     * @return the latencies and node counts of the timed queries
+     */
+    public ScenarioReport run(int[][] map, List<GridScenario> scenarios) {
+
+        if (map == null || scenarios == null)
+            throw new IllegalArgumentException("The Map And Scenarios Cannot Be Null");
+
+        NavigationEnvironment environment = new NavigationEnvironment(map);
+
+        for (int i = 0; i < Math.min(this.warmupQueries, scenarios.size()); i++)
+            this.runQuery(environment, scenarios.get(i));
+
+        long[] latencies = new long[scenarios.size()];
+        int solved = 0;
+        long nodesExpanded = 0;
+
+        for (int i = 0; i < scenarios.size(); i++) {
+            GridScenario scenario = scenarios.get(i);
+            AbstractAStarNode initialState = scenario.createInitialState(environment);
+            AbstractAStarNode goalState = scenario.createGoalState(environment);
+
+            long start = System.nanoTime();
+            SearchResult result = this.engine.search(initialState, goalState);
+            latencies[i] = System.nanoTime() - start;
+
+            if (result.isSolved())
+                solved++;
+            nodesExpanded += result.getNodesExpanded();
+        }
+
+        return new ScenarioReport(this.engine.getName(), latencies, solved, nodesExpanded);
+    }
+
+    private void runQuery(NavigationEnvironment environment, GridScenario scenario) {
+        this.engine.search(scenario.createInitialState(environment), scenario.createGoalState(environment));
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.knighten.ai.search.corpus;
+
+import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IDAStarSearch;
+import com.knighten.ai.search.SearchLimits;
+import com.knighten.ai.search.SearchResult;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.ISearchEngine;
+
+import java.util.function.Function;
+
+/**
+ * Creates ISearchEngines for the search algorithms that report a SearchResult. Every engine is created with statistics
+ * enabled so CorpusRunner can report the peak open list and closed set sizes.
+ */
+public final class SearchEngines {
+
+    private SearchEngines() {
+    }
+
+    /**
+     * Creates an engine that runs A* search.
+     *
+     * @param name             the name the engine is reported under
+     * @param heuristicFactory creates the heuristic function for a goal state
+     * @param searchLimits     the limits applied to every search
+     * @return an A* engine
+     */
+    public static ISearchEngine aStar(String name, Function<AbstractAStarNode, IHeuristicFunction> heuristicFactory,
+                                      SearchLimits searchLimits) {
+        checkArguments(name, heuristicFactory, searchLimits);
+
+        return new ISearchEngine() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public SearchResult search(AbstractAStarNode initialState, AbstractAStarNode goalState) {
+                AStarSearch search = new AStarSearch(initialState, goalState, heuristicFactory.apply(goalState));
+                search.setSearchLimits(searchLimits);
+                search.setStatisticsEnabled(true);
+                search.search();
+                return search.getSearchResult();
+            }
+        };
+    }
+
+    /**
+     * Creates an engine that runs IDA* search on the calling thread.
+     *
+     * @param name             the name the engine is reported under
+     * @param heuristicFactory creates the heuristic function for a goal state
+     * @param searchLimits     the limits applied to every search
+     * @return an IDA* engine
+     */
+    public static ISearchEngine idaStar(String name, Function<AbstractAStarNode, IHeuristicFunction> heuristicFactory,
+                                        SearchLimits searchLimits) {
+        checkArguments(name, heuristicFactory, searchLimits);
+
+        return new ISearchEngine() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public SearchResult search(AbstractAStarNode initialState, AbstractAStarNode goalState) {
+                IDAStarSearch search = new IDAStarSearch(initialState, goalState, heuristicFactory.apply(goalState));
+                search.setSearchLimits(searchLimits);
+                search.setStatisticsEnabled(true);
+                search.search();
+                return search.getSearchResult();
+            }
+        };
+    }
+
+    private static void checkArguments(String name, Function<AbstractAStarNode, IHeuristicFunction> heuristicFactory,
+                                       SearchLimits searchLimits) {
+
+        if (name == null)
+            throw new IllegalArgumentException("The Engine Name Cannot Be Null");
+
+        if (heuristicFactory == null)
+            throw new IllegalArgumentException("The Heuristic Factory Cannot Be Null");
+
+        if (searchLimits == null)
+            throw new IllegalArgumentException("The Search Limits Cannot Be Null");
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.knighten.ai.search.external;
+
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Merges several RecordRuns into a single sequence sorted by packed state. Every run is read sequentially. When a state
+ * is in more than one run only its record with the lowest g() is returned.
+ */
+public class MergedRuns {
+
+    private final PriorityQueue<RunCursor> cursors;
+    private final StateRecord current;
+
+    /**
+     * Creates a MergedRuns placed before the first record of the merge.
+     *
+     * @param runs the runs being merged
+     */
+    public MergedRuns(List<RecordRun> runs) {
+        this.cursors = new PriorityQueue<>(Math.max(1, runs.size()),
+                (cursor1, cursor2) -> Long.compare(cursor1.current().getState(), cursor2.current().getState()));
+        this.current = new StateRecord();
+
+        for (RecordRun run : runs) {
+            RunCursor cursor = run.cursor();
+            if (cursor.advance())
+                this.cursors.add(cursor);
+        }
+    }
+
+    /**
+     * Moves to the next state of the merge.
+     *
+     * @return true if there was a next state, false once every run has been read
+     */
+    public boolean advance() {
+
+        if (this.cursors.isEmpty())
+            return false;
+
+        this.current.copy(this.cursors.peek().current());
+
+        // Pull Every Copy Of The State Off The Front Of The Runs
+        while (!this.cursors.isEmpty() && this.cursors.peek().current().getState() == this.current.getState()) {
+            RunCursor cursor = this.cursors.poll();
+            if (cursor.current().getG() < this.current.getG())
+                this.current.copy(cursor.current());
+
+            if (cursor.advance())
+                this.cursors.add(cursor);
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the record of the state the merge is on. The same object is reused for every state.
+     *
+     * @return the current record
+     */
+    public StateRecord current() {
+        return this.current;
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.knighten.ai.search.external;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Collects StateRecords in primitive arrays until they are sorted and written out as a RecordRun. When a state is
+ * added more than once only the record with the lowest g() is written.
+ */
+public class RecordBuffer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] states;
+    private double[] gValues;
+    private long[] parents;
+    private int size;
+
+    /**
+     * Creates an empty RecordBuffer.
+     */
+    public RecordBuffer() {
+        this.states = new long[DEFAULT_CAPACITY];
+        this.gValues = new double[DEFAULT_CAPACITY];
+        this.parents = new long[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Adds a record to the buffer.
+     *
+     * @param state  the packed state
+     * @param g      the cost of the path to the state
+     * @param parent the packed state of the state's parent
+     */
+    public void add(long state, double g, long parent) {
+
+        if (this.size == this.states.length) {
+            int newCapacity = this.states.length * 2;
+            this.states = Arrays.copyOf(this.states, newCapacity);
+            this.gValues = Arrays.copyOf(this.gValues, newCapacity);
+            this.parents = Arrays.copyOf(this.parents, newCapacity);
+        }
+
+        this.states[this.size] = state;
+        this.gValues[this.size] = g;
+        this.parents[this.size] = parent;
+        this.size++;
+    }
+
+    /**
+     * Gets the number of records in the buffer, counting every copy of a state.
+     *
+     * @return the number of buffered records
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Determines if the buffer holds no records.
+     *
+     * @return true if the buffer is empty, otherwise false
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Sorts the buffered records by packed state, writes one record per state to a new run, and empties the buffer.
+     *
+     * @param file          the file the run is written to
+     * @param windowRecords the number of records mapped at once while writing
+     * @return the run holding the buffered records
+     */
+    public RecordRun spill(Path file, int windowRecords) {
+        this.sort(0, this.size - 1);
+
+        RunWriter writer = new RunWriter(file, this.size, windowRecords);
+        int index = 0;
+        while (index < this.size) {
+
+            // Copies Of A State Are Next To Each Other - Keep The Cheapest
+            int best = index;
+            for (index++; index < this.size && this.states[index] == this.states[best]; index++)
+                if (this.gValues[index] < this.gValues[best])
+                    best = index;
+
+            writer.write(this.states[best], this.gValues[best], this.parents[best]);
+        }
+
+        this.size = 0;
+        return writer.finish();
+    }
+
+    /**
+     * Sorts the records between two indices, inclusive, by packed state. A quicksort that recurses into the smaller
+     * side so the stack stays shallow.
+     *
+     * @param low  the first index to sort
+     * @param high the last index to sort
+     */
+    private void sort(int low, int high) {
+        while (low < high) {
+            long pivot = this.states[(low + high) >>> 1];
+            int left = low;
+            int right = high;
+
+            while (left <= right) {
+                while (this.states[left] < pivot)
+                    left++;
+                while (this.states[right] > pivot)
+                    right--;
+                if (left <= right)
+                    this.swap(left++, right--);
+            }
+
+            if (right - low < high - left) {
+                this.sort(low, right);
+                low = left;
+            } else {
+                this.sort(left, high);
+                high = right;
+            }
+        }
+    }
+
+    private void swap(int first, int second) {
+        long state = this.states[first];
+        this.states[first] = this.states[second];
+        this.states[second] = state;
+
+        double g = this.gValues[first];
+        this.gValues[first] = this.gValues[second];
+        this.gValues[second] = g;
+
+        long parent = this.parents[first];
+        this.parents[first] = this.parents[second];
+        this.parents[second] = parent;
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.knighten.ai.search.external;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file of StateRecords sorted by packed state with no state stored twice. Runs are written once by a RunWriter and
+ * then only read. The file is read through memory mapped windows of a fixed number of records, so a run can be larger
+ * than both the heap and the 2GB limit of a single mapping.
+ */
+public class RecordRun {
+
+    /**
+     * The number of bytes each record takes up in a file: the packed state, g(), and the packed parent state.
+     */
+    public static final int RECORD_BYTES = 3 * Long.BYTES;
+
+    private final Path file;
+    private final long size;
+    private final int windowRecords;
+
+    /**
+     * The window most recently mapped by find(), kept since lookups tend to fall into the same window.
+     */
+    private MappedByteBuffer lookupWindow;
+    private long lookupWindowStart = -1;
+
+    RecordRun(Path file, long size, int windowRecords) {
+        this.file = file;
+        this.size = size;
+        this.windowRecords = windowRecords;
+    }
+
+    /**
+     * Gets the file the run is stored in.
+     *
+     * @return the file of the run
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * Gets the number of records in the run.
+     *
+     * @return the number of records
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Creates a cursor that reads the records of the run in order.
+     *
+     * @return a cursor placed before the first record
+     */
+    public RunCursor cursor() {
+        return new RunCursor(this);
+    }
+
+    /**
+     * Finds the record of a packed state using a binary search over the run.
+     *
+     * @param state  the packed state being looked up
+     * @param record receives the record if it is found
+     * @return true if the state is in the run, otherwise false
+     */
+    public boolean find(long state, StateRecord record) {
+        long low = 0;
+        long high = this.size - 1;
+
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            this.readLookup(middle, record);
+
+            if (record.getState() < state)
+                low = middle + 1;
+            else if (record.getState() > state)
+                high = middle - 1;
+            else
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Deletes the file of the run.
+     */
+    public void delete() {
+        this.lookupWindow = null;
+        try {
+            Files.deleteIfExists(this.file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the window of records starting at the supplied record index.
+     *
+     * @param firstRecord the index of the first record in the window, a multiple of the window size
+     * @return the mapped window
+     */
+    MappedByteBuffer mapWindow(long firstRecord) {
+        long records = Math.min(this.windowRecords, this.size - firstRecord);
+
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, firstRecord * RECORD_BYTES, records * RECORD_BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int getWindowRecords() {
+        return this.windowRecords;
+    }
+
+    private void readLookup(long index, StateRecord record) {
+        long windowStart = index - index % this.windowRecords;
+        if (windowStart != this.lookupWindowStart) {
+            this.lookupWindow = this.mapWindow(windowStart);
+            this.lookupWindowStart = windowStart;
+        }
+
+        readRecord(this.lookupWindow, (int) (index - windowStart), record);
+    }
+
+    static void readRecord(MappedByteBuffer window, int offset, StateRecord record) {
+        int position = offset * RECORD_BYTES;
+        record.set(window.getLong(position),
+                Double.longBitsToDouble(window.getLong(position + Long.BYTES)),
+                window.getLong(position + 2 * Long.BYTES));
+    }
+
+}
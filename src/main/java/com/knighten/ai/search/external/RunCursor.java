@@ -0,0 +1,54 @@
+package com.knighten.ai.search.external;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * Reads the records of a RecordRun in order, one memory mapped window at a time. Only sequential reads are made.
+ */
+public class RunCursor {
+
+    private final RecordRun run;
+    private final StateRecord current;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long index;
+
+    RunCursor(RecordRun run) {
+        this.run = run;
+        this.current = new StateRecord();
+        this.index = -1;
+    }
+
+    /**
+     * Moves the cursor to the next record.
+     *
+     * @return true if there was a next record, false once every record has been read
+     */
+    public boolean advance() {
+
+        if (this.index + 1 >= this.run.size()) {
+            this.index = this.run.size();
+            this.window = null;
+            return false;
+        }
+
+        this.index++;
+        if (this.window == null || this.index - this.windowStart >= this.run.getWindowRecords()) {
+            this.windowStart = this.index;
+            this.window = this.run.mapWindow(this.windowStart);
+        }
+
+        RecordRun.readRecord(this.window, (int) (this.index - this.windowStart), this.current);
+        return true;
+    }
+
+    /**
+     * Gets the record the cursor is on. The same object is reused for every record.
+     *
+     * @return the current record
+     */
+    public StateRecord current() {
+        return this.current;
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.knighten.ai.search.external;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a RecordRun through memory mapped windows. Records must be written in increasing order of packed state. The
+ * number of records the run will hold at most has to be known up front, it decides how much of the file is mapped.
+ */
+public class RunWriter {
+
+    private final Path file;
+    private final long capacity;
+    private final int windowRecords;
+    private final FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long size;
+    private long lastState;
+
+    /**
+     * Creates a RunWriter that writes to a new file.
+     *
+     * @param file          the file being written, it is replaced if it exists
+     * @param capacity      the largest number of records that will be written
+     * @param windowRecords the number of records mapped at once
+     */
+    public RunWriter(Path file, long capacity, int windowRecords) {
+
+        if (capacity < 0)
+            throw new IllegalArgumentException("The Capacity Cannot Be Negative");
+
+        if (windowRecords < 1)
+            throw new IllegalArgumentException("The Window Must Hold At Least 1 Record");
+
+        this.file = file;
+        this.capacity = capacity;
+        this.windowRecords = windowRecords;
+        this.size = 0;
+
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a record to the run.
+     *
+     * @param state  the packed state, larger than the state of the previous record
+     * @param g      the cost of the path to the state
+     * @param parent the packed state of the state's parent
+     */
+    public void write(long state, double g, long parent) {
+
+        if (this.size == this.capacity)
+            throw new IllegalStateException("The Run Is Already At Capacity");
+
+        if (this.size > 0 && state <= this.lastState)
+            throw new IllegalStateException("Records Must Be Written In Increasing Order Of Packed State");
+
+        if (this.window == null || this.size - this.windowStart >= this.windowRecords)
+            this.mapNextWindow();
+
+        this.window.putLong(state);
+        this.window.putLong(Double.doubleToRawLongBits(g));
+        this.window.putLong(parent);
+        this.lastState = state;
+        this.size++;
+    }
+
+    /**
+     * Appends a record to the run.
+     *
+     * @param record the record, its state must be larger than the state of the previous record
+     */
+    public void write(StateRecord record) {
+        this.write(record.getState(), record.getG(), record.getParent());
+    }
+
+    /**
+     * Closes the file and returns the finished run.
+     *
+     * @return the run that was written
+     */
+    public RecordRun finish() {
+        this.window = null;
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new RecordRun(this.file, this.size, this.windowRecords);
+    }
+
+    private void mapNextWindow() {
+        this.windowStart = this.size;
+        long records = Math.min(this.windowRecords, this.capacity - this.size);
+
+        try {
+            this.window = this.channel.map(FileChannel.MapMode.READ_WRITE, this.windowStart * RecordRun.RECORD_BYTES,
+                    records * RecordRun.RECORD_BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.knighten.ai.search.external;
+
+/**
+ * A single state stored outside the heap: its packed state, its g(), and the packed state of its parent. The root of
+ * the search is stored as its own parent.
+ */
+public class StateRecord {
+
+    private long state;
+    private double g;
+    private long parent;
+
+    /**
+     * Creates an empty record.
+     */
+    public StateRecord() {
+    }
+
+    /**
+     * Creates a record.
+     *
+     * @param state  the packed state
+     * @param g      the cost of the path to the state
+     * @param parent the packed state of the state's parent, the state itself for the root
+     */
+    public StateRecord(long state, double g, long parent) {
+        this.set(state, g, parent);
+    }
+
+    /**
+     * Gets the packed state.
+     *
+     * @return the packed state
+     */
+    public long getState() {
+        return this.state;
+    }
+
+    /**
+     * Gets the cost of the path to the state.
+     *
+     * @return the g() of the state
+     */
+    public double getG() {
+        return this.g;
+    }
+
+    /**
+     * Gets the packed state of the state's parent.
+     *
+     * @return the packed parent state, the state itself for the root
+     */
+    public long getParent() {
+        return this.parent;
+    }
+
+    /**
+     * Determines if the record is the root of the search.
+     *
+     * @return true if the record is its own parent, otherwise false
+     */
+    public boolean isRoot() {
+        return this.parent == this.state;
+    }
+
+    void set(long state, double g, long parent) {
+        this.state = state;
+        this.g = g;
+        this.parent = parent;
+    }
+
+    void copy(StateRecord other) {
+        this.set(other.state, other.g, other.parent);
+    }
+
+}
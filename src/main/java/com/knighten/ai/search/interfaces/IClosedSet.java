@@ -0,0 +1,47 @@
+package com.knighten.ai.search.interfaces;
+
+import com.knighten.ai.search.AbstractAStarNode;
+
+/**
+ * Represents the closed set used by AStarSearch. The closed set records the states whose successors have already been
+ * generated. Nodes are considered to have the same state when they are equal to each other.
+ */
+public interface IClosedSet {
+
+    /**
+     * Adds the state of a node to the closed set.
+     *
+     * @param node the node whose state is being closed
+     * @return true if the state was not already closed, otherwise false
+     */
+    public boolean add(AbstractAStarNode node);
+
+    /**
+     * Determines if the state of a node is in the closed set.
+     *
+     * @param node a node with the state being looked up
+     * @return true if the state is closed, otherwise false
+     */
+    public boolean contains(AbstractAStarNode node);
+
+    /**
+     * Removes the state of a node from the closed set. Used when a closed state has to be reopened.
+     *
+     * @param node the node whose state is being reopened
+     * @return true if the state was closed, otherwise false
+     */
+    public boolean remove(AbstractAStarNode node);
+
+    /**
+     * Returns the number of states in the closed set.
+     *
+     * @return the number of closed states
+     */
+    public int size();
+
+    /**
+     * Removes every state from the closed set.
+     */
+    public void clear();
+
+}
@@ -0,0 +1,25 @@
+package com.knighten.ai.search.interfaces;
+
+import com.knighten.ai.search.AbstractAStarNode;
+
+/**
+ * Represents a heuristic function that can score a child from its parent's score. A single move usually changes only a
+ * small part of a state, so the child's score can be found from the parent's score and that change instead of
+ * recomputing it from scratch. AStarSearch, IDAStarSearch, IntAStarSearch, and IntIDAStarSearch use this for every node
+ * that has a parent. Remember that this function MUST be admissible.
+ */
+public interface IIncrementalHeuristicFunction extends IHeuristicFunction {
+
+    /**
+     * Calculates the heuristic score for a search node from the score of its parent. Must equal
+     * calculateHeuristic(searchNode).
+     *
+     * @param searchNode      the node being compared to the goal
+     * @param parentNode      the parent of searchNode
+     * @param parentHeuristic the heuristic score of parentNode, as calculated by this function
+     * @return the heuristic score for the search node
+     */
+    public double calculateIncrementalHeuristic(AbstractAStarNode searchNode, AbstractAStarNode parentNode,
+                                                double parentHeuristic);
+
+}
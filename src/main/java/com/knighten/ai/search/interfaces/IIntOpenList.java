@@ -0,0 +1,65 @@
+package com.knighten.ai.search.interfaces;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.openlist.IntOpenEntry;
+
+/**
+ * Represents the open list used by IntAStarSearch. Works like IOpenList except that g(), h(), and f() are ints that are
+ * stored in the open list's entries instead of being read from the nodes. An open list holds at most one entry per
+ * state.
+ */
+public interface IIntOpenList {
+
+    /**
+     * Adds a node to the open list with f() = g + h. If a node with the same state is already queued then the queued
+     * entry is only updated when the new f() is strictly smaller, otherwise the new node is discarded.
+     *
+     * @param node the node being added to the open list
+     * @param g    the node's path cost g()
+     * @param h    the node's heuristic score h()
+     * @return true if the node was added or replaced the queued node, false if the node was discarded
+     */
+    public boolean offer(AbstractAStarNode node, int g, int h);
+
+    /**
+     * Removes and returns the entry with the smallest f(). Returns null if the open list is empty.
+     *
+     * @return the entry with the smallest f(), or null if the open list is empty
+     */
+    public IntOpenEntry poll();
+
+    /**
+     * Returns the entry with the smallest f() without removing it. Returns null if the open list is empty.
+     *
+     * @return the entry with the smallest f(), or null if the open list is empty
+     */
+    public IntOpenEntry peek();
+
+    /**
+     * Returns the queued entry for the state of the supplied node.
+     *
+     * @param node a node with the state being looked up
+     * @return the queued entry for the state, or null if the state is not queued
+     */
+    public IntOpenEntry get(AbstractAStarNode node);
+
+    /**
+     * Returns the number of entries in the open list.
+     *
+     * @return the number of entries in the open list
+     */
+    public int size();
+
+    /**
+     * Determines if the open list is empty.
+     *
+     * @return true if the open list is empty, otherwise false
+     */
+    public boolean isEmpty();
+
+    /**
+     * Removes every entry from the open list.
+     */
+    public void clear();
+
+}
@@ -0,0 +1,16 @@
+package com.knighten.ai.search.interfaces;
+
+/**
+ * Optional interface for search nodes whose edge costs are always integers. IntAStarSearch and IntIDAStarSearch require
+ * their nodes to implement this interface so that g(), h(), and f() can be kept as ints.
+ */
+public interface IIntegerCostNode {
+
+    /**
+     * Returns the distance from the node to its parent as an int. Must equal distFromParent().
+     *
+     * @return returns distance to node's parent
+     */
+    public int intDistFromParent();
+
+}
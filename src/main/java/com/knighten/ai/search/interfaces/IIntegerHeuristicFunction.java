@@ -0,0 +1,19 @@
+package com.knighten.ai.search.interfaces;
+
+import com.knighten.ai.search.AbstractAStarNode;
+
+/**
+ * Represents a heuristic function whose scores are always integers. Used by IntAStarSearch and IntIDAStarSearch.
+ * Remember that this function MUST be admissible.
+ */
+public interface IIntegerHeuristicFunction extends IHeuristicFunction {
+
+    /**
+     * Calculates the heuristic score for the current search node as an int. Must equal calculateHeuristic().
+     *
+     * @param searchNode the node being compared to the goal
+     * @return the heuristic score for the search node
+     */
+    public int calculateIntHeuristic(AbstractAStarNode searchNode);
+
+}
@@ -0,0 +1,70 @@
+package com.knighten.ai.search.interfaces;
+
+import com.knighten.ai.search.AbstractAStarNode;
+
+/**
+ * Represents the open list used by AStarSearch. The open list holds the nodes that have been generated but not yet
+ * expanded, and always hands back the node with the smallest f() first. An open list holds at most one node per
+ * state; nodes are considered to have the same state when they are equal to each other.
+ */
+public interface IOpenList {
+
+    /**
+     * Adds a node to the open list. If a node with the same state is already in the open list then the queued node is
+     * only replaced when the new node has a strictly smaller f(), otherwise the new node is discarded.
+     *
+     * @param node the node being added to the open list
+     * @return true if the node was added or replaced the queued node, false if the node was discarded
+     */
+    public boolean offer(AbstractAStarNode node);
+
+    /**
+     * Removes and returns the node with the smallest f(). Returns null if the open list is empty.
+     *
+     * @return the node with the smallest f(), or null if the open list is empty
+     */
+    public AbstractAStarNode poll();
+
+    /**
+     * Returns the node with the smallest f() without removing it. Returns null if the open list is empty.
+     *
+     * @return the node with the smallest f(), or null if the open list is empty
+     */
+    public AbstractAStarNode peek();
+
+    /**
+     * Returns the queued node that has the same state as the supplied node.
+     *
+     * @param node a node with the state being looked up
+     * @return the queued node with the same state, or null if no such node is queued
+     */
+    public AbstractAStarNode get(AbstractAStarNode node);
+
+    /**
+     * Determines if a node with the same state as the supplied node is in the open list.
+     *
+     * @param node a node with the state being looked up
+     * @return true if a node with the same state is queued, otherwise false
+     */
+    public boolean contains(AbstractAStarNode node);
+
+    /**
+     * Returns the number of nodes in the open list.
+     *
+     * @return the number of nodes in the open list
+     */
+    public int size();
+
+    /**
+     * Determines if the open list is empty.
+     *
+     * @return true if the open list is empty, otherwise false
+     */
+    public boolean isEmpty();
+
+    /**
+     * Removes every node from the open list.
+     */
+    public void clear();
+
+}
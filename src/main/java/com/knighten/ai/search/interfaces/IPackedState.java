@@ -0,0 +1,26 @@
+package com.knighten.ai.search.interfaces;
+
+/**
+ * Optional interface for search nodes whose state can be encoded into a single long. Two nodes must pack to the same
+ * long if and only if they are equal. When the initial node of a search implements this interface, and its state is
+ * packable, AStarSearch stores the closed and open sets in primitive long keyed hash tables instead of hashing full
+ * node objects.
+ */
+public interface IPackedState {
+
+    /**
+     * Determines if the node's state fits into a single long. For instance a 15-puzzle board fits using 4 bits per
+     * tile, while a 24-puzzle board does not.
+     *
+     * @return true if packState() can be used, otherwise false
+     */
+    public boolean isPackable();
+
+    /**
+     * Encodes the node's state into a long. Only valid when isPackable() returns true.
+     *
+     * @return the packed representation of the node's state
+     */
+    public long packState();
+
+}
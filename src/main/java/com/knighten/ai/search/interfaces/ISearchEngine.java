@@ -0,0 +1,27 @@
+package com.knighten.ai.search.interfaces;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.SearchResult;
+
+/**
+ * Represents a configured search algorithm that can be run on any number of problems, used by CorpusRunner to compare
+ * algorithms over the same set of instances.
+ */
+public interface ISearchEngine {
+
+    /**
+     * Gets the name the engine is reported under.
+     *
+     * @return the engine name
+     */
+    public String getName();
+
+    /**
+     * Searches for a path from the initial state to the goal state.
+     *
+     * @param initialState the state where the search begins
+     * @param goalState    the state where the search ends
+     * @return the result of the search
+     */
+    public SearchResult search(AbstractAStarNode initialState, AbstractAStarNode goalState);
+}
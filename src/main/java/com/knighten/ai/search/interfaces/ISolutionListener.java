@@ -0,0 +1,21 @@
+package com.knighten.ai.search.interfaces;
+
+import com.knighten.ai.search.AbstractAStarNode;
+
+/**
+ * Receives the solutions published by an anytime search. Each solution is at least as cheap as the one before it.
+ */
+public interface ISolutionListener {
+
+    /**
+     * Called on the searching thread each time the search finds a cheaper path or proves a tighter bound. The path can
+     * be traversed by following each node's parent until the initial node is reached. The parent links and g() of the
+     * nodes on the path are never modified by the search afterwards, but the search may still rescore their f(), so
+     * read the path's cost from g().
+     *
+     * @param goalNode           the last node on the path found
+     * @param suboptimalityBound the cost of the path is at most this value times the optimal cost
+     */
+    public void onSolution(AbstractAStarNode goalNode, double suboptimalityBound);
+
+}
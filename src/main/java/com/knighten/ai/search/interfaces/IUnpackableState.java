@@ -0,0 +1,21 @@
+package com.knighten.ai.search.interfaces;
+
+import com.knighten.ai.search.AbstractAStarNode;
+
+/**
+ * Optional interface for search nodes whose packed state can be turned back into a node. Searches that keep states
+ * outside the heap, such as ExternalAStarSearch, only store the packed state and use this interface to recreate nodes
+ * when they are expanded.
+ */
+public interface IUnpackableState extends IPackedState {
+
+    /**
+     * Creates a node holding the state that was packed into the supplied long. The new node shares everything that is
+     * not part of the state, such as the environment being navigated, with this node. Its parent is null.
+     *
+     * @param packedState a value returned by packState() of a node of the same problem
+     * @return a node holding the packed state
+     */
+    public AbstractAStarNode unpackState(long packedState);
+
+}
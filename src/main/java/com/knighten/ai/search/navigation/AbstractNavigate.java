@@ -1,6 +1,8 @@
 package com.knighten.ai.search.navigation;
 
 import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IIntegerCostNode;
+import com.knighten.ai.search.interfaces.IUnpackableState;
 
 import java.util.Arrays;
 
@@ -8,12 +10,13 @@ import java.util.Arrays;
  * Represents the generic navigation state space search problem. Given an environment to be navigated, find the optimal
  * path from the start point to the end point.
  */
-public abstract class AbstractNavigate extends AbstractAStarNode<int[]> {
+public abstract class AbstractNavigate extends AbstractAStarNode<int[]> implements IUnpackableState,
+        IIntegerCostNode {
 
     /**
-     * The environment being navigated. It is assumed the environment is not a jagged array.
+     * The environment being navigated, shared by every node of a search.
      */
-    private int[][] environment;
+    private final NavigationEnvironment environment;
 
     /**
      * Number of rows in the environment.
@@ -26,40 +29,60 @@ public abstract class AbstractNavigate extends AbstractAStarNode<int[]> {
     private int numberOfCols;
 
     /**
-     * Sets the state of the node and is responsible for setting the environment, currentRow, and currentCol. Also uses
-     * environment to set numberOfRows and numberOfCols.
+     * Sets the state of the node and is responsible for setting the environment, currentRow, and currentCol. The
+     * environment is copied and validated, prefer the NavigationEnvironment constructor when creating many nodes.
      *
      * @param environment the area being navigated
      * @param currentRow  the current row position
      * @param currentCol  the current column position
      */
     public AbstractNavigate(int[][] environment, int currentRow, int currentCol) {
+        this(new NavigationEnvironment(environment), currentRow, currentCol);
+    }
 
+    /**
+     * Sets the state of the node and is responsible for setting the environment, currentRow, and currentCol. The
+     * environment was validated when it was created, so this only checks that the position is in bounds.
+     *
+     * @param environment the area being navigated
+     * @param currentRow  the current row position
+     * @param currentCol  the current column position
+     */
+    public AbstractNavigate(NavigationEnvironment environment, int currentRow, int currentCol) {
 
         if(environment == null)
             throw new IllegalArgumentException("The Environment Being Traversed Cannot Be Null");
 
-        if (currentRow < 0 || currentRow >= environment.length)
+        if (currentRow < 0 || currentRow >= environment.getNumberOfRows())
             throw new IllegalArgumentException("The Row Position Is Not Contained In The Environment, It Must Be" +
                     "Between 0 and Number Of Rows - 1");
 
-        if (currentCol < 0 || currentCol >= environment[0].length)
+        if (currentCol < 0 || currentCol >= environment.getNumberOfCols())
             throw new IllegalArgumentException("The Column Position Is Not Contained In The Environment, It Must Be" +
                     "Between 0 and Number Of Columns - 1");
 
         this.environment = environment;
         this.setState(new int[]{currentRow, currentCol});
 
-        this.numberOfRows = environment.length;
-        this.numberOfCols = environment[0].length;
+        this.numberOfRows = environment.getNumberOfRows();
+        this.numberOfCols = environment.getNumberOfCols();
     }
 
     /**
-     * Gets the environment thats being navigated by the search algorithm.
+     * Gets a copy of the environment thats being navigated by the search algorithm.
      *
-     * @return the environment being navigated
+     * @return a copy of the environment being navigated
      */
     public int[][] getEnvironment() {
+        return this.environment.toArray();
+    }
+
+    /**
+     * Gets the environment thats being navigated by the search algorithm, which is shared by every node of a search.
+     *
+     * @return the environment being navigated
+     */
+    public NavigationEnvironment getNavigationEnvironment() {
         return this.environment;
     }
 
@@ -81,6 +104,57 @@ public abstract class AbstractNavigate extends AbstractAStarNode<int[]> {
         return this.numberOfCols;
     }
 
+    /**
+     * Environment values are integers, so the distance from a node's parent is the same as intDistFromParent().
+     *
+     * @return returns distance to node's parent
+     */
+    @Override
+    public double distFromParent() {
+        return this.intDistFromParent();
+    }
+
+    /**
+     * A position in the environment always fits into a long.
+     *
+     * @return always true
+     */
+    @Override
+    public boolean isPackable() {
+        return true;
+    }
+
+    /**
+     * Packs the current position into a long. The row is stored in the upper 32 bits and the column in the lower 32
+     * bits.
+     *
+     * @return the packed current position
+     */
+    @Override
+    public long packState() {
+        return ((long) this.getState()[0] << 32) | (this.getState()[1] & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets the row stored in a position that was packed by packState().
+     *
+     * @param packedState the packed position
+     * @return the row of the position
+     */
+    protected static int unpackRow(long packedState) {
+        return (int) (packedState >>> 32);
+    }
+
+    /**
+     * Gets the column stored in a position that was packed by packState().
+     *
+     * @param packedState the packed position
+     * @return the column of the position
+     */
+    protected static int unpackCol(long packedState) {
+        return (int) packedState;
+    }
+
     /**
      * Generates a hash code based on the current position in the environment.
      *
@@ -115,6 +189,7 @@ public abstract class AbstractNavigate extends AbstractAStarNode<int[]> {
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
+        int[][] environment = this.getEnvironment();
 
         for (int row = 0; row < this.getNumberOfRows(); row++) {
             for (int column = 0; column < this.getNumberOfCols(); column++) {
@@ -122,7 +197,7 @@ public abstract class AbstractNavigate extends AbstractAStarNode<int[]> {
                 if (row == this.getState()[0] && column == this.getState()[1])
                     builder.append("* ");
                 else
-                    builder.append(Integer.toString(this.getEnvironment()[row][column]) + ' ');
+                    builder.append(Integer.toString(environment[row][column]) + ' ');
 
             }
 
@@ -0,0 +1,69 @@
+package com.knighten.ai.search.navigation;
+
+/**
+ * The ways a NavigationEnvironment can store its grid. Every layout is a flat row major array, they differ in how many
+ * bits each space takes and so in the largest value a space can hold.
+ */
+public enum GridStorage {
+
+    /**
+     * One bit per space, for mazes that only hold 0 and 1. A 32nd of the size of INT.
+     */
+    BIT(1, 1),
+
+    /**
+     * One unsigned byte per space, for terrain costs up to 255. A quarter of the size of INT.
+     */
+    BYTE(8, 0xFF),
+
+    /**
+     * One unsigned short per space, for terrain costs up to 65535. Half the size of INT.
+     */
+    SHORT(16, 0xFFFF),
+
+    /**
+     * One int per space, for any non-negative value.
+     */
+    INT(32, Integer.MAX_VALUE);
+
+    private final int bitsPerSpace;
+    private final int maxValue;
+
+    GridStorage(int bitsPerSpace, int maxValue) {
+        this.bitsPerSpace = bitsPerSpace;
+        this.maxValue = maxValue;
+    }
+
+    /**
+     * Gets the number of bits each space takes.
+     *
+     * @return the bits per space
+     */
+    public int getBitsPerSpace() {
+        return this.bitsPerSpace;
+    }
+
+    /**
+     * Gets the largest value a space can hold.
+     *
+     * @return the largest storable value
+     */
+    public int getMaxValue() {
+        return this.maxValue;
+    }
+
+    /**
+     * Finds the most compact storage that can hold every value up to the given value.
+     *
+     * @param maxValue the largest value in the grid
+     * @return the storage with the fewest bits per space that can hold maxValue
+     */
+    public static GridStorage smallestFor(int maxValue) {
+        for (GridStorage storage : values())
+            if (maxValue <= storage.maxValue)
+                return storage;
+
+        return INT;
+    }
+
+}
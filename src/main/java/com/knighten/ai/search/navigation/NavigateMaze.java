@@ -5,7 +5,6 @@ import com.knighten.ai.search.IDAStarSearch;
 import com.knighten.ai.search.interfaces.IHeuristicFunction;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -16,21 +15,15 @@ import java.util.List;
 public class NavigateMaze extends AbstractNavigate {
 
     /**
-     * Creates a Maze object with a null parent.
+     * Creates a Maze object with a null parent. The maze is copied and validated, prefer the NavigationEnvironment
+     * constructor when creating many nodes in the same maze.
      *
      * @param maze       the maze being navigated
      * @param currentRow the row of the current position
      * @param currentCol the column of the current position
      */
     public NavigateMaze(int[][] maze, int currentRow, int currentCol) {
-        super(maze, currentRow, currentCol);
-
-        boolean valueCheck = Arrays.stream(maze)
-                .flatMapToInt(Arrays::stream)
-                .anyMatch((i) -> i != 0 && i != 1);
-
-        if(valueCheck)
-            throw new IllegalArgumentException("Values Inside A Maze Can Only Be 0 or 1");
+        this(new NavigationEnvironment(maze), currentRow, currentCol, null);
     }
 
     /**
@@ -42,10 +35,38 @@ public class NavigateMaze extends AbstractNavigate {
      * @param parentMaze the parent of the new maze
      */
     public NavigateMaze(int[][] maze, int currentRow, int currentCol, NavigateMaze parentMaze) {
-        this(maze, currentRow, currentCol);
+        this(new NavigationEnvironment(maze), currentRow, currentCol, parentMaze);
+    }
+
+    /**
+     * Creates a Maze object with parent in an environment that has already been validated. Only the position is
+     * checked, so creating a successor does not depend on the size of the maze.
+     *
+     * @param maze       the maze being navigated
+     * @param currentRow the row of the current position
+     * @param currentCol the column of the current position
+     * @param parentMaze the parent of the new maze
+     */
+    public NavigateMaze(NavigationEnvironment maze, int currentRow, int currentCol, NavigateMaze parentMaze) {
+        super(maze, currentRow, currentCol);
+
+        if (!maze.isBinary())
+            throw new IllegalArgumentException("Values Inside A Maze Can Only Be 0 or 1");
+
         this.setParent(parentMaze);
     }
 
+    /**
+     * Creates a NavigateMaze at the position that was packed into the supplied long, in the same maze as this node.
+     *
+     * @param packedState a position packed by packState()
+     * @return a NavigateMaze at the packed position with no parent
+     */
+    @Override
+    public AbstractAStarNode unpackState(long packedState) {
+        return new NavigateMaze(this.getNavigationEnvironment(), unpackRow(packedState), unpackCol(packedState), null);
+    }
+
     /**
      * Creates a list of maze objects that represent the next possible positions when navigating the maze. Attempts to
      * move up, down, left, and right from the current position.
@@ -55,22 +76,25 @@ public class NavigateMaze extends AbstractNavigate {
     @Override
     public List<AbstractAStarNode> getSuccessors() {
         List<AbstractAStarNode> possibleMoves = new ArrayList<>();
+        NavigationEnvironment environment = this.getNavigationEnvironment();
+        int row = this.getState()[0];
+        int col = this.getState()[1];
 
         // Move Up
-        if (this.getState()[0] - 1 >= 0 && this.getEnvironment()[this.getState()[0] - 1][this.getState()[1]] != 0)
-            possibleMoves.add(new NavigateMaze(this.getEnvironment(), this.getState()[0] - 1, this.getState()[1], this));
+        if (environment.isPassable(row - 1, col))
+            possibleMoves.add(new NavigateMaze(environment, row - 1, col, this));
 
         // Move Down
-        if (this.getState()[0] + 1 < super.getNumberOfRows() && this.getEnvironment()[this.getState()[0] + 1][this.getState()[1]] != 0)
-            possibleMoves.add(new NavigateMaze(this.getEnvironment(), this.getState()[0] + 1, this.getState()[1], this));
+        if (environment.isPassable(row + 1, col))
+            possibleMoves.add(new NavigateMaze(environment, row + 1, col, this));
 
         // Move Left
-        if (this.getState()[1] - 1 >= 0 && this.getEnvironment()[this.getState()[0]][this.getState()[1] - 1] != 0)
-            possibleMoves.add(new NavigateMaze(this.getEnvironment(), this.getState()[0], this.getState()[1] - 1, this));
+        if (environment.isPassable(row, col - 1))
+            possibleMoves.add(new NavigateMaze(environment, row, col - 1, this));
 
         //Move Right
-        if (this.getState()[1] + 1 < super.getNumberOfCols() && this.getEnvironment()[this.getState()[0]][this.getState()[1] + 1] != 0)
-            possibleMoves.add(new NavigateMaze(this.getEnvironment(), this.getState()[0], this.getState()[1] + 1, this));
+        if (environment.isPassable(row, col + 1))
+            possibleMoves.add(new NavigateMaze(environment, row, col + 1, this));
 
         return possibleMoves;
     }
@@ -82,7 +106,7 @@ public class NavigateMaze extends AbstractNavigate {
      * @return the distance from the previous position/maze
      */
     @Override
-    public double distFromParent() {
+    public int intDistFromParent() {
         return 1;
     }
 
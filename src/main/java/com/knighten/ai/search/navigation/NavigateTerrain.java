@@ -5,7 +5,6 @@ import com.knighten.ai.search.AbstractAStarNode;
 import com.knighten.ai.search.interfaces.IHeuristicFunction;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -19,21 +18,15 @@ import java.util.List;
 public class NavigateTerrain extends AbstractNavigate {
 
     /**
-     * Creates a NavigateTerrain object with a null parent.
+     * Creates a NavigateTerrain object with a null parent. The terrain is copied and validated, prefer the
+     * NavigationEnvironment constructor when creating many nodes in the same terrain.
      *
      * @param terrain    the terrain being navigated
      * @param currentRow the row of the current position
      * @param currentCol the column of the current position
      */
     public NavigateTerrain(int[][] terrain, int currentRow, int currentCol) {
-        super(terrain, currentRow, currentCol);
-
-        boolean valueCheck = Arrays.stream(terrain)
-                .flatMapToInt(Arrays::stream)
-                .anyMatch((i) -> i < 0);
-
-        if(valueCheck)
-            throw new IllegalArgumentException("Values Inside A Terrain Must Be 0 Or Greater");
+        this(new NavigationEnvironment(terrain), currentRow, currentCol, null);
     }
 
     /**
@@ -45,10 +38,34 @@ public class NavigateTerrain extends AbstractNavigate {
      * @param parentMaze the parent of the new maze
      */
     public NavigateTerrain(int[][] terrain, int currentRow, int currentCol, NavigateTerrain parentMaze) {
+        this(new NavigationEnvironment(terrain), currentRow, currentCol, parentMaze);
+    }
+
+    /**
+     * Creates a NavigateTerrain object with parent in an environment that has already been validated. Only the
+     * position is checked, so creating a successor does not depend on the size of the terrain.
+     *
+     * @param terrain    the terrain being navigated
+     * @param currentRow the row of the current position
+     * @param currentCol the column of the current position
+     * @param parentMaze the parent of the new maze
+     */
+    public NavigateTerrain(NavigationEnvironment terrain, int currentRow, int currentCol, NavigateTerrain parentMaze) {
         super(terrain, currentRow, currentCol);
         this.setParent(parentMaze);
     }
 
+    /**
+     * Creates a NavigateTerrain at the position that was packed into the supplied long, in the same terrain as this node.
+     *
+     * @param packedState a position packed by packState()
+     * @return a NavigateTerrain at the packed position with no parent
+     */
+    @Override
+    public AbstractAStarNode unpackState(long packedState) {
+        return new NavigateTerrain(this.getNavigationEnvironment(), unpackRow(packedState), unpackCol(packedState), null);
+    }
+
     /**
      * Creates a list of NavigateTerrain objects that represent the next possible positions when navigating the maze.
      * Attempts to move up, down, left, and right from the current position.
@@ -58,22 +75,25 @@ public class NavigateTerrain extends AbstractNavigate {
     @Override
     public List<AbstractAStarNode> getSuccessors() {
         List<AbstractAStarNode> possibleMoves = new ArrayList<>();
+        NavigationEnvironment environment = this.getNavigationEnvironment();
+        int row = this.getState()[0];
+        int col = this.getState()[1];
 
         // Move Up
-        if (this.getState()[0] - 1 >= 0 && this.getEnvironment()[this.getState()[0] - 1][this.getState()[1]] != 0)
-            possibleMoves.add(new NavigateTerrain(this.getEnvironment(), this.getState()[0] - 1, this.getState()[1], this));
+        if (environment.isPassable(row - 1, col))
+            possibleMoves.add(new NavigateTerrain(environment, row - 1, col, this));
 
         // Move Down
-        if (this.getState()[0] + 1 < super.getNumberOfRows() && this.getEnvironment()[this.getState()[0] + 1][this.getState()[1]] != 0)
-            possibleMoves.add(new NavigateTerrain(this.getEnvironment(), this.getState()[0] + 1, this.getState()[1], this));
+        if (environment.isPassable(row + 1, col))
+            possibleMoves.add(new NavigateTerrain(environment, row + 1, col, this));
 
         // Move Left
-        if (this.getState()[1] - 1 >= 0 && this.getEnvironment()[this.getState()[0]][this.getState()[1] - 1] != 0)
-            possibleMoves.add(new NavigateTerrain(this.getEnvironment(), this.getState()[0], this.getState()[1] - 1, this));
+        if (environment.isPassable(row, col - 1))
+            possibleMoves.add(new NavigateTerrain(environment, row, col - 1, this));
 
         //Move Right
-        if (this.getState()[1] + 1 < super.getNumberOfCols() && this.getEnvironment()[this.getState()[0]][this.getState()[1] + 1] != 0)
-            possibleMoves.add(new NavigateTerrain(this.getEnvironment(), this.getState()[0], this.getState()[1] + 1, this));
+        if (environment.isPassable(row, col + 1))
+            possibleMoves.add(new NavigateTerrain(environment, row, col + 1, this));
 
         return possibleMoves;
     }
@@ -85,8 +105,20 @@ public class NavigateTerrain extends AbstractNavigate {
      * @return the value of the environment at the current position
      */
     @Override
-    public double distFromParent() {
-        return this.getEnvironment()[this.getState()[0]][this.getState()[1]];
+    public int intDistFromParent() {
+        return this.getNavigationEnvironment().getCost(this.getState()[0], this.getState()[1]);
+    }
+
+    /**
+     * Moving into a position costs that position's value, so moving from the current position back to the parent's
+     * position costs the value of the parent's position.
+     *
+     * @return the value of the environment at the parent's position
+     */
+    @Override
+    public double distToParent() {
+        int[] parentPosition = ((NavigateTerrain) this.getParent()).getState();
+        return this.getNavigationEnvironment().getCost(parentPosition[0], parentPosition[1]);
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,231 @@
+package com.knighten.ai.search.navigation;
+
+/**
+ * An immutable grid that is navigated by AbstractNavigate nodes. A value of 0 is an obstacle and a positive value is
+ * the cost of moving into that space. The grid is copied and validated once when it is created, every node of a search
+ * then shares the same NavigationEnvironment, so creating a node only has to check that its position is in bounds.
+ *
+ * The grid is kept in a single flat row major array using one of the GridStorage layouts. By default the most compact
+ * layout that fits every value is used, a bitset for mazes and bytes for most terrains.
+ */
+public final class NavigationEnvironment {
+
+    private final GridStorage storage;
+
+    /**
+     * Only the array matching the storage is created, the others are null.
+     */
+    private final long[] bits;
+    private final byte[] bytes;
+    private final short[] shorts;
+    private final int[] ints;
+
+    private final int numberOfRows;
+    private final int numberOfCols;
+
+    /**
+     * True if every value is 0 or 1.
+     */
+    private final boolean binary;
+
+    /**
+     * Creates a NavigationEnvironment holding a copy of the supplied grid, stored in the most compact layout that can
+     * hold every value.
+     *
+     * @param environment the grid, it must be rectangular and hold no negative values
+     */
+    public NavigationEnvironment(int[][] environment) {
+        this(environment, null);
+    }
+
+    /**
+     * Creates a NavigationEnvironment holding a copy of the supplied grid in the given layout.
+     *
+     * @param environment the grid, it must be rectangular and hold no negative values
+     * @param storage     the layout of the copy, null to use the most compact layout that can hold every value
+     */
+    public NavigationEnvironment(int[][] environment, GridStorage storage) {
+
+        if (environment == null)
+            throw new IllegalArgumentException("The Environment Being Traversed Cannot Be Null");
+
+        if (environment.length == 0 || environment[0] == null || environment[0].length == 0)
+            throw new IllegalArgumentException("The Environment Must Have At Least 1 Row And 1 Column");
+
+        this.numberOfRows = environment.length;
+        this.numberOfCols = environment[0].length;
+
+        int maxValue = 0;
+        for (int[] row : environment) {
+
+            if (row == null || row.length != this.numberOfCols)
+                throw new IllegalArgumentException("Every Row Of The Environment Must Have The Same Length");
+
+            for (int cost : row) {
+
+                if (cost < 0)
+                    throw new IllegalArgumentException("Values Inside An Environment Must Be 0 Or Greater");
+
+                maxValue = Math.max(maxValue, cost);
+            }
+        }
+
+        if (storage == null)
+            storage = GridStorage.smallestFor(maxValue);
+
+        if (maxValue > storage.getMaxValue())
+            throw new IllegalArgumentException("The Environment Holds Values Larger Than The Grid Storage Can Hold");
+
+        int spaces = this.numberOfRows * this.numberOfCols;
+        this.storage = storage;
+        this.binary = maxValue <= 1;
+        this.bits = storage == GridStorage.BIT ? new long[(spaces + 63) >>> 6] : null;
+        this.bytes = storage == GridStorage.BYTE ? new byte[spaces] : null;
+        this.shorts = storage == GridStorage.SHORT ? new short[spaces] : null;
+        this.ints = storage == GridStorage.INT ? new int[spaces] : null;
+
+        for (int row = 0; row < this.numberOfRows; row++) {
+            for (int col = 0; col < this.numberOfCols; col++) {
+                int index = row * this.numberOfCols + col;
+                int cost = environment[row][col];
+
+                switch (storage) {
+                    case BIT:
+                        if (cost != 0)
+                            this.bits[index >>> 6] |= 1L << index;
+                        break;
+                    case BYTE:
+                        this.bytes[index] = (byte) cost;
+                        break;
+                    case SHORT:
+                        this.shorts[index] = (short) cost;
+                        break;
+                    default:
+                        this.ints[index] = cost;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the layout the grid is stored in.
+     *
+     * @return the grid storage
+     */
+    public GridStorage getStorage() {
+        return this.storage;
+    }
+
+    /**
+     * Gets the number of bytes taken by the stored grid, not counting object headers.
+     *
+     * @return the size of the grid storage in bytes
+     */
+    public long getStorageBytes() {
+        switch (this.storage) {
+            case BIT:
+                return 8L * this.bits.length;
+            case BYTE:
+                return this.bytes.length;
+            case SHORT:
+                return 2L * this.shorts.length;
+            default:
+                return 4L * this.ints.length;
+        }
+    }
+
+    /**
+     * Gets the number of rows in the environment.
+     *
+     * @return number of rows in the environment
+     */
+    public int getNumberOfRows() {
+        return this.numberOfRows;
+    }
+
+    /**
+     * Gets the number of columns in the environment.
+     *
+     * @return number of columns in the environment
+     */
+    public int getNumberOfCols() {
+        return this.numberOfCols;
+    }
+
+    /**
+     * Determines if every value in the environment is 0 or 1, which is what NavigateMaze requires.
+     *
+     * @return true if the environment only holds 0 and 1, otherwise false
+     */
+    public boolean isBinary() {
+        return this.binary;
+    }
+
+    /**
+     * Determines if a position lies inside the environment.
+     *
+     * @param row the row of the position
+     * @param col the column of the position
+     * @return true if the position is in bounds, otherwise false
+     */
+    public boolean isInBounds(int row, int col) {
+        return row >= 0 && row < this.numberOfRows && col >= 0 && col < this.numberOfCols;
+    }
+
+    /**
+     * Determines if a position lies inside the environment and is not an obstacle.
+     *
+     * @param row the row of the position
+     * @param col the column of the position
+     * @return true if the position can be moved into, otherwise false
+     */
+    public boolean isPassable(int row, int col) {
+        return this.isInBounds(row, col) && this.costAt(row * this.numberOfCols + col) != 0;
+    }
+
+    /**
+     * Gets the cost of moving into a position. The position must be in bounds.
+     *
+     * @param row the row of the position
+     * @param col the column of the position
+     * @return the value of the environment at the position
+     */
+    public int getCost(int row, int col) {
+        return this.costAt(row * this.numberOfCols + col);
+    }
+
+    /**
+     * Creates a copy of the environment as a two dimensional array.
+     *
+     * @return a new array holding the value of every position
+     */
+    public int[][] toArray() {
+        int[][] environment = new int[this.numberOfRows][this.numberOfCols];
+
+        for (int row = 0; row < this.numberOfRows; row++)
+            for (int col = 0; col < this.numberOfCols; col++)
+                environment[row][col] = this.costAt(row * this.numberOfCols + col);
+
+        return environment;
+    }
+
+    /**
+     * Reads the value of a space from the grid storage.
+     *
+     * @param index the row major index of the space
+     * @return the value of the space
+     */
+    private int costAt(int index) {
+        switch (this.storage) {
+            case BIT:
+                return (int) (this.bits[index >>> 6] >>> index) & 1;
+            case BYTE:
+                return this.bytes[index] & 0xFF;
+            case SHORT:
+                return this.shorts[index] & 0xFFFF;
+            default:
+                return this.ints[index];
+        }
+    }
+
+}
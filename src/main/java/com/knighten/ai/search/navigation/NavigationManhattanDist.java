@@ -1,12 +1,12 @@
 package com.knighten.ai.search.navigation;
 
 import com.knighten.ai.search.AbstractAStarNode;
-import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.IIntegerHeuristicFunction;
 
 /**
  * Represents the manhattan distance heuristic function for use with classes that extend AbstractNavigate.
  */
-public class NavigationManhattanDist implements IHeuristicFunction {
+public class NavigationManhattanDist implements IIntegerHeuristicFunction {
 
     /**
      * The goal node that is used in every heuristic calculation.
@@ -34,6 +34,17 @@ public class NavigationManhattanDist implements IHeuristicFunction {
      */
     @Override
     public double calculateHeuristic(AbstractAStarNode searchNode) {
+        return this.calculateIntHeuristic(searchNode);
+    }
+
+    /**
+     * Computes the manhattan distance between the search node and the goal node as an int.
+     *
+     * @param searchNode the node being compared to the goal
+     * @return the manhattan distance between the search node and goal node
+     */
+    @Override
+    public int calculateIntHeuristic(AbstractAStarNode searchNode) {
 
         if (searchNode == null)
             throw new IllegalArgumentException("Search Node Cannot Be Null");
@@ -1,6 +1,8 @@
 package com.knighten.ai.search.npuzzle;
 
 import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IIntegerCostNode;
+import com.knighten.ai.search.interfaces.IUnpackableState;
 
 import java.util.Arrays;
 
@@ -8,7 +10,18 @@ import java.util.Arrays;
 /**
  * Abstract class that represents the generic NPuzzle Problem. Contains methods that will work with any N value.
  */
-public abstract class AbstractNPuzzle extends AbstractAStarNode<int[]> {
+public abstract class AbstractNPuzzle extends AbstractAStarNode<int[]> implements IUnpackableState,
+        IIntegerCostNode {
+
+    /**
+     * Number of bits used to store each tile when packing a board into a long.
+     */
+    private static final int BITS_PER_TILE = 4;
+
+    /**
+     * Largest number of spaces a board can have and still be packed into a long.
+     */
+    private static final int MAX_PACKABLE_SPACES = Long.SIZE / BITS_PER_TILE;
 
     /**
      * The one dimensional index of the empty puzzle space(the zero). Top left corner is 0 and bottom right is n-1.
@@ -32,12 +45,31 @@ public abstract class AbstractNPuzzle extends AbstractAStarNode<int[]> {
      */
     public void setEmptySpaceLocation(int emptySpaceLocation) {
 
-        if (emptySpaceLocation < 0 || emptySpaceLocation > (this.getState().length - 1))
+        if (emptySpaceLocation < 0 || emptySpaceLocation > (this.getNumberOfSpaces() - 1))
             throw new IllegalArgumentException("The Empty Space Location Must Be Between 0 And N");
 
         this.emptySpaceLocation = emptySpaceLocation;
     }
 
+    /**
+     * Gets the tile in a space of the board using a one dimensional index. Zero is the empty space.
+     *
+     * @param space one dimensional index of the space
+     * @return the tile in the space
+     */
+    public int getTile(int space) {
+        return this.getState()[space];
+    }
+
+    /**
+     * Gets the number of spaces on the board, including the empty space.
+     *
+     * @return the number of spaces on the board
+     */
+    protected int getNumberOfSpaces() {
+        return this.getState().length;
+    }
+
     /**
      * Returns the path length between current node and its parent. Since there will always be a single move difference
      * between a puzzle and its parent, this will always return 1.
@@ -49,6 +81,67 @@ public abstract class AbstractNPuzzle extends AbstractAStarNode<int[]> {
         return 1;
     }
 
+    /**
+     * Returns the path length between current node and its parent as an int. Always 1, see distFromParent().
+     *
+     * @return distance from parent to node - always 1
+     */
+    @Override
+    public int intDistFromParent() {
+        return 1;
+    }
+
+    /**
+     * Boards of up to 16 spaces(the 15-puzzle) whose tiles are between 0 and 15 fit into a long.
+     *
+     * @return true if the board can be packed into a long, otherwise false
+     */
+    @Override
+    public boolean isPackable() {
+        int[] board = this.getState();
+
+        if (board.length > MAX_PACKABLE_SPACES)
+            return false;
+
+        for (int tile : board)
+            if (tile < 0 || tile >= (1 << BITS_PER_TILE))
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Packs the board into a long using 4 bits per tile. The tile in the top left space is stored in the lowest 4 bits.
+     *
+     * @return the packed board
+     */
+    @Override
+    public long packState() {
+        int[] board = this.getState();
+
+        long packedBoard = 0L;
+        for (int space = 0; space < board.length; space++)
+            packedBoard |= ((long) board[space]) << (space * BITS_PER_TILE);
+
+        return packedBoard;
+    }
+
+    /**
+     * Decodes a board that was packed by packState(). The board has as many spaces as this puzzle's board.
+     *
+     * @param packedBoard the packed board
+     * @return the board stored in the packed value
+     */
+    protected int[] unpackBoard(long packedBoard) {
+        int[] board = new int[this.getState().length];
+        long tileMask = (1L << BITS_PER_TILE) - 1;
+
+        for (int space = 0; space < board.length; space++)
+            board[space] = (int) ((packedBoard >>> (space * BITS_PER_TILE)) & tileMask);
+
+        return board;
+    }
+
     /**
      * Returns the hash code for the puzzle board. Only compares state, so a AbstractNPuzzle's with the same board
      * layout but different f(),h(). and g() scores will still collide.
@@ -51,6 +51,17 @@ public class EightPuzzle extends AbstractNPuzzle {
         this.setParent(parentPuzzle);
     }
 
+    /**
+     * Creates a EightPuzzle holding the board that was packed into the supplied long.
+     *
+     * @param packedState a board packed by packState()
+     * @return a EightPuzzle with the packed board and no parent
+     */
+    @Override
+    public AbstractAStarNode unpackState(long packedState) {
+        return new EightPuzzle(this.unpackBoard(packedState));
+    }
+
     /**
      * Returns the successor states for the current search node. Attempts to move tiles into the empty space to create
      * new states.
@@ -0,0 +1,134 @@
+package com.knighten.ai.search.npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IDAStarSearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * FifteenPuzzle is the state space(search node) representation of the fifteen-puzzle problem.
+ */
+public class FifteenPuzzle extends AbstractNPuzzle {
+
+
+    /**
+     * Creates a state representation for the fifteen-puzzle problem. Zero is used to represent the empty space. Useful
+     * for representing the initial and goal states. This will also find the location of the empty space on the board.
+     *
+     * @param puzzleBoard array of ints representing the puzzle board
+     */
+    public FifteenPuzzle(int[] puzzleBoard) {
+
+        if (puzzleBoard == null)
+            throw new IllegalArgumentException("15Puzzle Board's Cannot Be Null");
+
+        if (puzzleBoard.length != 16)
+            throw new IllegalArgumentException("15Puzzle Board's Must Have 16 Spaces(Array Length of 16)");
+
+        this.setState(puzzleBoard);
+
+        // Find Location of The Empty Space aka 0
+        for (int currentSpace = 0; currentSpace < puzzleBoard.length; currentSpace++)
+            if (puzzleBoard[currentSpace] == 0)
+                this.setEmptySpaceLocation(currentSpace);
+
+        if (this.getEmptySpaceLocation() == -1)
+            throw new IllegalArgumentException("All NPuzzle Boards Most Contain an Empty Space(0 Must Be In The Array)");
+    }
+
+    /**
+     * Creates a state representation for the fifteen-puzzle problem. Zero is used to represent the empty space. This
+     * constructor will assign the node's parent when initialized.
+     *
+     * @param puzzleBoard  array of ints representing the puzzle board
+     * @param parentPuzzle the parent node of the current
+     */
+    public FifteenPuzzle(int[] puzzleBoard, FifteenPuzzle parentPuzzle) {
+        this(puzzleBoard);
+        this.setParent(parentPuzzle);
+    }
+
+    /**
+     * Creates a FifteenPuzzle holding the board that was packed into the supplied long.
+     *
+     * @param packedState a board packed by packState()
+     * @return a FifteenPuzzle with the packed board and no parent
+     */
+    @Override
+    public AbstractAStarNode unpackState(long packedState) {
+        return new FifteenPuzzle(this.unpackBoard(packedState));
+    }
+
+    /**
+     * Returns the successor states for the current search node. Attempts to move tiles into the empty space to create
+     * new states.
+     *
+     * @return array list of successor states.
+     */
+    @Override
+    public ArrayList<AbstractAStarNode> getSuccessors() {
+        ArrayList<Integer> possibleNextMoves = new ArrayList<>();
+
+        // Check Moving Empty Space Left
+        if (this.getEmptySpaceLocation() % 4 != 0)
+            possibleNextMoves.add(this.getEmptySpaceLocation() - 1);
+
+        // Check Moving Empty Space Right
+        if (this.getEmptySpaceLocation() % 4 != 3)
+            possibleNextMoves.add(this.getEmptySpaceLocation() + 1);
+
+        // Check Moving Empty Space Up
+        if (this.getEmptySpaceLocation() / 4 != 0)
+            possibleNextMoves.add(this.getEmptySpaceLocation() - 4);
+
+        // Check Moving Empty Space Down
+        if (this.getEmptySpaceLocation() / 4 != 3)
+            possibleNextMoves.add(this.getEmptySpaceLocation() + 4);
+
+        // Create List of All Successor States
+        ArrayList<AbstractAStarNode> successors = new ArrayList<>();
+        int[] successorBoard;
+        for (Integer nextSpace : possibleNextMoves) {
+            successorBoard = Arrays.copyOf(this.getState(), this.getState().length);
+            successorBoard[this.getEmptySpaceLocation()] = this.getState()[nextSpace];
+            successorBoard[nextSpace] = 0;
+            successors.add(new FifteenPuzzle(successorBoard, this));
+        }
+
+        return successors;
+    }
+
+    // Usage Example
+    public static void main(String[] args) {
+
+        int[] initStateArray = {5, 1, 8, 3, 2, 10, 4, 0, 9, 6, 7, 14, 13, 12, 11, 15};
+        int[] goalStateArray = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 0};
+
+        FifteenPuzzle initialState = new FifteenPuzzle(initStateArray);
+        FifteenPuzzle goalState = new FifteenPuzzle(goalStateArray);
+
+        NPuzzleManhattanDist heuristicFunction = new NPuzzleManhattanDist(goalState);
+
+        IDAStarSearch searcher = new IDAStarSearch(initialState, goalState, heuristicFunction);
+        AbstractAStarNode finalSearchNode = searcher.search();
+
+        System.out.println("Initial State");
+        System.out.println(initialState);
+
+        System.out.println("Goal State");
+        System.out.println(goalState);
+
+        List<AbstractAStarNode> path = searcher.getPath(finalSearchNode);
+        int step = 1;
+        for (AbstractAStarNode node : path) {
+            System.out.println("Step " + step);
+            System.out.println(node);
+            step++;
+        }
+
+    }
+
+}
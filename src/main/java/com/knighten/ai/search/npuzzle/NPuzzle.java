@@ -0,0 +1,445 @@
+package com.knighten.ai.search.npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IDAStarSearch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * NPuzzle is the state space(search node) representation of the sliding tile puzzle on any square board from 2x2 to
+ * 5x5, which covers the three, eight, fifteen, and twenty-four puzzles.
+ * <p>
+ * The board is packed into two longs instead of being stored as an int[]. Each space except the last holds its tile in
+ * 4 bits for boards up to 4x4 and in 5 bits for the 5x5 board, so the fifteen puzzle fits into one long and the
+ * twenty-four puzzle into two. The tile in the last space is kept in its own field. The spaces next to each empty space
+ * location are precomputed once per board size, and a successor is made by moving the tile's bits into the empty
+ * space, so generating a child creates a single object. hashCode() and equals() work on the packed board, and the
+ * heuristics read tiles through getTile(). getState() decodes a new int[] on every call and never keeps it on the
+ * node.
+ */
+public class NPuzzle extends AbstractNPuzzle {
+
+    /**
+     * Smallest number of spaces in a row of the board.
+     */
+    private static final int MIN_ROW_LENGTH = 2;
+
+    /**
+     * Largest number of spaces in a row of the board.
+     */
+    private static final int MAX_ROW_LENGTH = 5;
+
+    /**
+     * The layout of each board size, indexed by row length.
+     */
+    private static final Layout[] LAYOUTS = new Layout[MAX_ROW_LENGTH + 1];
+
+    static {
+        for (int rowLength = MIN_ROW_LENGTH; rowLength <= MAX_ROW_LENGTH; rowLength++)
+            LAYOUTS[rowLength] = new Layout(rowLength);
+    }
+
+    /**
+     * The layout of the board's size.
+     */
+    private Layout layout;
+
+    /**
+     * The tiles of the first spaces on the board.
+     */
+    private long lowTiles;
+
+    /**
+     * The tiles of the spaces that did not fit into lowTiles, always 0 for boards up to 4x4.
+     */
+    private long highTiles;
+
+    /**
+     * The tile in the last space of the board.
+     */
+    private int lastTile;
+
+    /**
+     * Creates a state representation for the sliding tile puzzle. Zero is used to represent the empty space. Useful for
+     * representing the initial and goal states. The board must be square and hold each tile from 0 to N exactly once.
+     *
+     * @param puzzleBoard array of ints representing the puzzle board
+     */
+    public NPuzzle(int[] puzzleBoard) {
+        this.pack(puzzleBoard);
+    }
+
+    /**
+     * Creates a state representation for the sliding tile puzzle. Zero is used to represent the empty space. This
+     * constructor will assign the node's parent when initialized.
+     *
+     * @param puzzleBoard  array of ints representing the puzzle board
+     * @param parentPuzzle the parent node of the current
+     */
+    public NPuzzle(int[] puzzleBoard, NPuzzle parentPuzzle) {
+        this(puzzleBoard);
+        this.setParent(parentPuzzle);
+    }
+
+    /**
+     * Creates a successor from an already packed board.
+     *
+     * @param layout             the layout of the board's size
+     * @param lowTiles           the tiles of the first spaces
+     * @param highTiles          the tiles of the remaining spaces except the last
+     * @param lastTile           the tile in the last space
+     * @param emptySpaceLocation the location of the empty space
+     * @param parentPuzzle       the parent node of the current
+     */
+    private NPuzzle(Layout layout, long lowTiles, long highTiles, int lastTile, int emptySpaceLocation,
+                    NPuzzle parentPuzzle) {
+        this.layout = layout;
+        this.lowTiles = lowTiles;
+        this.highTiles = highTiles;
+        this.lastTile = lastTile;
+        this.setEmptySpaceLocation(emptySpaceLocation);
+        this.setParent(parentPuzzle);
+    }
+
+    /**
+     * Checks a board and packs it into this puzzle.
+     *
+     * @param puzzleBoard array of ints representing the puzzle board
+     */
+    private void pack(int[] puzzleBoard) {
+
+        if (puzzleBoard == null)
+            throw new IllegalArgumentException("NPuzzle Board's Cannot Be Null");
+
+        int rowLength = (int) Math.round(Math.sqrt(puzzleBoard.length));
+        if (rowLength < MIN_ROW_LENGTH || rowLength > MAX_ROW_LENGTH || rowLength * rowLength != puzzleBoard.length)
+            throw new IllegalArgumentException("NPuzzle Board's Must Be Square And Between 2x2 And 5x5");
+
+        boolean[] seen = new boolean[puzzleBoard.length];
+        for (int tile : puzzleBoard) {
+            if (tile < 0 || tile >= puzzleBoard.length || seen[tile])
+                throw new IllegalArgumentException("NPuzzle Board's Must Hold Each Tile From 0 To N Exactly Once");
+            seen[tile] = true;
+        }
+
+        this.layout = LAYOUTS[rowLength];
+
+        long lowTiles = 0L;
+        long highTiles = 0L;
+        for (int space = 0; space < this.layout.lastSpace; space++) {
+            long tileBits = ((long) puzzleBoard[space]) << this.layout.shifts[space];
+            if (space < this.layout.tilesPerWord)
+                lowTiles |= tileBits;
+            else
+                highTiles |= tileBits;
+        }
+
+        this.lowTiles = lowTiles;
+        this.highTiles = highTiles;
+        this.lastTile = puzzleBoard[this.layout.lastSpace];
+
+        // Find Location of The Empty Space aka 0
+        for (int currentSpace = 0; currentSpace < puzzleBoard.length; currentSpace++)
+            if (puzzleBoard[currentSpace] == 0)
+                this.setEmptySpaceLocation(currentSpace);
+    }
+
+    /**
+     * Gets the number of spaces in a row of the board.
+     *
+     * @return the row length of the board
+     */
+    public int getRowLength() {
+        return this.layout.rowLength;
+    }
+
+    /**
+     * Gets the tile in a space of the board straight from the packed board.
+     *
+     * @param space one dimensional index of the space
+     * @return the tile in the space
+     */
+    @Override
+    public int getTile(int space) {
+
+        if (space == this.layout.lastSpace)
+            return this.lastTile;
+
+        long tiles = (space < this.layout.tilesPerWord) ? this.lowTiles : this.highTiles;
+        return (int) ((tiles >>> this.layout.shifts[space]) & this.layout.tileMask);
+    }
+
+    /**
+     * Gets the board as an array of ints. The board is decoded from the packed board into a new array on every call,
+     * so changing the array does not change the puzzle.
+     *
+     * @return the puzzle board
+     */
+    @Override
+    public int[] getState() {
+        int[] board = new int[this.layout.spaces];
+        for (int space = 0; space < board.length; space++)
+            board[space] = this.getTile(space);
+
+        return board;
+    }
+
+    /**
+     * Replaces the board by packing the supplied board. The board must be square and hold each tile from 0 to N
+     * exactly once.
+     *
+     * @param state array of ints representing the puzzle board
+     */
+    @Override
+    public void setState(int[] state) {
+        this.pack(state);
+    }
+
+    /**
+     * Gets the number of spaces on the board without decoding it.
+     *
+     * @return the number of spaces on the board
+     */
+    @Override
+    protected int getNumberOfSpaces() {
+        return this.layout.spaces;
+    }
+
+    /**
+     * Boards up to 4x4 are already packed into a single long.
+     *
+     * @return true if the board is 4x4 or smaller, otherwise false
+     */
+    @Override
+    public boolean isPackable() {
+        return this.layout.spaces <= this.layout.tilesPerWord + 1;
+    }
+
+    /**
+     * Returns the long the board is packed into. The tile in the last space is left out since it is the only tile
+     * missing from the other spaces.
+     *
+     * @return the packed board
+     */
+    @Override
+    public long packState() {
+        return this.lowTiles;
+    }
+
+    /**
+     * Creates an NPuzzle holding the board that was packed into the supplied long. The board has as many spaces as this
+     * puzzle's board.
+     *
+     * @param packedState a board packed by packState()
+     * @return an NPuzzle with the packed board and no parent
+     */
+    @Override
+    public AbstractAStarNode unpackState(long packedState) {
+        int[] board = new int[this.layout.spaces];
+        int lastTile = this.layout.spaces * (this.layout.spaces - 1) / 2;
+
+        for (int space = 0; space < this.layout.lastSpace; space++) {
+            board[space] = (int) ((packedState >>> this.layout.shifts[space]) & this.layout.tileMask);
+            lastTile -= board[space];
+        }
+        board[this.layout.lastSpace] = lastTile;
+
+        return new NPuzzle(board);
+    }
+
+    /**
+     * Returns the successor states for the current search node. The tiles next to the empty space are looked up in the
+     * precomputed move table, and each one is moved into the empty space by clearing its bits and setting them at the
+     * empty space.
+     *
+     * @return array list of successor states.
+     */
+    @Override
+    public ArrayList<AbstractAStarNode> getSuccessors() {
+        int emptySpace = this.getEmptySpaceLocation();
+        int[] nextSpaces = this.layout.moves[emptySpace];
+        ArrayList<AbstractAStarNode> successors = new ArrayList<>(nextSpaces.length);
+
+        for (int nextSpace : nextSpaces) {
+            long tile = this.getTile(nextSpace);
+            long lowTiles = this.lowTiles;
+            long highTiles = this.highTiles;
+            int lastTile = this.lastTile;
+
+            // Take The Tile Out Of Its Space, Leaving The Empty Space(0) Behind
+            if (nextSpace == this.layout.lastSpace)
+                lastTile = 0;
+            else if (nextSpace < this.layout.tilesPerWord)
+                lowTiles -= tile << this.layout.shifts[nextSpace];
+            else
+                highTiles -= tile << this.layout.shifts[nextSpace];
+
+            // Put The Tile Into The Empty Space, Which Holds 0
+            if (emptySpace == this.layout.lastSpace)
+                lastTile = (int) tile;
+            else if (emptySpace < this.layout.tilesPerWord)
+                lowTiles += tile << this.layout.shifts[emptySpace];
+            else
+                highTiles += tile << this.layout.shifts[emptySpace];
+
+            successors.add(new NPuzzle(this.layout, lowTiles, highTiles, lastTile, nextSpace, this));
+        }
+
+        return successors;
+    }
+
+    /**
+     * Returns the hash code for the puzzle board. Computed from the packed board, but equal to the hash code of an
+     * AbstractNPuzzle with the same board so the two can be mixed.
+     *
+     * @return hash code for puzzle
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int space = 0; space < this.layout.spaces; space++)
+            hash = 31 * hash + this.getTile(space);
+
+        return hash;
+    }
+
+    /**
+     * Determines if two puzzles are equal to one another. Two NPuzzles are compared by their packed boards, any other
+     * AbstractNPuzzle is compared by its board.
+     *
+     * @return true if puzzles(state) are equal and false if not
+     */
+    @Override
+    public boolean equals(Object otherPuzzle) {
+
+        if (otherPuzzle instanceof NPuzzle) {
+            NPuzzle other = (NPuzzle) otherPuzzle;
+            return other.layout == this.layout && other.lowTiles == this.lowTiles
+                    && other.highTiles == this.highTiles && other.lastTile == this.lastTile;
+        }
+
+        return super.equals(otherPuzzle);
+    }
+
+    /**
+     * The packing and move table of one board size, shared by every NPuzzle of that size.
+     */
+    private static final class Layout {
+
+        /**
+         * The number of spaces in a row of the board.
+         */
+        private final int rowLength;
+
+        /**
+         * The number of spaces on the board.
+         */
+        private final int spaces;
+
+        /**
+         * The last space on the board, whose tile is not packed.
+         */
+        private final int lastSpace;
+
+        /**
+         * The number of tiles packed into each long.
+         */
+        private final int tilesPerWord;
+
+        /**
+         * Mask of the bits of a single packed tile.
+         */
+        private final long tileMask;
+
+        /**
+         * The shift of each space's tile within its long.
+         */
+        private final int[] shifts;
+
+        /**
+         * The spaces next to each empty space location, whose tiles can be moved into the empty space.
+         */
+        private final int[][] moves;
+
+        /**
+         * Creates the layout of a board size.
+         *
+         * @param rowLength the number of spaces in a row of the board
+         */
+        private Layout(int rowLength) {
+            this.rowLength = rowLength;
+            this.spaces = rowLength * rowLength;
+            this.lastSpace = this.spaces - 1;
+
+            int bitsPerTile = 32 - Integer.numberOfLeadingZeros(this.spaces - 1);
+            this.tilesPerWord = Long.SIZE / bitsPerTile;
+            this.tileMask = (1L << bitsPerTile) - 1;
+
+            this.shifts = new int[this.spaces];
+            for (int space = 0; space < this.spaces; space++)
+                this.shifts[space] = (space % this.tilesPerWord) * bitsPerTile;
+
+            this.moves = new int[this.spaces][];
+            List<Integer> nextSpaces = new ArrayList<>();
+            for (int space = 0; space < this.spaces; space++) {
+                nextSpaces.clear();
+
+                // Check Moving Empty Space Left
+                if (space % rowLength != 0)
+                    nextSpaces.add(space - 1);
+
+                // Check Moving Empty Space Right
+                if (space % rowLength != rowLength - 1)
+                    nextSpaces.add(space + 1);
+
+                // Check Moving Empty Space Up
+                if (space / rowLength != 0)
+                    nextSpaces.add(space - rowLength);
+
+                // Check Moving Empty Space Down
+                if (space / rowLength != rowLength - 1)
+                    nextSpaces.add(space + rowLength);
+
+                this.moves[space] = new int[nextSpaces.size()];
+                for (int move = 0; move < nextSpaces.size(); move++)
+                    this.moves[space][move] = nextSpaces.get(move);
+            }
+        }
+
+    }
+
+    // Usage Example
+    public static void main(String[] args) {
+
+        int[] initStateArray = {11, 1, 3, 14, 4, 2, 0, 6, 12, 8, 21, 7, 23, 9, 5, 17, 13, 18, 10, 15, 16, 22, 20, 24,
+                19};
+        int[] goalStateArray = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24,
+                0};
+
+        NPuzzle initialState = new NPuzzle(initStateArray);
+        NPuzzle goalState = new NPuzzle(goalStateArray);
+
+        NPuzzleLinearConflict heuristicFunction = new NPuzzleLinearConflict(goalState);
+
+        IDAStarSearch searcher = new IDAStarSearch(initialState, goalState, heuristicFunction);
+        AbstractAStarNode finalSearchNode = searcher.search();
+
+        System.out.println("Initial State");
+        System.out.println(initialState);
+
+        System.out.println("Goal State");
+        System.out.println(goalState);
+
+        List<AbstractAStarNode> path = searcher.getPath(finalSearchNode);
+        int step = 1;
+        for (AbstractAStarNode node : path) {
+            System.out.println("Step " + step);
+            System.out.println(node);
+            step++;
+        }
+
+    }
+
+}
@@ -0,0 +1,336 @@
+package com.knighten.ai.search.npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IIntegerHeuristicFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Additive pattern database heuristic function for the NPuzzle problem. The tiles are split into disjoint patterns and
+ * the costs of their pattern databases are added together. Several partitions of the tiles can be supplied, the
+ * heuristic is the largest sum over the partitions.
+ * <p>
+ * When the goal's empty space is on the main diagonal, the board is also looked up after reflecting it across the
+ * diagonal. A move of the reflected board is a reflected move of the board, so the reflected lookup is admissible too
+ * and the larger of the two is used. This gets a second heuristic out of each partition without any more memory.
+ */
+public class NPuzzleAdditivePDB implements IIntegerHeuristicFunction {
+
+    /**
+     * The 5-5-5 partition of the fifteen puzzle, given as the order of the tiles on the goal board skipping the empty
+     * space(1 is the first tile in reading order).
+     */
+    private static final int[][] FIFTEEN_FIVE_FIVE_FIVE = {
+            {1, 4, 5, 8, 12}, {2, 3, 6, 7, 11}, {9, 10, 13, 14, 15}};
+
+    /**
+     * The 7-8 partition of the fifteen puzzle, the first seven and the last eight tiles in goal order. With the empty
+     * space first this is the top two rows and the bottom two rows of the goal board. With the empty space last the
+     * first pattern is the top row and the first three tiles of the second row.
+     */
+    private static final int[][] FIFTEEN_SEVEN_EIGHT = {
+            {1, 2, 3, 4, 5, 6, 7}, {8, 9, 10, 11, 12, 13, 14, 15}};
+
+    /**
+     * The 6-6-6-6 partition of the twenty-four puzzle used by Korf and Felner.
+     */
+    private static final int[][] TWENTY_FOUR_SIX_SIX_SIX_SIX = {
+            {1, 2, 5, 6, 7, 12}, {3, 4, 8, 9, 13, 14}, {10, 11, 15, 16, 20, 21}, {17, 18, 19, 22, 23, 24}};
+
+    /**
+     * The number of spaces on the goal board.
+     */
+    private final int spaces;
+
+    /**
+     * The pattern databases of each partition.
+     */
+    private final NPuzzlePatternDatabase[][] partitions;
+
+    /**
+     * The space each space is moved to by reflecting the board, null when the goal cannot be reflected.
+     */
+    private final int[] reflectedSpace;
+
+    /**
+     * The tile each tile becomes when the board is reflected, null when the goal cannot be reflected.
+     */
+    private final int[] reflectedTile;
+
+    /**
+     * Each thread's reusable tile position arrays, the first for the board and the second for the reflected board.
+     */
+    private final ThreadLocal<int[][]> scratchPositions;
+
+    /**
+     * Creates the additive pattern database heuristic function, building a pattern database for every pattern of every
+     * partition on a single thread.
+     *
+     * @param goalNode   goal node used in every heuristic value calculation
+     * @param partitions each partition is a set of disjoint patterns, each pattern is a set of tiles
+     */
+    public NPuzzleAdditivePDB(AbstractAStarNode goalNode, int[][]... partitions) {
+        this(goalNode, buildPartitions(goalNode, partitions));
+    }
+
+    /**
+     * Creates the additive pattern database heuristic function from pattern databases that were already built or
+     * loaded. Every database must have been built for the goal board.
+     *
+     * @param goalNode   goal node used in every heuristic value calculation
+     * @param partitions each partition is an array of pattern databases whose patterns are disjoint
+     */
+    public NPuzzleAdditivePDB(AbstractAStarNode goalNode, List<NPuzzlePatternDatabase[]> partitions) {
+
+        if (goalNode == null)
+            throw new IllegalArgumentException("Goal Node Cannot Be Null");
+
+        if (partitions == null || partitions.isEmpty())
+            throw new IllegalArgumentException("At Least One Partition Is Required");
+
+        int[] goalBoard = (int[]) goalNode.getState();
+        this.spaces = goalBoard.length;
+        this.partitions = new NPuzzlePatternDatabase[partitions.size()][];
+
+        for (int partition = 0; partition < partitions.size(); partition++) {
+            NPuzzlePatternDatabase[] databases = partitions.get(partition);
+            if (databases == null || databases.length == 0)
+                throw new IllegalArgumentException("Partitions Must Contain At Least One Pattern");
+
+            boolean[] used = new boolean[this.spaces];
+            for (NPuzzlePatternDatabase database : databases) {
+                if (database == null)
+                    throw new IllegalArgumentException("Pattern Databases Cannot Be Null");
+
+                if (!Arrays.equals(database.getGoalBoard(), goalBoard))
+                    throw new IllegalArgumentException("Pattern Databases Must Be Built For The Goal Board");
+
+                for (int tile : database.getPatternTiles()) {
+                    if (used[tile])
+                        throw new IllegalArgumentException("Patterns In A Partition Must Be Disjoint");
+                    used[tile] = true;
+                }
+            }
+
+            this.partitions[partition] = databases.clone();
+        }
+
+        // Reflecting Across The Main Diagonal Only Works If The Empty Space Stays Put
+        int rowLength = (int) Math.sqrt(this.spaces);
+        int[] goalSpace = new int[this.spaces];
+        for (int space = 0; space < this.spaces; space++)
+            goalSpace[goalBoard[space]] = space;
+
+        if (goalSpace[0] / rowLength == goalSpace[0] % rowLength) {
+            this.reflectedSpace = new int[this.spaces];
+            this.reflectedTile = new int[this.spaces];
+            for (int space = 0; space < this.spaces; space++)
+                this.reflectedSpace[space] = (space % rowLength) * rowLength + space / rowLength;
+            for (int tile = 0; tile < this.spaces; tile++)
+                this.reflectedTile[tile] = goalBoard[this.reflectedSpace[goalSpace[tile]]];
+        } else {
+            this.reflectedSpace = null;
+            this.reflectedTile = null;
+        }
+
+        int scratchSpaces = this.spaces;
+        this.scratchPositions = ThreadLocal.withInitial(() -> new int[2][scratchSpaces]);
+    }
+
+    /**
+     * Creates the 5-5-5 additive pattern database heuristic function for the fifteen puzzle.
+     *
+     * @param goalNode goal node used in every heuristic value calculation
+     * @return the heuristic function
+     */
+    public static NPuzzleAdditivePDB fifteenPuzzleFiveFiveFive(AbstractAStarNode goalNode) {
+        return new NPuzzleAdditivePDB(goalNode, tilesInGoalOrder(goalNode, 16, FIFTEEN_FIVE_FIVE_FIVE));
+    }
+
+    /**
+     * Creates the 7-8 additive pattern database heuristic function for the fifteen puzzle. Building the 8 tile pattern
+     * database takes about 500MB for the table and 3GB for the search, so give the JVM enough heap.
+     *
+     * @param goalNode goal node used in every heuristic value calculation
+     * @return the heuristic function
+     */
+    public static NPuzzleAdditivePDB fifteenPuzzleSevenEight(AbstractAStarNode goalNode) {
+        return new NPuzzleAdditivePDB(goalNode, tilesInGoalOrder(goalNode, 16, FIFTEEN_SEVEN_EIGHT));
+    }
+
+    /**
+     * Creates the 6-6-6-6 additive pattern database heuristic function for the twenty-four puzzle. Each pattern
+     * database takes about 130MB for the table and 1.2GB for the search, so give the JVM enough heap.
+     *
+     * @param goalNode goal node used in every heuristic value calculation
+     * @return the heuristic function
+     */
+    public static NPuzzleAdditivePDB twentyFourPuzzleSixSixSixSix(AbstractAStarNode goalNode) {
+        return new NPuzzleAdditivePDB(goalNode, tilesInGoalOrder(goalNode, 25, TWENTY_FOUR_SIX_SIX_SIX_SIX));
+    }
+
+    /**
+     * Gets the pattern databases of each partition, so they can be saved and loaded instead of built again.
+     *
+     * @return the pattern databases of each partition
+     */
+    public List<NPuzzlePatternDatabase[]> getPartitions() {
+        List<NPuzzlePatternDatabase[]> partitions = new ArrayList<>();
+        for (NPuzzlePatternDatabase[] partition : this.partitions)
+            partitions.add(partition.clone());
+
+        return partitions;
+    }
+
+    /**
+     * Says if the board is also looked up after being reflected across the main diagonal.
+     *
+     * @return true if reflected lookups are used, otherwise false
+     */
+    public boolean isReflectionUsed() {
+        return this.reflectedSpace != null;
+    }
+
+    /**
+     * Calculates the additive pattern database heuristic. See calculateIntHeuristic().
+     *
+     * @param searchNode the search node whose heuristic value is being calculated
+     * @return returns the calculated heuristic(h()) score
+     */
+    @Override
+    public double calculateHeuristic(AbstractAStarNode searchNode) {
+        return this.calculateIntHeuristic(searchNode);
+    }
+
+    /**
+     * Calculates the additive pattern database heuristic. Sums the pattern database costs of each partition and returns
+     * the largest sum, including the sums of the reflected board when reflection is used. The tiles of an
+     * AbstractNPuzzle are read through getTile(), and the tile positions are built in arrays reused by each thread, so
+     * nothing is allocated per call.
+     *
+     * @param searchNode the search node whose heuristic value is being calculated
+     * @return returns the calculated heuristic(h()) score
+     */
+    @Override
+    public int calculateIntHeuristic(AbstractAStarNode searchNode) {
+
+        if (searchNode == null)
+            throw new IllegalArgumentException("Search Node Cannot Be Null");
+
+        int[][] scratch = this.scratchPositions.get();
+        int[] tilePositions = scratch[0];
+
+        if (searchNode instanceof AbstractNPuzzle) {
+            AbstractNPuzzle puzzle = (AbstractNPuzzle) searchNode;
+            for (int space = 0; space < this.spaces; space++)
+                tilePositions[puzzle.getTile(space)] = space;
+        } else {
+            int[] board = (int[]) searchNode.getState();
+            for (int space = 0; space < this.spaces; space++)
+                tilePositions[board[space]] = space;
+        }
+
+        int best = this.largestPartitionCost(tilePositions);
+
+        if (this.reflectedSpace != null) {
+            int[] reflectedPositions = scratch[1];
+            for (int tile = 0; tile < this.spaces; tile++)
+                reflectedPositions[this.reflectedTile[tile]] = this.reflectedSpace[tilePositions[tile]];
+
+            best = Math.max(best, this.largestPartitionCost(reflectedPositions));
+        }
+
+        return best;
+    }
+
+    /**
+     * Finds the largest sum of pattern database costs over the partitions.
+     *
+     * @param tilePositions the space of each tile
+     * @return the largest partition cost
+     */
+    private int largestPartitionCost(int[] tilePositions) {
+        int best = 0;
+
+        for (NPuzzlePatternDatabase[] partition : this.partitions) {
+            int cost = 0;
+            for (NPuzzlePatternDatabase database : partition)
+                cost += database.getCost(tilePositions);
+
+            if (cost > best)
+                best = cost;
+        }
+
+        return best;
+    }
+
+    /**
+     * Builds a pattern database for every pattern of every partition.
+     *
+     * @param goalNode   the goal node
+     * @param partitions each partition is a set of disjoint patterns, each pattern is a set of tiles
+     * @return the pattern databases of each partition
+     */
+    private static List<NPuzzlePatternDatabase[]> buildPartitions(AbstractAStarNode goalNode, int[][][] partitions) {
+
+        if (goalNode == null)
+            throw new IllegalArgumentException("Goal Node Cannot Be Null");
+
+        if (partitions == null || partitions.length == 0)
+            throw new IllegalArgumentException("At Least One Partition Is Required");
+
+        int[] goalBoard = (int[]) goalNode.getState();
+        List<NPuzzlePatternDatabase[]> databases = new ArrayList<>();
+
+        for (int[][] patterns : partitions) {
+            if (patterns == null || patterns.length == 0)
+                throw new IllegalArgumentException("Partitions Must Contain At Least One Pattern");
+
+            NPuzzlePatternDatabase[] partition = new NPuzzlePatternDatabase[patterns.length];
+            for (int pattern = 0; pattern < patterns.length; pattern++)
+                partition[pattern] = new NPuzzlePatternDatabase(goalBoard, patterns[pattern]);
+
+            databases.add(partition);
+        }
+
+        return databases;
+    }
+
+    /**
+     * Turns a partition given as the order of tiles on the goal board into the tiles themselves. Tile i is the i-th
+     * tile in reading order on the goal board, skipping the empty space, so the partitions match the tile numbers of a
+     * goal with the empty space first or last.
+     *
+     * @param goalNode  the goal node
+     * @param spaces    the number of spaces the goal board must have
+     * @param partition the partition given as tile orders
+     * @return the partition given as tiles
+     */
+    private static int[][] tilesInGoalOrder(AbstractAStarNode goalNode, int spaces, int[][] partition) {
+
+        if (goalNode == null)
+            throw new IllegalArgumentException("Goal Node Cannot Be Null");
+
+        int[] goalBoard = (int[]) goalNode.getState();
+        if (goalBoard.length != spaces)
+            throw new IllegalArgumentException("Goal Board Must Have " + spaces + " Spaces");
+
+        int[] tileInOrder = new int[spaces];
+        int order = 1;
+        for (int tile : goalBoard)
+            if (tile != 0)
+                tileInOrder[order++] = tile;
+
+        int[][] tiles = new int[partition.length][];
+        for (int pattern = 0; pattern < partition.length; pattern++) {
+            tiles[pattern] = new int[partition[pattern].length];
+            for (int i = 0; i < partition[pattern].length; i++)
+                tiles[pattern][i] = tileInOrder[partition[pattern][i]];
+        }
+
+        return tiles;
+    }
+
+}
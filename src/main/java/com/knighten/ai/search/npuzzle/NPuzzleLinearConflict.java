@@ -0,0 +1,278 @@
+package com.knighten.ai.search.npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IIncrementalHeuristicFunction;
+import com.knighten.ai.search.interfaces.IIntegerHeuristicFunction;
+
+/**
+ * Linear conflict heuristic function for the NPuzzle problem. Two tiles are in linear conflict when they are in their
+ * goal row(or column) but in the reverse order of their goal spaces, one of them has to leave the line to let the other
+ * pass, which adds 2 moves to their manhattan distance. For each line the fewest tiles that have to leave is the number
+ * of tiles in their goal line minus the longest run of them already in goal order.
+ * <p>
+ * Every row and column is summarized as a key made from the goal position of each tile in the line that belongs to it,
+ * and the added moves of every possible key are precomputed. Scoring a board is a manhattan distance pass plus one
+ * table lookup per line, and a move only changes three lines so a child is scored from its parent's score.
+ */
+public class NPuzzleLinearConflict implements IIntegerHeuristicFunction, IIncrementalHeuristicFunction {
+
+    /**
+     * The number of spaces on the goal board.
+     */
+    private final int spaces;
+
+    /**
+     * The number of spaces in a row of the board.
+     */
+    private final int rowLength;
+
+    /**
+     * The manhattan distance of tile t in space s from its goal space, stored at t * spaces + s.
+     */
+    private final int[] distances;
+
+    /**
+     * What tile t in space s adds to the key of the space's row, stored at t * spaces + s. A tile outside its goal row
+     * adds nothing, otherwise it adds (goal column + 1) times (rowLength + 1) to the power of its column.
+     */
+    private final int[] rowKeyParts;
+
+    /**
+     * What tile t in space s adds to the key of the space's column, stored at t * spaces + s.
+     */
+    private final int[] colKeyParts;
+
+    /**
+     * The moves added by the conflicts of every line key.
+     */
+    private final byte[] conflicts;
+
+    /**
+     * Creates the linear conflict heuristic function for n puzzles.
+     *
+     * @param goalNode goal node used in every heuristic value calculation
+     */
+    public NPuzzleLinearConflict(AbstractAStarNode goalNode) {
+
+        if (goalNode == null)
+            throw new IllegalArgumentException("Goal Node Cannot Be Null");
+
+        int[] goalBoard = (int[]) goalNode.getState();
+        this.spaces = goalBoard.length;
+        this.rowLength = (int) Math.sqrt(this.spaces);
+
+        if (this.rowLength * this.rowLength != this.spaces)
+            throw new IllegalArgumentException("Goal Board Must Be Square");
+
+        int radix = this.rowLength + 1;
+        int[] powers = new int[this.rowLength];
+        powers[0] = 1;
+        for (int i = 1; i < this.rowLength; i++)
+            powers[i] = powers[i - 1] * radix;
+
+        this.distances = new int[this.spaces * this.spaces];
+        this.rowKeyParts = new int[this.spaces * this.spaces];
+        this.colKeyParts = new int[this.spaces * this.spaces];
+
+        for (int goalSpace = 0; goalSpace < this.spaces; goalSpace++) {
+            int tile = goalBoard[goalSpace];
+
+            // Empty Space Not Part Of Heuristic Calculation
+            if (tile == 0)
+                continue;
+
+            int goalRow = goalSpace / this.rowLength;
+            int goalCol = goalSpace % this.rowLength;
+            for (int space = 0; space < this.spaces; space++) {
+                int row = space / this.rowLength;
+                int col = space % this.rowLength;
+                int index = tile * this.spaces + space;
+
+                this.distances[index] = Math.abs(row - goalRow) + Math.abs(col - goalCol);
+                if (row == goalRow)
+                    this.rowKeyParts[index] = (goalCol + 1) * powers[col];
+                if (col == goalCol)
+                    this.colKeyParts[index] = (goalRow + 1) * powers[row];
+            }
+        }
+
+        this.conflicts = new byte[powers[this.rowLength - 1] * radix];
+        int[] goalOrder = new int[this.rowLength];
+        for (int key = 0; key < this.conflicts.length; key++) {
+            int count = 0;
+            for (int remaining = key; remaining > 0; remaining /= radix)
+                if (remaining % radix != 0)
+                    goalOrder[count++] = remaining % radix;
+
+            // Digits Are Read From The First Space Of The Line, So The Goal Order Is Already In Line Order
+            this.conflicts[key] = (byte) (2 * (count - longestIncreasingRun(goalOrder, count)));
+        }
+    }
+
+    /**
+     * Calculates the linear conflict heuristic. See calculateIntHeuristic().
+     *
+     * @param searchNode the search node whose heuristic value is being calculated
+     * @return returns the calculated heuristic(h()) score
+     */
+    @Override
+    public double calculateHeuristic(AbstractAStarNode searchNode) {
+        return this.calculateIntHeuristic(searchNode);
+    }
+
+    /**
+     * Calculates the manhattan distance of the board plus 2 moves for every tile that has to leave its goal line to
+     * resolve the linear conflicts of that line.
+     *
+     * @param searchNode the search node whose heuristic value is being calculated
+     * @return returns the calculated heuristic(h()) score
+     */
+    @Override
+    public int calculateIntHeuristic(AbstractAStarNode searchNode) {
+
+        if (searchNode == null)
+            throw new IllegalArgumentException("Search Node Cannot Be Null");
+
+        int score = 0;
+
+        // Read The Tiles Of Puzzles Through getTile() So Packed Boards Are Never Decoded
+        if (searchNode instanceof AbstractNPuzzle) {
+            AbstractNPuzzle puzzle = (AbstractNPuzzle) searchNode;
+            for (int space = 0; space < this.spaces; space++)
+                score += this.distances[puzzle.getTile(space) * this.spaces + space];
+
+            for (int line = 0; line < this.rowLength; line++)
+                score += this.conflicts[this.rowKey(puzzle, line)] + this.conflicts[this.colKey(puzzle, line)];
+
+            return score;
+        }
+
+        int[] board = (int[]) searchNode.getState();
+        for (int line = 0; line < this.rowLength; line++) {
+            int rowKey = 0;
+            int colKey = 0;
+            for (int i = 0; i < this.rowLength; i++) {
+                int rowIndex = board[line * this.rowLength + i] * this.spaces + line * this.rowLength + i;
+                int colIndex = board[i * this.rowLength + line] * this.spaces + i * this.rowLength + line;
+                score += this.distances[rowIndex];
+                rowKey += this.rowKeyParts[rowIndex];
+                colKey += this.colKeyParts[colIndex];
+            }
+
+            score += this.conflicts[rowKey] + this.conflicts[colKey];
+        }
+
+        return score;
+    }
+
+    /**
+     * Calculates the linear conflict heuristic of a child from its parent's score. The moved tile changes its manhattan
+     * distance and the keys of the line it moved along and the two lines it moved between. Falls back to
+     * calculateHeuristic() for nodes that are not AbstractNPuzzles.
+     *
+     * @param searchNode      the search node whose heuristic value is being calculated
+     * @param parentNode      the parent of searchNode
+     * @param parentHeuristic the linear conflict heuristic of parentNode
+     * @return returns the calculated heuristic(h()) score
+     */
+    @Override
+    public double calculateIncrementalHeuristic(AbstractAStarNode searchNode, AbstractAStarNode parentNode,
+                                                double parentHeuristic) {
+
+        if (!(searchNode instanceof AbstractNPuzzle) || !(parentNode instanceof AbstractNPuzzle))
+            return this.calculateHeuristic(searchNode);
+
+        // The Moved Tile Went From The Child's Empty Space Into The Parent's Empty Space
+        int fromSpace = ((AbstractNPuzzle) searchNode).getEmptySpaceLocation();
+        int toSpace = ((AbstractNPuzzle) parentNode).getEmptySpaceLocation();
+        AbstractNPuzzle parentPuzzle = (AbstractNPuzzle) parentNode;
+        int tileOffset = parentPuzzle.getTile(fromSpace) * this.spaces;
+
+        double score = parentHeuristic - this.distances[tileOffset + fromSpace] + this.distances[tileOffset + toSpace];
+
+        int fromRow = fromSpace / this.rowLength;
+        int fromCol = fromSpace % this.rowLength;
+        int toRow = toSpace / this.rowLength;
+        int toCol = toSpace % this.rowLength;
+
+        if (fromRow == toRow) {
+            // Slid Along Its Row, Moved Between Two Columns
+            int rowKey = this.rowKey(parentPuzzle, fromRow);
+            int fromColKey = this.colKey(parentPuzzle, fromCol);
+            int toColKey = this.colKey(parentPuzzle, toCol);
+
+            score += this.conflicts[rowKey - this.rowKeyParts[tileOffset + fromSpace]
+                    + this.rowKeyParts[tileOffset + toSpace]] - this.conflicts[rowKey];
+            score += this.conflicts[fromColKey - this.colKeyParts[tileOffset + fromSpace]]
+                    - this.conflicts[fromColKey];
+            score += this.conflicts[toColKey + this.colKeyParts[tileOffset + toSpace]] - this.conflicts[toColKey];
+        } else {
+            // Slid Along Its Column, Moved Between Two Rows
+            int colKey = this.colKey(parentPuzzle, fromCol);
+            int fromRowKey = this.rowKey(parentPuzzle, fromRow);
+            int toRowKey = this.rowKey(parentPuzzle, toRow);
+
+            score += this.conflicts[colKey - this.colKeyParts[tileOffset + fromSpace]
+                    + this.colKeyParts[tileOffset + toSpace]] - this.conflicts[colKey];
+            score += this.conflicts[fromRowKey - this.rowKeyParts[tileOffset + fromSpace]]
+                    - this.conflicts[fromRowKey];
+            score += this.conflicts[toRowKey + this.rowKeyParts[tileOffset + toSpace]] - this.conflicts[toRowKey];
+        }
+
+        return score;
+    }
+
+    /**
+     * Computes the conflict table key of a row.
+     *
+     * @param puzzle the puzzle
+     * @param row    the row
+     * @return the key of the row
+     */
+    private int rowKey(AbstractNPuzzle puzzle, int row) {
+        int key = 0;
+        for (int space = row * this.rowLength; space < (row + 1) * this.rowLength; space++)
+            key += this.rowKeyParts[puzzle.getTile(space) * this.spaces + space];
+
+        return key;
+    }
+
+    /**
+     * Computes the conflict table key of a column.
+     *
+     * @param puzzle the puzzle
+     * @param col    the column
+     * @return the key of the column
+     */
+    private int colKey(AbstractNPuzzle puzzle, int col) {
+        int key = 0;
+        for (int space = col; space < this.spaces; space += this.rowLength)
+            key += this.colKeyParts[puzzle.getTile(space) * this.spaces + space];
+
+        return key;
+    }
+
+    /**
+     * Finds the length of the longest strictly increasing subsequence.
+     *
+     * @param values the values
+     * @param count  the number of values to use
+     * @return the length of the longest increasing subsequence
+     */
+    private static int longestIncreasingRun(int[] values, int count) {
+        int[] lengths = new int[count];
+        int longest = 0;
+
+        for (int i = 0; i < count; i++) {
+            lengths[i] = 1;
+            for (int j = 0; j < i; j++)
+                if (values[j] < values[i] && lengths[j] + 1 > lengths[i])
+                    lengths[i] = lengths[j] + 1;
+
+            longest = Math.max(longest, lengths[i]);
+        }
+
+        return longest;
+    }
+
+}
@@ -1,17 +1,26 @@
 package com.knighten.ai.search.npuzzle;
 
 import com.knighten.ai.search.AbstractAStarNode;
-import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.IIncrementalHeuristicFunction;
+import com.knighten.ai.search.interfaces.IIntegerHeuristicFunction;
 
 /**
- * Manhattan distance heuristic function for the NPuzzle problem.
+ * Manhattan distance heuristic function for the NPuzzle problem. The distance of every tile from every space is
+ * computed once from the goal node, so scoring a board is a single pass of table lookups. A move only changes the
+ * distance of the tile that was moved, so a child is scored from its parent's score with two lookups.
  */
-public class NPuzzleManhattanDist implements IHeuristicFunction {
+public class NPuzzleManhattanDist implements IIntegerHeuristicFunction, IIncrementalHeuristicFunction {
 
     /**
-     * The goal node used in every heuristic value calculation.
+     * The number of spaces on the goal board.
      */
-    private AbstractAStarNode goalNode;
+    private final int spaces;
+
+    /**
+     * The manhattan distance of tile t in space s from its space on the goal board, stored at t * spaces + s. The empty
+     * space's distances are always 0.
+     */
+    private final int[] distances;
 
     /**
      * Creates the manhattan distance heuristic function for n puzzles.
@@ -23,7 +32,22 @@ public class NPuzzleManhattanDist implements IHeuristicFunction {
         if (goalNode == null)
             throw new IllegalArgumentException("Goal Node Cannot Be Null");
 
-        this.goalNode = goalNode;
+        int[] goalBoard = (int[]) goalNode.getState();
+        int rowLength = (int) Math.sqrt(goalBoard.length);
+        this.spaces = goalBoard.length;
+        this.distances = new int[this.spaces * this.spaces];
+
+        for (int goalSpace = 0; goalSpace < this.spaces; goalSpace++) {
+            int tile = goalBoard[goalSpace];
+
+            // Empty Space Not Part Of Heuristic Calculation
+            if (tile == 0)
+                continue;
+
+            for (int space = 0; space < this.spaces; space++)
+                this.distances[tile * this.spaces + space] = Math.abs(space % rowLength - goalSpace % rowLength)
+                        + Math.abs(space / rowLength - goalSpace / rowLength);
+        }
     }
 
     /**
@@ -38,51 +62,67 @@ public class NPuzzleManhattanDist implements IHeuristicFunction {
      */
     @Override
     public double calculateHeuristic(AbstractAStarNode searchNode) {
+        return this.calculateIntHeuristic(searchNode);
+    }
+
+    /**
+     * Calculates the manhattan distance between two NPuzzles as an int. See calculateHeuristic().
+     *
+     * @param searchNode the search node whose heuristic value is being calculated
+     * @return returns the calculated heuristic(h()) score
+     */
+    @Override
+    public int calculateIntHeuristic(AbstractAStarNode searchNode) {
 
         if (searchNode == null)
             throw new IllegalArgumentException("Search Node Cannot Be Null");
 
-        int[] goalBoard = (int[]) this.goalNode.getState();
-        int[] currentBoard = (int[]) searchNode.getState();
-        int flatBoardLength = goalBoard.length;
-        int rowLength = (int) Math.sqrt(goalBoard.length);
-
         int score = 0;
-        for (int goalBoardPosition = 0; goalBoardPosition < flatBoardLength; goalBoardPosition++) {
 
-            // Empty Space Not Part Of Heuristic Calculation
-            if (goalBoard[goalBoardPosition] == 0)
-                continue;
+        // Read The Tiles Of Puzzles Through getTile() So Packed Boards Are Never Decoded
+        if (searchNode instanceof AbstractNPuzzle) {
+            AbstractNPuzzle puzzle = (AbstractNPuzzle) searchNode;
+            for (int space = 0; space < this.spaces; space++)
+                score += this.distances[puzzle.getTile(space) * this.spaces + space];
+
+            return score;
+        }
 
-            // Find Position In Search Board That Matches The Current Goal Board Position
-            int matchingSpaceOnCurrentNode = 0;
-            for (int currentNodePosition = 0; currentNodePosition < flatBoardLength; currentNodePosition++)
-                if (goalBoard[goalBoardPosition] == currentBoard[currentNodePosition])
-                    matchingSpaceOnCurrentNode = currentNodePosition;
+        int[] currentBoard = (int[]) searchNode.getState();
 
-            // Convert One Dimensional Index To Two Dimensional Indices
-            int[] currentIndices = oneDimIndToTwoInd(matchingSpaceOnCurrentNode, rowLength);
-            int[] goalIndices = oneDimIndToTwoInd(goalBoardPosition, rowLength);
+        // A Board That Is Only The Empty Space Is Always Solved
+        if (this.spaces < 2)
+            return 0;
 
-            // Sum All Differences Between X Positions And Y Positions
-            score += Math.abs(currentIndices[1] - goalIndices[1]) + Math.abs(currentIndices[0] - goalIndices[0]);
-        }
+        for (int space = 0; space < this.spaces; space++)
+            score += this.distances[currentBoard[space] * this.spaces + space];
 
         return score;
     }
 
     /**
-     * Converts a 1-dimensional index to a 2-dimensional index in a rowLength x rowLength grid.
+     * Calculates the manhattan distance of a child from its parent's distance. The tile that was moved into the
+     * parent's empty space is the only tile whose distance changed. Falls back to calculateHeuristic() for nodes that
+     * are not AbstractNPuzzles.
      *
-     * @param flatIndex the index in one dimension
-     * @param rowLength the length of one row/column in the NPuzzle board.
-     * @return array representing the two dimensional index
+     * @param searchNode      the search node whose heuristic value is being calculated
+     * @param parentNode      the parent of searchNode
+     * @param parentHeuristic the manhattan distance of parentNode
+     * @return returns the calculated heuristic(h()) score
      */
-    private int[] oneDimIndToTwoInd(int flatIndex, int rowLength) {
-        int[] twoDimBoardPosition = new int[2];
-        twoDimBoardPosition[0] = flatIndex % rowLength;
-        twoDimBoardPosition[1] = flatIndex / rowLength;
-        return twoDimBoardPosition;
+    @Override
+    public double calculateIncrementalHeuristic(AbstractAStarNode searchNode, AbstractAStarNode parentNode,
+                                                double parentHeuristic) {
+
+        if (!(searchNode instanceof AbstractNPuzzle) || !(parentNode instanceof AbstractNPuzzle))
+            return this.calculateHeuristic(searchNode);
+
+        // The Moved Tile Went From The Child's Empty Space Into The Parent's Empty Space
+        int fromSpace = ((AbstractNPuzzle) searchNode).getEmptySpaceLocation();
+        int toSpace = ((AbstractNPuzzle) parentNode).getEmptySpaceLocation();
+        int tileOffset = ((AbstractNPuzzle) parentNode).getTile(fromSpace) * this.spaces;
+
+        return parentHeuristic - this.distances[tileOffset + fromSpace] + this.distances[tileOffset + toSpace];
     }
 
 }
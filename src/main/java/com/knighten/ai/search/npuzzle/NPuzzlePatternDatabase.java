@@ -0,0 +1,704 @@
+package com.knighten.ai.search.npuzzle;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A pattern database for a set of NPuzzle tiles. It stores the fewest moves of the pattern tiles needed to bring them
+ * from any placement to their goal spaces, while the other tiles are treated as indistinguishable and move for free.
+ * Since only moves of the pattern tiles are counted, the costs of disjoint patterns can be added together and the sum
+ * is still admissible.
+ * <p>
+ * The costs are found by a backwards breadth-first search from the goal board and stored in a byte array. Each
+ * placement of the pattern tiles is indexed by a perfect hash: the spaces of the pattern tiles are ranked as a partial
+ * permutation, so a pattern of k tiles on a board of n spaces uses exactly n!/(n-k)! bytes.
+ * <p>
+ * Large databases take minutes to build, so each layer of the search can be expanded by several threads and the
+ * finished database can be saved with save(). load() maps a saved database read-only instead of reading it into the
+ * heap, so it is ready in milliseconds and every JVM on a host that loads the same file shares one copy in the page
+ * cache.
+ */
+public class NPuzzlePatternDatabase {
+
+    /**
+     * Marks a placement whose cost has not been found yet while building the database.
+     */
+    private static final byte UNSET = (byte) 0xFF;
+
+    /**
+     * The first four bytes of a saved database, "NPDB".
+     */
+    private static final int MAGIC = 0x4E504442;
+
+    /**
+     * The version of the file format written by save().
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The number of blocks of words each thread is given per layer, more blocks balance the work better.
+     */
+    private static final int BLOCKS_PER_THREAD = 8;
+
+    /**
+     * The number of spaces on the board.
+     */
+    private final int spaces;
+
+    /**
+     * The goal board the database was built for.
+     */
+    private final int[] goalBoard;
+
+    /**
+     * The tiles that make up the pattern.
+     */
+    private final int[] patternTiles;
+
+    /**
+     * The cost of every placement of the pattern tiles, indexed by rank(). Wraps the built array, or maps a saved file.
+     */
+    private final ByteBuffer costs;
+
+    /**
+     * Builds the pattern database for the supplied tiles on a single thread by searching backwards from the goal board.
+     *
+     * @param goalBoard    the goal board, 0 is the empty space
+     * @param patternTiles the tiles in the pattern, the empty space cannot be part of a pattern
+     */
+    public NPuzzlePatternDatabase(int[] goalBoard, int[] patternTiles) {
+        this(goalBoard, patternTiles, 1);
+    }
+
+    /**
+     * Builds the pattern database for the supplied tiles by searching backwards from the goal board. Each layer of the
+     * search is split between the supplied number of threads, the database is the same for any number of threads.
+     *
+     * @param goalBoard    the goal board, 0 is the empty space
+     * @param patternTiles the tiles in the pattern, the empty space cannot be part of a pattern
+     * @param parallelism  the number of threads used to build the database
+     */
+    public NPuzzlePatternDatabase(int[] goalBoard, int[] patternTiles, int parallelism) {
+
+        if (goalBoard == null)
+            throw new IllegalArgumentException("Goal Board Cannot Be Null");
+
+        if (patternTiles == null || patternTiles.length == 0)
+            throw new IllegalArgumentException("Pattern Must Contain At Least One Tile");
+
+        int rowLength = (int) Math.sqrt(goalBoard.length);
+        if (rowLength * rowLength != goalBoard.length)
+            throw new IllegalArgumentException("Goal Board Must Be Square");
+
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism Must Be At Least 1");
+
+        this.spaces = goalBoard.length;
+        this.goalBoard = goalBoard.clone();
+        this.patternTiles = patternTiles.clone();
+
+        boolean[] used = new boolean[this.spaces];
+        for (int tile : this.patternTiles) {
+            if (tile <= 0 || tile >= this.spaces)
+                throw new IllegalArgumentException("Pattern Tiles Must Be Between 1 And N");
+            if (used[tile])
+                throw new IllegalArgumentException("Pattern Tiles Must Be Unique");
+            used[tile] = true;
+        }
+
+        long entries = numberOfEntries(this.spaces, this.patternTiles.length);
+        if (entries > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Pattern Is Too Large For A Pattern Database");
+
+        this.costs = ByteBuffer.wrap(this.build(rowLength, (int) entries, parallelism));
+    }
+
+    /**
+     * Creates a pattern database from costs that were already found, used by load().
+     *
+     * @param goalBoard    the goal board the costs were found for
+     * @param patternTiles the tiles in the pattern
+     * @param costs        the cost of every placement of the pattern tiles
+     */
+    private NPuzzlePatternDatabase(int[] goalBoard, int[] patternTiles, ByteBuffer costs) {
+        this.spaces = goalBoard.length;
+        this.goalBoard = goalBoard;
+        this.patternTiles = patternTiles;
+        this.costs = costs;
+    }
+
+    /**
+     * Maps a pattern database written by save() read-only. The costs are not copied into the heap, they are read from
+     * the page cache as they are looked up.
+     *
+     * @param file the saved pattern database
+     * @return the pattern database
+     * @throws IOException if the file cannot be read
+     */
+    public static NPuzzlePatternDatabase load(Path file) throws IOException {
+
+        if (file == null)
+            throw new IllegalArgumentException("File Cannot Be Null");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, 12);
+            if (header.getInt() != MAGIC)
+                throw new IllegalArgumentException("The File Is Not A Pattern Database");
+
+            int version = header.getInt();
+            if (version != VERSION)
+                throw new IllegalArgumentException("Pattern Database Version " + version + " Is Not Supported");
+
+            int spaces = header.getInt();
+            if (spaces < 1 || spaces > 256)
+                throw new IllegalArgumentException("The Pattern Database Has An Invalid Board Size");
+
+            ByteBuffer boardAndLength = readFully(channel, 4 * spaces + 4);
+            int[] goalBoard = new int[spaces];
+            for (int space = 0; space < spaces; space++)
+                goalBoard[space] = boardAndLength.getInt();
+
+            int patternLength = boardAndLength.getInt();
+            if (patternLength < 1 || patternLength >= spaces)
+                throw new IllegalArgumentException("The Pattern Database Has An Invalid Pattern Size");
+
+            ByteBuffer patternAndEntries = readFully(channel, 4 * patternLength + 4);
+            int[] patternTiles = new int[patternLength];
+            for (int i = 0; i < patternLength; i++)
+                patternTiles[i] = patternAndEntries.getInt();
+
+            int entries = patternAndEntries.getInt();
+            long offset = channel.position();
+            if (entries != numberOfEntries(spaces, patternLength) || channel.size() != offset + entries)
+                throw new IllegalArgumentException("The Pattern Database Is Truncated Or Corrupt");
+
+            return new NPuzzlePatternDatabase(goalBoard, patternTiles,
+                    channel.map(FileChannel.MapMode.READ_ONLY, offset, entries));
+        }
+    }
+
+    /**
+     * Writes the pattern database to a file that load() can map. The file holds a header with the format version,
+     * goal board, and pattern tiles followed by one byte per placement.
+     *
+     * @param file the file being written, it is replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+
+        if (file == null)
+            throw new IllegalArgumentException("File Cannot Be Null");
+
+        ByteBuffer header = ByteBuffer.allocate(4 * (this.spaces + this.patternTiles.length + 5));
+        header.putInt(MAGIC).putInt(VERSION).putInt(this.spaces);
+        for (int tile : this.goalBoard)
+            header.putInt(tile);
+        header.putInt(this.patternTiles.length);
+        for (int tile : this.patternTiles)
+            header.putInt(tile);
+        header.putInt(this.costs.capacity());
+        header.flip();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer body = this.costs.duplicate();
+            body.clear();
+
+            while (header.hasRemaining())
+                channel.write(header);
+            while (body.hasRemaining())
+                channel.write(body);
+        }
+    }
+
+    /**
+     * Gets the number of placements of k pattern tiles on a board with n spaces, n!/(n-k)!.
+     *
+     * @param spaces       the number of spaces on the board
+     * @param patternTiles the number of tiles in the pattern
+     * @return the number of entries in a pattern database for the pattern
+     */
+    public static long numberOfEntries(int spaces, int patternTiles) {
+        long entries = 1;
+        for (int i = 0; i < patternTiles; i++)
+            entries *= spaces - i;
+
+        return entries;
+    }
+
+    /**
+     * Gets a copy of the goal board the database was built for.
+     *
+     * @return the goal board
+     */
+    public int[] getGoalBoard() {
+        return this.goalBoard.clone();
+    }
+
+    /**
+     * Gets a copy of the tiles in the pattern.
+     *
+     * @return the tiles in the pattern
+     */
+    public int[] getPatternTiles() {
+        return this.patternTiles.clone();
+    }
+
+    /**
+     * Gets the number of entries, and bytes, in the database.
+     *
+     * @return the number of entries in the database
+     */
+    public int getNumberOfEntries() {
+        return this.costs.capacity();
+    }
+
+    /**
+     * Gets the fewest moves of the pattern tiles needed to bring them to their goal spaces.
+     *
+     * @param tilePositions the space of each tile, tilePositions[t] is the space holding tile t
+     * @return the cost of the placement of the pattern tiles
+     */
+    public int getCost(int[] tilePositions) {
+        int index = 0;
+
+        for (int i = 0; i < this.patternTiles.length; i++) {
+            int position = tilePositions[this.patternTiles[i]];
+            int smaller = 0;
+            for (int j = 0; j < i; j++)
+                if (tilePositions[this.patternTiles[j]] < position)
+                    smaller++;
+
+            index = index * (this.spaces - i) + position - smaller;
+        }
+
+        return this.costs.get(index) & 0xFF;
+    }
+
+    /**
+     * Ranks the spaces of the pattern tiles as a partial permutation. The i-th digit is how many spaces not used by the
+     * first i tiles come before the space of tile i, so every placement gets a unique index below n!/(n-k)!.
+     *
+     * @param positions the space of each pattern tile, in pattern order
+     * @return the index of the placement
+     */
+    private int rank(int[] positions) {
+        int index = 0;
+
+        for (int i = 0; i < positions.length; i++) {
+            int smaller = 0;
+            for (int j = 0; j < i; j++)
+                if (positions[j] < positions[i])
+                    smaller++;
+
+            index = index * (this.spaces - i) + positions[i] - smaller;
+        }
+
+        return index;
+    }
+
+    /**
+     * Fills the database with a breadth-first search backwards from the goal board. A search state is a placement of
+     * the pattern tiles and the region of spaces the empty space can reach without moving a pattern tile. Moving the
+     * empty space within its region is free, so each region is stored as its smallest space and every step of the
+     * search moves one pattern tile into the region. The first time a placement is reached is its cost. The states
+     * visited, the current layer, and the next layer are kept as bit sets indexed by placement * spaces + region.
+     * <p>
+     * With more than one thread, the words of the current layer are split into blocks that the threads expand at the
+     * same time. Bits are set with compare and swap, so only one thread adds each state to the next layer. Every
+     * thread that reaches a placement in the same layer writes the same cost, and each layer finishes before the next
+     * starts, so the costs do not depend on the number of threads.
+     *
+     * @param rowLength   the number of spaces in a row of the board
+     * @param entries     the number of placements of the pattern tiles
+     * @param parallelism the number of threads used to build the database
+     * @return the cost of every placement of the pattern tiles
+     */
+    private byte[] build(int rowLength, int entries, int parallelism) {
+        int[] goalPositions = new int[this.patternTiles.length];
+        int goalBlank = -1;
+        Arrays.fill(goalPositions, -1);
+
+        for (int space = 0; space < this.spaces; space++) {
+            if (this.goalBoard[space] == 0)
+                goalBlank = space;
+            for (int i = 0; i < this.patternTiles.length; i++)
+                if (this.goalBoard[space] == this.patternTiles[i])
+                    goalPositions[i] = space;
+        }
+
+        if (goalBlank == -1)
+            throw new IllegalArgumentException("Goal Board Must Contain An Empty Space");
+
+        for (int position : goalPositions)
+            if (position == -1)
+                throw new IllegalArgumentException("Pattern Tiles Must Be On The Goal Board");
+
+        int[][] neighbors = neighbors(rowLength);
+        byte[] table = new byte[entries];
+        long states = (long) entries * this.spaces;
+        int words = (int) ((states + 63) >>> 6);
+        AtomicLongArray visited = new AtomicLongArray(words);
+        AtomicLongArray current = new AtomicLongArray(words);
+        AtomicLongArray next = new AtomicLongArray(words);
+        Arrays.fill(table, UNSET);
+
+        long goalState = new LayerExpander(neighbors, table).stateOf(goalPositions, goalBlank);
+        setBit(visited, goalState);
+        setBit(current, goalState);
+        table[(int) (goalState / this.spaces)] = 0;
+
+        ExecutorService executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism) : null;
+        try {
+            boolean layerFound = true;
+            for (int cost = 1; layerFound; cost++) {
+                layerFound = false;
+                int blocks = executor == null ? 1 : parallelism * BLOCKS_PER_THREAD;
+                int blockWords = (words + blocks - 1) / blocks;
+
+                List<LayerTask> tasks = new ArrayList<>();
+                for (int start = 0; start < words; start += blockWords)
+                    tasks.add(new LayerTask(neighbors, table, cost, start, Math.min(words, start + blockWords),
+                            visited, current, next));
+
+                if (executor == null) {
+                    layerFound = tasks.get(0).call();
+                } else {
+                    for (Future<Boolean> future : executor.invokeAll(tasks))
+                        layerFound |= future.get();
+                }
+
+                AtomicLongArray swap = current;
+                current = next;
+                next = swap;
+                for (int word = 0; word < words; word++)
+                    next.set(word, 0L);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Building The Pattern Database Was Interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException("A Pattern Database Worker Failed", e.getCause());
+        } finally {
+            if (executor != null)
+                executor.shutdownNow();
+        }
+
+        // Placements That Cannot Be Reached Are Never Looked Up By A Solvable Board
+        for (int index = 0; index < table.length; index++)
+            if (table[index] == UNSET)
+                table[index] = 0;
+
+        return table;
+    }
+
+    /**
+     * Expands the states of the current layer whose bits are in one block of words.
+     */
+    private class LayerTask implements Callable<Boolean> {
+
+        private final LayerExpander expander;
+        private final int cost;
+        private final int startWord;
+        private final int endWord;
+        private final AtomicLongArray visited;
+        private final AtomicLongArray current;
+        private final AtomicLongArray next;
+
+        LayerTask(int[][] neighbors, byte[] table, int cost, int startWord, int endWord, AtomicLongArray visited,
+                  AtomicLongArray current, AtomicLongArray next) {
+            this.expander = new LayerExpander(neighbors, table);
+            this.cost = cost;
+            this.startWord = startWord;
+            this.endWord = endWord;
+            this.visited = visited;
+            this.current = current;
+            this.next = next;
+        }
+
+        @Override
+        public Boolean call() {
+            boolean found = false;
+
+            for (int word = this.startWord; word < this.endWord; word++) {
+                long bits = this.current.get(word);
+                while (bits != 0) {
+                    long state = ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    found |= this.expander.expand(state, this.cost, this.visited, this.next);
+                }
+            }
+
+            return found;
+        }
+
+    }
+
+    /**
+     * Expands the states of one layer of the build, keeping the arrays it needs between states so expanding a state
+     * does not allocate.
+     */
+    private class LayerExpander {
+
+        /**
+         * The spaces next to each space.
+         */
+        private final int[][] neighbors;
+
+        /**
+         * The cost of every placement found so far.
+         */
+        private final byte[] table;
+
+        /**
+         * The pattern tile number of each space, -1 for spaces without a pattern tile.
+         */
+        private final int[] occupant;
+
+        /**
+         * The space of each pattern tile, in pattern order.
+         */
+        private final int[] positions;
+
+        /**
+         * The spaces of the region being filled.
+         */
+        private final int[] region;
+
+        /**
+         * The spaces of the region of the state being expanded.
+         */
+        private final int[] expandedRegion;
+
+        /**
+         * The stamp each space was last visited with while filling a region.
+         */
+        private final int[] seen;
+
+        /**
+         * The digits of the placement being unranked.
+         */
+        private final int[] digits;
+
+        /**
+         * The last stamp used while filling a region.
+         */
+        private int stamp;
+
+        /**
+         * The number of spaces in the last region filled.
+         */
+        private int regionSize;
+
+        LayerExpander(int[][] neighbors, byte[] table) {
+            this.neighbors = neighbors;
+            this.table = table;
+            this.occupant = new int[spaces];
+            this.positions = new int[patternTiles.length];
+            this.region = new int[spaces];
+            this.expandedRegion = new int[spaces];
+            this.seen = new int[spaces];
+            this.digits = new int[patternTiles.length];
+        }
+
+        /**
+         * Finds the search state of a placement and the empty space.
+         *
+         * @param statePositions the space of each pattern tile, in pattern order
+         * @param blank          the space holding the empty space
+         * @return the search state
+         */
+        long stateOf(int[] statePositions, int blank) {
+            System.arraycopy(statePositions, 0, this.positions, 0, this.positions.length);
+            Arrays.fill(this.occupant, -1);
+            for (int i = 0; i < this.positions.length; i++)
+                this.occupant[this.positions[i]] = i;
+
+            return (long) rank(this.positions) * spaces + this.fillRegion(blank);
+        }
+
+        /**
+         * Generates every state one pattern tile move away from the supplied state. States that have not been visited
+         * are added to the next layer, and placements without a cost are given the cost of the next layer.
+         *
+         * @param state   the state being expanded
+         * @param cost    the cost of the next layer
+         * @param visited the states visited so far
+         * @param next    the states of the next layer
+         * @return true if a state was added to the next layer, otherwise false
+         */
+        boolean expand(long state, int cost, AtomicLongArray visited, AtomicLongArray next) {
+            this.unrank((int) (state / spaces));
+            this.fillRegion((int) (state % spaces));
+            int expandedSize = this.regionSize;
+            System.arraycopy(this.region, 0, this.expandedRegion, 0, expandedSize);
+
+            boolean found = false;
+            for (int r = 0; r < expandedSize; r++) {
+                int emptySpace = this.expandedRegion[r];
+                for (int tileSpace : this.neighbors[emptySpace]) {
+                    int tile = this.occupant[tileSpace];
+                    if (tile == -1)
+                        continue;
+
+                    // Slide The Pattern Tile Into The Region, Its Old Space Becomes The Empty Space
+                    this.positions[tile] = emptySpace;
+                    this.occupant[emptySpace] = tile;
+                    this.occupant[tileSpace] = -1;
+
+                    int childIndex = rank(this.positions);
+                    long childState = (long) childIndex * spaces + this.fillRegion(tileSpace);
+
+                    if (setBit(visited, childState)) {
+                        setBit(next, childState);
+                        found = true;
+                        if (this.table[childIndex] == UNSET)
+                            this.table[childIndex] = (byte) cost;
+                    }
+
+                    this.positions[tile] = tileSpace;
+                    this.occupant[tileSpace] = tile;
+                    this.occupant[emptySpace] = -1;
+                }
+            }
+
+            return found;
+        }
+
+        /**
+         * Reverses rank(), filling in the space of each pattern tile and the pattern tile of each space.
+         *
+         * @param index the index of the placement
+         */
+        private void unrank(int index) {
+            for (int i = this.positions.length - 1; i >= 0; i--) {
+                this.digits[i] = index % (spaces - i);
+                index /= spaces - i;
+            }
+
+            // Occupant Marks The Spaces Already Used By Earlier Tiles
+            Arrays.fill(this.occupant, -1);
+            for (int i = 0; i < this.positions.length; i++) {
+                int space = -1;
+                for (int free = this.digits[i]; free >= 0; free--)
+                    do space++; while (this.occupant[space] != -1);
+
+                this.positions[i] = space;
+                this.occupant[space] = i;
+            }
+        }
+
+        /**
+         * Finds the spaces the empty space can reach from the supplied space without moving a pattern tile.
+         *
+         * @param start the space holding the empty space
+         * @return the smallest space in the region
+         */
+        private int fillRegion(int start) {
+            int mark = ++this.stamp;
+            int size = 0;
+            int smallest = start;
+            this.region[size++] = start;
+            this.seen[start] = mark;
+
+            for (int i = 0; i < size; i++)
+                for (int neighbor : this.neighbors[this.region[i]])
+                    if (this.occupant[neighbor] == -1 && this.seen[neighbor] != mark) {
+                        this.seen[neighbor] = mark;
+                        this.region[size++] = neighbor;
+                        if (neighbor < smallest)
+                            smallest = neighbor;
+                    }
+
+            this.regionSize = size;
+            return smallest;
+        }
+
+    }
+
+    /**
+     * Finds the spaces above, below, left, and right of every space on a square board.
+     *
+     * @param rowLength the number of spaces in a row of the board
+     * @return the neighbors of each space
+     */
+    private static int[][] neighbors(int rowLength) {
+        int spaces = rowLength * rowLength;
+        int[][] neighbors = new int[spaces][];
+
+        for (int space = 0; space < spaces; space++) {
+            int row = space / rowLength;
+            int col = space % rowLength;
+            int[] found = new int[4];
+            int count = 0;
+
+            if (row > 0)
+                found[count++] = space - rowLength;
+            if (row < rowLength - 1)
+                found[count++] = space + rowLength;
+            if (col > 0)
+                found[count++] = space - 1;
+            if (col < rowLength - 1)
+                found[count++] = space + 1;
+
+            neighbors[space] = Arrays.copyOf(found, count);
+        }
+
+        return neighbors;
+    }
+
+    /**
+     * Sets a bit with compare and swap.
+     *
+     * @param bits  the bit set
+     * @param index the index of the bit
+     * @return true if this call set the bit, false if it was already set
+     */
+    private static boolean setBit(AtomicLongArray bits, long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+
+        long old;
+        do {
+            old = bits.get(word);
+            if ((old & mask) != 0)
+                return false;
+        } while (!bits.compareAndSet(word, old, old | mask));
+
+        return true;
+    }
+
+    /**
+     * Reads the next bytes of a file.
+     *
+     * @param channel the file
+     * @param length  the number of bytes to read
+     * @return the bytes, ready to be read
+     * @throws IOException if the file cannot be read
+     */
+    private static ByteBuffer readFully(FileChannel channel, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+
+        while (buffer.hasRemaining())
+            if (channel.read(buffer) < 0)
+                throw new IllegalArgumentException("The Pattern Database Is Truncated Or Corrupt");
+
+        buffer.flip();
+        return buffer;
+    }
+
+}
@@ -0,0 +1,396 @@
+package com.knighten.ai.search.npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IIncrementalHeuristicFunction;
+import com.knighten.ai.search.interfaces.IIntegerHeuristicFunction;
+
+import java.util.Arrays;
+
+/**
+ * Walking distance heuristic function for the NPuzzle problem. Looking only at rows, a board is summarized by how many
+ * tiles of each goal row are in each row and which row holds the empty space. A vertical move takes one tile from the
+ * row next to the empty space into the empty space's row. The fewest vertical moves needed to reach the goal's summary
+ * is the vertical walking distance, the horizontal walking distance is found the same way from the columns, and since
+ * every move is either vertical or horizontal the two can be added.
+ * <p>
+ * The walking distance of every summary is precomputed by a breadth-first search back from the goal's summary, so
+ * scoring a board is a pass to build its two summaries and two table lookups. A move only changes one of the summaries,
+ * so a child is scored from its parent's score and summaries. Each thread keeps the summaries of the last parent it
+ * scored children of, so a parent's summaries are built once and every child after that costs a handful of table
+ * lookups. The table grows quickly with the board size, boards up to 4x4 are supported.
+ */
+public class NPuzzleWalkingDistance implements IIntegerHeuristicFunction, IIncrementalHeuristicFunction {
+
+    /**
+     * The largest number of spaces in a row supported, the table of a 5x5 board does not fit in a few GB of heap.
+     */
+    private static final int MAX_ROW_LENGTH = 4;
+
+    /**
+     * The number of bits used to store the count of one goal line in one line.
+     */
+    private static final int BITS_PER_COUNT = 3;
+
+    /**
+     * The number of spaces on the goal board.
+     */
+    private final int spaces;
+
+    /**
+     * The number of spaces in a row of the board.
+     */
+    private final int rowLength;
+
+    /**
+     * What tile t in space s adds to the row summary, stored at t * spaces + s. The empty space adds its row.
+     */
+    private final long[] rowKeyParts;
+
+    /**
+     * What tile t in space s adds to the column summary, stored at t * spaces + s. The empty space adds its column.
+     */
+    private final long[] colKeyParts;
+
+    /**
+     * The vertical walking distance of every row summary.
+     */
+    private final DistanceTable rowDistances;
+
+    /**
+     * The horizontal walking distance of every column summary.
+     */
+    private final DistanceTable colDistances;
+
+    /**
+     * The summaries of the last parent each thread scored children of.
+     */
+    private final ThreadLocal<ParentSummaries> parentSummaries = ThreadLocal.withInitial(ParentSummaries::new);
+
+    /**
+     * Creates the walking distance heuristic function for n puzzles.
+     *
+     * @param goalNode goal node used in every heuristic value calculation
+     */
+    public NPuzzleWalkingDistance(AbstractAStarNode goalNode) {
+
+        if (goalNode == null)
+            throw new IllegalArgumentException("Goal Node Cannot Be Null");
+
+        int[] goalBoard = (int[]) goalNode.getState();
+        this.spaces = goalBoard.length;
+        this.rowLength = (int) Math.sqrt(this.spaces);
+
+        if (this.rowLength * this.rowLength != this.spaces)
+            throw new IllegalArgumentException("Goal Board Must Be Square");
+
+        if (this.rowLength > MAX_ROW_LENGTH)
+            throw new IllegalArgumentException("Walking Distance Supports Boards Up To 4x4");
+
+        int emptyShift = this.rowLength * (this.rowLength - 1) * BITS_PER_COUNT;
+        this.rowKeyParts = new long[this.spaces * this.spaces];
+        this.colKeyParts = new long[this.spaces * this.spaces];
+        int goalEmptySpace = -1;
+
+        for (int goalSpace = 0; goalSpace < this.spaces; goalSpace++) {
+            int tile = goalBoard[goalSpace];
+            if (tile == 0)
+                goalEmptySpace = goalSpace;
+
+            for (int space = 0; space < this.spaces; space++) {
+                int index = tile * this.spaces + space;
+                int row = space / this.rowLength;
+                int col = space % this.rowLength;
+
+                if (tile == 0) {
+                    this.rowKeyParts[index] = (long) row << emptyShift;
+                    this.colKeyParts[index] = (long) col << emptyShift;
+                } else {
+                    this.rowKeyParts[index] = this.countUnit(row, goalSpace / this.rowLength);
+                    this.colKeyParts[index] = this.countUnit(col, goalSpace % this.rowLength);
+                }
+            }
+        }
+
+        if (goalEmptySpace == -1)
+            throw new IllegalArgumentException("Goal Board Must Contain An Empty Space");
+
+        int goalEmptyRow = goalEmptySpace / this.rowLength;
+        int goalEmptyCol = goalEmptySpace % this.rowLength;
+        this.rowDistances = this.buildTable(goalEmptyRow);
+        this.colDistances = goalEmptyRow == goalEmptyCol ? this.rowDistances : this.buildTable(goalEmptyCol);
+    }
+
+    /**
+     * Calculates the walking distance heuristic. See calculateIntHeuristic().
+     *
+     * @param searchNode the search node whose heuristic value is being calculated
+     * @return returns the calculated heuristic(h()) score
+     */
+    @Override
+    public double calculateHeuristic(AbstractAStarNode searchNode) {
+        return this.calculateIntHeuristic(searchNode);
+    }
+
+    /**
+     * Calculates the vertical walking distance plus the horizontal walking distance of the board.
+     *
+     * @param searchNode the search node whose heuristic value is being calculated
+     * @return returns the calculated heuristic(h()) score
+     */
+    @Override
+    public int calculateIntHeuristic(AbstractAStarNode searchNode) {
+
+        if (searchNode == null)
+            throw new IllegalArgumentException("Search Node Cannot Be Null");
+
+        // Read The Tiles Of Puzzles Through getTile() So Packed Boards Are Never Decoded
+        AbstractNPuzzle puzzle = searchNode instanceof AbstractNPuzzle ? (AbstractNPuzzle) searchNode : null;
+        int[] board = puzzle == null ? (int[]) searchNode.getState() : null;
+        long rowKey = 0;
+        long colKey = 0;
+
+        for (int space = 0; space < this.spaces; space++) {
+            int index = (puzzle != null ? puzzle.getTile(space) : board[space]) * this.spaces + space;
+            rowKey += this.rowKeyParts[index];
+            colKey += this.colKeyParts[index];
+        }
+
+        return this.rowDistances.get(rowKey) + this.colDistances.get(colKey);
+    }
+
+    /**
+     * Calculates the walking distance of a child from its parent's score. A vertical move only changes the vertical
+     * walking distance and a horizontal move only changes the horizontal one, so only the summary that changed is
+     * looked up for the parent and the child. The parent's summaries are built on the first child scored and reused for
+     * its other children. Falls back to calculateHeuristic() for nodes that are not AbstractNPuzzles.
+     *
+     * @param searchNode      the search node whose heuristic value is being calculated
+     * @param parentNode      the parent of searchNode
+     * @param parentHeuristic the walking distance of parentNode
+     * @return returns the calculated heuristic(h()) score
+     */
+    @Override
+    public double calculateIncrementalHeuristic(AbstractAStarNode searchNode, AbstractAStarNode parentNode,
+                                                double parentHeuristic) {
+
+        if (!(searchNode instanceof AbstractNPuzzle) || !(parentNode instanceof AbstractNPuzzle))
+            return this.calculateHeuristic(searchNode);
+
+        // The Moved Tile Went From The Child's Empty Space Into The Parent's Empty Space
+        int fromSpace = ((AbstractNPuzzle) searchNode).getEmptySpaceLocation();
+        int toSpace = ((AbstractNPuzzle) parentNode).getEmptySpaceLocation();
+        AbstractNPuzzle parentPuzzle = (AbstractNPuzzle) parentNode;
+        int tileOffset = parentPuzzle.getTile(fromSpace) * this.spaces;
+        boolean vertical = fromSpace / this.rowLength != toSpace / this.rowLength;
+
+        long[] keyParts = vertical ? this.rowKeyParts : this.colKeyParts;
+        DistanceTable distances = vertical ? this.rowDistances : this.colDistances;
+
+        // Siblings Are Scored One After Another - Only Build The Parent's Summaries For The First
+        ParentSummaries summaries = this.parentSummaries.get();
+        if (summaries.parent != parentNode) {
+            long rowKey = 0;
+            long colKey = 0;
+            for (int space = 0; space < this.spaces; space++) {
+                int index = parentPuzzle.getTile(space) * this.spaces + space;
+                rowKey += this.rowKeyParts[index];
+                colKey += this.colKeyParts[index];
+            }
+
+            summaries.parent = parentNode;
+            summaries.rowKey = rowKey;
+            summaries.colKey = colKey;
+        }
+
+        long parentKey = vertical ? summaries.rowKey : summaries.colKey;
+
+        long childKey = parentKey - keyParts[tileOffset + fromSpace] + keyParts[tileOffset + toSpace]
+                - keyParts[toSpace] + keyParts[fromSpace];
+
+        return parentHeuristic - distances.get(parentKey) + distances.get(childKey);
+    }
+
+    /**
+     * Gets the amount a summary changes when a tile of the goal line is added to the line. The count of the last goal
+     * line is left out since it follows from the others, a line holds rowLength tiles or rowLength - 1 with the empty
+     * space.
+     *
+     * @param line     the line holding the tile
+     * @param goalLine the goal line of the tile
+     * @return the amount added to the summary
+     */
+    private long countUnit(int line, int goalLine) {
+        if (goalLine == this.rowLength - 1)
+            return 0;
+
+        return 1L << ((line * (this.rowLength - 1) + goalLine) * BITS_PER_COUNT);
+    }
+
+    /**
+     * Finds the walking distance of every summary with a breadth-first search back from the goal's summary. A step
+     * moves a tile with any goal line from a line next to the empty space's line into the empty space's line.
+     *
+     * @param goalEmptyLine the line holding the empty space on the goal board
+     * @return the walking distance of every reachable summary
+     */
+    private DistanceTable buildTable(int goalEmptyLine) {
+        int emptyShift = this.rowLength * (this.rowLength - 1) * BITS_PER_COUNT;
+        int[][] counts = new int[this.rowLength][this.rowLength];
+
+        // On The Goal Board Every Line Holds Its Own Tiles
+        long goalKey = (long) goalEmptyLine << emptyShift;
+        for (int line = 0; line < this.rowLength; line++)
+            goalKey += this.countUnit(line, line) * (line == goalEmptyLine ? this.rowLength - 1 : this.rowLength);
+
+        DistanceTable table = new DistanceTable(1024);
+        table.put(goalKey, 0);
+        long[] queue = {goalKey};
+        int head = 0;
+        int tail = 1;
+
+        while (head < tail) {
+            long key = queue[head++];
+            int distance = table.get(key);
+            int emptyLine = (int) (key >>> emptyShift);
+            this.unpackCounts(key, emptyLine, counts);
+
+            for (int line = emptyLine - 1; line <= emptyLine + 1; line += 2) {
+                if (line < 0 || line >= this.rowLength)
+                    continue;
+
+                for (int goalLine = 0; goalLine < this.rowLength; goalLine++) {
+                    if (counts[line][goalLine] == 0)
+                        continue;
+
+                    long childKey = key - this.countUnit(line, goalLine) + this.countUnit(emptyLine, goalLine)
+                            - ((long) emptyLine << emptyShift) + ((long) line << emptyShift);
+
+                    if (!table.contains(childKey)) {
+                        table.put(childKey, distance + 1);
+                        if (tail == queue.length)
+                            queue = Arrays.copyOf(queue, queue.length * 2);
+                        queue[tail++] = childKey;
+                    }
+                }
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Unpacks how many tiles of each goal line are in each line of a summary.
+     *
+     * @param key       the summary
+     * @param emptyLine the line holding the empty space
+     * @param counts    filled with the count of goal line g in line l at counts[l][g]
+     */
+    private void unpackCounts(long key, int emptyLine, int[][] counts) {
+        long mask = (1L << BITS_PER_COUNT) - 1;
+
+        for (int line = 0; line < this.rowLength; line++) {
+            int remaining = line == emptyLine ? this.rowLength - 1 : this.rowLength;
+            for (int goalLine = 0; goalLine < this.rowLength - 1; goalLine++) {
+                int shift = (line * (this.rowLength - 1) + goalLine) * BITS_PER_COUNT;
+                counts[line][goalLine] = (int) ((key >>> shift) & mask);
+                remaining -= counts[line][goalLine];
+            }
+
+            counts[line][this.rowLength - 1] = remaining;
+        }
+    }
+
+    /**
+     * The row and column summaries of a parent, kept so its children do not build them again.
+     */
+    private static final class ParentSummaries {
+
+        /**
+         * The parent whose summaries are kept, compared by reference.
+         */
+        private AbstractAStarNode parent;
+
+        /**
+         * The parent's row summary.
+         */
+        private long rowKey;
+
+        /**
+         * The parent's column summary.
+         */
+        private long colKey;
+
+    }
+
+    /**
+     * An open addressing hash table from summaries to walking distances.
+     */
+    private static class DistanceTable {
+
+        /**
+         * Marks an empty slot, no summary has every bit set.
+         */
+        private static final long EMPTY = -1L;
+
+        private long[] keys;
+        private byte[] values;
+        private int size;
+
+        DistanceTable(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new byte[capacity];
+            Arrays.fill(this.keys, EMPTY);
+        }
+
+        int get(long key) {
+            int slot = this.slotOf(key);
+            return this.keys[slot] == key ? this.values[slot] : 0;
+        }
+
+        boolean contains(long key) {
+            return this.keys[this.slotOf(key)] == key;
+        }
+
+        void put(long key, int value) {
+
+            // Keep The Table At Most Half Full
+            if (2 * (this.size + 1) > this.keys.length)
+                this.grow();
+
+            int slot = this.slotOf(key);
+            if (this.keys[slot] != key) {
+                this.keys[slot] = key;
+                this.size++;
+            }
+            this.values[slot] = (byte) value;
+        }
+
+        private int slotOf(long key) {
+            int mask = this.keys.length - 1;
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            int slot = (int) (mixed >>> 32) & mask;
+
+            while (this.keys[slot] != EMPTY && this.keys[slot] != key)
+                slot = (slot + 1) & mask;
+
+            return slot;
+        }
+
+        private void grow() {
+            long[] oldKeys = this.keys;
+            byte[] oldValues = this.values;
+            this.keys = new long[oldKeys.length * 2];
+            this.values = new byte[oldValues.length * 2];
+            Arrays.fill(this.keys, EMPTY);
+
+            for (int slot = 0; slot < oldKeys.length; slot++)
+                if (oldKeys[slot] != EMPTY) {
+                    int newSlot = this.slotOf(oldKeys[slot]);
+                    this.keys[newSlot] = oldKeys[slot];
+                    this.values[newSlot] = oldValues[slot];
+                }
+        }
+
+    }
+
+}
@@ -50,6 +50,17 @@ public class ThreePuzzle extends AbstractNPuzzle {
         this.setParent(parentPuzzle);
     }
 
+    /**
+     * Creates a ThreePuzzle holding the board that was packed into the supplied long.
+     *
+     * @param packedState a board packed by packState()
+     * @return a ThreePuzzle with the packed board and no parent
+     */
+    @Override
+    public AbstractAStarNode unpackState(long packedState) {
+        return new ThreePuzzle(this.unpackBoard(packedState));
+    }
+
     /**
      * Returns the successor states for the current search node. Attempts to move tiles into the empty space to create
      * new states.
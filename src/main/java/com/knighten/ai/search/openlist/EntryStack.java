@@ -0,0 +1,118 @@
+package com.knighten.ai.search.openlist;
+
+import java.util.Arrays;
+
+/**
+ * A growable stack of IntOpenEntry objects used as a single bucket by the bucket based open lists. Each entry's index
+ * is kept equal to its position in the stack so an entry can be removed in constant time by swapping the last entry
+ * into its place.
+ */
+final class EntryStack {
+
+    /**
+     * The stacked entries. The top of the stack is at size - 1.
+     */
+    private IntOpenEntry[] entries;
+
+    /**
+     * Number of entries in the stack.
+     */
+    private int size;
+
+    /**
+     * Creates an empty EntryStack.
+     */
+    EntryStack() {
+        this.entries = new IntOpenEntry[4];
+        this.size = 0;
+    }
+
+    /**
+     * Pushes an entry on top of the stack.
+     *
+     * @param entry the entry being pushed
+     */
+    void push(IntOpenEntry entry) {
+        if (this.size == this.entries.length)
+            this.entries = Arrays.copyOf(this.entries, this.entries.length * 2);
+
+        entry.index = this.size;
+        this.entries[this.size++] = entry;
+    }
+
+    /**
+     * Removes and returns the entry on top of the stack.
+     *
+     * @return the entry that was on top of the stack
+     */
+    IntOpenEntry pop() {
+        IntOpenEntry entry = this.entries[--this.size];
+        this.entries[this.size] = null;
+        entry.index = -1;
+        return entry;
+    }
+
+    /**
+     * Returns the entry on top of the stack without removing it.
+     *
+     * @return the entry on top of the stack
+     */
+    IntOpenEntry peek() {
+        return this.entries[this.size - 1];
+    }
+
+    /**
+     * Removes an entry from the stack by moving the top entry into its place.
+     *
+     * @param entry the entry being removed, must be in this stack
+     */
+    void remove(IntOpenEntry entry) {
+        int index = entry.index;
+        IntOpenEntry last = this.entries[--this.size];
+        this.entries[this.size] = null;
+
+        if (last != entry) {
+            this.entries[index] = last;
+            last.index = index;
+        }
+
+        entry.index = -1;
+    }
+
+    /**
+     * Returns the entry at a position in the stack.
+     *
+     * @param index position in the stack
+     * @return the entry at the position
+     */
+    IntOpenEntry get(int index) {
+        return this.entries[index];
+    }
+
+    /**
+     * Returns the number of entries in the stack.
+     *
+     * @return the number of entries in the stack
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Determines if the stack is empty.
+     *
+     * @return true if the stack is empty, otherwise false
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes every entry from the stack.
+     */
+    void clear() {
+        Arrays.fill(this.entries, 0, this.size, null);
+        this.size = 0;
+    }
+
+}
@@ -0,0 +1,349 @@
+package com.knighten.ai.search.openlist;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.collections.NodeStateMap;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.IOpenList;
+
+import java.util.Comparator;
+import java.util.TreeSet;
+
+/**
+ * An open list for focal search(A*epsilon). Queued nodes are kept ordered by f(), and the nodes with an f() of at most
+ * epsilon times the smallest f() also form the FOCAL list. FOCAL is ordered by a second heuristic, usually an estimate
+ * of the number of steps left to the goal, and pollFocal() returns the best node of FOCAL. poll() and peek() fall back
+ * to the node with the smallest f() when FOCAL is empty, so they agree with isEmpty().
+ *
+ * Both lists are balanced trees. When the smallest f() changes only the nodes whose f() lies between the old and new
+ * focal bounds are moved into or out of FOCAL, so every node enters FOCAL at most once per rise of the focal bound.
+ * Like IndexedDaryHeap, the list never holds more than one node per state.
+ */
+public class FocalOpenList implements IOpenList {
+
+    /**
+     * Orders entries by f(), ties are polled in insertion order.
+     */
+    private static final Comparator<Entry> F_ORDER = (entry1, entry2) -> {
+        int byF = Double.compare(entry1.f, entry2.f);
+        return byF != 0 ? byF : Long.compare(entry1.sequence, entry2.sequence);
+    };
+
+    /**
+     * Orders entries by the focal heuristic, then by f(), then in insertion order.
+     */
+    private static final Comparator<Entry> FOCAL_ORDER = (entry1, entry2) -> {
+        int byFocalH = Double.compare(entry1.focalH, entry2.focalH);
+        return byFocalH != 0 ? byFocalH : F_ORDER.compare(entry1, entry2);
+    };
+
+    /**
+     * FOCAL holds every queued node with an f() no larger than epsilon times the smallest queued f().
+     */
+    private final double epsilon;
+
+    /**
+     * Orders the nodes of FOCAL.
+     */
+    private final IHeuristicFunction focalHeuristic;
+
+    /**
+     * Every queued entry ordered by f().
+     */
+    private final TreeSet<Entry> open;
+
+    /**
+     * The queued entries whose f() is no larger than focalBound, ordered by the focal heuristic.
+     */
+    private final TreeSet<Entry> focal;
+
+    /**
+     * Maps each queued state to its entry.
+     */
+    private final NodeStateMap<Entry> entries;
+
+    /**
+     * A lower bound on the optimal cost supplied by the search, positive infinity when there is none.
+     */
+    private double externalLowerBound;
+
+    /**
+     * Epsilon times the smaller of the smallest queued f() and the external lower bound, or negative infinity when the
+     * list is empty.
+     */
+    private double focalBound;
+
+    /**
+     * Counts the entries that have been added or updated.
+     */
+    private long insertionCount;
+
+    /**
+     * Creates a FocalOpenList that is keyed by nodes.
+     *
+     * @param epsilon        the largest allowed ratio of a FOCAL node's f() to the smallest f(), must be 1 or greater
+     * @param focalHeuristic orders the nodes of FOCAL
+     */
+    public FocalOpenList(double epsilon, IHeuristicFunction focalHeuristic) {
+        this(epsilon, focalHeuristic, false);
+    }
+
+    /**
+     * Creates a FocalOpenList.
+     *
+     * @param epsilon         the largest allowed ratio of a FOCAL node's f() to the smallest f(), must be 1 or greater
+     * @param focalHeuristic  orders the nodes of FOCAL
+     * @param usePackedStates true to map states to entries using packed states, false to use the nodes themselves
+     */
+    public FocalOpenList(double epsilon, IHeuristicFunction focalHeuristic, boolean usePackedStates) {
+
+        if (!(epsilon >= 1.0) || Double.isInfinite(epsilon))
+            throw new IllegalArgumentException("Epsilon Must Be A Finite Value Of 1 Or Greater");
+
+        if (focalHeuristic == null)
+            throw new IllegalArgumentException("The Focal Heuristic Function Cannot Be Null");
+
+        this.epsilon = epsilon;
+        this.focalHeuristic = focalHeuristic;
+        this.open = new TreeSet<>(F_ORDER);
+        this.focal = new TreeSet<>(FOCAL_ORDER);
+        this.entries = new NodeStateMap<>(usePackedStates);
+        this.externalLowerBound = Double.POSITIVE_INFINITY;
+        this.focalBound = Double.NEGATIVE_INFINITY;
+        this.insertionCount = 0;
+    }
+
+    /**
+     * Gets the largest allowed ratio of a FOCAL node's f() to the smallest f().
+     *
+     * @return epsilon
+     */
+    public double getEpsilon() {
+        return this.epsilon;
+    }
+
+    /**
+     * Gets the smallest f() of every queued node. This is a lower bound on the optimal cost when the heuristic is
+     * admissible.
+     *
+     * @return the smallest queued f(), or positive infinity if the list is empty
+     */
+    public double getMinF() {
+        return this.open.isEmpty() ? Double.POSITIVE_INFINITY : this.open.first().f;
+    }
+
+    /**
+     * Gets the lower bound on the optimal cost that was supplied by the search.
+     *
+     * @return the external lower bound, positive infinity if none was supplied
+     */
+    public double getExternalLowerBound() {
+        return this.externalLowerBound;
+    }
+
+    /**
+     * Supplies a lower bound on the optimal cost that comes from states outside the list. FOCAL then only holds nodes
+     * with an f() of at most epsilon times the smaller of this bound and the smallest queued f(), so FOCAL may be empty
+     * while the list is not.
+     *
+     * @param externalLowerBound a lower bound on the optimal cost, positive infinity for none
+     */
+    public void setExternalLowerBound(double externalLowerBound) {
+
+        if (Double.isNaN(externalLowerBound))
+            throw new IllegalArgumentException("The External Lower Bound Cannot Be NaN");
+
+        this.externalLowerBound = externalLowerBound;
+        this.updateFocalBound();
+    }
+
+    /**
+     * Gets the number of nodes currently in FOCAL.
+     *
+     * @return the size of FOCAL
+     */
+    public int focalSize() {
+        return this.focal.size();
+    }
+
+    @Override
+    public boolean offer(AbstractAStarNode node) {
+
+        if (node == null)
+            throw new IllegalArgumentException("Nodes Added To The Open List Cannot Be Null");
+
+        Entry entry = this.entries.get(node);
+
+        if (entry == null) {
+            entry = new Entry(node, this.focalHeuristic.calculateHeuristic(node));
+        } else {
+            // State Is Already Queued With An Equal Or Better f() - Discard The New Node
+            if (node.getF() >= entry.f)
+                return false;
+
+            // Found A Better Path To A Queued State - Take The Entry Out Of Both Lists To Reorder It
+            this.open.remove(entry);
+            this.focal.remove(entry);
+            if (entry.node != node)
+                this.entries.remove(entry.node);
+            entry.node = node;
+        }
+
+        entry.f = node.getF();
+        entry.sequence = this.insertionCount++;
+        this.entries.put(node, entry);
+        this.open.add(entry);
+
+        if (entry.f <= this.focalBound)
+            this.focal.add(entry);
+
+        this.updateFocalBound();
+        return true;
+    }
+
+    /**
+     * Removes and returns the best node of FOCAL. When the external lower bound leaves FOCAL empty the queued node with
+     * the smallest f() is returned instead, so this only returns null when the list is empty.
+     *
+     * @return the best node of FOCAL, the node with the smallest f() if FOCAL is empty, or null if the list is empty
+     */
+    @Override
+    public AbstractAStarNode poll() {
+
+        if (this.open.isEmpty())
+            return null;
+
+        return this.remove(this.focal.isEmpty() ? this.open.first() : this.focal.first());
+    }
+
+    /**
+     * Returns the best node of FOCAL without removing it. When the external lower bound leaves FOCAL empty the queued
+     * node with the smallest f() is returned instead, so this only returns null when the list is empty.
+     *
+     * @return the best node of FOCAL, the node with the smallest f() if FOCAL is empty, or null if the list is empty
+     */
+    @Override
+    public AbstractAStarNode peek() {
+
+        if (this.open.isEmpty())
+            return null;
+
+        return this.focal.isEmpty() ? this.open.first().node : this.focal.first().node;
+    }
+
+    /**
+     * Removes and returns the best node of FOCAL. Returns null when FOCAL is empty, even if the list still holds nodes
+     * outside FOCAL.
+     *
+     * @return the best node of FOCAL, or null if FOCAL is empty
+     */
+    public AbstractAStarNode pollFocal() {
+        return this.focal.isEmpty() ? null : this.remove(this.focal.first());
+    }
+
+    /**
+     * Returns the best node of FOCAL without removing it. Returns null when FOCAL is empty, even if the list still
+     * holds nodes outside FOCAL.
+     *
+     * @return the best node of FOCAL, or null if FOCAL is empty
+     */
+    public AbstractAStarNode peekFocal() {
+        return this.focal.isEmpty() ? null : this.focal.first().node;
+    }
+
+    @Override
+    public AbstractAStarNode get(AbstractAStarNode node) {
+        Entry entry = this.entries.get(node);
+        return entry == null ? null : entry.node;
+    }
+
+    @Override
+    public boolean contains(AbstractAStarNode node) {
+        return this.entries.get(node) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.open.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.open.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        this.open.clear();
+        this.focal.clear();
+        this.entries.clear();
+        this.externalLowerBound = Double.POSITIVE_INFINITY;
+        this.focalBound = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Removes a queued entry from both lists and recomputes the focal bound.
+     *
+     * @param entry the entry to remove
+     * @return the node held by the entry
+     */
+    private AbstractAStarNode remove(Entry entry) {
+        this.open.remove(entry);
+        this.focal.remove(entry);
+        this.entries.remove(entry.node);
+        this.updateFocalBound();
+
+        return entry.node;
+    }
+
+    /**
+     * Recomputes the focal bound from the smallest queued f() and the external lower bound. Entries between the old and
+     * new bound are added to FOCAL when the bound rises and removed from it when the bound falls.
+     */
+    private void updateFocalBound() {
+        double newBound = this.open.isEmpty()
+                ? Double.NEGATIVE_INFINITY
+                : this.epsilon * Math.min(this.open.first().f, this.externalLowerBound);
+
+        if (newBound > this.focalBound) {
+            for (Entry entry : this.open.subSet(probe(this.focalBound), false, probe(newBound), false))
+                this.focal.add(entry);
+        } else if (newBound < this.focalBound) {
+            for (Entry entry : this.open.subSet(probe(newBound), false, probe(this.focalBound), false))
+                this.focal.remove(entry);
+        }
+
+        this.focalBound = newBound;
+    }
+
+    /**
+     * Creates an entry that is only used to mark a position in the f() ordering, it comes after every entry with the
+     * same f().
+     *
+     * @param f the f() of the position
+     * @return an entry holding no node
+     */
+    private static Entry probe(double f) {
+        Entry entry = new Entry(null, 0.0);
+        entry.f = f;
+        entry.sequence = Long.MAX_VALUE;
+        return entry;
+    }
+
+    /**
+     * A single queued node along with the values it is ordered by.
+     */
+    private static final class Entry {
+
+        private AbstractAStarNode node;
+        private double f;
+        private final double focalH;
+        private long sequence;
+
+        private Entry(AbstractAStarNode node, double focalH) {
+            this.node = node;
+            this.focalH = focalH;
+        }
+
+    }
+
+}
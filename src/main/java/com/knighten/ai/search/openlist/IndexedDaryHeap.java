@@ -0,0 +1,414 @@
+package com.knighten.ai.search.openlist;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IOpenList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+
+/**
+ * An open list backed by an array based d-ary min heap that is ordered by f(). Each state is mapped to its position in
+ * the heap, so when a better path to a queued state is found the queued entry is updated in place(decrease-key) instead
+ * of a duplicate entry being added. The heap therefore never holds more than one entry per state. Nodes with equal f()
+ * are ordered by a TieBreakingPolicy.
+ */
+public class IndexedDaryHeap implements IOpenList {
+
+    /**
+     * The arity used when none is supplied. A 4-ary heap is shallower than a binary heap and its children share cache
+     * lines, which makes it a good fit for the offer heavy workload of A*.
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    /**
+     * Initial number of entries the heap can hold before it grows.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The number of children each heap entry has.
+     */
+    private final int arity;
+
+    /**
+     * The heap entries. The entry with the smallest f() is stored at index 0.
+     */
+    private Entry[] heap;
+
+    /**
+     * Number of entries currently stored in the heap.
+     */
+    private int size;
+
+    /**
+     * Maps each queued state to its heap entry.
+     */
+    private HashMap<AbstractAStarNode, Entry> entries;
+
+    /**
+     * Decides the order of nodes with equal f().
+     */
+    private final TieBreakingPolicy tieBreakingPolicy;
+
+    /**
+     * Orders nodes with equal f() when the tie breaking policy is CUSTOM, otherwise null.
+     */
+    private final Comparator<AbstractAStarNode> tieBreakingComparator;
+
+    /**
+     * Counts the entries that have been added or updated, used by the FIFO and LIFO policies.
+     */
+    private long insertionCount;
+
+    /**
+     * Creates an IndexedDaryHeap using the default arity and no tie breaking.
+     */
+    public IndexedDaryHeap() {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates an IndexedDaryHeap with the supplied arity and no tie breaking.
+     *
+     * @param arity the number of children each heap entry has
+     */
+    public IndexedDaryHeap(int arity) {
+        this(arity, TieBreakingPolicy.NONE, null);
+    }
+
+    /**
+     * Creates an IndexedDaryHeap with the supplied arity and tie breaking policy.
+     *
+     * @param arity                 the number of children each heap entry has
+     * @param tieBreakingPolicy     decides the order of nodes with equal f()
+     * @param tieBreakingComparator orders nodes with equal f() when the policy is CUSTOM, ignored otherwise
+     */
+    public IndexedDaryHeap(int arity, TieBreakingPolicy tieBreakingPolicy,
+                           Comparator<AbstractAStarNode> tieBreakingComparator) {
+
+        if (arity < 2)
+            throw new IllegalArgumentException("The Arity Of The Heap Must Be 2 Or Greater");
+
+        if (tieBreakingPolicy == null)
+            throw new IllegalArgumentException("The Tie Breaking Policy Cannot Be Null");
+
+        if (tieBreakingPolicy == TieBreakingPolicy.CUSTOM && tieBreakingComparator == null)
+            throw new IllegalArgumentException("The CUSTOM Tie Breaking Policy Requires A Comparator");
+
+        this.arity = arity;
+        this.heap = new Entry[INITIAL_CAPACITY];
+        this.size = 0;
+        this.entries = new HashMap<>();
+        this.tieBreakingPolicy = tieBreakingPolicy;
+        this.tieBreakingComparator = tieBreakingPolicy == TieBreakingPolicy.CUSTOM ? tieBreakingComparator : null;
+        this.insertionCount = 0;
+    }
+
+    /**
+     * Gets the number of children each heap entry has.
+     *
+     * @return the arity of the heap
+     */
+    public int getArity() {
+        return this.arity;
+    }
+
+    /**
+     * Gets the policy that decides the order of nodes with equal f().
+     *
+     * @return the tie breaking policy
+     */
+    public TieBreakingPolicy getTieBreakingPolicy() {
+        return this.tieBreakingPolicy;
+    }
+
+    @Override
+    public boolean offer(AbstractAStarNode node) {
+
+        if (node == null)
+            throw new IllegalArgumentException("Nodes Added To The Open List Cannot Be Null");
+
+        double priority = node.getF();
+        Entry entry = this.findEntry(node);
+
+        // New State - Add It To The Bottom Of The Heap And Restore Heap Order
+        if (entry == null) {
+            entry = new Entry(node, priority);
+            this.setTieBreakingKey(entry);
+
+            if (this.size == this.heap.length)
+                this.heap = Arrays.copyOf(this.heap, this.heap.length * 2);
+
+            entry.index = this.size;
+            this.heap[this.size++] = entry;
+            this.putEntry(node, entry);
+            this.siftUp(entry.index);
+            return true;
+        }
+
+        // State Is Already Queued With An Equal Or Better f() - Discard The New Node
+        if (priority >= entry.priority)
+            return false;
+
+        // Found A Better Path To A Queued State - Update The Entry In Place(Decrease-Key)
+        if (entry.node != node) {
+            this.removeEntryMapping(entry.node);
+            entry.node = node;
+            this.putEntry(node, entry);
+        }
+        entry.priority = priority;
+        this.setTieBreakingKey(entry);
+        this.siftUp(entry.index);
+        return true;
+    }
+
+    @Override
+    public AbstractAStarNode poll() {
+
+        if (this.size == 0)
+            return null;
+
+        Entry top = this.heap[0];
+        this.removeAt(0);
+        this.removeEntryMapping(top.node);
+
+        return top.node;
+    }
+
+    @Override
+    public AbstractAStarNode peek() {
+        return this.size == 0 ? null : this.heap[0].node;
+    }
+
+    @Override
+    public AbstractAStarNode get(AbstractAStarNode node) {
+        Entry entry = this.findEntry(node);
+        return entry == null ? null : entry.node;
+    }
+
+    @Override
+    public boolean contains(AbstractAStarNode node) {
+        return this.findEntry(node) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.heap, 0, this.size, null);
+        this.size = 0;
+        this.clearEntryMappings();
+    }
+
+    /**
+     * Removes the entry at the supplied heap index, moving the last entry into its place and restoring heap order.
+     *
+     * @param index the heap index of the entry being removed
+     */
+    private void removeAt(int index) {
+        Entry last = this.heap[--this.size];
+        this.heap[this.size] = null;
+
+        if (index == this.size)
+            return;
+
+        this.heap[index] = last;
+        last.index = index;
+        this.siftDown(index);
+
+        if (this.heap[index] == last)
+            this.siftUp(index);
+    }
+
+    /**
+     * Moves the entry at the supplied index towards the root until its parent has a higher priority.
+     *
+     * @param index heap index of the entry being moved
+     */
+    private void siftUp(int index) {
+        Entry entry = this.heap[index];
+
+        while (index > 0) {
+            int parentIndex = (index - 1) / this.arity;
+            Entry parent = this.heap[parentIndex];
+
+            if (!this.hasHigherPriority(entry, parent))
+                break;
+
+            this.heap[index] = parent;
+            parent.index = index;
+            index = parentIndex;
+        }
+
+        this.heap[index] = entry;
+        entry.index = index;
+    }
+
+    /**
+     * Moves the entry at the supplied index towards the leaves until none of its children has a higher priority.
+     *
+     * @param index heap index of the entry being moved
+     */
+    private void siftDown(int index) {
+        Entry entry = this.heap[index];
+
+        while (true) {
+            int firstChild = index * this.arity + 1;
+            if (firstChild >= this.size)
+                break;
+
+            // Find The Child With The Highest Priority
+            int lastChild = Math.min(firstChild + this.arity, this.size);
+            int bestChild = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++)
+                if (this.hasHigherPriority(this.heap[child], this.heap[bestChild]))
+                    bestChild = child;
+
+            if (!this.hasHigherPriority(this.heap[bestChild], entry))
+                break;
+
+            this.heap[index] = this.heap[bestChild];
+            this.heap[index].index = index;
+            index = bestChild;
+        }
+
+        this.heap[index] = entry;
+        entry.index = index;
+    }
+
+    /**
+     * Determines if the first entry should be polled before the second entry.
+     *
+     * @param entry1 a heap entry - treated as primary
+     * @param entry2 another heap entry - treated as secondary
+     * @return true if entry1 must leave the heap before entry2, otherwise false
+     */
+    protected boolean hasHigherPriority(Entry entry1, Entry entry2) {
+
+        // f() Is Compared Exactly, The Tie Breaking Policy Is Only Consulted For Equal f()
+        if (entry1.priority != entry2.priority)
+            return entry1.priority < entry2.priority;
+
+        switch (this.tieBreakingPolicy) {
+            case NONE:
+                return false;
+            case CUSTOM:
+                return this.tieBreakingComparator.compare(entry1.node, entry2.node) < 0;
+            default:
+                return entry1.tieBreakingKey < entry2.tieBreakingKey;
+        }
+    }
+
+    /**
+     * Stores the value the tie breaking policy orders an entry by. Smaller keys leave the heap first. Called whenever
+     * an entry is added or its node is replaced.
+     *
+     * @param entry the heap entry
+     */
+    private void setTieBreakingKey(Entry entry) {
+        long insertion = this.insertionCount++;
+
+        switch (this.tieBreakingPolicy) {
+            case HIGH_G:
+                entry.tieBreakingKey = -entry.node.getG();
+                break;
+            case LOW_H:
+                entry.tieBreakingKey = entry.node.getH();
+                break;
+            case FIFO:
+                entry.tieBreakingKey = insertion;
+                break;
+            case LIFO:
+                entry.tieBreakingKey = -insertion;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Finds the heap entry for the state of the supplied node.
+     *
+     * @param node a node with the state being looked up
+     * @return the heap entry for the state, or null if the state is not queued
+     */
+    protected Entry findEntry(AbstractAStarNode node) {
+        return this.entries.get(node);
+    }
+
+    /**
+     * Maps the state of the supplied node to a heap entry.
+     *
+     * @param node  the node whose state is being mapped
+     * @param entry the heap entry for the state
+     */
+    protected void putEntry(AbstractAStarNode node, Entry entry) {
+        this.entries.put(node, entry);
+    }
+
+    /**
+     * Removes the mapping for the state of the supplied node.
+     *
+     * @param node the node whose state is no longer queued
+     */
+    protected void removeEntryMapping(AbstractAStarNode node) {
+        this.entries.remove(node);
+    }
+
+    /**
+     * Removes every state to heap entry mapping.
+     */
+    protected void clearEntryMappings() {
+        this.entries.clear();
+    }
+
+    /**
+     * A single heap entry. Stores the queued node, its priority, and the entry's current position in the heap.
+     */
+    protected static class Entry {
+
+        /**
+         * The queued node.
+         */
+        protected AbstractAStarNode node;
+
+        /**
+         * The priority of the entry. This is the f() of the queued node.
+         */
+        protected double priority;
+
+        /**
+         * Orders entries with equal priority, smaller keys leave the heap first. Its meaning depends on the heap's
+         * tie breaking policy.
+         */
+        protected double tieBreakingKey;
+
+        /**
+         * Position of the entry in the heap array.
+         */
+        protected int index;
+
+        /**
+         * Creates a heap entry.
+         *
+         * @param node     the queued node
+         * @param priority the priority of the entry
+         */
+        protected Entry(AbstractAStarNode node, double priority) {
+            this.node = node;
+            this.priority = priority;
+            this.index = -1;
+        }
+
+    }
+
+}
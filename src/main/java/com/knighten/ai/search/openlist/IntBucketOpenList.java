@@ -0,0 +1,273 @@
+package com.knighten.ai.search.openlist;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.collections.NodeStateMap;
+import com.knighten.ai.search.interfaces.IIntOpenList;
+
+import java.util.Arrays;
+
+/**
+ * A two level bucket queue for int f() values. The first level is an array of buckets indexed by f(), each of which is
+ * an array of stacks indexed by h(). Entries with the same f() are therefore polled with the smallest h()(largest g())
+ * first, and entries with the same f() and h() are polled last in first out. Offering and polling take constant time
+ * when f() values are non-decreasing, which is the case for consistent heuristics.
+ *
+ * Memory grows with the largest f() and h() values seen, so this open list suits problems whose f() values fall in a
+ * small range such as the N-puzzles. IntRadixHeap is better suited when the range is large.
+ */
+public class IntBucketOpenList implements IIntOpenList {
+
+    /**
+     * Buckets of entries indexed by f(). Buckets below minF are released once they have been emptied.
+     */
+    private FBucket[] fBuckets;
+
+    /**
+     * No entry has an f() smaller than this.
+     */
+    private int minF;
+
+    /**
+     * Number of entries in the open list.
+     */
+    private int size;
+
+    /**
+     * Maps each queued state to its entry.
+     */
+    private NodeStateMap<IntOpenEntry> entries;
+
+    /**
+     * Creates an IntBucketOpenList that is keyed by nodes.
+     */
+    public IntBucketOpenList() {
+        this(false);
+    }
+
+    /**
+     * Creates an IntBucketOpenList.
+     *
+     * @param usePackedStates true to map states to entries using packed states, false to use the nodes themselves
+     */
+    public IntBucketOpenList(boolean usePackedStates) {
+        this.fBuckets = new FBucket[64];
+        this.minF = 0;
+        this.size = 0;
+        this.entries = new NodeStateMap<>(usePackedStates);
+    }
+
+    @Override
+    public boolean offer(AbstractAStarNode node, int g, int h) {
+
+        if (node == null)
+            throw new IllegalArgumentException("Nodes Added To The Open List Cannot Be Null");
+
+        if (g < 0 || h < 0)
+            throw new IllegalArgumentException("Bucket Based Open Lists Require g() And h() To Be 0 Or Greater");
+
+        IntOpenEntry entry = this.entries.get(node);
+
+        if (entry == null) {
+            entry = new IntOpenEntry(node, g, h);
+            this.entries.put(node, entry);
+            this.size++;
+        } else {
+            // State Is Already Queued With An Equal Or Better f() - Discard The New Node
+            if (g + h >= entry.f)
+                return false;
+
+            // Found A Better Path To A Queued State - Move The Entry To Its New Bucket
+            this.fBuckets[entry.f].remove(entry);
+            if (entry.node != node) {
+                this.entries.remove(entry.node);
+                this.entries.put(node, entry);
+            }
+            entry.set(node, g, h);
+        }
+
+        this.bucketFor(entry.f).push(entry);
+        if (entry.f < this.minF)
+            this.minF = entry.f;
+
+        return true;
+    }
+
+    @Override
+    public IntOpenEntry poll() {
+
+        if (this.size == 0)
+            return null;
+
+        IntOpenEntry entry = this.fBuckets[this.advanceToMinF()].pop();
+        this.entries.remove(entry.node);
+        this.size--;
+
+        return entry;
+    }
+
+    @Override
+    public IntOpenEntry peek() {
+
+        if (this.size == 0)
+            return null;
+
+        return this.fBuckets[this.advanceToMinF()].peek();
+    }
+
+    @Override
+    public IntOpenEntry get(AbstractAStarNode node) {
+        return this.entries.get(node);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.fBuckets, null);
+        this.minF = 0;
+        this.size = 0;
+        this.entries.clear();
+    }
+
+    /**
+     * Moves minF forward to the first non empty bucket, releasing the empty buckets that are passed. Must only be
+     * called when the open list is not empty.
+     *
+     * @return the smallest f() in the open list
+     */
+    private int advanceToMinF() {
+        while (this.fBuckets[this.minF] == null || this.fBuckets[this.minF].isEmpty()) {
+            this.fBuckets[this.minF] = null;
+            this.minF++;
+        }
+
+        return this.minF;
+    }
+
+    /**
+     * Returns the bucket for an f() value, creating it when needed.
+     *
+     * @param f the f() value
+     * @return the bucket for the f() value
+     */
+    private FBucket bucketFor(int f) {
+        if (f >= this.fBuckets.length)
+            this.fBuckets = Arrays.copyOf(this.fBuckets, Math.max(f + 1, this.fBuckets.length * 2));
+
+        if (this.fBuckets[f] == null)
+            this.fBuckets[f] = new FBucket();
+
+        return this.fBuckets[f];
+    }
+
+    /**
+     * The entries that share a single f() value, stored in stacks indexed by h().
+     */
+    private static final class FBucket {
+
+        /**
+         * Stacks of entries indexed by h().
+         */
+        private EntryStack[] hStacks;
+
+        /**
+         * No entry in the bucket has an h() smaller than this.
+         */
+        private int minH;
+
+        /**
+         * Number of entries in the bucket.
+         */
+        private int size;
+
+        /**
+         * Creates an empty FBucket.
+         */
+        private FBucket() {
+            this.hStacks = new EntryStack[16];
+            this.minH = Integer.MAX_VALUE;
+            this.size = 0;
+        }
+
+        /**
+         * Adds an entry to the stack for its h().
+         *
+         * @param entry the entry being added
+         */
+        private void push(IntOpenEntry entry) {
+            int h = entry.h;
+
+            if (h >= this.hStacks.length)
+                this.hStacks = Arrays.copyOf(this.hStacks, Math.max(h + 1, this.hStacks.length * 2));
+
+            if (this.hStacks[h] == null)
+                this.hStacks[h] = new EntryStack();
+
+            this.hStacks[h].push(entry);
+            if (h < this.minH)
+                this.minH = h;
+            this.size++;
+        }
+
+        /**
+         * Removes and returns the most recently added entry with the smallest h(). Must only be called when the bucket
+         * is not empty.
+         *
+         * @return the removed entry
+         */
+        private IntOpenEntry pop() {
+            this.size--;
+            return this.hStacks[this.advanceToMinH()].pop();
+        }
+
+        /**
+         * Returns the entry pop() would return without removing it. Must only be called when the bucket is not empty.
+         *
+         * @return the entry with the highest priority in the bucket
+         */
+        private IntOpenEntry peek() {
+            return this.hStacks[this.advanceToMinH()].peek();
+        }
+
+        /**
+         * Removes an entry from the bucket.
+         *
+         * @param entry the entry being removed, must be in this bucket
+         */
+        private void remove(IntOpenEntry entry) {
+            this.hStacks[entry.h].remove(entry);
+            this.size--;
+        }
+
+        /**
+         * Moves minH forward to the first non empty stack. Must only be called when the bucket is not empty.
+         *
+         * @return the smallest h() in the bucket
+         */
+        private int advanceToMinH() {
+            while (this.hStacks[this.minH] == null || this.hStacks[this.minH].isEmpty())
+                this.minH++;
+
+            return this.minH;
+        }
+
+        /**
+         * Determines if the bucket is empty.
+         *
+         * @return true if the bucket is empty, otherwise false
+         */
+        private boolean isEmpty() {
+            return this.size == 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.knighten.ai.search.openlist;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.collections.NodeStateMap;
+import com.knighten.ai.search.interfaces.IIntOpenList;
+
+import java.util.Arrays;
+
+/**
+ * The int cost counterpart of IndexedDaryHeap. An array based d-ary min heap ordered by int f() values, where each state
+ * is mapped to its heap entry so a better path to a queued state updates the entry in place(decrease-key). All
+ * comparisons are done on ints.
+ */
+public class IntIndexedDaryHeap implements IIntOpenList {
+
+    /**
+     * Initial number of entries the heap can hold before it grows.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The number of children each heap entry has.
+     */
+    private final int arity;
+
+    /**
+     * The heap entries. The entry with the smallest f() is stored at index 0.
+     */
+    private IntOpenEntry[] heap;
+
+    /**
+     * Number of entries currently stored in the heap.
+     */
+    private int size;
+
+    /**
+     * Maps each queued state to its heap entry.
+     */
+    private NodeStateMap<IntOpenEntry> entries;
+
+    /**
+     * Creates an IntIndexedDaryHeap using the default arity that is keyed by nodes.
+     */
+    public IntIndexedDaryHeap() {
+        this(IndexedDaryHeap.DEFAULT_ARITY, false);
+    }
+
+    /**
+     * Creates an IntIndexedDaryHeap.
+     *
+     * @param arity           the number of children each heap entry has
+     * @param usePackedStates true to map states to entries using packed states, false to use the nodes themselves
+     */
+    public IntIndexedDaryHeap(int arity, boolean usePackedStates) {
+
+        if (arity < 2)
+            throw new IllegalArgumentException("The Arity Of The Heap Must Be 2 Or Greater");
+
+        this.arity = arity;
+        this.heap = new IntOpenEntry[INITIAL_CAPACITY];
+        this.size = 0;
+        this.entries = new NodeStateMap<>(usePackedStates);
+    }
+
+    @Override
+    public boolean offer(AbstractAStarNode node, int g, int h) {
+
+        if (node == null)
+            throw new IllegalArgumentException("Nodes Added To The Open List Cannot Be Null");
+
+        IntOpenEntry entry = this.entries.get(node);
+
+        // New State - Add It To The Bottom Of The Heap And Restore Heap Order
+        if (entry == null) {
+            entry = new IntOpenEntry(node, g, h);
+
+            if (this.size == this.heap.length)
+                this.heap = Arrays.copyOf(this.heap, this.heap.length * 2);
+
+            entry.index = this.size;
+            this.heap[this.size++] = entry;
+            this.entries.put(node, entry);
+            this.siftUp(entry.index);
+            return true;
+        }
+
+        // State Is Already Queued With An Equal Or Better f() - Discard The New Node
+        if (g + h >= entry.f)
+            return false;
+
+        // Found A Better Path To A Queued State - Update The Entry In Place(Decrease-Key)
+        if (entry.node != node) {
+            this.entries.remove(entry.node);
+            this.entries.put(node, entry);
+        }
+        entry.set(node, g, h);
+        this.siftUp(entry.index);
+        return true;
+    }
+
+    @Override
+    public IntOpenEntry poll() {
+
+        if (this.size == 0)
+            return null;
+
+        IntOpenEntry top = this.heap[0];
+        IntOpenEntry last = this.heap[--this.size];
+        this.heap[this.size] = null;
+
+        if (this.size > 0) {
+            this.heap[0] = last;
+            last.index = 0;
+            this.siftDown(0);
+        }
+
+        this.entries.remove(top.node);
+        top.index = -1;
+        return top;
+    }
+
+    @Override
+    public IntOpenEntry peek() {
+        return this.size == 0 ? null : this.heap[0];
+    }
+
+    @Override
+    public IntOpenEntry get(AbstractAStarNode node) {
+        return this.entries.get(node);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.heap, 0, this.size, null);
+        this.size = 0;
+        this.entries.clear();
+    }
+
+    /**
+     * Moves the entry at the supplied index towards the root until its parent has an equal or smaller f().
+     *
+     * @param index heap index of the entry being moved
+     */
+    private void siftUp(int index) {
+        IntOpenEntry entry = this.heap[index];
+
+        while (index > 0) {
+            int parentIndex = (index - 1) / this.arity;
+            IntOpenEntry parent = this.heap[parentIndex];
+
+            if (entry.f >= parent.f)
+                break;
+
+            this.heap[index] = parent;
+            parent.index = index;
+            index = parentIndex;
+        }
+
+        this.heap[index] = entry;
+        entry.index = index;
+    }
+
+    /**
+     * Moves the entry at the supplied index towards the leaves until none of its children has a smaller f().
+     *
+     * @param index heap index of the entry being moved
+     */
+    private void siftDown(int index) {
+        IntOpenEntry entry = this.heap[index];
+
+        while (true) {
+            int firstChild = index * this.arity + 1;
+            if (firstChild >= this.size)
+                break;
+
+            // Find The Child With The Smallest f()
+            int lastChild = Math.min(firstChild + this.arity, this.size);
+            int bestChild = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++)
+                if (this.heap[child].f < this.heap[bestChild].f)
+                    bestChild = child;
+
+            if (this.heap[bestChild].f >= entry.f)
+                break;
+
+            this.heap[index] = this.heap[bestChild];
+            this.heap[index].index = index;
+            index = bestChild;
+        }
+
+        this.heap[index] = entry;
+        entry.index = index;
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.knighten.ai.search.openlist;
+
+import com.knighten.ai.search.AbstractAStarNode;
+
+/**
+ * An entry of an IIntOpenList. Stores a queued node together with its int g(), h(), and f() scores. Entries are owned
+ * and updated by the open list they belong to.
+ */
+public final class IntOpenEntry {
+
+    /**
+     * The queued node.
+     */
+    AbstractAStarNode node;
+
+    /**
+     * The node's path cost g().
+     */
+    int g;
+
+    /**
+     * The node's heuristic score h().
+     */
+    int h;
+
+    /**
+     * The node's total score f(). This is g() + h().
+     */
+    int f;
+
+    /**
+     * Position of the entry inside the open list. Its meaning depends on the open list implementation.
+     */
+    int index;
+
+    /**
+     * Creates an entry for a node.
+     *
+     * @param node the queued node
+     * @param g    the node's path cost g()
+     * @param h    the node's heuristic score h()
+     */
+    IntOpenEntry(AbstractAStarNode node, int g, int h) {
+        this.set(node, g, h);
+        this.index = -1;
+    }
+
+    /**
+     * Replaces the node and scores of the entry.
+     *
+     * @param node the queued node
+     * @param g    the node's path cost g()
+     * @param h    the node's heuristic score h()
+     */
+    void set(AbstractAStarNode node, int g, int h) {
+        this.node = node;
+        this.g = g;
+        this.h = h;
+        this.f = g + h;
+    }
+
+    /**
+     * Returns the queued node.
+     *
+     * @return the queued node
+     */
+    public AbstractAStarNode getNode() {
+        return this.node;
+    }
+
+    /**
+     * Returns the node's path cost g().
+     *
+     * @return the node's path cost g()
+     */
+    public int getG() {
+        return this.g;
+    }
+
+    /**
+     * Returns the node's heuristic score h().
+     *
+     * @return the node's heuristic score h()
+     */
+    public int getH() {
+        return this.h;
+    }
+
+    /**
+     * Returns the node's total score f().
+     *
+     * @return the node's total score f()
+     */
+    public int getF() {
+        return this.f;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.knighten.ai.search.openlist;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IIntOpenList;
+import com.knighten.ai.search.interfaces.IOpenList;
+
+/**
+ * Lets an IIntOpenList be used where an IOpenList is expected, for instance to run AStarSearch on a bucket queue. The
+ * f() and g() of offered nodes are read from the nodes and must be integers.
+ */
+public class IntOpenListAdapter implements IOpenList {
+
+    /**
+     * The int open list that holds the nodes.
+     */
+    private IIntOpenList intOpenList;
+
+    /**
+     * Creates an IntOpenListAdapter.
+     *
+     * @param intOpenList the int open list that holds the nodes
+     */
+    public IntOpenListAdapter(IIntOpenList intOpenList) {
+
+        if (intOpenList == null)
+            throw new IllegalArgumentException("The Int Open List Cannot Be Null");
+
+        this.intOpenList = intOpenList;
+    }
+
+    @Override
+    public boolean offer(AbstractAStarNode node) {
+
+        if (node == null)
+            throw new IllegalArgumentException("Nodes Added To The Open List Cannot Be Null");
+
+        double f = node.getF();
+        double g = node.getG();
+        int intF = (int) f;
+        int intG = (int) g;
+
+        if (intF != f || intG != g)
+            throw new IllegalArgumentException("This Open List Requires Integer f() And g() Values");
+
+        return this.intOpenList.offer(node, intG, intF - intG);
+    }
+
+    @Override
+    public AbstractAStarNode poll() {
+        IntOpenEntry entry = this.intOpenList.poll();
+        return entry == null ? null : entry.getNode();
+    }
+
+    @Override
+    public AbstractAStarNode peek() {
+        IntOpenEntry entry = this.intOpenList.peek();
+        return entry == null ? null : entry.getNode();
+    }
+
+    @Override
+    public AbstractAStarNode get(AbstractAStarNode node) {
+        IntOpenEntry entry = this.intOpenList.get(node);
+        return entry == null ? null : entry.getNode();
+    }
+
+    @Override
+    public boolean contains(AbstractAStarNode node) {
+        return this.intOpenList.get(node) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.intOpenList.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.intOpenList.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        this.intOpenList.clear();
+    }
+
+}
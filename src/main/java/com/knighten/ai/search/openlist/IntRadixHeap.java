@@ -0,0 +1,189 @@
+package com.knighten.ai.search.openlist;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.collections.NodeStateMap;
+import com.knighten.ai.search.interfaces.IIntOpenList;
+
+/**
+ * A radix heap for int f() values. Entries are kept in 33 buckets, where bucket i holds the entries whose f() first
+ * differs from the last polled f() in bit i - 1. Only the lowest non empty bucket is ever redistributed, so each entry
+ * moves down at most 32 times no matter how large the f() values are. Unlike IntBucketOpenList its memory does not grow
+ * with the range of f() values, which makes it suited to problems with large edge costs.
+ *
+ * A radix heap is a monotone priority queue: an entry can never be offered with an f() smaller than the last polled
+ * f(). This always holds for A* with a consistent heuristic. Entries with the same f() are polled last in first out.
+ */
+public class IntRadixHeap implements IIntOpenList {
+
+    /**
+     * Number of buckets. Bucket 0 holds entries equal to lastPolledF, bucket i holds entries whose highest bit that
+     * differs from lastPolledF is bit i - 1.
+     */
+    private static final int NUMBER_OF_BUCKETS = Integer.SIZE + 1;
+
+    /**
+     * The buckets of entries.
+     */
+    private EntryStack[] buckets;
+
+    /**
+     * The f() of the last polled entry. Every queued entry has an f() of at least this value.
+     */
+    private int lastPolledF;
+
+    /**
+     * Number of entries in the heap.
+     */
+    private int size;
+
+    /**
+     * Maps each queued state to its entry.
+     */
+    private NodeStateMap<IntOpenEntry> entries;
+
+    /**
+     * Creates an IntRadixHeap that is keyed by nodes.
+     */
+    public IntRadixHeap() {
+        this(false);
+    }
+
+    /**
+     * Creates an IntRadixHeap.
+     *
+     * @param usePackedStates true to map states to entries using packed states, false to use the nodes themselves
+     */
+    public IntRadixHeap(boolean usePackedStates) {
+        this.buckets = new EntryStack[NUMBER_OF_BUCKETS];
+        for (int bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++)
+            this.buckets[bucket] = new EntryStack();
+
+        this.lastPolledF = 0;
+        this.size = 0;
+        this.entries = new NodeStateMap<>(usePackedStates);
+    }
+
+    @Override
+    public boolean offer(AbstractAStarNode node, int g, int h) {
+
+        if (node == null)
+            throw new IllegalArgumentException("Nodes Added To The Open List Cannot Be Null");
+
+        if (g + h < this.lastPolledF)
+            throw new IllegalArgumentException("A Radix Heap Cannot Hold An f() Smaller Than The Last Polled f(), "
+                    + "The Heuristic Must Be Consistent");
+
+        IntOpenEntry entry = this.entries.get(node);
+
+        if (entry == null) {
+            entry = new IntOpenEntry(node, g, h);
+            this.entries.put(node, entry);
+            this.size++;
+        } else {
+            // State Is Already Queued With An Equal Or Better f() - Discard The New Node
+            if (g + h >= entry.f)
+                return false;
+
+            // Found A Better Path To A Queued State - Move The Entry To Its New Bucket
+            this.buckets[this.bucketFor(entry.f)].remove(entry);
+            if (entry.node != node) {
+                this.entries.remove(entry.node);
+                this.entries.put(node, entry);
+            }
+            entry.set(node, g, h);
+        }
+
+        this.buckets[this.bucketFor(entry.f)].push(entry);
+        return true;
+    }
+
+    @Override
+    public IntOpenEntry poll() {
+
+        if (this.size == 0)
+            return null;
+
+        this.fillFirstBucket();
+        IntOpenEntry entry = this.buckets[0].pop();
+        this.entries.remove(entry.node);
+        this.size--;
+
+        return entry;
+    }
+
+    @Override
+    public IntOpenEntry peek() {
+
+        if (this.size == 0)
+            return null;
+
+        this.fillFirstBucket();
+        return this.buckets[0].peek();
+    }
+
+    @Override
+    public IntOpenEntry get(AbstractAStarNode node) {
+        return this.entries.get(node);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (EntryStack bucket : this.buckets)
+            bucket.clear();
+
+        this.lastPolledF = 0;
+        this.size = 0;
+        this.entries.clear();
+    }
+
+    /**
+     * Makes sure bucket 0 holds the entries with the smallest f(). When bucket 0 is empty the lowest non empty bucket
+     * is found, lastPolledF is moved to its smallest f(), and its entries are redistributed into lower buckets. Must
+     * only be called when the heap is not empty.
+     */
+    private void fillFirstBucket() {
+
+        if (!this.buckets[0].isEmpty())
+            return;
+
+        int bucketIndex = 1;
+        while (this.buckets[bucketIndex].isEmpty())
+            bucketIndex++;
+
+        EntryStack bucket = this.buckets[bucketIndex];
+
+        int smallestF = Integer.MAX_VALUE;
+        for (int i = 0; i < bucket.size(); i++)
+            if (bucket.get(i).f < smallestF)
+                smallestF = bucket.get(i).f;
+
+        this.lastPolledF = smallestF;
+
+        // Every Entry Moves To A Lower Bucket Relative To The New lastPolledF
+        while (!bucket.isEmpty()) {
+            IntOpenEntry entry = bucket.pop();
+            this.buckets[this.bucketFor(entry.f)].push(entry);
+        }
+    }
+
+    /**
+     * Finds the bucket an f() value belongs in relative to lastPolledF.
+     *
+     * @param f an f() value that is at least lastPolledF
+     * @return the index of the bucket
+     */
+    private int bucketFor(int f) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(f ^ this.lastPolledF);
+    }
+
+}
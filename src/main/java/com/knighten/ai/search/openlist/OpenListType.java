@@ -0,0 +1,50 @@
+package com.knighten.ai.search.openlist;
+
+import com.knighten.ai.search.interfaces.IIntOpenList;
+
+/**
+ * The open list implementations that can be selected for AStarSearch and IntAStarSearch.
+ */
+public enum OpenListType {
+
+    /**
+     * An indexed d-ary heap. Works with any f() values. This is the default.
+     */
+    HEAP {
+        @Override
+        public IIntOpenList createIntOpenList(boolean usePackedStates) {
+            return new IntIndexedDaryHeap(IndexedDaryHeap.DEFAULT_ARITY, usePackedStates);
+        }
+    },
+
+    /**
+     * A two level bucket queue indexed by f() and then h(). Requires integer f() and g() values, and is best when f()
+     * values fall in a small range.
+     */
+    BUCKET {
+        @Override
+        public IIntOpenList createIntOpenList(boolean usePackedStates) {
+            return new IntBucketOpenList(usePackedStates);
+        }
+    },
+
+    /**
+     * A radix heap. Requires integer f() and g() values and a consistent heuristic, and is best when f() values fall in
+     * a large range.
+     */
+    RADIX_HEAP {
+        @Override
+        public IIntOpenList createIntOpenList(boolean usePackedStates) {
+            return new IntRadixHeap(usePackedStates);
+        }
+    };
+
+    /**
+     * Creates an empty int open list of this type.
+     *
+     * @param usePackedStates true to map states to entries using packed states, false to use the nodes themselves
+     * @return an empty int open list
+     */
+    public abstract IIntOpenList createIntOpenList(boolean usePackedStates);
+
+}
@@ -0,0 +1,69 @@
+package com.knighten.ai.search.openlist;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.collections.LongObjectHashMap;
+import com.knighten.ai.search.interfaces.IPackedState;
+
+import java.util.Comparator;
+
+/**
+ * An IndexedDaryHeap that maps states to heap entries using their packed state. Lookups hash a single long instead of
+ * the node's state object. Every node offered or looked up must implement IPackedState and be packable.
+ */
+public class PackedIndexedDaryHeap extends IndexedDaryHeap {
+
+    /**
+     * Maps each queued packed state to its heap entry.
+     */
+    private LongObjectHashMap<Entry> packedEntries;
+
+    /**
+     * Creates a PackedIndexedDaryHeap using the default arity.
+     */
+    public PackedIndexedDaryHeap() {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates a PackedIndexedDaryHeap with the supplied arity.
+     *
+     * @param arity the number of children each heap entry has
+     */
+    public PackedIndexedDaryHeap(int arity) {
+        this(arity, TieBreakingPolicy.NONE, null);
+    }
+
+    /**
+     * Creates a PackedIndexedDaryHeap with the supplied arity and tie breaking policy.
+     *
+     * @param arity                 the number of children each heap entry has
+     * @param tieBreakingPolicy     decides the order of nodes with equal f()
+     * @param tieBreakingComparator orders nodes with equal f() when the policy is CUSTOM, ignored otherwise
+     */
+    public PackedIndexedDaryHeap(int arity, TieBreakingPolicy tieBreakingPolicy,
+                                 Comparator<AbstractAStarNode> tieBreakingComparator) {
+        super(arity, tieBreakingPolicy, tieBreakingComparator);
+        this.packedEntries = new LongObjectHashMap<>();
+    }
+
+    @Override
+    protected Entry findEntry(AbstractAStarNode node) {
+        return this.packedEntries.get(((IPackedState) node).packState());
+    }
+
+    @Override
+    protected void putEntry(AbstractAStarNode node, Entry entry) {
+        this.packedEntries.put(((IPackedState) node).packState(), entry);
+    }
+
+    @Override
+    protected void removeEntryMapping(AbstractAStarNode node) {
+        this.packedEntries.remove(((IPackedState) node).packState());
+    }
+
+    @Override
+    protected void clearEntryMappings() {
+        this.packedEntries.clear();
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.knighten.ai.search.openlist;
+
+/**
+ * Decides which node an IndexedDaryHeap polls first when several queued nodes share the same f().
+ */
+public enum TieBreakingPolicy {
+
+    /**
+     * Nodes with equal f() leave in whatever order the heap happens to hold them. This is the default.
+     */
+    NONE,
+
+    /**
+     * Nodes with equal f() and the largest g() leave first. Favors nodes that are deeper in the search, which usually
+     * reaches the goal after expanding far fewer nodes on plateaus of equal f().
+     */
+    HIGH_G,
+
+    /**
+     * Nodes with equal f() and the smallest h() leave first. Favors nodes that are estimated to be closer to the goal.
+     */
+    LOW_H,
+
+    /**
+     * Nodes with equal f() leave in the order they were added to the open list.
+     */
+    FIFO,
+
+    /**
+     * Nodes with equal f() leave in the reverse of the order they were added to the open list.
+     */
+    LIFO,
+
+    /**
+     * Nodes with equal f() are ordered by a user supplied Comparator, the node that compares as smallest leaves first.
+     */
+    CUSTOM
+
+}
@@ -0,0 +1,167 @@
+package baseclasses;
+
+import com.knighten.ai.search.ARAStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.interfaces.ISolutionListener;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.ThreePuzzle;
+import com.knighten.ai.search.AStarSearch;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ARAStarSearchTests {
+
+    private EightPuzzle standardGoalBoard8Puzz;
+    private EightPuzzle thirtyOneMoveInitBoard8Puzz;
+    private EightPuzzle thirtyOneMoveGoalBoard8Puzz;
+    private ThreePuzzle standardGoalBoard3Puzz;
+    private ThreePuzzle noSolutionInitBoard3Puzz;
+    private IHeuristicFunction mockHeuristic;
+
+    @Before
+    public void setup() {
+        standardGoalBoard8Puzz = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        thirtyOneMoveGoalBoard8Puzz = new EightPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0});
+        thirtyOneMoveInitBoard8Puzz = new EightPuzzle(new int[]{8, 6, 7, 2, 5, 4, 3, 0, 1});
+
+        standardGoalBoard3Puzz = new ThreePuzzle(new int[]{0, 1, 2, 3});
+        noSolutionInitBoard3Puzz = new ThreePuzzle(new int[]{3, 0, 2, 1});
+
+        mockHeuristic = Mockito.mock(IHeuristicFunction.class);
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setInitialWeightLessThanOne() {
+        new ARAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic).setInitialWeight(0.9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setWeightDecrementZero() {
+        new ARAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic).setWeightDecrement(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setTimeLimitZero() {
+        new ARAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic).setTimeLimitMillis(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setSolutionListenerNull() {
+        new ARAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic).setSolutionListener(null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void initialStateIsGoal() {
+        ARAStarSearch searcher = new ARAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz,
+                new NPuzzleManhattanDist(standardGoalBoard8Puzz));
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(1, searcher.getPath(solution).size());
+        Assert.assertEquals(1.0, searcher.getSuboptimalityBound(), 0.0);
+    }
+
+    @Test
+    public void noSolution3Puzzle() {
+        ARAStarSearch searcher = new ARAStarSearch(noSolutionInitBoard3Puzz, standardGoalBoard3Puzz,
+                new NPuzzleManhattanDist(standardGoalBoard3Puzz));
+
+        Assert.assertNull(searcher.search());
+        Assert.assertTrue(Double.isNaN(searcher.getSuboptimalityBound()));
+    }
+
+    @Test
+    public void thirtyOneMove8PuzzleEndsOptimal() {
+        ARAStarSearch searcher = new ARAStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        searcher.setInitialWeight(5.0);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(32, searcher.getPath(solution).size());
+        Assert.assertEquals(1.0, searcher.getSuboptimalityBound(), 0.0);
+    }
+
+    @Test
+    public void publishedSolutionsImproveAndRespectTheirBounds() {
+        Random random = new Random(3);
+        int[][] terrain = new int[40][40];
+        for (int row = 0; row < terrain.length; row++)
+            for (int col = 0; col < terrain[row].length; col++)
+                terrain[row][col] = random.nextInt(6) == 0 ? 0 : 1 + random.nextInt(9);
+        terrain[0][0] = 1;
+        terrain[39][39] = 1;
+        NavigateTerrain goal = new NavigateTerrain(terrain, 39, 39);
+        double optimalCost = new AStarSearch(new NavigateTerrain(terrain, 0, 0), goal,
+                new NavigationManhattanDist(goal)).search().getG();
+
+        List<Double> costs = new ArrayList<>();
+        List<Double> bounds = new ArrayList<>();
+        ISolutionListener listener = (goalNode, bound) -> {
+            costs.add(goalNode.getG());
+            bounds.add(bound);
+        };
+
+        ARAStarSearch searcher = new ARAStarSearch(new NavigateTerrain(terrain, 0, 0), goal,
+                new NavigationManhattanDist(goal));
+        searcher.setInitialWeight(4.0);
+        searcher.setWeightDecrement(1.0);
+        searcher.setSolutionListener(listener);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertFalse(costs.isEmpty());
+        for (int i = 0; i < costs.size(); i++) {
+            Assert.assertTrue(costs.get(i) <= bounds.get(i) * optimalCost + 1e-9);
+            if (i > 0)
+                Assert.assertTrue(costs.get(i) <= costs.get(i - 1));
+        }
+        Assert.assertEquals(optimalCost, solution.getG(), 0.0);
+        Assert.assertEquals(optimalCost, costs.get(costs.size() - 1), 0.0);
+    }
+
+    @Test
+    public void pathsPublishedEarlierAreNotModified() {
+        List<AbstractAStarNode> goals = new ArrayList<>();
+        List<Double> costs = new ArrayList<>();
+        List<List<AbstractAStarNode>> publishedPaths = new ArrayList<>();
+        ARAStarSearch searcher = new ARAStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        searcher.setInitialWeight(5.0);
+        searcher.setSolutionListener((goalNode, bound) -> {
+            goals.add(goalNode);
+            costs.add(goalNode.getG());
+            publishedPaths.add(searcher.getPath(goalNode));
+        });
+        searcher.search();
+
+        for (int i = 0; i < goals.size(); i++) {
+            List<AbstractAStarNode> path = searcher.getPath(goals.get(i));
+            Assert.assertEquals(costs.get(i), goals.get(i).getG(), 0.0);
+            Assert.assertEquals(costs.get(i) + 1, path.size(), 0.0);
+            Assert.assertEquals(thirtyOneMoveInitBoard8Puzz, path.get(0));
+
+            // Parent Links And g() Are Stable, Only f() May Be Rescored
+            for (int step = 0; step < path.size(); step++) {
+                Assert.assertSame(publishedPaths.get(i).get(step), path.get(step));
+                Assert.assertEquals(step, path.get(step).getG(), 0.0);
+            }
+        }
+    }
+
+}
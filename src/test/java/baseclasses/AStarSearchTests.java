@@ -1,7 +1,12 @@
 package baseclasses;
 
 import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.SearchStatus;
+import com.knighten.ai.search.SearchResult;
+import com.knighten.ai.search.SearchStatistics;
+import com.knighten.ai.search.SearchLimits;
 import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.TieBreakingComparison;
 import com.knighten.ai.search.interfaces.IHeuristicFunction;
 import com.knighten.ai.search.navigation.NavigateMaze;
 import com.knighten.ai.search.navigation.NavigateTerrain;
@@ -9,13 +14,17 @@ import com.knighten.ai.search.navigation.NavigationManhattanDist;
 import com.knighten.ai.search.npuzzle.EightPuzzle;
 import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
 import com.knighten.ai.search.npuzzle.ThreePuzzle;
+import com.knighten.ai.search.openlist.OpenListType;
+import com.knighten.ai.search.openlist.TieBreakingPolicy;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -391,4 +400,376 @@ public class AStarSearchTests {
         Assert.assertEquals(5, path.size());
     }
 
+    ///////////////////////////////////////////
+    // Guarantee Accurate Bucket Open Lists //
+    ///////////////////////////////////////////
+
+    @Test
+    public void twentySixMove8PuzzleBucketOpenList() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(twentySixMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz, heuristic);
+        searcher.setOpenListType(OpenListType.BUCKET);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(27, path.size());
+    }
+
+    @Test
+    public void thirtyOneMove8PuzzleRadixHeapOpenList() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        searcher.setOpenListType(OpenListType.RADIX_HEAP);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(32, path.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bucketOpenListRejectsNonIntegerF() {
+        Mockito.when(mockHeuristic.calculateHeuristic(mockInitial)).thenReturn(0.5);
+        Mockito.when(mockInitial.getF()).thenReturn(0.5);
+        AStarSearch searcher = new AStarSearch(mockInitial, mockGoal, mockHeuristic);
+        searcher.setOpenListType(OpenListType.BUCKET);
+        searcher.search();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setOpenListTypeNull() {
+        AStarSearch searcher = new AStarSearch(mockInitial, mockGoal, mockHeuristic);
+        searcher.setOpenListType(null);
+    }
+
+    //////////////////////////////////////
+    // Guarantee Accurate Tie Breaking //
+    //////////////////////////////////////
+
+    @Test
+    public void everyTieBreakingPolicyFindsOptimal8PuzzlePath() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(twentySixMoveGoalBoard8Puzz);
+
+        for (TieBreakingPolicy policy : TieBreakingPolicy.values()) {
+            if (policy == TieBreakingPolicy.CUSTOM)
+                continue;
+
+            AStarSearch searcher = new AStarSearch(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz,
+                    heuristic);
+            searcher.setTieBreakingPolicy(policy);
+            List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+            Assert.assertEquals(27, path.size());
+        }
+    }
+
+    @Test
+    public void tieBreakingComparatorSetsCustomPolicy() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(twentySixMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz, heuristic);
+        searcher.setTieBreakingComparator((node1, node2) -> Double.compare(node2.getG(), node1.getG()));
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(TieBreakingPolicy.CUSTOM, searcher.getTieBreakingPolicy());
+        Assert.assertEquals(27, path.size());
+    }
+
+    @Test
+    public void highGPolicyExpandsFewerNodesOnOpenTerrain() {
+        int[][] terrain = new int[16][16];
+        for (int[] row : terrain)
+            Arrays.fill(row, 1);
+        NavigateTerrain initial = new NavigateTerrain(terrain, 0, 0);
+        NavigateTerrain goal = new NavigateTerrain(terrain, 15, 15);
+
+        Map<TieBreakingPolicy, Integer> expansions =
+                TieBreakingComparison.countExpansions(initial, goal, new NavigationManhattanDist(goal));
+
+        Assert.assertEquals(30, (int) expansions.get(TieBreakingPolicy.HIGH_G));
+        Assert.assertTrue(expansions.get(TieBreakingPolicy.HIGH_G) < expansions.get(TieBreakingPolicy.FIFO));
+    }
+
+    @Test
+    public void nodesExpandedCountsNodesWithGeneratedSuccessors() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(standardGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(oneMoveStandardInitBoard8Puzz, standardGoalBoard8Puzz, heuristic);
+        searcher.search();
+
+        Assert.assertEquals(1, searcher.getNodesExpanded());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setTieBreakingPolicyNull() {
+        AStarSearch searcher = new AStarSearch(mockInitial, mockGoal, mockHeuristic);
+        searcher.setTieBreakingPolicy(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setTieBreakingComparatorNull() {
+        AStarSearch searcher = new AStarSearch(mockInitial, mockGoal, mockHeuristic);
+        searcher.setTieBreakingComparator(null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void tieBreakingPolicyRejectedForBucketOpenList() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(standardGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(oneMoveStandardInitBoard8Puzz, standardGoalBoard8Puzz, heuristic);
+        searcher.setOpenListType(OpenListType.BUCKET);
+        searcher.setTieBreakingPolicy(TieBreakingPolicy.FIFO);
+        searcher.search();
+    }
+
+    ///////////////////////////////////////////////
+    // Guarantee Accurate Weighted/Greedy Search //
+    ///////////////////////////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setHeuristicWeightLessThanOne() {
+        AStarSearch searcher = new AStarSearch(mockInitial, mockGoal, mockHeuristic);
+        searcher.setHeuristicWeight(0.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setHeuristicWeightNaN() {
+        AStarSearch searcher = new AStarSearch(mockInitial, mockGoal, mockHeuristic);
+        searcher.setHeuristicWeight(Double.NaN);
+    }
+
+    @Test
+    public void unweightedSearchReportsBoundOfOne() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(twentySixMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz, heuristic);
+        searcher.search();
+
+        Assert.assertEquals(1.0, searcher.getSuboptimalityBound(), 0.0);
+    }
+
+    @Test
+    public void noSolutionReportsNaNBound() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(standardGoalBoard3Puzz);
+        AStarSearch searcher = new AStarSearch(noSolutionInitBoard3Puzz, standardGoalBoard3Puzz, heuristic);
+        searcher.setHeuristicWeight(2.0);
+        searcher.search();
+
+        Assert.assertTrue(Double.isNaN(searcher.getSuboptimalityBound()));
+    }
+
+    @Test
+    public void weightedSearchStaysWithinBoundAndExpandsFewerNodes() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        AStarSearch optimal = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        optimal.search();
+
+        AStarSearch weighted = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        weighted.setHeuristicWeight(2.0);
+        AbstractAStarNode solution = weighted.search();
+        double bound = weighted.getSuboptimalityBound();
+
+        Assert.assertTrue(bound >= 1.0 && bound <= 2.0);
+        Assert.assertTrue(solution.getG() <= bound * 31 + 1e-9);
+        Assert.assertEquals(solution.getG() + 1, weighted.getPath(solution).size(), 0.0);
+        Assert.assertTrue(weighted.getNodesExpanded() < optimal.getNodesExpanded());
+    }
+
+    @Test
+    public void greedySearchFindsPathWithInfiniteBound() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        searcher.setGreedy(true);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(thirtyOneMoveInitBoard8Puzz, path.get(0));
+        Assert.assertEquals(thirtyOneMoveGoalBoard8Puzz, path.get(path.size() - 1));
+        Assert.assertTrue(path.size() >= 32);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, searcher.getSuboptimalityBound(), 0.0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void greedySearchRejectedForBucketOpenList() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        searcher.setOpenListType(OpenListType.BUCKET);
+        searcher.setGreedy(true);
+        searcher.search();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void fractionalWeightRejectedForBucketOpenList() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        searcher.setOpenListType(OpenListType.BUCKET);
+        searcher.setHeuristicWeight(1.5);
+        searcher.search();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void greedySearchRejectedForRadixHeapOpenList() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        searcher.setOpenListType(OpenListType.RADIX_HEAP);
+        searcher.setGreedy(true);
+        searcher.search();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void weightedSearchRejectedForRadixHeapOpenList() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        searcher.setOpenListType(OpenListType.RADIX_HEAP);
+        searcher.setHeuristicWeight(2.0);
+        searcher.search();
+    }
+
+    @Test
+    public void integerWeightSearchWithBucketOpenList() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        searcher.setOpenListType(OpenListType.BUCKET);
+        searcher.setHeuristicWeight(2.0);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(thirtyOneMoveGoalBoard8Puzz, solution);
+        Assert.assertTrue(solution.getG() <= 2 * 31);
+    }
+
+    ///////////////////
+    // Search Limits //
+    ///////////////////
+
+    @Test
+    public void solvedSearchReportsResult() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        AbstractAStarNode solution = searcher.search();
+        SearchResult result = searcher.getSearchResult();
+
+        Assert.assertEquals(SearchStatus.SOLVED, result.getStatus());
+        Assert.assertSame(solution, result.getGoalNode());
+        Assert.assertEquals(32, result.getBestPath().size());
+        Assert.assertEquals(searcher.getNodesExpanded(), result.getNodesExpanded());
+        Assert.assertTrue(result.getNodesGenerated() >= result.getNodesExpanded());
+    }
+
+    @Test
+    public void exhaustedSearchReportsNoPath() {
+        AStarSearch searcher = new AStarSearch(noSolutionInitBoard3Puzz, standardGoalBoard3Puzz,
+                new NPuzzleManhattanDist(standardGoalBoard3Puzz));
+
+        Assert.assertNull(searcher.search());
+        Assert.assertEquals(SearchStatus.NO_PATH, searcher.getSearchResult().getStatus());
+    }
+
+    @Test
+    public void expansionLimitStopsSearchWithBestPartialPath() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        SearchLimits limits = new SearchLimits();
+        limits.setMaxNodesExpanded(100);
+        searcher.setSearchLimits(limits);
+
+        Assert.assertNull(searcher.search());
+        SearchResult result = searcher.getSearchResult();
+        Assert.assertEquals(SearchStatus.EXPANSION_LIMIT, result.getStatus());
+        Assert.assertEquals(100, result.getNodesExpanded());
+        Assert.assertNull(result.getGoalNode());
+
+        List<AbstractAStarNode> bestPath = result.getBestPath();
+        Assert.assertEquals(thirtyOneMoveInitBoard8Puzz, bestPath.get(0));
+        Assert.assertTrue(heuristic.calculateHeuristic(result.getBestNode())
+                < heuristic.calculateHeuristic(thirtyOneMoveInitBoard8Puzz));
+    }
+
+    @Test
+    public void generationLimitStopsSearch() {
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        SearchLimits limits = new SearchLimits();
+        limits.setMaxNodesGenerated(50);
+        searcher.setSearchLimits(limits);
+
+        Assert.assertNull(searcher.search());
+        Assert.assertEquals(SearchStatus.GENERATION_LIMIT, searcher.getSearchResult().getStatus());
+        Assert.assertTrue(searcher.getSearchResult().getNodesGenerated() < 50 + 4);
+    }
+
+    @Test
+    public void memoryLimitStopsSearch() {
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        SearchLimits limits = new SearchLimits();
+        limits.setMaxNodesInMemory(500);
+        searcher.setSearchLimits(limits);
+
+        Assert.assertNull(searcher.search());
+        Assert.assertEquals(SearchStatus.MEMORY_LIMIT, searcher.getSearchResult().getStatus());
+    }
+
+    @Test
+    public void timeLimitStopsSearch() {
+        AStarSearch searcher = new AStarSearch(noSolutionInitBoard8Puzz, noSolutionGoalBoard8Puzz,
+                new NPuzzleManhattanDist(noSolutionGoalBoard8Puzz));
+        SearchLimits limits = new SearchLimits();
+        limits.setTimeLimitMillis(1);
+        searcher.setSearchLimits(limits);
+
+        Assert.assertNull(searcher.search());
+        Assert.assertEquals(SearchStatus.TIME_LIMIT, searcher.getSearchResult().getStatus());
+    }
+
+    @Test
+    public void cancelledTokenStopsSearchBeforeFirstExpansion() {
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        searcher.getCancellationToken().cancel();
+
+        Assert.assertNull(searcher.search());
+        Assert.assertEquals(SearchStatus.CANCELLED, searcher.getSearchResult().getStatus());
+        Assert.assertEquals(0, searcher.getSearchResult().getNodesExpanded());
+        Assert.assertEquals(1, searcher.getSearchResult().getBestPath().size());
+    }
+
+    ///////////////////////
+    // Search Statistics //
+    ///////////////////////
+
+    @Test
+    public void statisticsDisabledByDefault() {
+        AStarSearch searcher = new AStarSearch(sevenMoveInitBoard8Puzz, sevenMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(sevenMoveGoalBoard8Puzz));
+        searcher.search();
+
+        Assert.assertNull(searcher.getSearchResult().getStatistics());
+        Assert.assertEquals(7.0, searcher.getSearchResult().getPathCost(), 0.0);
+        Assert.assertEquals(8, searcher.getSearchResult().getPath().size());
+    }
+
+    @Test
+    public void statisticsCountPrunedNodesAndPeakSizes() {
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        searcher.setStatisticsEnabled(true);
+        searcher.search();
+        SearchResult result = searcher.getSearchResult();
+        SearchStatistics statistics = result.getStatistics();
+
+        Assert.assertEquals(1, statistics.getIterations());
+        Assert.assertArrayEquals(new long[]{searcher.getNodesExpanded()}, statistics.getNodesExpandedPerIteration());
+        Assert.assertEquals(searcher.getNodesExpanded(), statistics.getPeakClosedSetSize());
+        Assert.assertTrue(statistics.getPeakOpenListSize() > 0);
+        Assert.assertTrue(statistics.getDuplicatesPruned() > 0);
+        Assert.assertTrue(statistics.getDuplicatesPruned() < result.getNodesGenerated());
+        Assert.assertEquals(31.0, result.getPathCost(), 0.0);
+    }
+
+    @Test
+    public void stoppedSearchHasNoPath() {
+        AStarSearch searcher = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        searcher.getCancellationToken().cancel();
+        searcher.search();
+
+        Assert.assertTrue(searcher.getSearchResult().getPath().isEmpty());
+        Assert.assertTrue(Double.isNaN(searcher.getSearchResult().getPathCost()));
+    }
+
 }
@@ -12,6 +12,7 @@ public class AbstractAStarNodeTests {
     private AbstractAStarNode testNodeWithF1;
     private AbstractAStarNode testNodeWithFNeg1;
     private AbstractAStarNode testNodeWithF0;
+    private AbstractAStarNode testNodeWithFHalf;
 
     @Before
     public void setup() {
@@ -26,6 +27,10 @@ public class AbstractAStarNodeTests {
         testNodeWithF0 = Mockito.mock(AbstractAStarNode.class, Mockito.CALLS_REAL_METHODS);
         Mockito.when(testNodeWithF0.getF())
                 .thenReturn(0.0);
+
+        testNodeWithFHalf = Mockito.mock(AbstractAStarNode.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.when(testNodeWithFHalf.getF())
+                .thenReturn(0.5);
     }
 
     ///////////////////////////////////////////////////////
@@ -47,4 +52,10 @@ public class AbstractAStarNodeTests {
         Assert.assertTrue(testNodeWithFNeg1.compare(testNodeWithFNeg1, testNodeWithF0) < 0);
     }
 
+    @Test
+    public void compareFValuesLessThanOneApart() {
+        Assert.assertTrue(testNodeWithFHalf.compare(testNodeWithFHalf, testNodeWithF0) > 0);
+        Assert.assertTrue(testNodeWithF0.compare(testNodeWithF0, testNodeWithFHalf) < 0);
+    }
+
 }
@@ -0,0 +1,218 @@
+package baseclasses;
+
+import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.BidirectionalAStarSearch;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.navigation.NavigateMaze;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.ThreePuzzle;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class BidirectionalAStarSearchTests {
+
+    private EightPuzzle standardGoalBoard8Puzz;
+    private EightPuzzle oneMoveStandardInitBoard8Puzz;
+    private EightPuzzle twentySixMoveInitBoard8Puzz;
+    private EightPuzzle twentySixMoveGoalBoard8Puzz;
+    private EightPuzzle thirtyOneMoveInitBoard8Puzz;
+    private EightPuzzle thirtyOneMoveGoalBoard8Puzz;
+    private ThreePuzzle standardGoalBoard3Puzz;
+    private ThreePuzzle noSolutionInitBoard3Puzz;
+    private IHeuristicFunction mockHeuristic;
+
+    @Before
+    public void setup() {
+        standardGoalBoard8Puzz = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        oneMoveStandardInitBoard8Puzz = new EightPuzzle(new int[]{1, 0, 2, 3, 4, 5, 6, 7, 8});
+        twentySixMoveGoalBoard8Puzz = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        twentySixMoveInitBoard8Puzz = new EightPuzzle(new int[]{7, 2, 4, 5, 0, 6, 8, 3, 1});
+        thirtyOneMoveGoalBoard8Puzz = new EightPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0});
+        thirtyOneMoveInitBoard8Puzz = new EightPuzzle(new int[]{8, 6, 7, 2, 5, 4, 3, 0, 1});
+
+        standardGoalBoard3Puzz = new ThreePuzzle(new int[]{0, 1, 2, 3});
+        noSolutionInitBoard3Puzz = new ThreePuzzle(new int[]{3, 0, 2, 1});
+
+        mockHeuristic = Mockito.mock(IHeuristicFunction.class);
+    }
+
+    private BidirectionalAStarSearch puzzleSearcher(AbstractAStarNode initial, AbstractAStarNode goal) {
+        return new BidirectionalAStarSearch(initial, goal, new NPuzzleManhattanDist(goal),
+                new NPuzzleManhattanDist(initial));
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullGoalState() {
+        new BidirectionalAStarSearch(standardGoalBoard8Puzz, null, mockHeuristic, mockHeuristic);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullBackwardHeuristic() {
+        new BidirectionalAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic, null);
+    }
+
+    //////////////////////////////////////////////
+    // Guarantee Accurate EightPuzzle Solutions //
+    //////////////////////////////////////////////
+
+    @Test
+    public void initialStateIsGoal8Puzzle() {
+        BidirectionalAStarSearch searcher = puzzleSearcher(standardGoalBoard8Puzz, standardGoalBoard8Puzz);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(1, path.size());
+    }
+
+    @Test
+    public void oneMove8Puzzle() {
+        BidirectionalAStarSearch searcher = puzzleSearcher(oneMoveStandardInitBoard8Puzz, standardGoalBoard8Puzz);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(2, path.size());
+        Assert.assertEquals(oneMoveStandardInitBoard8Puzz, path.get(0));
+        Assert.assertEquals(standardGoalBoard8Puzz, path.get(1));
+    }
+
+    @Test
+    public void twentySixMove8Puzzle() {
+        BidirectionalAStarSearch searcher = puzzleSearcher(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(27, path.size());
+        Assert.assertEquals(26.0, solution.getG(), 0.0);
+        Assert.assertEquals(twentySixMoveInitBoard8Puzz, path.get(0));
+        Assert.assertEquals(twentySixMoveGoalBoard8Puzz, path.get(26));
+    }
+
+    @Test
+    public void thirtyOneMove8Puzzle() {
+        BidirectionalAStarSearch searcher = puzzleSearcher(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(32, path.size());
+    }
+
+    @Test
+    public void thirtyOneMove8PuzzleExpandsFewerNodesThanAStar() {
+        AStarSearch aStar = new AStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        aStar.search();
+
+        BidirectionalAStarSearch searcher = puzzleSearcher(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz);
+        searcher.search();
+
+        Assert.assertTrue(searcher.getNodesExpanded() < aStar.getNodesExpanded());
+    }
+
+    @Test
+    public void noSolution3Puzzle() {
+        BidirectionalAStarSearch searcher = puzzleSearcher(noSolutionInitBoard3Puzz, standardGoalBoard3Puzz);
+
+        Assert.assertNull(searcher.search());
+    }
+
+    /////////////////////////////////////////////
+    // Guarantee Accurate Navigation Solutions //
+    /////////////////////////////////////////////
+
+    @Test
+    public void pathIsConnectedAndCostMatchesAStarOnRandomTerrain() {
+        Random random = new Random(7);
+        int[][] terrain = new int[30][30];
+        for (int row = 0; row < terrain.length; row++)
+            for (int col = 0; col < terrain[row].length; col++)
+                terrain[row][col] = random.nextInt(8) == 0 ? 0 : 1 + random.nextInt(9);
+        terrain[0][0] = 1;
+        terrain[29][29] = 1;
+
+        NavigateTerrain initial = new NavigateTerrain(terrain, 0, 0);
+        NavigateTerrain goal = new NavigateTerrain(terrain, 29, 29);
+        AbstractAStarNode expected = new AStarSearch(new NavigateTerrain(terrain, 0, 0), goal,
+                new NavigationManhattanDist(goal)).search();
+
+        BidirectionalAStarSearch searcher = new BidirectionalAStarSearch(initial, goal,
+                new NavigationManhattanDist(goal), new NavigationManhattanDist(initial));
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(expected.getG(), solution.getG(), 0.0);
+
+        // Every Step Moves To A Neighbour And Costs The Value Of The Position Moved Into
+        double cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            int[] from = ((NavigateTerrain) path.get(i - 1)).getState();
+            int[] to = ((NavigateTerrain) path.get(i)).getState();
+            Assert.assertEquals(1, Math.abs(from[0] - to[0]) + Math.abs(from[1] - to[1]));
+            cost += terrain[to[0]][to[1]];
+        }
+        Assert.assertEquals(expected.getG(), cost, 0.0);
+    }
+
+    @Test
+    public void corridorBehindWallCostMatchesAStar() {
+        int[][] maze = new int[21][21];
+        for (int[] row : maze)
+            Arrays.fill(row, 1);
+        // A Wall Between Start And Goal With A Single Gap At The Bottom
+        for (int row = 0; row < 20; row++)
+            maze[row][10] = 0;
+
+        NavigateMaze goal = new NavigateMaze(maze, 0, 20);
+        NavigateMaze initial = new NavigateMaze(maze, 0, 0);
+        BidirectionalAStarSearch searcher = new BidirectionalAStarSearch(initial, goal,
+                new NavigationManhattanDist(goal), new NavigationManhattanDist(initial));
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(61, path.size());
+        Assert.assertEquals(initial, path.get(0));
+        Assert.assertEquals(goal, path.get(60));
+    }
+
+    @Test(timeout = 5000)
+    public void searchTwiceOnSameInstance() {
+        int[][] maze = new int[6][6];
+        for (int[] row : maze)
+            Arrays.fill(row, 1);
+
+        NavigateMaze goal = new NavigateMaze(maze, 5, 5);
+        NavigateMaze initial = new NavigateMaze(maze, 0, 0);
+        BidirectionalAStarSearch searcher = new BidirectionalAStarSearch(initial, goal,
+                new NavigationManhattanDist(goal), new NavigationManhattanDist(initial));
+
+        List<AbstractAStarNode> firstPath = searcher.getPath(searcher.search());
+        List<AbstractAStarNode> secondPath = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(11, firstPath.size());
+        Assert.assertEquals(firstPath, secondPath);
+        Assert.assertEquals(initial, secondPath.get(0));
+        Assert.assertEquals(goal, secondPath.get(10));
+        Assert.assertNull(initial.getParent());
+        Assert.assertNull(goal.getParent());
+    }
+
+    @Test
+    public void noSolutionNavigateMaze() {
+        NavigateMaze goal = new NavigateMaze(new int[][]{{1, 0}, {0, 1}}, 1, 1);
+        NavigateMaze initial = new NavigateMaze(new int[][]{{1, 0}, {0, 1}}, 0, 0);
+        BidirectionalAStarSearch searcher = new BidirectionalAStarSearch(initial, goal,
+                new NavigationManhattanDist(goal), new NavigationManhattanDist(initial));
+
+        Assert.assertNull(searcher.search());
+    }
+
+}
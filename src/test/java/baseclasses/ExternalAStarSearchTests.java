@@ -0,0 +1,140 @@
+package baseclasses;
+
+import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.ExternalAStarSearch;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.ThreePuzzle;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
+public class ExternalAStarSearchTests {
+
+    private EightPuzzle standardGoalBoard8Puzz;
+    private EightPuzzle thirtyOneMoveInitBoard8Puzz;
+    private EightPuzzle thirtyOneMoveGoalBoard8Puzz;
+    private ThreePuzzle standardGoalBoard3Puzz;
+    private ThreePuzzle noSolutionInitBoard3Puzz;
+    private IHeuristicFunction mockHeuristic;
+    private File workingDirectory;
+
+    @Before
+    public void setup() throws IOException {
+        standardGoalBoard8Puzz = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        thirtyOneMoveGoalBoard8Puzz = new EightPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0});
+        thirtyOneMoveInitBoard8Puzz = new EightPuzzle(new int[]{8, 6, 7, 2, 5, 4, 3, 0, 1});
+
+        standardGoalBoard3Puzz = new ThreePuzzle(new int[]{0, 1, 2, 3});
+        noSolutionInitBoard3Puzz = new ThreePuzzle(new int[]{3, 0, 2, 1});
+
+        mockHeuristic = Mockito.mock(IHeuristicFunction.class);
+        workingDirectory = Files.createTempDirectory("external-astar-tests").toFile();
+    }
+
+    @After
+    public void cleanup() {
+        workingDirectory.delete();
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNodeWithoutPackedState() {
+        AbstractAStarNode node = Mockito.mock(AbstractAStarNode.class);
+        new ExternalAStarSearch(node, node, mockHeuristic);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setBufferSizeZero() {
+        new ExternalAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic).setBufferSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setWorkingDirectoryThatDoesNotExist() {
+        new ExternalAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic)
+                .setWorkingDirectory(new File(workingDirectory, "missing"));
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void initialStateIsGoal() {
+        ExternalAStarSearch searcher = new ExternalAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz,
+                new NPuzzleManhattanDist(standardGoalBoard8Puzz));
+        searcher.setWorkingDirectory(workingDirectory);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(1, searcher.getPath(solution).size());
+        Assert.assertEquals(0, workingDirectory.list().length);
+    }
+
+    @Test
+    public void noSolution3Puzzle() {
+        ExternalAStarSearch searcher = new ExternalAStarSearch(noSolutionInitBoard3Puzz, standardGoalBoard3Puzz,
+                new NPuzzleManhattanDist(standardGoalBoard3Puzz));
+        searcher.setWorkingDirectory(workingDirectory);
+
+        Assert.assertNull(searcher.search());
+        Assert.assertEquals(12, searcher.getNodesExpanded());
+    }
+
+    @Test
+    public void thirtyOneMove8PuzzleSmallBuffer() {
+        ExternalAStarSearch searcher = new ExternalAStarSearch(thirtyOneMoveInitBoard8Puzz,
+                thirtyOneMoveGoalBoard8Puzz, new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        searcher.setWorkingDirectory(workingDirectory);
+        searcher.setBufferSize(100);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(32, path.size());
+        Assert.assertEquals(31.0, solution.getG(), 0.0);
+        Assert.assertSame(thirtyOneMoveInitBoard8Puzz, path.get(0));
+        for (int i = 1; i < path.size(); i++)
+            Assert.assertTrue(path.get(i - 1).getSuccessors().contains(path.get(i)));
+        Assert.assertEquals(0, workingDirectory.list().length);
+    }
+
+    @Test
+    public void terrainCostMatchesAStar() {
+        Random random = new Random(3);
+        int[][] terrain = new int[30][30];
+        for (int row = 0; row < terrain.length; row++)
+            for (int col = 0; col < terrain[row].length; col++)
+                terrain[row][col] = random.nextInt(8) == 0 ? 0 : 1 + random.nextInt(9);
+        terrain[0][0] = 1;
+        terrain[29][29] = 1;
+
+        NavigateTerrain goal = new NavigateTerrain(terrain, 29, 29);
+        AbstractAStarNode optimal = new AStarSearch(new NavigateTerrain(terrain, 0, 0), goal,
+                new NavigationManhattanDist(goal)).search();
+
+        ExternalAStarSearch searcher = new ExternalAStarSearch(new NavigateTerrain(terrain, 0, 0), goal,
+                new NavigationManhattanDist(goal));
+        searcher.setWorkingDirectory(workingDirectory);
+        searcher.setBufferSize(64);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(optimal.getG(), solution.getG(), 0.0);
+        Assert.assertEquals(optimal.getG(), searcher.getPath(solution).stream()
+                .skip(1).mapToDouble(AbstractAStarNode::distFromParent).sum(), 0.0);
+    }
+
+}
@@ -0,0 +1,165 @@
+package baseclasses;
+
+import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.FocalSearch;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.ThreePuzzle;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Random;
+
+public class FocalSearchTests {
+
+    private EightPuzzle standardGoalBoard8Puzz;
+    private EightPuzzle thirtyOneMoveInitBoard8Puzz;
+    private EightPuzzle thirtyOneMoveGoalBoard8Puzz;
+    private ThreePuzzle standardGoalBoard3Puzz;
+    private ThreePuzzle noSolutionInitBoard3Puzz;
+    private IHeuristicFunction mockHeuristic;
+
+    @Before
+    public void setup() {
+        standardGoalBoard8Puzz = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        thirtyOneMoveGoalBoard8Puzz = new EightPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0});
+        thirtyOneMoveInitBoard8Puzz = new EightPuzzle(new int[]{8, 6, 7, 2, 5, 4, 3, 0, 1});
+
+        standardGoalBoard3Puzz = new ThreePuzzle(new int[]{0, 1, 2, 3});
+        noSolutionInitBoard3Puzz = new ThreePuzzle(new int[]{3, 0, 2, 1});
+
+        mockHeuristic = Mockito.mock(IHeuristicFunction.class);
+    }
+
+    private int[][] randomTerrain(int size, long seed) {
+        Random random = new Random(seed);
+        int[][] terrain = new int[size][size];
+        for (int row = 0; row < size; row++)
+            for (int col = 0; col < size; col++)
+                terrain[row][col] = random.nextInt(8) == 0 ? 0 : 1 + random.nextInt(9);
+
+        terrain[0][0] = 1;
+        terrain[size - 1][size - 1] = 1;
+        return terrain;
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullInitialState() {
+        new FocalSearch(null, standardGoalBoard8Puzz, mockHeuristic, mockHeuristic);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullFocalHeuristic() {
+        new FocalSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setEpsilonLessThanOne() {
+        new FocalSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic, mockHeuristic)
+                .setEpsilon(0.99);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setEpsilonNaN() {
+        new FocalSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic, mockHeuristic)
+                .setEpsilon(Double.NaN);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void initialStateIsGoal() {
+        NPuzzleManhattanDist heuristic = new NPuzzleManhattanDist(standardGoalBoard8Puzz);
+        FocalSearch searcher = new FocalSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, heuristic, heuristic);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(1, searcher.getPath(solution).size());
+        Assert.assertEquals(1.0, searcher.getSuboptimalityBound(), 0.0);
+    }
+
+    @Test
+    public void noSolution3Puzzle() {
+        NPuzzleManhattanDist heuristic = new NPuzzleManhattanDist(standardGoalBoard3Puzz);
+        FocalSearch searcher = new FocalSearch(noSolutionInitBoard3Puzz, standardGoalBoard3Puzz, heuristic, heuristic);
+
+        Assert.assertNull(searcher.search());
+        Assert.assertTrue(Double.isNaN(searcher.getSuboptimalityBound()));
+    }
+
+    @Test
+    public void epsilonOfOneIsOptimal8Puzzle() {
+        NPuzzleManhattanDist heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        FocalSearch searcher = new FocalSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                heuristic, heuristic);
+        searcher.setEpsilon(1.0);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(32, searcher.getPath(solution).size());
+        Assert.assertEquals(1.0, searcher.getSuboptimalityBound(), 0.0);
+        Assert.assertEquals(0, searcher.getNodesReopened());
+    }
+
+    @Test
+    public void eightPuzzleWithinEpsilon() {
+        NPuzzleManhattanDist heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        FocalSearch searcher = new FocalSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                heuristic, heuristic);
+        searcher.setEpsilon(2.0);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertTrue(solution.getG() <= 2.0 * 31);
+        Assert.assertEquals(solution.getG() + 1, searcher.getPath(solution).size(), 0.0);
+    }
+
+    @Test
+    public void terrainPathsWithinEpsilon() {
+        for (long seed = 1; seed <= 3; seed++) {
+            int[][] terrain = randomTerrain(40, seed);
+            NavigateTerrain goal = new NavigateTerrain(terrain, 39, 39);
+            NavigationManhattanDist heuristic = new NavigationManhattanDist(goal);
+            double optimalCost = new AStarSearch(new NavigateTerrain(terrain, 0, 0), goal, heuristic).search().getG();
+
+            for (double epsilon : new double[]{1.2, 2.0}) {
+                FocalSearch searcher = new FocalSearch(new NavigateTerrain(terrain, 0, 0), goal, heuristic, heuristic);
+                searcher.setEpsilon(epsilon);
+                AbstractAStarNode solution = searcher.search();
+
+                Assert.assertTrue(solution.getG() <= epsilon * optimalCost + 1e-9);
+                Assert.assertTrue(searcher.getSuboptimalityBound() <= epsilon);
+                Assert.assertTrue(solution.getG() <= searcher.getSuboptimalityBound() * optimalCost + 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void terrainReopensInconsistentStates() {
+        int[][] terrain = randomTerrain(40, 2);
+        NavigateTerrain goal = new NavigateTerrain(terrain, 39, 39);
+        NavigationManhattanDist heuristic = new NavigationManhattanDist(goal);
+
+        FocalSearch searcher = new FocalSearch(new NavigateTerrain(terrain, 0, 0), goal, heuristic, heuristic);
+        searcher.setEpsilon(1.2);
+        searcher.search();
+        int nodesReopened = searcher.getNodesReopened();
+
+        Assert.assertTrue(nodesReopened > 0);
+        Assert.assertTrue(nodesReopened < searcher.getNodesExpanded());
+
+        // Counts Are Reset Between Searches
+        searcher.search();
+        Assert.assertEquals(nodesReopened, searcher.getNodesReopened());
+    }
+
+}
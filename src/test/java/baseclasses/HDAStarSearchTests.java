@@ -0,0 +1,197 @@
+package baseclasses;
+
+import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.HDAStarSearch;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.navigation.NavigateMaze;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.ThreePuzzle;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Random;
+
+public class HDAStarSearchTests {
+
+    private EightPuzzle standardGoalBoard8Puzz;
+    private EightPuzzle oneMoveStandardInitBoard8Puzz;
+    private EightPuzzle twentySixMoveInitBoard8Puzz;
+    private EightPuzzle twentySixMoveGoalBoard8Puzz;
+    private EightPuzzle thirtyOneMoveInitBoard8Puzz;
+    private EightPuzzle thirtyOneMoveGoalBoard8Puzz;
+    private ThreePuzzle standardGoalBoard3Puzz;
+    private ThreePuzzle sevenMoveInitBoard3Puzz;
+    private ThreePuzzle noSolutionInitBoard3Puzz;
+    private IHeuristicFunction mockHeuristic;
+
+    @Before
+    public void setup() {
+        standardGoalBoard8Puzz = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        oneMoveStandardInitBoard8Puzz = new EightPuzzle(new int[]{1, 0, 2, 3, 4, 5, 6, 7, 8});
+        twentySixMoveGoalBoard8Puzz = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        twentySixMoveInitBoard8Puzz = new EightPuzzle(new int[]{7, 2, 4, 5, 0, 6, 8, 3, 1});
+        thirtyOneMoveGoalBoard8Puzz = new EightPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0});
+        thirtyOneMoveInitBoard8Puzz = new EightPuzzle(new int[]{8, 6, 7, 2, 5, 4, 3, 0, 1});
+
+        standardGoalBoard3Puzz = new ThreePuzzle(new int[]{0, 1, 2, 3});
+        sevenMoveInitBoard3Puzz = new ThreePuzzle(new int[]{3, 2, 1, 0});
+        noSolutionInitBoard3Puzz = new ThreePuzzle(new int[]{3, 0, 2, 1});
+
+        mockHeuristic = Mockito.mock(IHeuristicFunction.class);
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setNumberOfThreadsLessThanOne() {
+        HDAStarSearch searcher = new HDAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic);
+        searcher.setNumberOfThreads(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setBatchSizeLessThanOne() {
+        HDAStarSearch searcher = new HDAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic);
+        searcher.setBatchSize(0);
+    }
+
+    //////////////////////////////////////////////
+    // Guarantee Accurate EightPuzzle Solutions //
+    //////////////////////////////////////////////
+
+    private HDAStarSearch searcherWithThreads(AbstractAStarNode initial, AbstractAStarNode goal, int threads) {
+        HDAStarSearch searcher = new HDAStarSearch(initial, goal, new NPuzzleManhattanDist(goal));
+        searcher.setNumberOfThreads(threads);
+        return searcher;
+    }
+
+    @Test
+    public void initialStateIsGoal8Puzzle() {
+        HDAStarSearch searcher = searcherWithThreads(standardGoalBoard8Puzz, standardGoalBoard8Puzz, 4);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(1, path.size());
+    }
+
+    @Test
+    public void oneMove8Puzzle() {
+        HDAStarSearch searcher = searcherWithThreads(oneMoveStandardInitBoard8Puzz, standardGoalBoard8Puzz, 4);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(2, path.size());
+        Assert.assertEquals(standardGoalBoard8Puzz, path.get(1));
+    }
+
+    @Test
+    public void twentySixMove8PuzzleWithOneThread() {
+        HDAStarSearch searcher = searcherWithThreads(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz, 1);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(27, path.size());
+        Assert.assertEquals(0, searcher.getNodesReopened());
+    }
+
+    @Test
+    public void twentySixMove8PuzzleWithFourThreads() {
+        HDAStarSearch searcher = searcherWithThreads(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz, 4);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(27, path.size());
+        Assert.assertTrue(searcher.getNodesExpanded() > 0);
+    }
+
+    @Test
+    public void thirtyOneMove8PuzzleWithSmallBatches() {
+        HDAStarSearch searcher = searcherWithThreads(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, 8);
+        searcher.setBatchSize(1);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(32, path.size());
+    }
+
+    //////////////////////////////////////////////
+    // Guarantee Accurate ThreePuzzle Solutions //
+    //////////////////////////////////////////////
+
+    @Test
+    public void sevenMove3Puzzle() {
+        HDAStarSearch searcher = searcherWithThreads(sevenMoveInitBoard3Puzz, standardGoalBoard3Puzz, 3);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(7, path.size());
+    }
+
+    @Test
+    public void noSolution3Puzzle() {
+        HDAStarSearch searcher = searcherWithThreads(noSolutionInitBoard3Puzz, standardGoalBoard3Puzz, 3);
+
+        Assert.assertNull(searcher.search());
+    }
+
+    /////////////////////////////////////////////
+    // Guarantee Accurate Navigation Solutions //
+    /////////////////////////////////////////////
+
+    @Test
+    public void noSolutionNavigateMaze() {
+        NavigateMaze goal = new NavigateMaze(new int[][]{{1, 0}, {0, 1}}, 1, 1);
+        NavigateMaze initial = new NavigateMaze(new int[][]{{1, 0}, {0, 1}}, 0, 0);
+        HDAStarSearch searcher = new HDAStarSearch(initial, goal, new NavigationManhattanDist(goal));
+        searcher.setNumberOfThreads(2);
+
+        Assert.assertNull(searcher.search());
+    }
+
+    @Test
+    public void randomTerrainCostMatchesAStar() {
+        Random random = new Random(42);
+        int[][] terrain = new int[40][40];
+        for (int row = 0; row < terrain.length; row++)
+            for (int col = 0; col < terrain[row].length; col++)
+                terrain[row][col] = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(5);
+        terrain[0][0] = 1;
+        terrain[39][39] = 1;
+
+        NavigateTerrain goal = new NavigateTerrain(terrain, 39, 39);
+        AbstractAStarNode expected = new AStarSearch(new NavigateTerrain(terrain, 0, 0), goal,
+                new NavigationManhattanDist(goal)).search();
+
+        HDAStarSearch searcher = new HDAStarSearch(new NavigateTerrain(terrain, 0, 0), goal,
+                new NavigationManhattanDist(goal));
+        searcher.setNumberOfThreads(4);
+        searcher.setBatchSize(8);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertNotNull(expected);
+        Assert.assertEquals(expected.getG(), solution.getG(), 0.0);
+        Assert.assertTrue(searcher.getNodesReopened() < searcher.getNodesExpanded());
+    }
+
+    @Test
+    public void inconsistentHeuristicReopensStates() {
+        NPuzzleManhattanDist manhattan = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+
+        // Admissible But Inconsistent - Drops To 0 Whenever The Empty Space Is In An Odd Space
+        IHeuristicFunction heuristic = node -> ((EightPuzzle) node).getEmptySpaceLocation() % 2 == 0
+                ? manhattan.calculateHeuristic(node)
+                : 0.0;
+
+        HDAStarSearch searcher = new HDAStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                heuristic);
+        searcher.setNumberOfThreads(1);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(31.0, solution.getG(), 0.0);
+        Assert.assertTrue(searcher.getNodesReopened() > 0);
+        Assert.assertTrue(searcher.getNodesReopened() < searcher.getNodesExpanded());
+    }
+
+}
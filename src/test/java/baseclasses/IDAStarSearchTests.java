@@ -1,6 +1,10 @@
 package baseclasses;
 
 import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.SearchStatus;
+import com.knighten.ai.search.SearchResult;
+import com.knighten.ai.search.SearchStatistics;
+import com.knighten.ai.search.SearchLimits;
 import com.knighten.ai.search.interfaces.IHeuristicFunction;
 import com.knighten.ai.search.navigation.NavigateMaze;
 import com.knighten.ai.search.navigation.NavigateTerrain;
@@ -400,4 +404,191 @@ public class IDAStarSearchTests {
         Assert.assertEquals(5, path.size());
     }
 
+    ////////////////////////////////////
+    // Guarantee Accurate Parallelism //
+    ////////////////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setParallelismLessThanOne() {
+        IDAStarSearch searcher = new IDAStarSearch(mockInitial, mockGoal, mockHeuristic);
+        searcher.setParallelism(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setSplitDepthNegative() {
+        IDAStarSearch searcher = new IDAStarSearch(mockInitial, mockGoal, mockHeuristic);
+        searcher.setSplitDepth(-1);
+    }
+
+    @Test
+    public void twentySixMove8PuzzleInParallel() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(twentySixMoveGoalBoard8Puzz);
+        IDAStarSearch searcher = new IDAStarSearch(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz, heuristic);
+        searcher.setParallelism(4);
+        searcher.setSplitDepth(4);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(27, path.size());
+    }
+
+    @Test
+    public void twentyTwoMove8PuzzleInParallelWithoutSplitting() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(twentyTwoMoveGoalBoard8Puzz);
+        IDAStarSearch searcher = new IDAStarSearch(twentyTwoMoveInitBoard8Puzz, twentyTwoMoveGoalBoard8Puzz, heuristic);
+        searcher.setParallelism(2);
+        searcher.setSplitDepth(0);
+        List<AbstractAStarNode> path = searcher.getPath(searcher.search());
+
+        Assert.assertEquals(23, path.size());
+    }
+
+    @Test
+    public void noSolution3PuzzleInParallel() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(standardGoalBoard3Puzz);
+        IDAStarSearch searcher = new IDAStarSearch(noSolutionInitBoard3Puzz, standardGoalBoard3Puzz, heuristic);
+        searcher.setParallelism(4);
+        searcher.setSplitDepth(2);
+
+        Assert.assertNull(searcher.search());
+    }
+
+    @Test
+    public void fourMovesNavigateTerrainInParallel() {
+        NavigateTerrain goal = new NavigateTerrain(new int[][]{{1, 1, 1}, {1, 0, 1}, {1, 1, 1}}, 2, 2);
+        NavigateTerrain initial = new NavigateTerrain(new int[][]{{1, 1, 1}, {1, 0, 1}, {1, 1, 1}}, 0, 0);
+        IDAStarSearch searcher = new IDAStarSearch(initial, goal, new NavigationManhattanDist(goal));
+        searcher.setParallelism(3);
+        searcher.setSplitDepth(1);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(5, searcher.getPath(solution).size());
+        Assert.assertEquals(4.0, solution.getG(), 0.0);
+    }
+
+    ///////////////////
+    // Search Limits //
+    ///////////////////
+
+    @Test
+    public void expansionLimitStopsSearchWithBestPartialPath() {
+        IHeuristicFunction heuristic = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz);
+        IDAStarSearch searcher = new IDAStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz, heuristic);
+        SearchLimits limits = new SearchLimits();
+        limits.setMaxNodesExpanded(1000);
+        searcher.setSearchLimits(limits);
+
+        Assert.assertNull(searcher.search());
+        SearchResult result = searcher.getSearchResult();
+        Assert.assertEquals(SearchStatus.EXPANSION_LIMIT, result.getStatus());
+        Assert.assertEquals(1000, result.getNodesExpanded());
+        Assert.assertEquals(thirtyOneMoveInitBoard8Puzz, result.getBestPath().get(0));
+        Assert.assertTrue(heuristic.calculateHeuristic(result.getBestNode())
+                < heuristic.calculateHeuristic(thirtyOneMoveInitBoard8Puzz));
+    }
+
+    @Test
+    public void memoryLimitBoundsPathLength() {
+        IDAStarSearch searcher = new IDAStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        SearchLimits limits = new SearchLimits();
+        limits.setMaxNodesInMemory(20);
+        searcher.setSearchLimits(limits);
+
+        Assert.assertNull(searcher.search());
+        Assert.assertEquals(SearchStatus.MEMORY_LIMIT, searcher.getSearchResult().getStatus());
+    }
+
+    @Test
+    public void solvedSearchReportsResult() {
+        IDAStarSearch searcher = new IDAStarSearch(twentyTwoMoveInitBoard8Puzz, twentyTwoMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(twentyTwoMoveGoalBoard8Puzz));
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(SearchStatus.SOLVED, searcher.getSearchResult().getStatus());
+        Assert.assertSame(solution, searcher.getSearchResult().getBestNode());
+        Assert.assertTrue(searcher.getSearchResult().getNodesExpanded() > 0);
+    }
+
+    @Test(timeout = 10000)
+    public void cancellationFromAnotherThreadStopsRecursion() throws InterruptedException {
+        IDAStarSearch searcher = new IDAStarSearch(noSolutionInitBoard8Puzz(), standardGoalBoard8Puzz,
+                new NPuzzleManhattanDist(standardGoalBoard8Puzz));
+        Thread canceller = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            searcher.getCancellationToken().cancel();
+        });
+        canceller.start();
+
+        Assert.assertNull(searcher.search());
+        canceller.join();
+        Assert.assertEquals(SearchStatus.CANCELLED, searcher.getSearchResult().getStatus());
+    }
+
+    @Test(timeout = 10000)
+    public void timeLimitStopsParallelSearch() {
+        IDAStarSearch searcher = new IDAStarSearch(noSolutionInitBoard8Puzz(), standardGoalBoard8Puzz,
+                new NPuzzleManhattanDist(standardGoalBoard8Puzz));
+        searcher.setParallelism(4);
+        searcher.setSplitDepth(3);
+        SearchLimits limits = new SearchLimits();
+        limits.setTimeLimitMillis(50);
+        searcher.setSearchLimits(limits);
+
+        Assert.assertNull(searcher.search());
+        Assert.assertEquals(SearchStatus.TIME_LIMIT, searcher.getSearchResult().getStatus());
+        Assert.assertTrue(searcher.getSearchResult().getNodesExpanded() > 0);
+    }
+
+    private EightPuzzle noSolutionInitBoard8Puzz() {
+        return new EightPuzzle(new int[]{0, 2, 1, 3, 4, 5, 6, 7, 8});
+    }
+
+    ///////////////////////
+    // Search Statistics //
+    ///////////////////////
+
+    @Test
+    public void statisticsRecordEachIteration() {
+        IDAStarSearch searcher = new IDAStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        searcher.setStatisticsEnabled(true);
+        searcher.search();
+        SearchResult result = searcher.getSearchResult();
+        SearchStatistics statistics = result.getStatistics();
+
+        // Manhattan Distance Bounds Of The 8-Puzzle Grow By 2 Per Iteration
+        double initialBound = new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz)
+                .calculateHeuristic(thirtyOneMoveInitBoard8Puzz);
+        Assert.assertEquals((31 - (int) initialBound) / 2 + 1, statistics.getIterations());
+
+        long total = 0;
+        for (long expanded : statistics.getNodesExpandedPerIteration())
+            total += expanded;
+        Assert.assertEquals(result.getNodesExpanded(), total);
+        Assert.assertTrue(statistics.getDuplicatesPruned() > 0);
+    }
+
+    @Test
+    public void parallelStatisticsMatchIterationCount() {
+        IDAStarSearch sequential = new IDAStarSearch(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(twentySixMoveGoalBoard8Puzz));
+        sequential.setStatisticsEnabled(true);
+        sequential.search();
+
+        IDAStarSearch parallel = new IDAStarSearch(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(twentySixMoveGoalBoard8Puzz));
+        parallel.setStatisticsEnabled(true);
+        parallel.setParallelism(4);
+        parallel.setSplitDepth(3);
+        parallel.search();
+
+        Assert.assertEquals(sequential.getSearchResult().getStatistics().getIterations(),
+                parallel.getSearchResult().getStatistics().getIterations());
+        Assert.assertEquals(26.0, parallel.getSearchResult().getPathCost(), 0.0);
+    }
+
 }
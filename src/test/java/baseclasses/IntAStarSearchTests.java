@@ -0,0 +1,204 @@
+package baseclasses;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IntAStarSearch;
+import com.knighten.ai.search.interfaces.IIntegerHeuristicFunction;
+import com.knighten.ai.search.navigation.NavigateMaze;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.ThreePuzzle;
+import com.knighten.ai.search.openlist.OpenListType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class IntAStarSearchTests {
+
+    private EightPuzzle standardGoalBoard8Puzz;
+    private EightPuzzle oneMoveStandardInitBoard8Puzz;
+    private EightPuzzle sevenMoveInitBoard8Puzz;
+    private EightPuzzle sevenMoveGoalBoard8Puzz;
+    private EightPuzzle twentySixMoveInitBoard8Puzz;
+    private EightPuzzle twentySixMoveGoalBoard8Puzz;
+    private ThreePuzzle standardGoalBoard3Puzz;
+    private ThreePuzzle sevenMoveInitBoard3Puzz;
+    private ThreePuzzle noSolutionInitBoard3Puzz;
+
+    @Before
+    public void setup() {
+        standardGoalBoard8Puzz = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        oneMoveStandardInitBoard8Puzz = new EightPuzzle(new int[]{1, 0, 2, 3, 4, 5, 6, 7, 8});
+        sevenMoveGoalBoard8Puzz = new EightPuzzle(new int[]{1, 2, 3, 8, 6, 4, 7, 5, 0});
+        sevenMoveInitBoard8Puzz = new EightPuzzle(new int[]{2, 8, 3, 1, 6, 4, 7, 0, 5});
+        twentySixMoveGoalBoard8Puzz = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        twentySixMoveInitBoard8Puzz = new EightPuzzle(new int[]{7, 2, 4, 5, 0, 6, 8, 3, 1});
+
+        standardGoalBoard3Puzz = new ThreePuzzle(new int[]{0, 1, 2, 3});
+        sevenMoveInitBoard3Puzz = new ThreePuzzle(new int[]{3, 2, 1, 0});
+        noSolutionInitBoard3Puzz = new ThreePuzzle(new int[]{3, 0, 2, 1});
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorInitialStateWithoutIntegerCosts() {
+        AbstractAStarNode mockNode = Mockito.mock(AbstractAStarNode.class);
+        new IntAStarSearch(mockNode, mockNode, Mockito.mock(IIntegerHeuristicFunction.class));
+    }
+
+    //////////////////////////////////////////////
+    // Guarantee Accurate EightPuzzle Solutions //
+    //////////////////////////////////////////////
+
+    @Test
+    public void noMovesNeeded8Puzzle() {
+        IIntegerHeuristicFunction heuristic = new NPuzzleManhattanDist(standardGoalBoard8Puzz);
+        IntAStarSearch searcher = new IntAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, heuristic);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(1, path.size());
+    }
+
+    @Test
+    public void oneMoveNeeded8Puzzle() {
+        IIntegerHeuristicFunction heuristic = new NPuzzleManhattanDist(standardGoalBoard8Puzz);
+        IntAStarSearch searcher = new IntAStarSearch(oneMoveStandardInitBoard8Puzz, standardGoalBoard8Puzz, heuristic);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(2, path.size());
+    }
+
+    @Test
+    public void sevenMovesNeeded8Puzzle() {
+        IIntegerHeuristicFunction heuristic = new NPuzzleManhattanDist(sevenMoveGoalBoard8Puzz);
+        IntAStarSearch searcher = new IntAStarSearch(sevenMoveInitBoard8Puzz, sevenMoveGoalBoard8Puzz, heuristic);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(8, path.size());
+    }
+
+    @Test
+    public void twentySixMove8Puzzle() {
+        IIntegerHeuristicFunction heuristic = new NPuzzleManhattanDist(twentySixMoveGoalBoard8Puzz);
+        IntAStarSearch searcher = new IntAStarSearch(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz, heuristic);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(27, path.size());
+        Assert.assertEquals(26.0, solution.getG(), .00001);
+        Assert.assertEquals(26.0, solution.getF(), .00001);
+        Assert.assertEquals(0.0, path.get(0).getG(), .00001);
+    }
+
+    //////////////////////////////////////////////
+    // Guarantee Accurate ThreePuzzle Solutions //
+    //////////////////////////////////////////////
+
+    @Test
+    public void sevenMovesNeeded3Puzzle() {
+        IIntegerHeuristicFunction heuristic = new NPuzzleManhattanDist(standardGoalBoard3Puzz);
+        IntAStarSearch searcher = new IntAStarSearch(sevenMoveInitBoard3Puzz, standardGoalBoard3Puzz, heuristic);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(7, path.size());
+    }
+
+    @Test
+    public void noSolution3Puzzle() {
+        IIntegerHeuristicFunction heuristic = new NPuzzleManhattanDist(standardGoalBoard3Puzz);
+        IntAStarSearch searcher = new IntAStarSearch(noSolutionInitBoard3Puzz, standardGoalBoard3Puzz, heuristic);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertNull(solution);
+    }
+
+    ///////////////////////////////////////////////
+    // Guarantee Accurate NavigateMaze Solutions //
+    ///////////////////////////////////////////////
+
+    @Test
+    public void noSolutionNavigateMaze() {
+        NavigateMaze goal = new NavigateMaze(new int[][]{{1, 1}, {1, 0}}, 1, 1);
+        NavigateMaze initial = new NavigateMaze(new int[][]{{1, 1}, {1, 0}}, 0, 0);
+
+        IIntegerHeuristicFunction heuristic = new NavigationManhattanDist(goal);
+        IntAStarSearch searcher = new IntAStarSearch(initial, goal, heuristic);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertNull(solution);
+    }
+
+    @Test
+    public void fourMovesNavigateMaze() {
+        NavigateMaze goal = new NavigateMaze(new int[][]{{1, 1, 1}, {1, 0, 1}, {1, 1, 1}}, 2, 2);
+        NavigateMaze initial = new NavigateMaze(new int[][]{{1, 1, 1}, {1, 0, 1}, {1, 1, 1}}, 0, 0);
+
+        IIntegerHeuristicFunction heuristic = new NavigationManhattanDist(goal);
+        IntAStarSearch searcher = new IntAStarSearch(initial, goal, heuristic);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(5, path.size());
+    }
+
+    //////////////////////////////////////////////////
+    // Guarantee Accurate NavigateTerrain Solutions //
+    //////////////////////////////////////////////////
+
+    @Test
+    public void cheapestPathNavigateTerrain() {
+        int[][] terrain = {{1, 9, 1}, {1, 9, 1}, {1, 1, 1}};
+        NavigateTerrain goal = new NavigateTerrain(terrain, 0, 2);
+        NavigateTerrain initial = new NavigateTerrain(terrain, 0, 0);
+
+        IIntegerHeuristicFunction heuristic = new NavigationManhattanDist(goal);
+        IntAStarSearch searcher = new IntAStarSearch(initial, goal, heuristic);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(7, path.size());
+        Assert.assertEquals(6.0, solution.getG(), .00001);
+    }
+
+    ///////////////////////////////////////////
+    // Guarantee Accurate Bucket Open Lists //
+    ///////////////////////////////////////////
+
+    @Test
+    public void twentySixMove8PuzzleBucketOpenList() {
+        IIntegerHeuristicFunction heuristic = new NPuzzleManhattanDist(twentySixMoveGoalBoard8Puzz);
+        IntAStarSearch searcher = new IntAStarSearch(twentySixMoveInitBoard8Puzz, twentySixMoveGoalBoard8Puzz, heuristic);
+        searcher.setOpenListType(OpenListType.BUCKET);
+        AbstractAStarNode solution = searcher.search();
+        List<AbstractAStarNode> path = searcher.getPath(solution);
+
+        Assert.assertEquals(27, path.size());
+        Assert.assertEquals(26.0, solution.getG(), .00001);
+    }
+
+    @Test
+    public void cheapestPathNavigateTerrainRadixHeapOpenList() {
+        int[][] terrain = {{1, 9, 1}, {1, 9, 1}, {1, 1, 1}};
+        NavigateTerrain goal = new NavigateTerrain(terrain, 0, 2);
+        NavigateTerrain initial = new NavigateTerrain(terrain, 0, 0);
+
+        IntAStarSearch searcher = new IntAStarSearch(initial, goal, new NavigationManhattanDist(goal));
+        searcher.setOpenListType(OpenListType.RADIX_HEAP);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(7, searcher.getPath(solution).size());
+        Assert.assertEquals(6.0, solution.getG(), .00001);
+    }
+
+}
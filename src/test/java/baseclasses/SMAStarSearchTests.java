@@ -0,0 +1,129 @@
+package baseclasses;
+
+import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.SMAStarSearch;
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.navigation.NavigateTerrain;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.ThreePuzzle;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Random;
+
+public class SMAStarSearchTests {
+
+    private EightPuzzle standardGoalBoard8Puzz;
+    private EightPuzzle thirtyOneMoveInitBoard8Puzz;
+    private EightPuzzle thirtyOneMoveGoalBoard8Puzz;
+    private ThreePuzzle standardGoalBoard3Puzz;
+    private ThreePuzzle noSolutionInitBoard3Puzz;
+    private IHeuristicFunction mockHeuristic;
+
+    @Before
+    public void setup() {
+        standardGoalBoard8Puzz = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        thirtyOneMoveGoalBoard8Puzz = new EightPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0});
+        thirtyOneMoveInitBoard8Puzz = new EightPuzzle(new int[]{8, 6, 7, 2, 5, 4, 3, 0, 1});
+
+        standardGoalBoard3Puzz = new ThreePuzzle(new int[]{0, 1, 2, 3});
+        noSolutionInitBoard3Puzz = new ThreePuzzle(new int[]{3, 0, 2, 1});
+
+        mockHeuristic = Mockito.mock(IHeuristicFunction.class);
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMaxNodesZero() {
+        new SMAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz, mockHeuristic).setMaxNodes(0);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void initialStateIsGoal() {
+        SMAStarSearch searcher = new SMAStarSearch(standardGoalBoard8Puzz, standardGoalBoard8Puzz,
+                new NPuzzleManhattanDist(standardGoalBoard8Puzz));
+        searcher.setMaxNodes(1);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(1, searcher.getPath(solution).size());
+    }
+
+    @Test
+    public void noSolution3Puzzle() {
+        SMAStarSearch searcher = new SMAStarSearch(noSolutionInitBoard3Puzz, standardGoalBoard3Puzz,
+                new NPuzzleManhattanDist(standardGoalBoard3Puzz));
+
+        Assert.assertNull(searcher.search());
+    }
+
+    @Test
+    public void thirtyOneMove8PuzzleDefaultBudget() {
+        SMAStarSearch searcher = new SMAStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(32, searcher.getPath(solution).size());
+        Assert.assertEquals(31.0, solution.getG(), 0.0);
+    }
+
+    @Test
+    public void thirtyOneMove8PuzzleSmallBudgetIsStillOptimal() {
+        SMAStarSearch searcher = new SMAStarSearch(thirtyOneMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        searcher.setMaxNodes(64);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(32, searcher.getPath(solution).size());
+        Assert.assertTrue(searcher.getPeakNodesInMemory() <= 64);
+    }
+
+    @Test
+    public void budgetSmallerThanOptimalPathReturnsNull() {
+        EightPuzzle sixMoveInitBoard8Puzz = new EightPuzzle(new int[]{4, 1, 3, 7, 2, 6, 0, 5, 8});
+        SMAStarSearch searcher = new SMAStarSearch(sixMoveInitBoard8Puzz, thirtyOneMoveGoalBoard8Puzz,
+                new NPuzzleManhattanDist(thirtyOneMoveGoalBoard8Puzz));
+        searcher.setMaxNodes(6);
+
+        Assert.assertNull(searcher.search());
+        Assert.assertTrue(searcher.getPeakNodesInMemory() <= 6);
+
+        searcher.setMaxNodes(7);
+        Assert.assertEquals(7, searcher.getPath(searcher.search()).size());
+    }
+
+    @Test
+    public void terrainCostMatchesAStarWithinBudget() {
+        Random random = new Random(11);
+        int[][] terrain = new int[8][8];
+        for (int row = 0; row < terrain.length; row++)
+            for (int col = 0; col < terrain[row].length; col++)
+                terrain[row][col] = random.nextInt(8) == 0 ? 0 : 1 + random.nextInt(9);
+        terrain[0][0] = 1;
+        terrain[7][7] = 1;
+
+        NavigateTerrain goal = new NavigateTerrain(terrain, 7, 7);
+        AbstractAStarNode optimal = new AStarSearch(new NavigateTerrain(terrain, 0, 0), goal,
+                new NavigationManhattanDist(goal)).search();
+
+        SMAStarSearch searcher = new SMAStarSearch(new NavigateTerrain(terrain, 0, 0), goal,
+                new NavigationManhattanDist(goal));
+        searcher.setMaxNodes(40);
+        AbstractAStarNode solution = searcher.search();
+
+        Assert.assertEquals(optimal.getG(), solution.getG(), 0.0);
+        Assert.assertTrue(searcher.getPeakNodesInMemory() <= 40);
+    }
+
+}
@@ -0,0 +1,62 @@
+package baseclasses;
+
+import com.knighten.ai.search.SearchLimits;
+import com.knighten.ai.search.SearchStatus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SearchLimitsTests {
+
+    private SearchLimits limits;
+
+    @Before
+    public void setup() {
+        limits = new SearchLimits();
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMaxNodesExpandedNegative() {
+        limits.setMaxNodesExpanded(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMaxNodesGeneratedNegative() {
+        limits.setMaxNodesGenerated(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setTimeLimitZero() {
+        limits.setTimeLimitMillis(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMaxNodesInMemoryZero() {
+        limits.setMaxNodesInMemory(0);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void defaultsToNoLimits() {
+        Assert.assertEquals(Long.MAX_VALUE, limits.getMaxNodesExpanded());
+        Assert.assertEquals(Long.MAX_VALUE, limits.getMaxNodesGenerated());
+        Assert.assertEquals(Long.MAX_VALUE, limits.getTimeLimitMillis());
+        Assert.assertEquals(Long.MAX_VALUE, limits.getMaxNodesInMemory());
+    }
+
+    @Test
+    public void onlyLimitsAndCancellationStopEarly() {
+        Assert.assertFalse(SearchStatus.SOLVED.isStoppedEarly());
+        Assert.assertFalse(SearchStatus.NO_PATH.isStoppedEarly());
+        Assert.assertTrue(SearchStatus.TIME_LIMIT.isStoppedEarly());
+        Assert.assertTrue(SearchStatus.CANCELLED.isStoppedEarly());
+    }
+
+}
@@ -0,0 +1,94 @@
+package collections;
+
+import com.knighten.ai.search.collections.LongHashSet;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+
+public class LongHashSetTests {
+
+    private LongHashSet set;
+
+    @Before
+    public void setup() {
+        set = new LongHashSet();
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNegativeExpectedSize() {
+        new LongHashSet(-1);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void addAndContains() {
+        Assert.assertTrue(set.add(42L));
+        Assert.assertFalse(set.add(42L));
+        Assert.assertTrue(set.contains(42L));
+        Assert.assertFalse(set.contains(43L));
+        Assert.assertEquals(1, set.size());
+    }
+
+    @Test
+    public void zeroKeyIsSupported() {
+        Assert.assertFalse(set.contains(0L));
+        Assert.assertTrue(set.add(0L));
+        Assert.assertTrue(set.contains(0L));
+        Assert.assertEquals(1, set.size());
+        Assert.assertTrue(set.remove(0L));
+        Assert.assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void removeKeepsOtherKeysReachable() {
+        for (long key = 1; key <= 1000; key++)
+            set.add(key);
+
+        for (long key = 1; key <= 1000; key += 2)
+            Assert.assertTrue(set.remove(key));
+
+        for (long key = 1; key <= 1000; key++)
+            Assert.assertEquals(key % 2 == 0, set.contains(key));
+
+        Assert.assertEquals(500, set.size());
+    }
+
+    @Test
+    public void matchesHashSetForRandomOperations() {
+        Random random = new Random(7);
+        HashSet<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(5000) - 2500;
+            if (random.nextBoolean())
+                Assert.assertEquals(expected.add(key), set.add(key));
+            else
+                Assert.assertEquals(expected.remove(key), set.remove(key));
+        }
+
+        Assert.assertEquals(expected.size(), set.size());
+        for (long key = -2500; key < 2500; key++)
+            Assert.assertEquals(expected.contains(key), set.contains(key));
+    }
+
+    @Test
+    public void clearRemovesAllKeys() {
+        set.add(0L);
+        set.add(5L);
+        set.clear();
+
+        Assert.assertTrue(set.isEmpty());
+        Assert.assertFalse(set.contains(5L));
+    }
+
+}
@@ -0,0 +1,85 @@
+package collections;
+
+import com.knighten.ai.search.collections.LongObjectHashMap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+public class LongObjectHashMapTests {
+
+    private LongObjectHashMap<String> map;
+
+    @Before
+    public void setup() {
+        map = new LongObjectHashMap<>();
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNegativeExpectedSize() {
+        new LongObjectHashMap<String>(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void putNullValue() {
+        map.put(1L, null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void putGetAndReplace() {
+        Assert.assertNull(map.put(7L, "a"));
+        Assert.assertEquals("a", map.put(7L, "b"));
+        Assert.assertEquals("b", map.get(7L));
+        Assert.assertNull(map.get(8L));
+        Assert.assertEquals(1, map.size());
+    }
+
+    @Test
+    public void zeroKeyIsSupported() {
+        map.put(0L, "zero");
+        Assert.assertTrue(map.containsKey(0L));
+        Assert.assertEquals("zero", map.remove(0L));
+        Assert.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void matchesHashMapForRandomOperations() {
+        Random random = new Random(11);
+        HashMap<Long, String> expected = new HashMap<>();
+
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(3000) << 20;
+            if (random.nextInt(3) > 0) {
+                String value = Integer.toString(i);
+                Assert.assertEquals(expected.put(key, value), map.put(key, value));
+            } else {
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+
+        Assert.assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 3000; key++)
+            Assert.assertEquals(expected.get(key << 20), map.get(key << 20));
+    }
+
+    @Test
+    public void clearRemovesAllMappings() {
+        map.put(0L, "zero");
+        map.put(3L, "three");
+        map.clear();
+
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertNull(map.get(3L));
+    }
+
+}
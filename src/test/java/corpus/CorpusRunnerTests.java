@@ -0,0 +1,89 @@
+package corpus;
+
+import com.knighten.ai.search.SearchLimits;
+import com.knighten.ai.search.corpus.CorpusRunner;
+import com.knighten.ai.search.corpus.PuzzleInstance;
+import com.knighten.ai.search.corpus.SearchEngines;
+import com.knighten.ai.search.interfaces.ISearchEngine;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class CorpusRunnerTests {
+
+    private List<PuzzleInstance> instances;
+    private ISearchEngine aStar;
+    private ISearchEngine idaStar;
+
+    @Before
+    public void setup() {
+        instances = Arrays.asList(
+                new PuzzleInstance("eight-31", new int[]{8, 6, 7, 2, 5, 4, 3, 0, 1},
+                        new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0}, 31),
+                new PuzzleInstance("three-6", new int[]{3, 2, 1, 0}, new int[]{0, 1, 2, 3}));
+
+        aStar = SearchEngines.aStar("astar", NPuzzleManhattanDist::new, new SearchLimits());
+        idaStar = SearchEngines.idaStar("idastar", NPuzzleManhattanDist::new, new SearchLimits());
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNoEngines() {
+        new CorpusRunner(Collections.emptyList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void engineNullHeuristicFactory() {
+        SearchEngines.aStar("astar", null, new SearchLimits());
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void runWritesRowPerInstanceAndEngine() throws IOException {
+        StringBuilder output = new StringBuilder();
+        new CorpusRunner(Arrays.asList(aStar, idaStar)).run(instances, output);
+
+        String[] lines = output.toString().split("\n");
+        Assert.assertEquals(5, lines.length);
+        Assert.assertEquals(CorpusRunner.HEADER, lines[0]);
+
+        String[] row = lines[1].split(",", -1);
+        Assert.assertEquals(10, row.length);
+        Assert.assertEquals("eight-31", row[0]);
+        Assert.assertEquals("astar", row[1]);
+        Assert.assertEquals("SOLVED", row[2]);
+        Assert.assertEquals("31", row[3]);
+        Assert.assertEquals("31", row[4]);
+        Assert.assertTrue(Long.parseLong(row[5]) > 0);
+        Assert.assertTrue(Integer.parseInt(row[8]) > 0);
+
+        Assert.assertTrue(lines[2].startsWith("eight-31,idastar,SOLVED,31,31,"));
+        Assert.assertTrue(lines[3].startsWith("three-6,astar,SOLVED,6,,"));
+        Assert.assertTrue(lines[4].startsWith("three-6,idastar,SOLVED,6,,"));
+    }
+
+    @Test
+    public void runReportsLimitReached() throws IOException {
+        SearchLimits limits = new SearchLimits();
+        limits.setMaxNodesExpanded(10);
+        StringBuilder output = new StringBuilder();
+
+        new CorpusRunner(Collections.singletonList(SearchEngines.aStar("limited", NPuzzleManhattanDist::new, limits)))
+                .run(instances.subList(0, 1), output);
+
+        Assert.assertTrue(output.toString().split("\n")[1].startsWith("eight-31,limited,EXPANSION_LIMIT,,31,"));
+    }
+
+}
@@ -0,0 +1,182 @@
+package corpus;
+
+import com.knighten.ai.search.corpus.GridMapGenerator;
+import com.knighten.ai.search.corpus.GridScenario;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+public class GridMapGeneratorTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void randomObstaclesInvalidDensity() {
+        new GridMapGenerator(1).randomObstacles(10, 10, 1.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void randomObstaclesInvalidSize() {
+        new GridMapGenerator(1).randomObstacles(0, 10, 0.2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void perfectMazeTooSmall() {
+        new GridMapGenerator(1).perfectMaze(2, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void roomsAndCorridorsInvalidRoomSize() {
+        new GridMapGenerator(1).roomsAndCorridors(10, 10, 0, 0.1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void weightedTerrainInvalidMaxCost() {
+        new GridMapGenerator(1).weightedTerrain(10, 10, 0, 0.1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void randomScenariosNoOpenSpaces() {
+        new GridMapGenerator(1).randomScenarios(new int[3][3], 1);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void randomObstaclesDensity() {
+        int[][] map = new GridMapGenerator(1).randomObstacles(200, 100, 0.25);
+        int obstacles = countOpen(map, 0);
+
+        Assert.assertEquals(200, map.length);
+        Assert.assertEquals(100, map[0].length);
+        Assert.assertEquals(0.25, obstacles / 20000.0, 0.02);
+        Assert.assertEquals(20000, obstacles + countOpen(map, 1));
+    }
+
+    @Test
+    public void sameSeedSameMap() {
+        Assert.assertTrue(Arrays.deepEquals(new GridMapGenerator(8).roomsAndCorridors(64, 64, 6, 0.2),
+                new GridMapGenerator(8).roomsAndCorridors(64, 64, 6, 0.2)));
+        Assert.assertTrue(Arrays.deepEquals(new GridMapGenerator(8).weightedTerrain(32, 48, 5, 0.1),
+                new GridMapGenerator(8).weightedTerrain(32, 48, 5, 0.1)));
+    }
+
+    @Test
+    public void perfectMazeIsATree() {
+        int[][] maze = new GridMapGenerator(3).perfectMaze(41, 61);
+        int cells = 20 * 30;
+
+        // A Spanning Tree Over The Cells Opens Each Cell And One Passage Per Edge
+        Assert.assertEquals(2 * cells - 1, countOpen(maze, 1));
+        Assert.assertEquals(2 * cells - 1, reachable(maze, 1, 1));
+    }
+
+    @Test
+    public void perfectMazeEvenSizeLeavesLastRowWall() {
+        int[][] maze = new GridMapGenerator(3).perfectMaze(10, 10);
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(0, maze[9][i]);
+            Assert.assertEquals(0, maze[i][9]);
+        }
+    }
+
+    @Test
+    public void roomsAndCorridorsAreConnected() {
+        for (int roomSize : new int[]{1, 4, 7}) {
+            int[][] map = new GridMapGenerator(roomSize).roomsAndCorridors(75, 53, roomSize, 0.0);
+            Assert.assertEquals(countOpen(map, 1), reachable(map, 1, 1));
+        }
+    }
+
+    @Test
+    public void roomsAndCorridorsSingleColumnOfRooms() {
+        int[][] map = new GridMapGenerator(4).roomsAndCorridors(40, 6, 4, 0.0);
+        Assert.assertEquals(countOpen(map, 1), reachable(map, 1, 1));
+    }
+
+    @Test
+    public void weightedTerrainCostsInRange() {
+        int[][] terrain = new GridMapGenerator(5).weightedTerrain(100, 80, 9, 0.05);
+        boolean sawOne = false;
+        boolean sawMax = false;
+
+        for (int[] row : terrain) {
+            for (int cost : row) {
+                Assert.assertTrue(cost >= 0 && cost <= 9);
+                sawOne |= cost == 1;
+                sawMax |= cost == 9;
+            }
+        }
+
+        Assert.assertTrue(sawOne);
+        Assert.assertTrue(sawMax);
+    }
+
+    @Test
+    public void randomScenariosAreConnected() {
+        int[][] map = new GridMapGenerator(6).randomObstacles(60, 60, 0.35);
+        List<GridScenario> scenarios = new GridMapGenerator(6).randomScenarios(map, 50);
+
+        Assert.assertEquals(50, scenarios.size());
+        for (GridScenario scenario : scenarios) {
+            Assert.assertNotEquals(0, map[scenario.getStartRow()][scenario.getStartCol()]);
+            Assert.assertNotEquals(0, map[scenario.getGoalRow()][scenario.getGoalCol()]);
+            Assert.assertTrue(reaches(map, scenario));
+            Assert.assertEquals(-1, scenario.getOptimalLength(), 0.0);
+        }
+    }
+
+    private static int countOpen(int[][] map, int value) {
+        int count = 0;
+        for (int[] row : map)
+            for (int space : row)
+                if ((value == 0) == (space == 0))
+                    count++;
+        return count;
+    }
+
+    private static boolean[][] flood(int[][] map, int startRow, int startCol) {
+        boolean[][] seen = new boolean[map.length][map[0].length];
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{startRow, startCol});
+        seen[startRow][startCol] = true;
+        int[][] moves = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+        while (!queue.isEmpty()) {
+            int[] current = queue.poll();
+            for (int[] move : moves) {
+                int row = current[0] + move[0];
+                int col = current[1] + move[1];
+                if (row >= 0 && row < map.length && col >= 0 && col < map[0].length && !seen[row][col]
+                        && map[row][col] != 0) {
+                    seen[row][col] = true;
+                    queue.add(new int[]{row, col});
+                }
+            }
+        }
+
+        return seen;
+    }
+
+    private static int reachable(int[][] map, int startRow, int startCol) {
+        int count = 0;
+        for (boolean[] row : flood(map, startRow, startCol))
+            for (boolean seen : row)
+                if (seen)
+                    count++;
+        return count;
+    }
+
+    private static boolean reaches(int[][] map, GridScenario scenario) {
+        return flood(map, scenario.getStartRow(), scenario.getStartCol())[scenario.getGoalRow()][scenario.getGoalCol()];
+    }
+
+}
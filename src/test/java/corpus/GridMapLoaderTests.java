@@ -0,0 +1,80 @@
+package corpus;
+
+import com.knighten.ai.search.corpus.GridMapLoader;
+import com.knighten.ai.search.corpus.GridScenario;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+public class GridMapLoaderTests {
+
+    private static final String MAP = "type octile\n"
+            + "height 3\n"
+            + "width 5\n"
+            + "map\n"
+            + ".@.TG\n"
+            + "..O.S\n"
+            + "W....\n";
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadMapMissingMapLine() throws IOException {
+        GridMapLoader.loadMap(new StringReader("type octile\nheight 1\nwidth 1\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadMapMissingSize() throws IOException {
+        GridMapLoader.loadMap(new StringReader("type octile\nmap\n.\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadMapShortRow() throws IOException {
+        GridMapLoader.loadMap(new StringReader("type octile\nheight 2\nwidth 3\nmap\n...\n..\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadScenariosTooFewFields() throws IOException {
+        GridMapLoader.loadScenarios(new StringReader("version 1\n0\tmap.map\t5\t3\t0\t0\n"));
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void loadMapConvertsTerrain() throws IOException {
+        int[][] map = GridMapLoader.loadMap(new StringReader(MAP));
+
+        Assert.assertArrayEquals(new int[]{1, 0, 1, 0, 1}, map[0]);
+        Assert.assertArrayEquals(new int[]{1, 1, 0, 1, 1}, map[1]);
+        Assert.assertArrayEquals(new int[]{0, 1, 1, 1, 1}, map[2]);
+    }
+
+    @Test
+    public void loadScenariosSwapsXAndY() throws IOException {
+        String scenarios = "version 1\n"
+                + "0\tsmall.map\t5\t3\t0\t0\t4\t2\t6.00000000\n"
+                + "\n"
+                + "1\tsmall map.map\t5\t3\t3\t1\t1\t2\t2.41421356\n";
+        List<GridScenario> loaded = GridMapLoader.loadScenarios(new StringReader(scenarios));
+
+        Assert.assertEquals(2, loaded.size());
+        Assert.assertEquals(0, loaded.get(0).getStartRow());
+        Assert.assertEquals(2, loaded.get(0).getGoalRow());
+        Assert.assertEquals(4, loaded.get(0).getGoalCol());
+        Assert.assertEquals(6.0, loaded.get(0).getOptimalLength(), 0.0);
+
+        Assert.assertEquals(1, loaded.get(1).getStartRow());
+        Assert.assertEquals(3, loaded.get(1).getStartCol());
+        Assert.assertEquals(2, loaded.get(1).getGoalRow());
+        Assert.assertEquals(1, loaded.get(1).getGoalCol());
+        Assert.assertEquals(2.41421356, loaded.get(1).getOptimalLength(), 1e-9);
+    }
+
+}
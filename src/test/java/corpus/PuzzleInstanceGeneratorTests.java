@@ -0,0 +1,118 @@
+package corpus;
+
+import com.knighten.ai.search.AStarSearch;
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.corpus.PuzzleInstance;
+import com.knighten.ai.search.corpus.PuzzleInstanceGenerator;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class PuzzleInstanceGeneratorTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void standardGoalWidthTooSmall() {
+        PuzzleInstanceGenerator.standardGoal(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void randomWalksNegativeDepth() {
+        new PuzzleInstanceGenerator(1).randomWalks(1, PuzzleInstanceGenerator.standardGoal(3), -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void instanceBoardIsNotPermutation() {
+        new PuzzleInstance("bad", new int[]{0, 1, 1, 3}, new int[]{0, 1, 2, 3});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void instanceBoardsDifferentSizes() {
+        new PuzzleInstance("bad", new int[]{0, 1, 2, 3}, PuzzleInstanceGenerator.standardGoal(3));
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void standardGoalPutsEmptySpaceLast() {
+        Assert.assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0}, PuzzleInstanceGenerator.standardGoal(3));
+    }
+
+    @Test
+    public void isSolvableKnownBoards() {
+        Assert.assertTrue(PuzzleInstanceGenerator.isSolvable(new int[]{8, 6, 7, 2, 5, 4, 3, 0, 1},
+                new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0}));
+        Assert.assertTrue(PuzzleInstanceGenerator.isSolvable(new int[]{3, 2, 1, 0}, new int[]{0, 1, 2, 3}));
+        Assert.assertFalse(PuzzleInstanceGenerator.isSolvable(new int[]{3, 0, 2, 1}, new int[]{0, 1, 2, 3}));
+        Assert.assertFalse(PuzzleInstanceGenerator.isSolvable(new int[]{0, 2, 1, 3, 4, 5, 6, 7, 8},
+                new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @Test
+    public void randomPermutationsAreSolvable() {
+        int[] goal = PuzzleInstanceGenerator.standardGoal(4);
+        List<PuzzleInstance> instances = new PuzzleInstanceGenerator(42).randomPermutations(200, goal);
+
+        Assert.assertEquals(200, instances.size());
+        for (PuzzleInstance instance : instances)
+            Assert.assertTrue(instance.isSolvable());
+    }
+
+    @Test
+    public void randomPermutationsFoundByAStar() {
+        int[] goal = PuzzleInstanceGenerator.standardGoal(3);
+
+        for (PuzzleInstance instance : new PuzzleInstanceGenerator(7).randomPermutations(5, goal)) {
+            AbstractAStarNode goalState = instance.createGoalState();
+            AStarSearch search = new AStarSearch(instance.createInitialState(), goalState,
+                    new NPuzzleManhattanDist(goalState));
+
+            Assert.assertNotNull(search.search());
+        }
+    }
+
+    @Test
+    public void sameSeedSameInstances() {
+        int[] goal = PuzzleInstanceGenerator.standardGoal(4);
+        List<PuzzleInstance> first = new PuzzleInstanceGenerator(99).randomPermutations(3, goal);
+        List<PuzzleInstance> second = new PuzzleInstanceGenerator(99).randomPermutations(3, goal);
+
+        for (int i = 0; i < first.size(); i++)
+            Assert.assertArrayEquals(first.get(i).getInitialBoard(), second.get(i).getInitialBoard());
+    }
+
+    @Test
+    public void randomWalksCostAtMostDepth() {
+        int[] goal = PuzzleInstanceGenerator.standardGoal(3);
+
+        for (PuzzleInstance instance : new PuzzleInstanceGenerator(3).randomWalks(10, goal, 12)) {
+            Assert.assertTrue(instance.isSolvable());
+
+            AbstractAStarNode goalState = instance.createGoalState();
+            AStarSearch search = new AStarSearch(instance.createInitialState(), goalState,
+                    new NPuzzleManhattanDist(goalState));
+            AbstractAStarNode solution = search.search();
+
+            Assert.assertNotNull(solution);
+            Assert.assertTrue(solution.getG() <= 12);
+            Assert.assertEquals(0, solution.getG() % 2, 0.0);
+        }
+    }
+
+    @Test
+    public void randomWalkZeroDepthIsGoal() {
+        int[] goal = PuzzleInstanceGenerator.standardGoal(4);
+        PuzzleInstance instance = new PuzzleInstanceGenerator(5).randomWalks(1, goal, 0).get(0);
+
+        Assert.assertArrayEquals(goal, instance.getInitialBoard());
+        Assert.assertEquals(4, instance.getWidth());
+    }
+
+}
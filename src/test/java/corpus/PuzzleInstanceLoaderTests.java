@@ -0,0 +1,148 @@
+package corpus;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IntIDAStarSearch;
+import com.knighten.ai.search.corpus.PuzzleInstance;
+import com.knighten.ai.search.corpus.PuzzleInstanceGenerator;
+import com.knighten.ai.search.corpus.PuzzleInstanceLoader;
+import com.knighten.ai.search.npuzzle.FifteenPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleLinearConflict;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class PuzzleInstanceLoaderTests {
+
+    private PuzzleInstanceLoader loader;
+
+    @Before
+    public void setup() {
+        loader = new PuzzleInstanceLoader(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15});
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullGoal() {
+        new PuzzleInstanceLoader(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadWrongNumberOfTiles() throws IOException {
+        loader.load(new StringReader("1 2 3\n"), "bad");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadNonIntegerTile() throws IOException {
+        loader.load(new StringReader("14 13 15 7 11 12 9 5 6 0 2 1 4 8 10 x\n"), "bad");
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void loadSkipsCommentsAndBlankLines() throws IOException {
+        String text = "# Two Instances\n"
+                + "\n"
+                + "1 0 2 3 4 5 6 7 8 9 10 11 12 13 14 15 1   # one move\n"
+                + "  4 1 2 3 0 5 6 7 8 9 10 11 12 13 14 15\n";
+        List<PuzzleInstance> instances = loader.load(new StringReader(text), "test");
+
+        Assert.assertEquals(2, instances.size());
+        Assert.assertEquals("test-1", instances.get(0).getName());
+        Assert.assertEquals(1, instances.get(0).getOptimalCost());
+        Assert.assertEquals("test-2", instances.get(1).getName());
+        Assert.assertEquals(-1, instances.get(1).getOptimalCost());
+        Assert.assertArrayEquals(new int[]{4, 1, 2, 3, 0, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+                instances.get(1).getInitialBoard());
+        Assert.assertTrue(instances.get(1).createInitialState() instanceof FifteenPuzzle);
+    }
+
+    @Test
+    public void loadNamesInstancesAfterNumberComments() throws IOException {
+        String text = "1 0 2 3 4 5 6 7 8 9 10 11 12 13 14 15 1  # 14\n"
+                + "4 1 2 3 0 5 6 7 8 9 10 11 12 13 14 15 1  # moved down\n"
+                + "1 2 0 3 4 5 6 7 8 9 10 11 12 13 14 15 2  # 32\n";
+        List<PuzzleInstance> instances = loader.load(new StringReader(text), "test");
+
+        Assert.assertEquals("test-14", instances.get(0).getName());
+        Assert.assertEquals("test-2", instances.get(1).getName());
+        Assert.assertEquals("test-32", instances.get(2).getName());
+    }
+
+    @Test
+    public void loadRoundTripsGeneratedInstances() throws IOException {
+        int[] goal = PuzzleInstanceGenerator.standardGoal(4);
+        List<PuzzleInstance> generated = new PuzzleInstanceGenerator(11).randomPermutations(5, goal);
+
+        StringBuilder text = new StringBuilder();
+        for (PuzzleInstance instance : generated) {
+            for (int tile : instance.getInitialBoard())
+                text.append(tile).append(' ');
+            text.append('\n');
+        }
+
+        Path file = Files.createTempFile("corpus", ".txt");
+        try {
+            Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+            List<PuzzleInstance> loaded = new PuzzleInstanceLoader(goal).load(file);
+
+            Assert.assertEquals(generated.size(), loaded.size());
+            Assert.assertEquals(file.getFileName().toString().replace(".txt", "") + "-1", loaded.get(0).getName());
+            for (int i = 0; i < generated.size(); i++)
+                Assert.assertArrayEquals(generated.get(i).getInitialBoard(), loaded.get(i).getInitialBoard());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void loadKorfFifteenPuzzlesAreSolvable() throws IOException {
+        List<PuzzleInstance> instances = PuzzleInstanceLoader.loadKorfFifteenPuzzles();
+        Set<List<Integer>> boards = new HashSet<>();
+
+        Assert.assertEquals(100, instances.size());
+        for (int index = 0; index < instances.size(); index++) {
+            PuzzleInstance instance = instances.get(index);
+            Assert.assertEquals("korf-" + (index + 1), instance.getName());
+            Assert.assertTrue(PuzzleInstanceGenerator.isSolvable(instance.getInitialBoard(),
+                    instance.getGoalBoard()));
+            Assert.assertTrue(instance.getOptimalCost() >= 41 && instance.getOptimalCost() <= 66);
+
+            List<Integer> board = new ArrayList<>();
+            for (int tile : instance.getInitialBoard())
+                board.add(tile);
+            Assert.assertTrue(boards.add(board));
+        }
+    }
+
+    @Test
+    public void loadKorfFifteenPuzzlesOptimalCosts() throws IOException {
+        List<PuzzleInstance> instances = PuzzleInstanceLoader.loadKorfFifteenPuzzles();
+
+        // Instances 9, 12, 13, 16, And 19 Are Among The Easiest Of The Set
+        for (int index : new int[]{8, 11, 12, 15, 18}) {
+            PuzzleInstance instance = instances.get(index);
+            NPuzzle goal = new NPuzzle(instance.getGoalBoard());
+            AbstractAStarNode solution = new IntIDAStarSearch(new NPuzzle(instance.getInitialBoard()), goal,
+                    new NPuzzleLinearConflict(goal)).search();
+
+            Assert.assertEquals(instance.getOptimalCost(), solution.getG(), 0.0);
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package corpus;
+
+import com.knighten.ai.search.SearchLimits;
+import com.knighten.ai.search.corpus.GridMapGenerator;
+import com.knighten.ai.search.corpus.GridScenario;
+import com.knighten.ai.search.corpus.ScenarioReport;
+import com.knighten.ai.search.corpus.ScenarioRunner;
+import com.knighten.ai.search.corpus.SearchEngines;
+import com.knighten.ai.search.navigation.AbstractNavigate;
+import com.knighten.ai.search.navigation.NavigationManhattanDist;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+public class ScenarioRunnerTests {
+
+    private ScenarioRunner runner;
+
+    @Before
+    public void setup() {
+        runner = new ScenarioRunner(SearchEngines.aStar("astar", goal -> new NavigationManhattanDist((AbstractNavigate) goal),
+                new SearchLimits()));
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullEngine() {
+        new ScenarioRunner(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setWarmupQueriesNegative() {
+        runner.setWarmupQueries(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void reportPercentileOutOfRange() {
+        new ScenarioReport("engine", new long[]{1}, 1, 1).getPercentileMillis(101);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void runSolvesEveryConnectedQuery() {
+        GridMapGenerator generator = new GridMapGenerator(12);
+        int[][] maze = generator.perfectMaze(31, 31);
+        List<GridScenario> scenarios = generator.randomScenarios(maze, 40);
+
+        runner.setWarmupQueries(5);
+        ScenarioReport report = runner.run(maze, scenarios);
+
+        Assert.assertEquals("astar", report.getEngineName());
+        Assert.assertEquals(40, report.getQueries());
+        Assert.assertEquals(40, report.getSolved());
+        Assert.assertTrue(report.getNodesExpanded() > 0);
+        Assert.assertTrue(report.getPercentileMillis(50) <= report.getPercentileMillis(99));
+        Assert.assertTrue(report.getPercentileMillis(99) <= report.getMaxMillis());
+        Assert.assertTrue(report.toString().startsWith("astar: 40/40 solved"));
+    }
+
+    @Test
+    public void reportNearestRankPercentiles() {
+        long[] latencies = new long[100];
+        for (int i = 0; i < latencies.length; i++)
+            latencies[i] = (100 - i) * 1_000_000L;
+        ScenarioReport report = new ScenarioReport("engine", latencies, 100, 0);
+
+        Assert.assertEquals(1.0, report.getPercentileMillis(0), 0.0);
+        Assert.assertEquals(50.0, report.getPercentileMillis(50), 0.0);
+        Assert.assertEquals(99.0, report.getPercentileMillis(99), 0.0);
+        Assert.assertEquals(100.0, report.getMaxMillis(), 0.0);
+        Assert.assertEquals(50.5, report.getMeanMillis(), 1e-9);
+    }
+
+    @Test
+    public void reportNoQueries() {
+        ScenarioReport report = new ScenarioReport("engine", new long[0], 0, 0);
+
+        Assert.assertTrue(Double.isNaN(report.getPercentileMillis(50)));
+        Assert.assertTrue(Double.isNaN(report.getMeanMillis()));
+    }
+
+}
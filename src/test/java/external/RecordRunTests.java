@@ -0,0 +1,164 @@
+package external;
+
+import com.knighten.ai.search.external.MergedRuns;
+import com.knighten.ai.search.external.RecordBuffer;
+import com.knighten.ai.search.external.RecordRun;
+import com.knighten.ai.search.external.RunCursor;
+import com.knighten.ai.search.external.RunWriter;
+import com.knighten.ai.search.external.StateRecord;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class RecordRunTests {
+
+    private static final int SMALL_WINDOW = 7;
+
+    private Path directory;
+
+    @Before
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("record-run-tests");
+    }
+
+    @After
+    public void cleanup() {
+        File[] files = directory.toFile().listFiles();
+        if (files != null)
+            for (File file : files)
+                file.delete();
+        directory.toFile().delete();
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writerWindowOfZero() {
+        new RunWriter(directory.resolve("run"), 10, 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void writerRejectsOutOfOrderStates() {
+        RunWriter writer = new RunWriter(directory.resolve("run"), 10, SMALL_WINDOW);
+        writer.write(5, 0.0, 5);
+        writer.write(4, 1.0, 5);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void writerRejectsRecordsPastCapacity() {
+        RunWriter writer = new RunWriter(directory.resolve("run"), 1, SMALL_WINDOW);
+        writer.write(1, 0.0, 1);
+        writer.write(2, 1.0, 1);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void cursorReadsEveryRecordAcrossWindows() {
+        RunWriter writer = new RunWriter(directory.resolve("run"), 50, SMALL_WINDOW);
+        for (long state = 0; state < 50; state++)
+            writer.write(state * 3, state + 0.5, state - 1);
+        RecordRun run = writer.finish();
+
+        RunCursor cursor = run.cursor();
+        for (long state = 0; state < 50; state++) {
+            Assert.assertTrue(cursor.advance());
+            Assert.assertEquals(state * 3, cursor.current().getState());
+            Assert.assertEquals(state + 0.5, cursor.current().getG(), 0.0);
+            Assert.assertEquals(state - 1, cursor.current().getParent());
+        }
+        Assert.assertFalse(cursor.advance());
+        Assert.assertEquals(50, run.size());
+    }
+
+    @Test
+    public void findUsesBinarySearch() {
+        RunWriter writer = new RunWriter(directory.resolve("run"), 50, SMALL_WINDOW);
+        for (long state = 0; state < 50; state++)
+            writer.write(state * 3, state, 0);
+        RecordRun run = writer.finish();
+
+        StateRecord record = new StateRecord();
+        for (long state = 0; state < 50; state++) {
+            Assert.assertTrue(run.find(state * 3, record));
+            Assert.assertEquals(state, record.getG(), 0.0);
+            Assert.assertFalse(run.find(state * 3 + 1, record));
+        }
+        Assert.assertFalse(run.find(-1, record));
+    }
+
+    @Test
+    public void emptyRun() {
+        RecordRun run = new RecordBuffer().spill(directory.resolve("run"), SMALL_WINDOW);
+
+        Assert.assertEquals(0, run.size());
+        Assert.assertFalse(run.cursor().advance());
+        Assert.assertFalse(run.find(0, new StateRecord()));
+    }
+
+    @Test
+    public void bufferSpillSortsAndKeepsCheapestCopy() {
+        RecordBuffer buffer = new RecordBuffer();
+        buffer.add(9, 4.0, 1);
+        buffer.add(-3, 2.0, 1);
+        buffer.add(9, 3.0, 2);
+        buffer.add(0, 1.0, 1);
+        buffer.add(9, 5.0, 3);
+        RecordRun run = buffer.spill(directory.resolve("run"), SMALL_WINDOW);
+
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertEquals(3, run.size());
+
+        StateRecord record = new StateRecord();
+        Assert.assertTrue(run.find(9, record));
+        Assert.assertEquals(3.0, record.getG(), 0.0);
+        Assert.assertEquals(2, record.getParent());
+
+        RunCursor cursor = run.cursor();
+        long[] expected = {-3, 0, 9};
+        for (long state : expected) {
+            Assert.assertTrue(cursor.advance());
+            Assert.assertEquals(state, cursor.current().getState());
+        }
+    }
+
+    @Test
+    public void mergeMatchesSortedDedupedRecords() {
+        Random random = new Random(5);
+        TreeMap<Long, Double> expected = new TreeMap<>();
+        RecordRun[] runs = new RecordRun[5];
+
+        for (int i = 0; i < runs.length; i++) {
+            RecordBuffer buffer = new RecordBuffer();
+            for (int j = 0; j < 200; j++) {
+                long state = random.nextInt(300);
+                double g = random.nextInt(50);
+                buffer.add(state, g, state);
+                expected.merge(state, g, Math::min);
+            }
+            runs[i] = buffer.spill(directory.resolve("run" + i), SMALL_WINDOW);
+        }
+
+        MergedRuns merged = new MergedRuns(Arrays.asList(runs));
+        for (Long state : expected.keySet()) {
+            Assert.assertTrue(merged.advance());
+            Assert.assertEquals(state.longValue(), merged.current().getState());
+            Assert.assertEquals(expected.get(state), merged.current().getG(), 0.0);
+        }
+        Assert.assertFalse(merged.advance());
+    }
+
+}
@@ -17,7 +17,7 @@ public class AbstractNavigateTests {
         Mockito.when(mockAbstractNavigateGoal.getNumberOfRows()).thenReturn(2);
         Mockito.when(mockAbstractNavigateGoal.getNumberOfCols()).thenReturn(2);
         Mockito.when(mockAbstractNavigateGoal.getState()).thenReturn(new int[]{0, 0});
-        Mockito.when(mockAbstractNavigateGoal.getEnvironment()).thenReturn(new int[][]{{1, 1}, {0, 0}});
+        Mockito.doReturn(new int[][]{{1, 1}, {0, 0}}).when(mockAbstractNavigateGoal).getEnvironment();
 
         mockAbstractNavigateSearch = Mockito.mock(AbstractNavigate.class, Mockito.CALLS_REAL_METHODS);
     }
@@ -64,4 +64,14 @@ public class AbstractNavigateTests {
         Assert.assertEquals("* 1 \n0 0 ", mockAbstractNavigateGoal.toString());
     }
 
+    @Test
+    public void packStateMatchesEquals() {
+        AbstractNavigate mockAbstractNavigateOther = Mockito.mock(AbstractNavigate.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.when(mockAbstractNavigateOther.getState()).thenReturn(new int[]{1, 0});
+
+        Assert.assertTrue(mockAbstractNavigateGoal.isPackable());
+        Assert.assertEquals(0L, mockAbstractNavigateGoal.packState());
+        Assert.assertEquals(1L << 32, mockAbstractNavigateOther.packState());
+    }
+
 }
@@ -2,6 +2,7 @@ package navigation;
 
 import com.knighten.ai.search.AbstractAStarNode;
 import com.knighten.ai.search.navigation.NavigateMaze;
+import com.knighten.ai.search.navigation.NavigationEnvironment;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -129,4 +130,18 @@ public class NavigateMazeTests {
         Assert.assertTrue(results.contains(new NavigateMaze(new int[][]{{0, 1, 0}, {1, 1, 1}, {0, 1, 0}}, 1, 2)));
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorEnvironmentWithNon0Or1() {
+        new NavigateMaze(new NavigationEnvironment(new int[][]{{0, 0}, {1, 9}}), 0, 0, null);
+    }
+
+    @Test
+    public void successorsShareEnvironment() {
+        NavigationEnvironment environment = new NavigationEnvironment(new int[][]{{0, 1, 0}, {1, 1, 1}, {0, 1, 0}});
+        NavigateMaze testObject = new NavigateMaze(environment, 1, 1, null);
+
+        for (AbstractAStarNode successor : testObject.getSuccessors())
+            Assert.assertSame(environment, ((NavigateMaze) successor).getNavigationEnvironment());
+    }
+
 }
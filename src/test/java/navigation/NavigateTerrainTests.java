@@ -79,6 +79,15 @@ public class NavigateTerrainTests {
         Assert.assertEquals(5.0, testObject.distFromParent(), .00001);
     }
 
+    @Test
+    public void distToParentIsParentsValueOnBoard() {
+        NavigateTerrain parent = new NavigateTerrain(new int[][]{{5, 3}, {1, 1}}, 0, 0);
+        NavigateTerrain testObject = new NavigateTerrain(new int[][]{{5, 3}, {1, 1}}, 0, 1, parent);
+
+        Assert.assertEquals(5.0, testObject.distToParent(), .00001);
+        Assert.assertEquals(3.0, testObject.distFromParent(), .00001);
+    }
+
     @Test
     public void createSuccessorsWithNoPossibleMoves() {
         NavigateTerrain testObject = new NavigateTerrain(new int[][]{{0, 0, 0}, {0, 1, 0}, {0, 0, 0}}, 1, 1);
@@ -129,4 +138,15 @@ public class NavigateTerrainTests {
         Assert.assertTrue(results.contains(new NavigateTerrain(new int[][]{{0, 1, 0}, {1, 1, 1}, {0, 1, 0}}, 1, 2)));
     }
 
+    @Test
+    public void unpackStateRestoresPosition() {
+        int[][] terrain = new int[][]{{0, 1, 0}, {1, 5, 1}, {0, 1, 3}};
+        NavigateTerrain position = new NavigateTerrain(terrain, 2, 2);
+        AbstractAStarNode unpacked = new NavigateTerrain(terrain, 1, 1).unpackState(position.packState());
+
+        Assert.assertTrue(unpacked instanceof NavigateTerrain);
+        Assert.assertEquals(position, unpacked);
+        Assert.assertEquals(3.0, unpacked.distFromParent(), 0.0);
+    }
+
 }
@@ -0,0 +1,137 @@
+package navigation;
+
+import com.knighten.ai.search.navigation.GridStorage;
+import com.knighten.ai.search.navigation.NavigationEnvironment;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class NavigationEnvironmentTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullEnvironment() {
+        new NavigationEnvironment(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorEmptyEnvironment() {
+        new NavigationEnvironment(new int[0][0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorJaggedEnvironment() {
+        new NavigationEnvironment(new int[][]{{1, 1}, {1}});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNegativeValue() {
+        new NavigationEnvironment(new int[][]{{1, -1}, {1, 1}});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorValueTooLargeForStorage() {
+        new NavigationEnvironment(new int[][]{{1, 256}}, GridStorage.BYTE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNonBinaryBitStorage() {
+        new NavigationEnvironment(new int[][]{{1, 2}}, GridStorage.BIT);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void boundsAndPassability() {
+        NavigationEnvironment environment = new NavigationEnvironment(new int[][]{{1, 0, 3}, {2, 1, 1}});
+
+        Assert.assertEquals(2, environment.getNumberOfRows());
+        Assert.assertEquals(3, environment.getNumberOfCols());
+        Assert.assertTrue(environment.isInBounds(1, 2));
+        Assert.assertFalse(environment.isInBounds(2, 0));
+        Assert.assertFalse(environment.isInBounds(0, -1));
+        Assert.assertTrue(environment.isPassable(0, 2));
+        Assert.assertFalse(environment.isPassable(0, 1));
+        Assert.assertFalse(environment.isPassable(-1, 0));
+        Assert.assertEquals(3, environment.getCost(0, 2));
+        Assert.assertEquals(2, environment.getCost(1, 0));
+    }
+
+    @Test
+    public void isBinary() {
+        Assert.assertTrue(new NavigationEnvironment(new int[][]{{1, 0}, {0, 1}}).isBinary());
+        Assert.assertFalse(new NavigationEnvironment(new int[][]{{1, 0}, {0, 2}}).isBinary());
+    }
+
+    @Test
+    public void changesToSourceArrayAreNotSeen() {
+        int[][] source = {{1, 1}, {1, 1}};
+        NavigationEnvironment environment = new NavigationEnvironment(source);
+        source[0][1] = 0;
+
+        Assert.assertTrue(environment.isPassable(0, 1));
+    }
+
+    @Test
+    public void toArrayReturnsCopy() {
+        NavigationEnvironment environment = new NavigationEnvironment(new int[][]{{1, 2}, {3, 4}});
+        int[][] copy = environment.toArray();
+        copy[1][1] = 0;
+
+        Assert.assertArrayEquals(new int[]{3, 4}, environment.toArray()[1]);
+    }
+
+    @Test
+    public void defaultStorageIsSmallestThatFits() {
+        Assert.assertEquals(GridStorage.BIT, new NavigationEnvironment(new int[][]{{0, 1}}).getStorage());
+        Assert.assertEquals(GridStorage.BYTE, new NavigationEnvironment(new int[][]{{0, 255}}).getStorage());
+        Assert.assertEquals(GridStorage.SHORT, new NavigationEnvironment(new int[][]{{0, 256}}).getStorage());
+        Assert.assertEquals(GridStorage.INT, new NavigationEnvironment(new int[][]{{0, 65536}}).getStorage());
+    }
+
+    @Test
+    public void everyStorageHoldsTheSameGrid() {
+        int[][] maze = new int[37][71];
+        int[][] terrain = new int[37][71];
+        Random random = new Random(4);
+        for (int row = 0; row < maze.length; row++) {
+            for (int col = 0; col < maze[0].length; col++) {
+                maze[row][col] = random.nextInt(2);
+                terrain[row][col] = random.nextInt(256);
+            }
+        }
+
+        for (GridStorage storage : GridStorage.values()) {
+            NavigationEnvironment environment = new NavigationEnvironment(maze, storage);
+            Assert.assertEquals(storage, environment.getStorage());
+            Assert.assertTrue(Arrays.deepEquals(maze, environment.toArray()));
+
+            for (int row = 0; row < maze.length; row++)
+                for (int col = 0; col < maze[0].length; col++)
+                    Assert.assertEquals(maze[row][col] != 0, environment.isPassable(row, col));
+
+            if (storage != GridStorage.BIT) {
+                environment = new NavigationEnvironment(terrain, storage);
+                Assert.assertTrue(Arrays.deepEquals(terrain, environment.toArray()));
+            }
+        }
+    }
+
+    @Test
+    public void storageBytesShrinkWithLayout() {
+        int[][] maze = new int[64][64];
+
+        Assert.assertEquals(4 * 4096, new NavigationEnvironment(maze, GridStorage.INT).getStorageBytes());
+        Assert.assertEquals(2 * 4096, new NavigationEnvironment(maze, GridStorage.SHORT).getStorageBytes());
+        Assert.assertEquals(4096, new NavigationEnvironment(maze, GridStorage.BYTE).getStorageBytes());
+        Assert.assertEquals(4096 / 8, new NavigationEnvironment(maze, GridStorage.BIT).getStorageBytes());
+    }
+
+}
@@ -79,4 +79,23 @@ public class AbstractNPuzzleTests {
         Assert.assertEquals("3 2\n1 *\n", getMockPuzzleStateIsGoalReversed.toString());
     }
 
+    @Test
+    public void packStateMatchesEquals() {
+        Assert.assertNotEquals(mockPuzzleStateIsGoal.packState(), getMockPuzzleStateIsGoalReversed.packState());
+        Assert.assertEquals(0x3210L, mockPuzzleStateIsGoal.packState());
+    }
+
+    @Test
+    public void isPackableForSmallBoards() {
+        Assert.assertTrue(mockPuzzleStateIsGoal.isPackable());
+    }
+
+    @Test
+    public void isPackableFalseForBoardsLargerThanFifteenPuzzle() {
+        AbstractNPuzzle mockTwentyFourPuzzle = Mockito.mock(AbstractNPuzzle.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.when(mockTwentyFourPuzzle.getState()).thenReturn(new int[25]);
+
+        Assert.assertFalse(mockTwentyFourPuzzle.isPackable());
+    }
+
 }
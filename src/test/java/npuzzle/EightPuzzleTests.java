@@ -180,4 +180,14 @@ public class EightPuzzleTests {
         Assert.assertTrue(successors.contains(new EightPuzzle(new int[]{1, 2, 3, 4, 5, 0, 7, 8, 6})));
     }
 
+    @Test
+    public void unpackStateRestoresBoard() {
+        EightPuzzle puzzle = new EightPuzzle(new int[]{8, 6, 7, 2, 5, 4, 3, 0, 1});
+        AbstractAStarNode unpacked = puzzle.unpackState(puzzle.packState());
+
+        Assert.assertTrue(unpacked instanceof EightPuzzle);
+        Assert.assertEquals(puzzle, unpacked);
+        Assert.assertNull(unpacked.getParent());
+    }
+
 }
@@ -0,0 +1,94 @@
+package npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.npuzzle.FifteenPuzzle;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+public class FifteenPuzzleTests {
+
+    private int[] puzzleBoardSolution;
+    private int[] puzzleBoardNoZero;
+    private int[] puzzleBoardInvalidLength;
+    private int[] topLeftEmpty;
+    private int[] middleEmpty;
+
+    @Before
+    public void setup() {
+        puzzleBoardSolution = new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 0};
+        puzzleBoardNoZero = new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16};
+        puzzleBoardInvalidLength = new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8};
+        topLeftEmpty = new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15};
+        middleEmpty = new int[]{1, 2, 3, 4, 5, 0, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15};
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorInvalidBoardLength() {
+        new FifteenPuzzle(puzzleBoardInvalidLength);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorBoardDoesNotContainEmptySpace() {
+        new FifteenPuzzle(puzzleBoardNoZero);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullBoard() {
+        new FifteenPuzzle(null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void constructorFindsEmptySpace() {
+        FifteenPuzzle newPuzzle = new FifteenPuzzle(puzzleBoardSolution);
+
+        Assert.assertArrayEquals(puzzleBoardSolution, newPuzzle.getState());
+        Assert.assertEquals(15, newPuzzle.getEmptySpaceLocation());
+        Assert.assertNull(newPuzzle.getParent());
+    }
+
+    @Test
+    public void createSuccessorsWithTopLeftEmpty() {
+        FifteenPuzzle parentPuzzle = new FifteenPuzzle(topLeftEmpty);
+        ArrayList<AbstractAStarNode> successors = parentPuzzle.getSuccessors();
+
+        Assert.assertEquals(2, successors.size());
+        Assert.assertTrue(successors.contains(new FifteenPuzzle(
+                new int[]{1, 0, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15})));
+        Assert.assertTrue(successors.contains(new FifteenPuzzle(
+                new int[]{4, 1, 2, 3, 0, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15})));
+        Assert.assertEquals(parentPuzzle, successors.get(0).getParent());
+    }
+
+    @Test
+    public void createSuccessorsWithMiddleEmpty() {
+        FifteenPuzzle parentPuzzle = new FifteenPuzzle(middleEmpty);
+        ArrayList<AbstractAStarNode> successors = parentPuzzle.getSuccessors();
+
+        Assert.assertEquals(4, successors.size());
+        Assert.assertTrue(successors.contains(new FifteenPuzzle(
+                new int[]{1, 0, 3, 4, 5, 2, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15})));
+        Assert.assertTrue(successors.contains(new FifteenPuzzle(
+                new int[]{1, 2, 3, 4, 5, 9, 6, 7, 8, 0, 10, 11, 12, 13, 14, 15})));
+    }
+
+    @Test
+    public void unpackStateRestoresBoard() {
+        FifteenPuzzle puzzle = new FifteenPuzzle(middleEmpty);
+        FifteenPuzzle unpacked = (FifteenPuzzle) puzzle.unpackState(puzzle.packState());
+
+        Assert.assertArrayEquals(middleEmpty, unpacked.getState());
+        Assert.assertEquals(5, unpacked.getEmptySpaceLocation());
+    }
+
+}
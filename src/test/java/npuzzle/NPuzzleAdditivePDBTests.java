@@ -0,0 +1,151 @@
+package npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IDAStarSearch;
+import com.knighten.ai.search.IntIDAStarSearch;
+import com.knighten.ai.search.corpus.PuzzleInstance;
+import com.knighten.ai.search.corpus.PuzzleInstanceGenerator;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.FifteenPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleAdditivePDB;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.NPuzzlePatternDatabase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+
+public class NPuzzleAdditivePDBTests {
+
+    private EightPuzzle goalEightPuzzle;
+    private int[][] eightPuzzleHalves;
+
+    @Before
+    public void setup() {
+        goalEightPuzzle = new EightPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8});
+        eightPuzzleHalves = new int[][]{{1, 2, 3, 4}, {5, 6, 7, 8}};
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorGoalNodeIsNull() {
+        new NPuzzleAdditivePDB(null, eightPuzzleHalves);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNoPartitions() {
+        new NPuzzleAdditivePDB(goalEightPuzzle);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorPatternsOverlap() {
+        new NPuzzleAdditivePDB(goalEightPuzzle, new int[][]{{1, 2, 3}, {3, 4}});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorDatabaseBuiltForDifferentGoal() {
+        NPuzzlePatternDatabase database = new NPuzzlePatternDatabase(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0},
+                new int[]{1, 2});
+        new NPuzzleAdditivePDB(goalEightPuzzle, Collections.singletonList(new NPuzzlePatternDatabase[]{database}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void calculateHeuristicSearchNodeNull() {
+        new NPuzzleAdditivePDB(goalEightPuzzle, eightPuzzleHalves).calculateHeuristic(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fifteenPuzzleFactoryWrongBoardSize() {
+        NPuzzleAdditivePDB.fifteenPuzzleFiveFiveFive(goalEightPuzzle);
+    }
+
+    ///////////////////////////////////
+    // Actual Implementation Testing //
+    ///////////////////////////////////
+
+    @Test
+    public void calculateHeuristicGoalIsZero() {
+        NPuzzleAdditivePDB testObject = new NPuzzleAdditivePDB(goalEightPuzzle, eightPuzzleHalves);
+
+        Assert.assertEquals(0, testObject.calculateIntHeuristic(goalEightPuzzle));
+    }
+
+    @Test
+    public void reflectionOnlyUsedWhenEmptySpaceIsOnDiagonal() {
+        NPuzzleAdditivePDB onDiagonal = new NPuzzleAdditivePDB(goalEightPuzzle, eightPuzzleHalves);
+        NPuzzleAdditivePDB offDiagonal = new NPuzzleAdditivePDB(new EightPuzzle(new int[]{1, 0, 2, 3, 4, 5, 6, 7, 8}),
+                eightPuzzleHalves);
+
+        Assert.assertTrue(onDiagonal.isReflectionUsed());
+        Assert.assertFalse(offDiagonal.isReflectionUsed());
+    }
+
+    @Test
+    public void prebuiltDatabasesGiveSameHeuristic() {
+        NPuzzleAdditivePDB built = new NPuzzleAdditivePDB(goalEightPuzzle, eightPuzzleHalves);
+        NPuzzleAdditivePDB reused = new NPuzzleAdditivePDB(goalEightPuzzle, built.getPartitions());
+        int[] goalBoard = goalEightPuzzle.getState();
+
+        for (PuzzleInstance instance : new PuzzleInstanceGenerator(5).randomWalks(20, goalBoard, 30)) {
+            AbstractAStarNode node = instance.createInitialState();
+            Assert.assertEquals(built.calculateIntHeuristic(node), reused.calculateIntHeuristic(node));
+        }
+    }
+
+    @Test
+    public void calculateHeuristicSameForEveryBoardRepresentation() {
+        NPuzzleAdditivePDB testObject = new NPuzzleAdditivePDB(goalEightPuzzle, eightPuzzleHalves);
+        int[] goalBoard = goalEightPuzzle.getState();
+
+        for (PuzzleInstance instance : new PuzzleInstanceGenerator(9).randomWalks(20, goalBoard, 30)) {
+            int[] board = instance.getInitialBoard();
+            AbstractAStarNode mockNode = Mockito.mock(AbstractAStarNode.class);
+            Mockito.when(mockNode.getState()).thenReturn(board);
+            int h = testObject.calculateIntHeuristic(new EightPuzzle(board.clone()));
+
+            Assert.assertEquals(h, testObject.calculateIntHeuristic(new NPuzzle(board.clone())));
+            Assert.assertEquals(h, testObject.calculateIntHeuristic(mockNode));
+        }
+    }
+
+    @Test
+    public void calculateHeuristicBetweenManhattanAndOptimalCost() {
+        NPuzzleAdditivePDB testObject = new NPuzzleAdditivePDB(goalEightPuzzle, eightPuzzleHalves,
+                new int[][]{{1, 3, 5, 7}, {2, 4, 6, 8}});
+        NPuzzleManhattanDist manhattan = new NPuzzleManhattanDist(goalEightPuzzle);
+        int[] goalBoard = goalEightPuzzle.getState();
+
+        for (PuzzleInstance instance : new PuzzleInstanceGenerator(22).randomWalks(20, goalBoard, 40)) {
+            EightPuzzle initial = new EightPuzzle(instance.getInitialBoard());
+
+            IntIDAStarSearch searcher = new IntIDAStarSearch(initial, goalEightPuzzle, manhattan);
+            double optimalCost = searcher.search().getG();
+            int h = testObject.calculateIntHeuristic(initial);
+
+            Assert.assertTrue(h >= manhattan.calculateIntHeuristic(initial));
+            Assert.assertTrue(h <= optimalCost);
+        }
+    }
+
+    @Test
+    public void calculateHeuristicFifteenPuzzleFindsOptimalPath() {
+        FifteenPuzzle goal = new FifteenPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 0});
+        NPuzzleAdditivePDB testObject = new NPuzzleAdditivePDB(goal,
+                new int[][]{{1, 2, 3}, {4, 7, 8}, {5, 6, 9}, {10, 11, 12}, {13, 14, 15}});
+        Assert.assertTrue(testObject.isReflectionUsed());
+
+        FifteenPuzzle initial = new FifteenPuzzle(new int[]{5, 1, 8, 3, 2, 10, 4, 0, 9, 6, 7, 14, 13, 12, 11, 15});
+        IDAStarSearch pdbSearcher = new IDAStarSearch(initial, goal, testObject);
+        AbstractAStarNode result = pdbSearcher.search();
+
+        Assert.assertEquals(30, result.getG(), .00001);
+        Assert.assertTrue(testObject.calculateIntHeuristic(initial) <= 30);
+    }
+
+}
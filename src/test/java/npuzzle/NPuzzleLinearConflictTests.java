@@ -0,0 +1,127 @@
+package npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IntIDAStarSearch;
+import com.knighten.ai.search.corpus.PuzzleInstance;
+import com.knighten.ai.search.corpus.PuzzleInstanceGenerator;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.FifteenPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleLinearConflict;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class NPuzzleLinearConflictTests {
+
+    private EightPuzzle goalEightPuzzle;
+    private FifteenPuzzle goalFifteenPuzzle;
+
+    @Before
+    public void setup() {
+        goalEightPuzzle = new EightPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0});
+        goalFifteenPuzzle = new FifteenPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 0});
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorGoalNodeIsNull() {
+        new NPuzzleLinearConflict(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void calculateHeuristicSearchNodeNull() {
+        new NPuzzleLinearConflict(goalEightPuzzle).calculateHeuristic(null);
+    }
+
+    ///////////////////////////////////
+    // Actual Implementation Testing //
+    ///////////////////////////////////
+
+    @Test
+    public void calculateHeuristicGoalIsZero() {
+        NPuzzleLinearConflict testObject = new NPuzzleLinearConflict(goalFifteenPuzzle);
+
+        Assert.assertEquals(0, testObject.calculateIntHeuristic(goalFifteenPuzzle));
+    }
+
+    @Test
+    public void calculateHeuristicReversedPairAddsTwoMoves() {
+        NPuzzleLinearConflict testObject = new NPuzzleLinearConflict(goalEightPuzzle);
+
+        // Tiles 1 And 2 Swapped In Their Goal Row, Manhattan Distance Is 2
+        double result = testObject.calculateHeuristic(new EightPuzzle(new int[]{2, 1, 3, 4, 5, 6, 7, 8, 0}));
+
+        Assert.assertEquals(4, result, .00001);
+    }
+
+    @Test
+    public void calculateHeuristicFullyReversedRowNeedsAllButOneToLeave() {
+        NPuzzleLinearConflict testObject = new NPuzzleLinearConflict(goalEightPuzzle);
+
+        // Manhattan Distance Of 4, Two Of The Three Tiles Must Leave The Row
+        double result = testObject.calculateHeuristic(new EightPuzzle(new int[]{3, 2, 1, 4, 5, 6, 7, 8, 0}));
+
+        Assert.assertEquals(8, result, .00001);
+    }
+
+    @Test
+    public void calculateHeuristicAtLeastManhattanDistance() {
+        NPuzzleLinearConflict testObject = new NPuzzleLinearConflict(goalEightPuzzle);
+        NPuzzleManhattanDist manhattan = new NPuzzleManhattanDist(goalEightPuzzle);
+        int[] goalBoard = goalEightPuzzle.getState();
+
+        for (PuzzleInstance instance : new PuzzleInstanceGenerator(24).randomWalks(100, goalBoard, 30)) {
+            AbstractAStarNode node = instance.createInitialState();
+            Assert.assertTrue(testObject.calculateIntHeuristic(node) >= manhattan.calculateIntHeuristic(node));
+        }
+    }
+
+    @Test
+    public void calculateHeuristicNeverMoreThanOptimalCost() {
+        NPuzzleLinearConflict testObject = new NPuzzleLinearConflict(goalEightPuzzle);
+        NPuzzleManhattanDist manhattan = new NPuzzleManhattanDist(goalEightPuzzle);
+        int[] goalBoard = goalEightPuzzle.getState();
+
+        for (PuzzleInstance instance : new PuzzleInstanceGenerator(42).randomWalks(20, goalBoard, 40)) {
+            EightPuzzle initial = new EightPuzzle(instance.getInitialBoard());
+            double optimalCost = new IntIDAStarSearch(initial, goalEightPuzzle, manhattan).search().getG();
+
+            Assert.assertTrue(testObject.calculateIntHeuristic(initial) <= optimalCost);
+        }
+    }
+
+    @Test
+    public void calculateIncrementalHeuristicMatchesFullCalculation() {
+        NPuzzleLinearConflict testObject = new NPuzzleLinearConflict(goalFifteenPuzzle);
+        Random random = new Random(24);
+        AbstractAStarNode parent = goalFifteenPuzzle;
+
+        for (int step = 0; step < 500; step++) {
+            double parentH = testObject.calculateHeuristic(parent);
+            List<AbstractAStarNode> children = parent.getSuccessors();
+            for (AbstractAStarNode child : children)
+                Assert.assertEquals(testObject.calculateHeuristic(child),
+                        testObject.calculateIncrementalHeuristic(child, parent, parentH), .00001);
+
+            parent = children.get(random.nextInt(children.size()));
+        }
+    }
+
+    @Test
+    public void idaStarFindsOptimalPathOnFifteenPuzzle() {
+        NPuzzleLinearConflict testObject = new NPuzzleLinearConflict(goalFifteenPuzzle);
+        FifteenPuzzle initial = new FifteenPuzzle(new int[]{5, 1, 8, 3, 2, 10, 4, 0, 9, 6, 7, 14, 13, 12, 11, 15});
+
+        AbstractAStarNode result = new IntIDAStarSearch(initial, goalFifteenPuzzle, testObject).search();
+
+        Assert.assertEquals(30, result.getG(), .00001);
+    }
+
+}
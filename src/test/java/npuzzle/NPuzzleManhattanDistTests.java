@@ -2,6 +2,7 @@ package npuzzle;
 
 import com.knighten.ai.search.AbstractAStarNode;
 import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.FifteenPuzzle;
 import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
 import com.knighten.ai.search.npuzzle.ThreePuzzle;
 import org.junit.Assert;
@@ -9,6 +10,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
+import java.util.Random;
+
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -153,4 +157,46 @@ public class NPuzzleManhattanDistTests {
         Assert.assertEquals(20, result, .00001);
     }
 
+    @Test
+    public void calculateIncrementalHeuristicEightPuzzleMatchesFullCalculation() {
+        NPuzzleManhattanDist testObject = new NPuzzleManhattanDist(goalEightPuzzle);
+
+        assertIncrementalMatchesFull(testObject, searchEightPuzzleThirteenH, 500);
+    }
+
+    @Test
+    public void calculateIncrementalHeuristicFifteenPuzzleMatchesFullCalculation() {
+        FifteenPuzzle goal = new FifteenPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15});
+        NPuzzleManhattanDist testObject = new NPuzzleManhattanDist(goal);
+
+        assertIncrementalMatchesFull(testObject, goal, 500);
+    }
+
+    @Test
+    public void calculateIncrementalHeuristicNonPuzzleNodesUseFullCalculation() {
+        NPuzzleManhattanDist testObject = new NPuzzleManhattanDist(goalEightPuzzle);
+        AbstractAStarNode mockNode = Mockito.mock(AbstractAStarNode.class);
+        Mockito.when(mockNode.getState()).thenReturn(new int[]{1, 2, 0, 3, 4, 5, 6, 7, 8});
+
+        double result = testObject.calculateIncrementalHeuristic(mockNode, searchEightPuzzleOneH, 1);
+
+        Assert.assertEquals(2, result, .00001);
+    }
+
+    private void assertIncrementalMatchesFull(NPuzzleManhattanDist testObject, AbstractAStarNode start, int steps) {
+        Random random = new Random(21);
+        AbstractAStarNode parent = start;
+        double parentH = testObject.calculateHeuristic(parent);
+
+        for (int step = 0; step < steps; step++) {
+            List<AbstractAStarNode> children = parent.getSuccessors();
+            for (AbstractAStarNode child : children)
+                Assert.assertEquals(testObject.calculateHeuristic(child),
+                        testObject.calculateIncrementalHeuristic(child, parent, parentH), .00001);
+
+            parent = children.get(random.nextInt(children.size()));
+            parentH = testObject.calculateHeuristic(parent);
+        }
+    }
+
 }
@@ -0,0 +1,246 @@
+package npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IntAStarSearch;
+import com.knighten.ai.search.corpus.PuzzleInstance;
+import com.knighten.ai.search.corpus.PuzzleInstanceGenerator;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import com.knighten.ai.search.npuzzle.NPuzzlePatternDatabase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+public class NPuzzlePatternDatabaseTests {
+
+    private int[] goalBoard;
+    private Path directory;
+
+    @Before
+    public void setup() throws IOException {
+        goalBoard = new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0};
+        directory = Files.createTempDirectory("pattern-database-tests");
+    }
+
+    @After
+    public void cleanup() {
+        File[] files = directory.toFile().listFiles();
+        if (files != null)
+            for (File file : files)
+                file.delete();
+        directory.toFile().delete();
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorGoalBoardIsNull() {
+        new NPuzzlePatternDatabase(null, new int[]{1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorPatternIsNull() {
+        new NPuzzlePatternDatabase(goalBoard, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorPatternIsEmpty() {
+        new NPuzzlePatternDatabase(goalBoard, new int[]{});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorPatternContainsEmptySpace() {
+        new NPuzzlePatternDatabase(goalBoard, new int[]{0, 1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorPatternTileNotOnBoard() {
+        new NPuzzlePatternDatabase(goalBoard, new int[]{1, 9});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorPatternTileRepeated() {
+        new NPuzzlePatternDatabase(goalBoard, new int[]{1, 1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorBoardNotSquare() {
+        new NPuzzlePatternDatabase(new int[]{1, 2, 0}, new int[]{1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorParallelismOfZero() {
+        new NPuzzlePatternDatabase(goalBoard, new int[]{1}, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadFileIsNull() throws IOException {
+        NPuzzlePatternDatabase.load(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadFileIsNotAPatternDatabase() throws IOException {
+        Path file = directory.resolve("not-a-database");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        NPuzzlePatternDatabase.load(file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadFileIsTruncated() throws IOException {
+        Path file = directory.resolve("truncated");
+        new NPuzzlePatternDatabase(goalBoard, new int[]{1, 2}).save(file);
+
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        NPuzzlePatternDatabase.load(file);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void numberOfEntriesIsPartialPermutationCount() {
+        NPuzzlePatternDatabase testObject = new NPuzzlePatternDatabase(goalBoard, new int[]{1, 2, 3});
+
+        Assert.assertEquals(9 * 8 * 7, testObject.getNumberOfEntries());
+        Assert.assertEquals(9L * 8 * 7 * 6 * 5 * 4 * 3 * 2, NPuzzlePatternDatabase.numberOfEntries(9, 8));
+    }
+
+    @Test
+    public void getPatternTilesReturnsCopy() {
+        NPuzzlePatternDatabase testObject = new NPuzzlePatternDatabase(goalBoard, new int[]{1, 2, 3});
+        testObject.getPatternTiles()[0] = 5;
+
+        Assert.assertArrayEquals(new int[]{1, 2, 3}, testObject.getPatternTiles());
+    }
+
+    ///////////////////////////////////
+    // Actual Implementation Testing //
+    ///////////////////////////////////
+
+    @Test
+    public void getCostGoalIsZero() {
+        NPuzzlePatternDatabase testObject = new NPuzzlePatternDatabase(goalBoard, new int[]{1, 2, 3, 4});
+
+        Assert.assertEquals(0, testObject.getCost(tilePositions(goalBoard)));
+    }
+
+    @Test
+    public void getCostSingleTileIsManhattanDistance() {
+        NPuzzlePatternDatabase testObject = new NPuzzlePatternDatabase(goalBoard, new int[]{1});
+
+        // Tile 1 Is In The Bottom Right Corner
+        int[] board = {8, 2, 3, 4, 5, 6, 7, 0, 1};
+        Assert.assertEquals(4, testObject.getCost(tilePositions(board)));
+    }
+
+    @Test
+    public void getCostAllTilesIsOptimalCost() {
+        NPuzzlePatternDatabase testObject = new NPuzzlePatternDatabase(goalBoard,
+                new int[]{1, 2, 3, 4, 5, 6, 7, 8});
+        EightPuzzle goal = new EightPuzzle(goalBoard);
+
+        for (PuzzleInstance instance : new PuzzleInstanceGenerator(22).randomWalks(10, goalBoard, 40)) {
+            int[] board = instance.getInitialBoard();
+            EightPuzzle initial = new EightPuzzle(board);
+
+            IntAStarSearch searcher = new IntAStarSearch(initial, new EightPuzzle(goalBoard.clone()),
+                    new NPuzzleManhattanDist(goal));
+            AbstractAStarNode result = searcher.search();
+
+            Assert.assertEquals(result.getG(), testObject.getCost(tilePositions(board)), .00001);
+        }
+    }
+
+    @Test
+    public void getCostAtLeastManhattanDistanceOfPatternTiles() {
+        NPuzzlePatternDatabase testObject = new NPuzzlePatternDatabase(goalBoard, new int[]{2, 5, 7});
+
+        for (PuzzleInstance instance : new PuzzleInstanceGenerator(7).randomWalks(50, goalBoard, 30)) {
+            int[] board = instance.getInitialBoard();
+            int[] positions = tilePositions(board);
+
+            int manhattan = 0;
+            for (int tile : new int[]{2, 5, 7})
+                manhattan += Math.abs(positions[tile] % 3 - (tile - 1) % 3)
+                        + Math.abs(positions[tile] / 3 - (tile - 1) / 3);
+
+            Assert.assertTrue(testObject.getCost(positions) >= manhattan);
+        }
+    }
+
+    @Test
+    public void parallelBuildMatchesSingleThreadBuild() {
+        int[] fifteenGoal = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 0};
+        int[] pattern = {1, 2, 5, 6};
+        NPuzzlePatternDatabase single = new NPuzzlePatternDatabase(fifteenGoal, pattern);
+        NPuzzlePatternDatabase parallel = new NPuzzlePatternDatabase(fifteenGoal, pattern, 3);
+
+        assertSameCosts(single, parallel, 16, 2000);
+    }
+
+    @Test
+    public void saveThenLoadKeepsEveryCost() throws IOException {
+        NPuzzlePatternDatabase built = new NPuzzlePatternDatabase(goalBoard, new int[]{1, 2, 3, 4});
+        Path file = directory.resolve("eight.pdb");
+        built.save(file);
+
+        NPuzzlePatternDatabase loaded = NPuzzlePatternDatabase.load(file);
+
+        Assert.assertArrayEquals(goalBoard, loaded.getGoalBoard());
+        Assert.assertArrayEquals(new int[]{1, 2, 3, 4}, loaded.getPatternTiles());
+        Assert.assertEquals(built.getNumberOfEntries(), loaded.getNumberOfEntries());
+        assertSameCosts(built, loaded, 9, 2000);
+    }
+
+    @Test
+    public void savedDatabaseCanBeSavedAgain() throws IOException {
+        NPuzzlePatternDatabase built = new NPuzzlePatternDatabase(goalBoard, new int[]{5, 6});
+        Path first = directory.resolve("first.pdb");
+        Path second = directory.resolve("second.pdb");
+        built.save(first);
+        NPuzzlePatternDatabase.load(first).save(second);
+
+        Assert.assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+    }
+
+    private static void assertSameCosts(NPuzzlePatternDatabase expected, NPuzzlePatternDatabase actual, int spaces,
+                                        int samples) {
+        Random random = new Random(23);
+        int[] board = new int[spaces];
+        for (int space = 0; space < spaces; space++)
+            board[space] = space;
+
+        for (int sample = 0; sample < samples; sample++) {
+            for (int space = spaces - 1; space > 0; space--) {
+                int swap = random.nextInt(space + 1);
+                int tile = board[space];
+                board[space] = board[swap];
+                board[swap] = tile;
+            }
+
+            int[] positions = tilePositions(board);
+            Assert.assertEquals(expected.getCost(positions), actual.getCost(positions));
+        }
+    }
+
+    private static int[] tilePositions(int[] board) {
+        int[] positions = new int[board.length];
+        for (int space = 0; space < board.length; space++)
+            positions[board[space]] = space;
+
+        return positions;
+    }
+
+}
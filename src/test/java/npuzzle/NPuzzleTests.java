@@ -0,0 +1,230 @@
+package npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IDAStarSearch;
+import com.knighten.ai.search.IntAStarSearch;
+import com.knighten.ai.search.npuzzle.FifteenPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleLinearConflict;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class NPuzzleTests {
+
+    private int[] fifteenPuzzleBoard;
+    private int[] fifteenPuzzleGoal;
+    private int[] twentyFourPuzzleGoal;
+    private int[] twentyFourPuzzleMiddleEmpty;
+
+    @Before
+    public void setup() {
+        fifteenPuzzleBoard = new int[]{5, 1, 8, 3, 2, 10, 4, 0, 9, 6, 7, 14, 13, 12, 11, 15};
+        fifteenPuzzleGoal = new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 0};
+        twentyFourPuzzleGoal = new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22,
+                23, 24, 0};
+        twentyFourPuzzleMiddleEmpty = new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 0, 13, 14, 15, 16, 17, 18, 19,
+                20, 21, 22, 23, 24};
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullBoard() {
+        new NPuzzle(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorBoardNotSquare() {
+        new NPuzzle(new int[]{0, 1, 2, 3, 4, 5});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorBoardTooLarge() {
+        int[] board = new int[36];
+        for (int space = 0; space < board.length; space++)
+            board[space] = space;
+
+        new NPuzzle(board);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorBoardDoesNotContainEmptySpace() {
+        new NPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorBoardRepeatsTile() {
+        new NPuzzle(new int[]{0, 1, 2, 3, 4, 5, 6, 8, 8});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setStateBoardRepeatsTile() {
+        new NPuzzle(fifteenPuzzleGoal).setState(new int[]{0, 1, 2, 3, 4, 5, 6, 8, 8});
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void constructorFindsEmptySpace() {
+        NPuzzle fifteenPuzzle = new NPuzzle(fifteenPuzzleBoard);
+        NPuzzle twentyFourPuzzle = new NPuzzle(twentyFourPuzzleMiddleEmpty);
+
+        Assert.assertArrayEquals(fifteenPuzzleBoard, fifteenPuzzle.getState());
+        Assert.assertEquals(7, fifteenPuzzle.getEmptySpaceLocation());
+        Assert.assertEquals(4, fifteenPuzzle.getRowLength());
+        Assert.assertArrayEquals(twentyFourPuzzleMiddleEmpty, twentyFourPuzzle.getState());
+        Assert.assertEquals(12, twentyFourPuzzle.getEmptySpaceLocation());
+        Assert.assertEquals(5, twentyFourPuzzle.getRowLength());
+        Assert.assertNull(twentyFourPuzzle.getParent());
+    }
+
+    @Test
+    public void getStateReturnsNewBoard() {
+        NPuzzle fifteenPuzzle = new NPuzzle(fifteenPuzzleBoard);
+        int[] board = fifteenPuzzle.getState();
+        board[0] = 0;
+
+        Assert.assertNotSame(board, fifteenPuzzle.getState());
+        Assert.assertArrayEquals(fifteenPuzzleBoard, fifteenPuzzle.getState());
+        Assert.assertEquals(new NPuzzle(fifteenPuzzleBoard), fifteenPuzzle);
+    }
+
+    @Test
+    public void setStateRepacksBoard() {
+        NPuzzle puzzle = new NPuzzle(fifteenPuzzleGoal);
+        puzzle.setState(twentyFourPuzzleMiddleEmpty);
+
+        Assert.assertArrayEquals(twentyFourPuzzleMiddleEmpty, puzzle.getState());
+        Assert.assertEquals(12, puzzle.getEmptySpaceLocation());
+        Assert.assertEquals(5, puzzle.getRowLength());
+        Assert.assertEquals(new NPuzzle(twentyFourPuzzleMiddleEmpty), puzzle);
+        Assert.assertEquals(new NPuzzle(twentyFourPuzzleMiddleEmpty).hashCode(), puzzle.hashCode());
+    }
+
+    @Test
+    public void getTileReadsPackedBoard() {
+        NPuzzle puzzle = new NPuzzle(twentyFourPuzzleMiddleEmpty);
+
+        for (int space = 0; space < twentyFourPuzzleMiddleEmpty.length; space++)
+            Assert.assertEquals(twentyFourPuzzleMiddleEmpty[space], puzzle.getTile(space));
+    }
+
+    @Test
+    public void successorsMatchFifteenPuzzle() {
+        NPuzzle puzzle = new NPuzzle(fifteenPuzzleBoard);
+        ArrayList<AbstractAStarNode> successors = puzzle.getSuccessors();
+        ArrayList<AbstractAStarNode> expected = new FifteenPuzzle(fifteenPuzzleBoard.clone()).getSuccessors();
+
+        Assert.assertEquals(expected.size(), successors.size());
+        for (AbstractAStarNode successor : successors) {
+            Assert.assertTrue(expected.contains(successor));
+            Assert.assertEquals(puzzle, successor.getParent());
+        }
+    }
+
+    @Test
+    public void createSuccessorsWithMiddleEmpty() {
+        ArrayList<AbstractAStarNode> successors = new NPuzzle(twentyFourPuzzleMiddleEmpty).getSuccessors();
+
+        Assert.assertEquals(4, successors.size());
+        Assert.assertTrue(successors.contains(new NPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 0, 9, 10, 11, 12, 8, 13, 14,
+                15, 16, 17, 18, 19, 20, 21, 22, 23, 24})));
+        Assert.assertTrue(successors.contains(new NPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 17, 13, 14,
+                15, 16, 0, 18, 19, 20, 21, 22, 23, 24})));
+        Assert.assertTrue(successors.contains(new NPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 0, 12, 13, 14,
+                15, 16, 17, 18, 19, 20, 21, 22, 23, 24})));
+        Assert.assertTrue(successors.contains(new NPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 0, 14,
+                15, 16, 17, 18, 19, 20, 21, 22, 23, 24})));
+    }
+
+    @Test
+    public void successorsMoveTilesAcrossWordsAndLastSpace() {
+        NPuzzle goal = new NPuzzle(twentyFourPuzzleGoal);
+        Set<AbstractAStarNode> visited = new HashSet<>();
+        visited.add(goal);
+
+        // Wander Away From The Bottom Right And Back, Checking Every Board Against Its Decoded Copy
+        AbstractAStarNode current = goal;
+        for (int step = 0; step < 200; step++) {
+            List<AbstractAStarNode> successors = current.getSuccessors();
+            current = successors.get(step % successors.size());
+
+            NPuzzle decoded = new NPuzzle(((NPuzzle) current).getState().clone());
+            Assert.assertEquals(decoded, current);
+            Assert.assertEquals(decoded.hashCode(), current.hashCode());
+            Assert.assertEquals(decoded.getEmptySpaceLocation(), ((NPuzzle) current).getEmptySpaceLocation());
+            visited.add(current);
+        }
+
+        Assert.assertTrue(visited.size() > 1);
+    }
+
+    @Test
+    public void equalsAndHashCodeMatchFifteenPuzzle() {
+        NPuzzle puzzle = new NPuzzle(fifteenPuzzleBoard);
+        FifteenPuzzle fifteenPuzzle = new FifteenPuzzle(fifteenPuzzleBoard.clone());
+
+        Assert.assertEquals(puzzle, fifteenPuzzle);
+        Assert.assertEquals(fifteenPuzzle, puzzle);
+        Assert.assertEquals(fifteenPuzzle.hashCode(), puzzle.hashCode());
+        Assert.assertNotEquals(puzzle, new NPuzzle(fifteenPuzzleGoal));
+    }
+
+    @Test
+    public void packingOnlyForFourByFourAndSmaller() {
+        Assert.assertTrue(new NPuzzle(fifteenPuzzleBoard).isPackable());
+        Assert.assertFalse(new NPuzzle(twentyFourPuzzleGoal).isPackable());
+    }
+
+    @Test
+    public void unpackStateRestoresBoard() {
+        NPuzzle puzzle = new NPuzzle(fifteenPuzzleBoard);
+        NPuzzle unpacked = (NPuzzle) puzzle.unpackState(puzzle.packState());
+
+        Assert.assertEquals(puzzle, unpacked);
+        Assert.assertArrayEquals(fifteenPuzzleBoard, unpacked.getState());
+        Assert.assertEquals(7, unpacked.getEmptySpaceLocation());
+    }
+
+    @Test
+    public void incrementalHeuristicMatchesFullCalculation() {
+        NPuzzle goal = new NPuzzle(twentyFourPuzzleGoal);
+        NPuzzleManhattanDist manhattanDist = new NPuzzleManhattanDist(goal);
+        NPuzzleLinearConflict linearConflict = new NPuzzleLinearConflict(goal);
+        NPuzzle parent = new NPuzzle(twentyFourPuzzleMiddleEmpty);
+
+        for (AbstractAStarNode child : parent.getSuccessors()) {
+            NPuzzle copy = new NPuzzle(((NPuzzle) child).getState().clone());
+            Assert.assertEquals(manhattanDist.calculateHeuristic(copy), manhattanDist.calculateIncrementalHeuristic(
+                    child, parent, manhattanDist.calculateHeuristic(parent)), 0.0);
+            Assert.assertEquals(linearConflict.calculateHeuristic(copy), linearConflict.calculateIncrementalHeuristic(
+                    child, parent, linearConflict.calculateHeuristic(parent)), 0.0);
+        }
+    }
+
+    @Test
+    public void searchesSolveFifteenPuzzle() {
+        NPuzzle goal = new NPuzzle(fifteenPuzzleGoal);
+
+        AbstractAStarNode idaStarSolution = new IDAStarSearch(new NPuzzle(fifteenPuzzleBoard), goal,
+                new NPuzzleLinearConflict(goal)).search();
+        AbstractAStarNode aStarSolution = new IntAStarSearch(new NPuzzle(fifteenPuzzleBoard), goal,
+                new NPuzzleManhattanDist(goal)).search();
+
+        Assert.assertEquals(30, idaStarSolution.getG(), 0.0);
+        Assert.assertEquals(30, aStarSolution.getG(), 0.0);
+        Assert.assertEquals(goal, aStarSolution);
+    }
+
+}
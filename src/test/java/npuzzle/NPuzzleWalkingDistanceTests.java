@@ -0,0 +1,148 @@
+package npuzzle;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.IntIDAStarSearch;
+import com.knighten.ai.search.corpus.PuzzleInstance;
+import com.knighten.ai.search.corpus.PuzzleInstanceGenerator;
+import com.knighten.ai.search.npuzzle.EightPuzzle;
+import com.knighten.ai.search.npuzzle.FifteenPuzzle;
+import com.knighten.ai.search.npuzzle.NPuzzleWalkingDistance;
+import com.knighten.ai.search.npuzzle.NPuzzleManhattanDist;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Random;
+
+public class NPuzzleWalkingDistanceTests {
+
+    private EightPuzzle goalEightPuzzle;
+    private FifteenPuzzle goalFifteenPuzzle;
+
+    @Before
+    public void setup() {
+        goalEightPuzzle = new EightPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 0});
+        goalFifteenPuzzle = new FifteenPuzzle(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 0});
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorGoalNodeIsNull() {
+        new NPuzzleWalkingDistance(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void calculateHeuristicSearchNodeNull() {
+        new NPuzzleWalkingDistance(goalEightPuzzle).calculateHeuristic(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorBoardLargerThanFourByFour() {
+        AbstractAStarNode mockGoalNode = Mockito.mock(AbstractAStarNode.class);
+        int[] board = new int[25];
+        for (int space = 0; space < 24; space++)
+            board[space] = space + 1;
+        Mockito.when(mockGoalNode.getState()).thenReturn(board);
+
+        new NPuzzleWalkingDistance(mockGoalNode);
+    }
+
+    ///////////////////////////////////
+    // Actual Implementation Testing //
+    ///////////////////////////////////
+
+    @Test
+    public void calculateHeuristicGoalIsZero() {
+        NPuzzleWalkingDistance testObject = new NPuzzleWalkingDistance(goalFifteenPuzzle);
+
+        Assert.assertEquals(0, testObject.calculateIntHeuristic(goalFifteenPuzzle));
+    }
+
+    @Test
+    public void calculateHeuristicOneVerticalMoveAway() {
+        NPuzzleWalkingDistance testObject = new NPuzzleWalkingDistance(goalEightPuzzle);
+
+        // Tile 6 Moved Down Into The Empty Space
+        double result = testObject.calculateHeuristic(new EightPuzzle(new int[]{1, 2, 3, 4, 5, 0, 7, 8, 6}));
+
+        Assert.assertEquals(1, result, .00001);
+    }
+
+    @Test
+    public void calculateHeuristicReversedRowIsMoreThanManhattanDistance() {
+        NPuzzleWalkingDistance testObject = new NPuzzleWalkingDistance(goalEightPuzzle);
+
+        // Manhattan Distance Is 4, But Tiles 1 And 3 Cannot Pass Each Other Without Leaving The Row
+        double result = testObject.calculateHeuristic(new EightPuzzle(new int[]{3, 2, 1, 4, 5, 6, 7, 8, 0}));
+
+        Assert.assertEquals(8, result, .00001);
+    }
+
+    @Test
+    public void calculateHeuristicNeverMoreThanOptimalCost() {
+        NPuzzleWalkingDistance testObject = new NPuzzleWalkingDistance(goalEightPuzzle);
+        NPuzzleManhattanDist manhattan = new NPuzzleManhattanDist(goalEightPuzzle);
+        int[] goalBoard = goalEightPuzzle.getState();
+
+        for (PuzzleInstance instance : new PuzzleInstanceGenerator(42).randomWalks(20, goalBoard, 40)) {
+            EightPuzzle initial = new EightPuzzle(instance.getInitialBoard());
+            double optimalCost = new IntIDAStarSearch(initial, goalEightPuzzle, manhattan).search().getG();
+
+            Assert.assertTrue(testObject.calculateIntHeuristic(initial) <= optimalCost);
+        }
+    }
+
+    @Test
+    public void calculateIncrementalHeuristicMatchesFullCalculation() {
+        NPuzzleWalkingDistance testObject = new NPuzzleWalkingDistance(goalFifteenPuzzle);
+        Random random = new Random(24);
+        AbstractAStarNode parent = goalFifteenPuzzle;
+
+        for (int step = 0; step < 500; step++) {
+            double parentH = testObject.calculateHeuristic(parent);
+            List<AbstractAStarNode> children = parent.getSuccessors();
+            for (AbstractAStarNode child : children)
+                Assert.assertEquals(testObject.calculateHeuristic(child),
+                        testObject.calculateIncrementalHeuristic(child, parent, parentH), .00001);
+
+            parent = children.get(random.nextInt(children.size()));
+        }
+    }
+
+    @Test
+    public void calculateIncrementalHeuristicAlternatingParents() {
+        NPuzzleWalkingDistance testObject = new NPuzzleWalkingDistance(goalFifteenPuzzle);
+        AbstractAStarNode first = goalFifteenPuzzle.getSuccessors().get(0);
+        List<AbstractAStarNode> firstChildren = first.getSuccessors();
+        AbstractAStarNode second = firstChildren.get(0);
+        List<AbstractAStarNode> secondChildren = second.getSuccessors();
+        double firstH = testObject.calculateHeuristic(first);
+        double secondH = testObject.calculateHeuristic(second);
+
+        // Children Of Two Parents Scored In Turn So The Kept Parent Keeps Changing
+        for (int round = 0; round < 3; round++) {
+            for (AbstractAStarNode child : firstChildren)
+                Assert.assertEquals(testObject.calculateHeuristic(child),
+                        testObject.calculateIncrementalHeuristic(child, first, firstH), .00001);
+            for (AbstractAStarNode child : secondChildren)
+                Assert.assertEquals(testObject.calculateHeuristic(child),
+                        testObject.calculateIncrementalHeuristic(child, second, secondH), .00001);
+        }
+    }
+
+    @Test
+    public void idaStarFindsOptimalPathOnFifteenPuzzle() {
+        NPuzzleWalkingDistance testObject = new NPuzzleWalkingDistance(goalFifteenPuzzle);
+        FifteenPuzzle initial = new FifteenPuzzle(new int[]{5, 1, 8, 3, 2, 10, 4, 0, 9, 6, 7, 14, 13, 12, 11, 15});
+
+        AbstractAStarNode result = new IntIDAStarSearch(initial, goalFifteenPuzzle, testObject).search();
+
+        Assert.assertEquals(30, result.getG(), .00001);
+    }
+
+}
@@ -0,0 +1,186 @@
+package openlist;
+
+import com.knighten.ai.search.interfaces.IHeuristicFunction;
+import com.knighten.ai.search.navigation.NavigateMaze;
+import com.knighten.ai.search.openlist.FocalOpenList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FocalOpenListTests {
+
+    private int[][] maze;
+    private IHeuristicFunction columnHeuristic;
+
+    @Before
+    public void setup() {
+        maze = new int[][]{{1, 1, 1, 1}, {1, 1, 1, 1}, {1, 1, 1, 1}, {1, 1, 1, 1}};
+        columnHeuristic = node -> ((NavigateMaze) node).getState()[1];
+    }
+
+    private NavigateMaze nodeWithF(int row, int col, double f) {
+        NavigateMaze node = new NavigateMaze(maze, row, col);
+        node.setF(f);
+        return node;
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorEpsilonLessThanOne() {
+        new FocalOpenList(0.5, columnHeuristic);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullFocalHeuristic() {
+        new FocalOpenList(1.5, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void offerNullNode() {
+        new FocalOpenList(1.5, columnHeuristic).offer(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setExternalLowerBoundNaN() {
+        new FocalOpenList(1.5, columnHeuristic).setExternalLowerBound(Double.NaN);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void pollEmptyListReturnsNull() {
+        FocalOpenList openList = new FocalOpenList(1.5, columnHeuristic);
+
+        Assert.assertNull(openList.poll());
+        Assert.assertNull(openList.peek());
+        Assert.assertTrue(openList.isEmpty());
+        Assert.assertEquals(Double.POSITIVE_INFINITY, openList.getMinF(), 0.0);
+    }
+
+    @Test
+    public void pollPrefersFocalHeuristicWithinFocalBound() {
+        FocalOpenList openList = new FocalOpenList(2.0, columnHeuristic);
+        openList.offer(nodeWithF(0, 3, 10.0));
+        openList.offer(nodeWithF(0, 2, 15.0));
+        openList.offer(nodeWithF(0, 1, 25.0));
+        openList.offer(nodeWithF(0, 0, 21.0));
+
+        Assert.assertEquals(2, openList.focalSize());
+        Assert.assertEquals(nodeWithF(0, 2, 0.0), openList.poll());
+        Assert.assertEquals(nodeWithF(0, 3, 0.0), openList.poll());
+
+        // Smallest f() Rises To 21 So Both Remaining Nodes Enter FOCAL
+        Assert.assertEquals(21.0, openList.getMinF(), 0.0);
+        Assert.assertEquals(2, openList.focalSize());
+        Assert.assertEquals(nodeWithF(0, 0, 0.0), openList.poll());
+        Assert.assertEquals(nodeWithF(0, 1, 0.0), openList.poll());
+        Assert.assertTrue(openList.isEmpty());
+    }
+
+    @Test
+    public void epsilonOfOnePollsInFOrder() {
+        FocalOpenList openList = new FocalOpenList(1.0, columnHeuristic);
+        double[] fValues = {7.0, 3.0, 9.0, 1.0, 4.0, 8.0, 2.0, 6.0, 5.0, 0.5, 3.5, 10.0, 2.5, 7.5, 1.5, 6.5};
+
+        for (int i = 0; i < fValues.length; i++)
+            openList.offer(nodeWithF(i / 4, i % 4, fValues[i]));
+
+        double lastF = Double.NEGATIVE_INFINITY;
+        while (!openList.isEmpty()) {
+            double f = openList.poll().getF();
+            Assert.assertTrue(f >= lastF);
+            lastF = f;
+        }
+    }
+
+    @Test
+    public void betterPathMovesQueuedStateIntoFocal() {
+        FocalOpenList openList = new FocalOpenList(1.5, columnHeuristic);
+        openList.offer(nodeWithF(0, 3, 10.0));
+        openList.offer(nodeWithF(0, 0, 20.0));
+        Assert.assertEquals(1, openList.focalSize());
+
+        Assert.assertFalse(openList.offer(nodeWithF(0, 0, 25.0)));
+        NavigateMaze improved = nodeWithF(0, 0, 14.0);
+        Assert.assertTrue(openList.offer(improved));
+
+        Assert.assertEquals(2, openList.size());
+        Assert.assertEquals(2, openList.focalSize());
+        Assert.assertSame(improved, openList.get(nodeWithF(0, 0, 0.0)));
+        Assert.assertSame(improved, openList.poll());
+        Assert.assertEquals(1, openList.size());
+    }
+
+    @Test
+    public void betterPathLowersFocalBound() {
+        FocalOpenList openList = new FocalOpenList(1.5, columnHeuristic);
+        openList.offer(nodeWithF(0, 0, 14.0));
+        openList.offer(nodeWithF(0, 3, 10.0));
+        Assert.assertEquals(2, openList.focalSize());
+
+        openList.offer(nodeWithF(0, 3, 8.0));
+
+        Assert.assertEquals(1, openList.focalSize());
+        Assert.assertEquals(nodeWithF(0, 3, 0.0), openList.peek());
+    }
+
+    @Test
+    public void externalLowerBoundCanEmptyFocal() {
+        FocalOpenList openList = new FocalOpenList(1.5, columnHeuristic);
+        openList.offer(nodeWithF(0, 0, 10.0));
+
+        openList.setExternalLowerBound(5.0);
+        Assert.assertEquals(0, openList.focalSize());
+        Assert.assertNull(openList.peekFocal());
+        Assert.assertNull(openList.pollFocal());
+        Assert.assertFalse(openList.isEmpty());
+
+        openList.setExternalLowerBound(Double.POSITIVE_INFINITY);
+        Assert.assertEquals(nodeWithF(0, 0, 0.0), openList.pollFocal());
+    }
+
+    @Test
+    public void pollAgreesWithIsEmptyWhenFocalIsEmpty() {
+        FocalOpenList openList = new FocalOpenList(1.5, columnHeuristic);
+        openList.offer(nodeWithF(0, 3, 12.0));
+        openList.offer(nodeWithF(0, 0, 10.0));
+
+        openList.setExternalLowerBound(5.0);
+        Assert.assertEquals(0, openList.focalSize());
+        Assert.assertEquals(nodeWithF(0, 0, 0.0), openList.peek());
+        Assert.assertEquals(nodeWithF(0, 0, 0.0), openList.poll());
+        Assert.assertEquals(nodeWithF(0, 3, 0.0), openList.poll());
+        Assert.assertTrue(openList.isEmpty());
+        Assert.assertNull(openList.peek());
+        Assert.assertNull(openList.poll());
+    }
+
+    @Test
+    public void pollFocalEmptyListReturnsNull() {
+        FocalOpenList openList = new FocalOpenList(1.5, columnHeuristic);
+
+        Assert.assertNull(openList.pollFocal());
+        Assert.assertNull(openList.peekFocal());
+    }
+
+    @Test
+    public void clearEmptiesBothLists() {
+        FocalOpenList openList = new FocalOpenList(1.5, columnHeuristic, true);
+        openList.offer(nodeWithF(0, 0, 10.0));
+        openList.offer(nodeWithF(1, 1, 11.0));
+        openList.clear();
+
+        Assert.assertTrue(openList.isEmpty());
+        Assert.assertEquals(0, openList.focalSize());
+        Assert.assertFalse(openList.contains(nodeWithF(0, 0, 0.0)));
+
+        openList.offer(nodeWithF(2, 2, 30.0));
+        Assert.assertEquals(nodeWithF(2, 2, 0.0), openList.poll());
+    }
+
+}
@@ -0,0 +1,239 @@
+package openlist;
+
+import com.knighten.ai.search.AbstractAStarNode;
+import com.knighten.ai.search.navigation.NavigateMaze;
+import com.knighten.ai.search.openlist.IndexedDaryHeap;
+import com.knighten.ai.search.openlist.TieBreakingPolicy;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+public class IndexedDaryHeapTests {
+
+    private int[][] maze;
+    private IndexedDaryHeap heap;
+
+    @Before
+    public void setup() {
+        maze = new int[][]{{1, 1, 1, 1}, {1, 1, 1, 1}, {1, 1, 1, 1}, {1, 1, 1, 1}};
+        heap = new IndexedDaryHeap();
+    }
+
+    private NavigateMaze nodeWithF(int row, int col, double f) {
+        NavigateMaze node = new NavigateMaze(maze, row, col);
+        node.setF(f);
+        return node;
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorArityLessThanTwo() {
+        new IndexedDaryHeap(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void offerNullNode() {
+        heap.offer(null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void pollEmptyHeapReturnsNull() {
+        Assert.assertNull(heap.poll());
+        Assert.assertNull(heap.peek());
+        Assert.assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void pollReturnsNodesInFOrder() {
+        double[] fValues = {7.0, 3.0, 9.0, 1.0, 4.0, 8.0, 2.0, 6.0, 5.0, 0.5, 3.5, 10.0, 2.5, 7.5, 1.5, 6.5};
+
+        for (int i = 0; i < fValues.length; i++)
+            heap.offer(nodeWithF(i / 4, i % 4, fValues[i]));
+
+        Assert.assertEquals(fValues.length, heap.size());
+
+        double lastF = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty()) {
+            AbstractAStarNode node = heap.poll();
+            Assert.assertTrue(node.getF() >= lastF);
+            lastF = node.getF();
+        }
+    }
+
+    @Test
+    public void pollReturnsNodesInFOrderWithBinaryHeap() {
+        IndexedDaryHeap binaryHeap = new IndexedDaryHeap(2);
+        double[] fValues = {7.0, 3.0, 9.0, 1.0, 4.0, 8.0, 2.0, 6.0, 5.0, 0.5, 3.5, 10.0, 2.5, 7.5, 1.5, 6.5};
+
+        for (int i = 0; i < fValues.length; i++)
+            binaryHeap.offer(nodeWithF(i / 4, i % 4, fValues[i]));
+
+        double lastF = Double.NEGATIVE_INFINITY;
+        while (!binaryHeap.isEmpty()) {
+            AbstractAStarNode node = binaryHeap.poll();
+            Assert.assertTrue(node.getF() >= lastF);
+            lastF = node.getF();
+        }
+    }
+
+    @Test
+    public void offerSameStateWithSmallerFReplacesQueuedNode() {
+        NavigateMaze worse = nodeWithF(1, 1, 10.0);
+        NavigateMaze better = nodeWithF(1, 1, 2.0);
+        heap.offer(nodeWithF(0, 0, 5.0));
+        heap.offer(worse);
+
+        Assert.assertTrue(heap.offer(better));
+        Assert.assertEquals(2, heap.size());
+        Assert.assertSame(better, heap.get(worse));
+        Assert.assertSame(better, heap.poll());
+    }
+
+    @Test
+    public void offerSameStateWithEqualOrLargerFIsDiscarded() {
+        NavigateMaze queued = nodeWithF(1, 1, 2.0);
+        heap.offer(queued);
+
+        Assert.assertFalse(heap.offer(nodeWithF(1, 1, 2.0)));
+        Assert.assertFalse(heap.offer(nodeWithF(1, 1, 3.0)));
+        Assert.assertEquals(1, heap.size());
+        Assert.assertSame(queued, heap.peek());
+    }
+
+    @Test
+    public void containsTracksQueuedStates() {
+        heap.offer(nodeWithF(2, 3, 1.0));
+
+        Assert.assertTrue(heap.contains(nodeWithF(2, 3, 0.0)));
+        Assert.assertFalse(heap.contains(nodeWithF(3, 2, 0.0)));
+
+        heap.poll();
+        Assert.assertFalse(heap.contains(nodeWithF(2, 3, 0.0)));
+    }
+
+    @Test
+    public void clearRemovesAllNodes() {
+        heap.offer(nodeWithF(0, 0, 1.0));
+        heap.offer(nodeWithF(0, 1, 2.0));
+        heap.clear();
+
+        Assert.assertTrue(heap.isEmpty());
+        Assert.assertFalse(heap.contains(nodeWithF(0, 0, 0.0)));
+    }
+
+    @Test
+    public void heapGrowsPastInitialCapacity() {
+        int[][] largeMaze = new int[20][20];
+        for (int[] row : largeMaze)
+            Arrays.fill(row, 1);
+
+        for (int i = 0; i < 400; i++) {
+            NavigateMaze node = new NavigateMaze(largeMaze, i / 20, i % 20);
+            node.setF(400 - i);
+            heap.offer(node);
+        }
+
+        Assert.assertEquals(400, heap.size());
+        Assert.assertEquals(1.0, heap.poll().getF(), .00001);
+    }
+
+    @Test
+    public void nodesWithFractionalFDifferenceAreOrderedExactly() {
+        heap.offer(nodeWithF(0, 0, 1.9));
+        heap.offer(nodeWithF(0, 1, 1.1));
+
+        Assert.assertEquals(1.1, heap.poll().getF(), 0.0);
+        Assert.assertEquals(1.9, heap.poll().getF(), 0.0);
+    }
+
+    ///////////////////////////
+    // Tie Breaking Policies //
+    ///////////////////////////
+
+    private NavigateMaze nodeWithGAndH(int row, int col, double g, double h) {
+        NavigateMaze node = nodeWithF(row, col, g + h);
+        node.setG(g);
+        node.setH(h);
+        return node;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNullTieBreakingPolicy() {
+        new IndexedDaryHeap(IndexedDaryHeap.DEFAULT_ARITY, null, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorCustomPolicyWithoutComparator() {
+        new IndexedDaryHeap(IndexedDaryHeap.DEFAULT_ARITY, TieBreakingPolicy.CUSTOM, null);
+    }
+
+    @Test
+    public void highGPolicyPollsLargestGFirstWithinEqualF() {
+        heap = new IndexedDaryHeap(IndexedDaryHeap.DEFAULT_ARITY, TieBreakingPolicy.HIGH_G, null);
+        heap.offer(nodeWithGAndH(0, 0, 1.0, 4.0));
+        heap.offer(nodeWithGAndH(0, 1, 3.0, 2.0));
+        heap.offer(nodeWithGAndH(0, 2, 2.0, 3.0));
+        heap.offer(nodeWithGAndH(0, 3, 0.0, 4.0));
+
+        Assert.assertEquals(0.0, heap.poll().getG(), 0.0);
+        Assert.assertEquals(3.0, heap.poll().getG(), 0.0);
+        Assert.assertEquals(2.0, heap.poll().getG(), 0.0);
+        Assert.assertEquals(1.0, heap.poll().getG(), 0.0);
+    }
+
+    @Test
+    public void lowHPolicyPollsSmallestHFirstWithinEqualF() {
+        heap = new IndexedDaryHeap(IndexedDaryHeap.DEFAULT_ARITY, TieBreakingPolicy.LOW_H, null);
+        heap.offer(nodeWithGAndH(0, 0, 1.0, 4.0));
+        heap.offer(nodeWithGAndH(0, 1, 3.0, 2.0));
+        heap.offer(nodeWithGAndH(0, 2, 2.0, 3.0));
+
+        Assert.assertEquals(2.0, heap.poll().getH(), 0.0);
+        Assert.assertEquals(3.0, heap.poll().getH(), 0.0);
+        Assert.assertEquals(4.0, heap.poll().getH(), 0.0);
+    }
+
+    @Test
+    public void fifoAndLifoPoliciesFollowInsertionOrderWithinEqualF() {
+        IndexedDaryHeap fifo = new IndexedDaryHeap(IndexedDaryHeap.DEFAULT_ARITY, TieBreakingPolicy.FIFO, null);
+        IndexedDaryHeap lifo = new IndexedDaryHeap(IndexedDaryHeap.DEFAULT_ARITY, TieBreakingPolicy.LIFO, null);
+        NavigateMaze[] nodes = new NavigateMaze[8];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = nodeWithF(i / 4, i % 4, 5.0);
+            fifo.offer(nodes[i]);
+            lifo.offer(nodes[i]);
+        }
+
+        for (int i = 0; i < nodes.length; i++) {
+            Assert.assertSame(nodes[i], fifo.poll());
+            Assert.assertSame(nodes[nodes.length - 1 - i], lifo.poll());
+        }
+    }
+
+    @Test
+    public void customPolicyUsesComparatorWithinEqualF() {
+        Comparator<AbstractAStarNode> byColumnDescending =
+                (node1, node2) -> ((int[]) node2.getState())[1] - ((int[]) node1.getState())[1];
+        heap = new IndexedDaryHeap(IndexedDaryHeap.DEFAULT_ARITY, TieBreakingPolicy.CUSTOM, byColumnDescending);
+        heap.offer(nodeWithF(0, 1, 2.0));
+        heap.offer(nodeWithF(0, 3, 2.0));
+        heap.offer(nodeWithF(0, 2, 2.0));
+        heap.offer(nodeWithF(0, 0, 1.0));
+
+        Assert.assertEquals(0, ((int[]) heap.poll().getState())[1]);
+        Assert.assertEquals(3, ((int[]) heap.poll().getState())[1]);
+        Assert.assertEquals(2, ((int[]) heap.poll().getState())[1]);
+        Assert.assertEquals(1, ((int[]) heap.poll().getState())[1]);
+    }
+
+}
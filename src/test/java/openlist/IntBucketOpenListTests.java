@@ -0,0 +1,110 @@
+package openlist;
+
+import com.knighten.ai.search.navigation.NavigateMaze;
+import com.knighten.ai.search.openlist.IntBucketOpenList;
+import com.knighten.ai.search.openlist.IntOpenEntry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class IntBucketOpenListTests {
+
+    private int[][] maze;
+    private IntBucketOpenList openList;
+
+    @Before
+    public void setup() {
+        maze = new int[30][30];
+        for (int[] row : maze)
+            Arrays.fill(row, 1);
+        openList = new IntBucketOpenList(true);
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void offerNegativeH() {
+        openList.offer(new NavigateMaze(maze, 0, 0), 1, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void offerNullNode() {
+        openList.offer(null, 0, 0);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void pollEmptyReturnsNull() {
+        Assert.assertNull(openList.poll());
+        Assert.assertNull(openList.peek());
+        Assert.assertTrue(openList.isEmpty());
+    }
+
+    @Test
+    public void pollReturnsEntriesInFOrderForMonotoneOffers() {
+        Random random = new Random(3);
+        int lastPolledF = 0;
+        int nextState = 0;
+        int polled = 0;
+
+        // Mimic A*: Every Offer Has An f() Of At Least The Last Polled f()
+        while (polled < 500) {
+            for (int i = 0; i < 3 && nextState < 900; i++, nextState++) {
+                int f = lastPolledF + random.nextInt(40);
+                int g = random.nextInt(f + 1);
+                openList.offer(new NavigateMaze(maze, nextState / 30, nextState % 30), g, f - g);
+            }
+
+            IntOpenEntry entry = openList.poll();
+            Assert.assertTrue(entry.getF() >= lastPolledF);
+            lastPolledF = entry.getF();
+            polled++;
+        }
+    }
+
+    @Test
+    public void equalFPolledWithLargestGFirst() {
+        openList.offer(new NavigateMaze(maze, 0, 0), 1, 4);
+        openList.offer(new NavigateMaze(maze, 0, 1), 4, 1);
+        openList.offer(new NavigateMaze(maze, 0, 2), 2, 3);
+
+        Assert.assertEquals(5, openList.peek().getF());
+        Assert.assertEquals(4, openList.poll().getG());
+        Assert.assertEquals(2, openList.poll().getG());
+        Assert.assertEquals(1, openList.poll().getG());
+    }
+
+    @Test
+    public void offerSameStateWithSmallerFUpdatesEntry() {
+        NavigateMaze worse = new NavigateMaze(maze, 2, 2);
+        NavigateMaze better = new NavigateMaze(maze, 2, 2);
+        openList.offer(new NavigateMaze(maze, 0, 0), 6, 0);
+        openList.offer(worse, 9, 1);
+
+        Assert.assertFalse(openList.offer(new NavigateMaze(maze, 2, 2), 10, 0));
+        Assert.assertTrue(openList.offer(better, 3, 1));
+        Assert.assertEquals(2, openList.size());
+        Assert.assertSame(better, openList.get(worse).getNode());
+        Assert.assertSame(better, openList.poll().getNode());
+        Assert.assertEquals(6, openList.poll().getF());
+        Assert.assertTrue(openList.isEmpty());
+    }
+
+    @Test
+    public void clearRemovesAllEntries() {
+        openList.offer(new NavigateMaze(maze, 0, 0), 1, 1);
+        openList.clear();
+
+        Assert.assertTrue(openList.isEmpty());
+        Assert.assertNull(openList.get(new NavigateMaze(maze, 0, 0)));
+    }
+
+}
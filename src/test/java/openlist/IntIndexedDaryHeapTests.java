@@ -0,0 +1,84 @@
+package openlist;
+
+import com.knighten.ai.search.navigation.NavigateMaze;
+import com.knighten.ai.search.openlist.IntIndexedDaryHeap;
+import com.knighten.ai.search.openlist.IntOpenEntry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IntIndexedDaryHeapTests {
+
+    private int[][] maze;
+    private IntIndexedDaryHeap heap;
+    private IntIndexedDaryHeap packedHeap;
+
+    @Before
+    public void setup() {
+        maze = new int[][]{{1, 1, 1, 1}, {1, 1, 1, 1}, {1, 1, 1, 1}, {1, 1, 1, 1}};
+        heap = new IntIndexedDaryHeap();
+        packedHeap = new IntIndexedDaryHeap(2, true);
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorArityLessThanTwo() {
+        new IntIndexedDaryHeap(1, false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void offerNullNode() {
+        heap.offer(null, 0, 0);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void pollReturnsEntriesInFOrder() {
+        int[] gValues = {7, 3, 9, 1, 4, 8, 2, 6, 5, 0, 3, 10, 2, 7, 1, 6};
+
+        for (int i = 0; i < gValues.length; i++) {
+            heap.offer(new NavigateMaze(maze, i / 4, i % 4), gValues[i], i % 3);
+            packedHeap.offer(new NavigateMaze(maze, i / 4, i % 4), gValues[i], i % 3);
+        }
+
+        int lastF = Integer.MIN_VALUE;
+        int lastPackedF = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            IntOpenEntry entry = heap.poll();
+            IntOpenEntry packedEntry = packedHeap.poll();
+
+            Assert.assertEquals(entry.getG() + entry.getH(), entry.getF());
+            Assert.assertTrue(entry.getF() >= lastF);
+            Assert.assertTrue(packedEntry.getF() >= lastPackedF);
+            lastF = entry.getF();
+            lastPackedF = packedEntry.getF();
+        }
+
+        Assert.assertNull(heap.poll());
+        Assert.assertTrue(packedHeap.isEmpty());
+    }
+
+    @Test
+    public void offerSameStateWithSmallerFUpdatesEntry() {
+        NavigateMaze worse = new NavigateMaze(maze, 1, 1);
+        NavigateMaze better = new NavigateMaze(maze, 1, 1);
+        packedHeap.offer(new NavigateMaze(maze, 0, 0), 4, 1);
+        packedHeap.offer(worse, 9, 1);
+
+        Assert.assertFalse(packedHeap.offer(new NavigateMaze(maze, 1, 1), 9, 1));
+        Assert.assertTrue(packedHeap.offer(better, 2, 1));
+        Assert.assertEquals(2, packedHeap.size());
+
+        IntOpenEntry top = packedHeap.poll();
+        Assert.assertSame(better, top.getNode());
+        Assert.assertEquals(2, top.getG());
+        Assert.assertEquals(3, top.getF());
+    }
+
+}